@@ -16,9 +16,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.create.table.ColDataType;
 
-public class Alias implements Serializable {
+public class Alias extends Freezable implements Serializable {
 
     private String name;
     private boolean useAs = true;
@@ -38,6 +39,7 @@ public class Alias implements Serializable {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -46,6 +48,7 @@ public class Alias implements Serializable {
     }
 
     public void setUseAs(boolean useAs) {
+        checkNotFrozen();
         this.useAs = useAs;
     }
 
@@ -54,6 +57,7 @@ public class Alias implements Serializable {
     }
 
     public void setAliasColumns(List<AliasColumn> aliasColumns) {
+        checkNotFrozen();
         this.aliasColumns = aliasColumns;
     }
 
@@ -105,11 +109,17 @@ public class Alias implements Serializable {
         return this.withAliasColumns(collection);
     }
 
-    public static class AliasColumn implements Serializable {
+    public static class AliasColumn extends Freezable implements Serializable {
 
         public final String name;
         public final ColDataType colDataType;
 
+        private AliasColumn() {
+            // for ModelClass, which sets the fields afterwards
+            this.name = null;
+            this.colDataType = null;
+        }
+
         public AliasColumn(String name, ColDataType colDataType) {
             Objects.requireNonNull(name);
             this.name = name;
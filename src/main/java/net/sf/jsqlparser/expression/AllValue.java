@@ -18,6 +18,11 @@ public class AllValue extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return "ALL";
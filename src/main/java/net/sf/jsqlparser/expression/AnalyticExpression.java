@@ -22,6 +22,7 @@ import net.sf.jsqlparser.statement.select.OrderByElement;
  *
  * @author tw
  */
+@SuppressWarnings({"PMD.CyclomaticComplexity"})
 public class AnalyticExpression extends ASTNodeAccessImpl implements Expression {
 
     private String name;
@@ -73,11 +74,17 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public List<OrderByElement> getOrderByElements() {
         return windowDef.orderBy.getOrderByElements();
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         windowDef.orderBy.setOrderByElements(orderByElements);
     }
 
@@ -86,6 +93,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setKeep(KeepExpression keep) {
+        checkNotFrozen();
         this.keep = keep;
     }
 
@@ -94,10 +102,12 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setPartitionExpressionList(ExpressionList partitionExpressionList) {
+        checkNotFrozen();
         setPartitionExpressionList(partitionExpressionList, false);
     }
 
     public void setPartitionExpressionList(ExpressionList partitionExpressionList, boolean brackets) {
+        checkNotFrozen();
         windowDef.partitionBy.setPartitionExpressionList(partitionExpressionList, brackets);
     }
 
@@ -110,6 +120,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -118,6 +129,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -126,6 +138,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setOffset(Expression offset) {
+        checkNotFrozen();
         this.offset = offset;
     }
 
@@ -134,6 +147,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setDefaultValue(Expression defaultValue) {
+        checkNotFrozen();
         this.defaultValue = defaultValue;
     }
 
@@ -142,6 +156,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setWindowElement(WindowElement windowElement) {
+        checkNotFrozen();
         windowDef.windowElement = windowElement;
     }
 
@@ -150,6 +165,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setType(AnalyticType type) {
+        checkNotFrozen();
         this.type = type;
     }
 
@@ -158,6 +174,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setDistinct(boolean distinct) {
+        checkNotFrozen();
         this.distinct = distinct;
     }
 
@@ -166,6 +183,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setUnique(boolean unique) {
+        checkNotFrozen();
         this.unique = unique;
     }
 
@@ -174,6 +192,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setIgnoreNulls(boolean ignoreNulls) {
+        checkNotFrozen();
         this.ignoreNulls = ignoreNulls;
     }
 
@@ -182,6 +201,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setIgnoreNullsOutside(boolean ignoreNullsOutside) {
+        checkNotFrozen();
         this.ignoreNullsOutside = ignoreNullsOutside;
     }
 
@@ -190,6 +210,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setWindowName(String windowName) {
+        checkNotFrozen();
         this.windowName = windowName;
     }
 
@@ -198,6 +219,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setWindowDefinition(WindowDefinition windowDef) {
+        checkNotFrozen();
         this.windowDef = windowDef;
     }
 
@@ -279,6 +301,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setAllColumns(boolean allColumns) {
+        checkNotFrozen();
         this.allColumns = allColumns;
     }
 
@@ -287,6 +310,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setFilterExpression(Expression filterExpression) {
+        checkNotFrozen();
         this.filterExpression = filterExpression;
     }
 
@@ -371,6 +395,7 @@ public class AnalyticExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setFuncOrderBy(List<OrderByElement> funcOrderBy) {
+        checkNotFrozen();
         this.funcOrderBy = funcOrderBy;
     }
 }
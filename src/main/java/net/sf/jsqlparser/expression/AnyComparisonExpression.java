@@ -58,6 +58,7 @@ public class AnyComparisonExpression extends ASTNodeAccessImpl implements Expres
     }
 
     public void setUseBracketsForValues(boolean useBracketsForValues) {
+        checkNotFrozen();
         this.useBracketsForValues = useBracketsForValues;
     }
 
@@ -71,6 +72,11 @@ public class AnyComparisonExpression extends ASTNodeAccessImpl implements Expres
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public AnyType getAnyType() {
         return anyType;
     }
@@ -23,6 +23,7 @@ public class ArrayConstructor extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setExpressions(List<Expression> expressions) {
+        checkNotFrozen();
         this.expressions = expressions;
     }
 
@@ -31,6 +32,7 @@ public class ArrayConstructor extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setArrayKeyword(boolean arrayKeyword) {
+        checkNotFrozen();
         this.arrayKeyword = arrayKeyword;
     }
 
@@ -44,6 +46,11 @@ public class ArrayConstructor extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -35,6 +35,7 @@ public class ArrayExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setObjExpression(Expression objExpression) {
+        checkNotFrozen();
         this.objExpression = objExpression;
     }
 
@@ -43,6 +44,7 @@ public class ArrayExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setIndexExpression(Expression indexExpression) {
+        checkNotFrozen();
         this.indexExpression = indexExpression;
     }
 
@@ -51,6 +53,7 @@ public class ArrayExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setStartIndexExpression(Expression startIndexExpression) {
+        checkNotFrozen();
         this.startIndexExpression = startIndexExpression;
     }
 
@@ -59,6 +62,7 @@ public class ArrayExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setStopIndexExpression(Expression stopIndexExpression) {
+        checkNotFrozen();
         this.stopIndexExpression = stopIndexExpression;
     }
 
@@ -67,6 +71,11 @@ public class ArrayExpression extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         if (indexExpression != null) {
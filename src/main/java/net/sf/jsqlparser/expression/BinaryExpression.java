@@ -37,6 +37,7 @@ public abstract class BinaryExpression extends ASTNodeAccessImpl implements Expr
     }
 
     public void setLeftExpression(Expression expression) {
+        checkNotFrozen();
         leftExpression = expression;
     }
 
@@ -46,6 +47,7 @@ public abstract class BinaryExpression extends ASTNodeAccessImpl implements Expr
     }
 
     public void setRightExpression(Expression expression) {
+        checkNotFrozen();
         rightExpression = expression;
     }
 
@@ -53,11 +53,17 @@ public class CaseExpression extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public Expression getSwitchExpression() {
         return switchExpression;
     }
 
     public void setSwitchExpression(Expression switchExpression) {
+        checkNotFrozen();
         this.switchExpression = switchExpression;
     }
 
@@ -72,6 +78,7 @@ public class CaseExpression extends ASTNodeAccessImpl implements Expression {
      * @param elseExpression The elseExpression to set.
      */
     public void setElseExpression(Expression elseExpression) {
+        checkNotFrozen();
         this.elseExpression = elseExpression;
     }
 
@@ -86,6 +93,7 @@ public class CaseExpression extends ASTNodeAccessImpl implements Expression {
      * @param whenClauses The whenClauses to set.
      */
     public void setWhenClauses(List<WhenClause> whenClauses) {
+        checkNotFrozen();
         this.whenClauses = whenClauses;
     }
 
@@ -142,6 +150,7 @@ public class CaseExpression extends ASTNodeAccessImpl implements Expression {
    * @param usingBrackets the usingBrackets to set
    */
   public void setUsingBrackets(boolean usingBrackets) {
+    checkNotFrozen();
     this.usingBrackets = usingBrackets;
   }
   
@@ -149,6 +158,7 @@ public class CaseExpression extends ASTNodeAccessImpl implements Expression {
    * @param usingBrackets the usingBrackets to set
    */
   public CaseExpression withUsingBrackets(boolean usingBrackets) {
+    checkNotFrozen();
     this.usingBrackets=usingBrackets;
     return this;
     }
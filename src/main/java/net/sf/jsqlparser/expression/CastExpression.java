@@ -24,6 +24,7 @@ public class CastExpression extends ASTNodeAccessImpl implements Expression {
     }
     
     public void setRowConstructor(RowConstructor rowConstructor) {
+        checkNotFrozen();
         this.rowConstructor = rowConstructor;
         this.type = null;
     }
@@ -38,6 +39,7 @@ public class CastExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setType(ColDataType type) {
+        checkNotFrozen();
         this.type = type;
         this.rowConstructor = null;
     }
@@ -47,6 +49,7 @@ public class CastExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setLeftExpression(Expression expression) {
+        checkNotFrozen();
         leftExpression = expression;
     }
 
@@ -55,11 +58,17 @@ public class CastExpression extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public boolean isUseCastKeyword() {
         return useCastKeyword;
     }
 
     public void setUseCastKeyword(boolean useCastKeyword) {
+        checkNotFrozen();
         this.useCastKeyword = useCastKeyword;
     }
 
@@ -30,11 +30,17 @@ public class CollateExpression extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public Expression getLeftExpression() {
         return leftExpression;
     }
 
     public void setLeftExpression(Expression leftExpression) {
+        checkNotFrozen();
         this.leftExpression = leftExpression;
     }
 
@@ -43,6 +49,7 @@ public class CollateExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setCollate(String collate) {
+        checkNotFrozen();
         this.collate = collate;
     }
 
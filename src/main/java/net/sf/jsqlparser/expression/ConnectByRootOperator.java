@@ -36,6 +36,11 @@ import net.sf.jsqlparser.schema.Column;
 public class ConnectByRootOperator extends ASTNodeAccessImpl implements Expression {
     private final Column column;
 
+    private ConnectByRootOperator() {
+        // for ModelClass, which sets the fields afterwards
+        this.column = null;
+    }
+
     public ConnectByRootOperator(Column column) {
         this.column = Objects.requireNonNull(column, "The COLUMN of the ConnectByRoot Operator must not be null");
     }
@@ -48,6 +53,11 @@ public class ConnectByRootOperator extends ASTNodeAccessImpl implements Expressi
     public void accept(ExpressionVisitor expressionVisitor) {
         expressionVisitor.visit(this);
     }
+
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
     
     public StringBuilder appendTo(StringBuilder builder) {
         builder.append("CONNECT_BY_ROOT ").append(column);
@@ -21,6 +21,7 @@ public class DateTimeLiteralExpression extends ASTNodeAccessImpl implements Expr
     }
 
     public void setValue(String value) {
+        checkNotFrozen();
         this.value = value;
     }
 
@@ -29,6 +30,7 @@ public class DateTimeLiteralExpression extends ASTNodeAccessImpl implements Expr
     }
 
     public void setType(DateTime type) {
+        checkNotFrozen();
         this.type = type;
     }
 
@@ -37,6 +39,11 @@ public class DateTimeLiteralExpression extends ASTNodeAccessImpl implements Expr
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return type.name() + " " + value;
@@ -18,14 +18,17 @@ import java.sql.Date;
  */
 public class DateValue extends ASTNodeAccessImpl implements Expression {
 
-    private Date value;
+    // marks a missing value
+    private static final long NO_VALUE = Long.MIN_VALUE;
+
+    private long value = NO_VALUE;
 
     public DateValue() {
         // empty constructor
     }
 
     public DateValue(Date value) {
-        this.value = value;
+        setEpochMillis(value);
     }
 
     /**
@@ -42,17 +45,37 @@ public class DateValue extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
+    /**
+     * @return a new {@link Date} of this value or <code>null</code>
+     */
     public Date getValue() {
+        return value == NO_VALUE ? null : new Date(value);
+    }
+
+    /**
+     * @return the milliseconds since the epoch of this date, as returned by {@link Date#getTime()}
+     */
+    public long getEpochMillis() {
         return value;
     }
 
     public void setValue(Date d) {
-        value = d;
+        checkNotFrozen();
+        setEpochMillis(d);
+    }
+
+    private void setEpochMillis(Date d) {
+        value = d == null ? NO_VALUE : d.getTime();
     }
 
     @Override
     public String toString() {
-        return "{d '" + value.toString() + "'}";
+        return "{d '" + getValue().toString() + "'}";
     }
 
     public DateValue withValue(Date value) {
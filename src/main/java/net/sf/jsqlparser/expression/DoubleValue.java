@@ -17,6 +17,8 @@ import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 public class DoubleValue extends ASTNodeAccessImpl implements Expression {
 
     private double value;
+
+    // only set, if the text differs from the canonical text of the value (like "1e3" or ".5")
     private String stringValue;
 
     public DoubleValue() {
@@ -29,7 +31,9 @@ public class DoubleValue extends ASTNodeAccessImpl implements Expression {
             val = val.substring(1);
         }
         this.value = Double.parseDouble(val);
-        this.stringValue = val;
+        if (!val.equals(Double.toString(this.value))) {
+            this.stringValue = val;
+        }
     }
 
     @Override
@@ -37,17 +41,24 @@ public class DoubleValue extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public double getValue() {
         return value;
     }
 
     public void setValue(double d) {
+        checkNotFrozen();
         value = d;
+        stringValue = null;
     }
 
     @Override
     public String toString() {
-        return stringValue;
+        return stringValue == null ? Double.toString(value) : stringValue;
     }
 
     public DoubleValue withValue(double value) {
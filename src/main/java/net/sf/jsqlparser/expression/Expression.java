@@ -16,4 +16,6 @@ public interface Expression extends ASTNodeAccess, Model {
 
     void accept(ExpressionVisitor expressionVisitor);
 
+    <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context);
+
 }
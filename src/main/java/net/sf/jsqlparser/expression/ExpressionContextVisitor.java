@@ -0,0 +1,209 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.expression;
+
+import net.sf.jsqlparser.expression.operators.arithmetic.*;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.ConditionalChain;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.conditional.XorExpression;
+import net.sf.jsqlparser.expression.operators.relational.*;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.AllColumns;
+import net.sf.jsqlparser.statement.select.AllTableColumns;
+import net.sf.jsqlparser.statement.select.SubSelect;
+
+/**
+ * The counterpart of {@link ExpressionVisitor}, which returns a result and passes a context object
+ * along, see {@link Expression#accept(ExpressionContextVisitor, Object)}. An analysis keeping its
+ * state in the context instead of in fields needs a single instance of its visitor, which can be
+ * shared between threads.
+ *
+ * @param <R> the type of the results
+ * @param <C> the type of the context
+ */
+public interface ExpressionContextVisitor<R, C> {
+
+    R visit(BitwiseRightShift aThis, C context);
+
+    R visit(BitwiseLeftShift aThis, C context);
+
+    R visit(NullValue nullValue, C context);
+
+    R visit(Function function, C context);
+
+    R visit(SignedExpression signedExpression, C context);
+
+    R visit(JdbcParameter jdbcParameter, C context);
+
+    R visit(JdbcNamedParameter jdbcNamedParameter, C context);
+
+    R visit(DoubleValue doubleValue, C context);
+
+    R visit(LongValue longValue, C context);
+
+    R visit(HexValue hexValue, C context);
+
+    R visit(DateValue dateValue, C context);
+
+    R visit(TimeValue timeValue, C context);
+
+    R visit(TimestampValue timestampValue, C context);
+
+    R visit(Parenthesis parenthesis, C context);
+
+    R visit(StringValue stringValue, C context);
+
+    R visit(Addition addition, C context);
+
+    R visit(Division division, C context);
+
+    R visit(IntegerDivision division, C context);
+
+    R visit(Multiplication multiplication, C context);
+
+    R visit(Subtraction subtraction, C context);
+
+    R visit(AndExpression andExpression, C context);
+
+    R visit(OrExpression orExpression, C context);
+
+    R visit(XorExpression orExpression, C context);
+
+    R visit(ConditionalChain conditionalChain, C context);
+
+    R visit(Between between, C context);
+
+    R visit(OverlapsCondition overlapsCondition, C context);
+
+    R visit(EqualsTo equalsTo, C context);
+
+    R visit(GreaterThan greaterThan, C context);
+
+    R visit(GreaterThanEquals greaterThanEquals, C context);
+
+    R visit(InExpression inExpression, C context);
+
+    R visit(FullTextSearch fullTextSearch, C context);
+
+    R visit(IsNullExpression isNullExpression, C context);
+
+    R visit(IsBooleanExpression isBooleanExpression, C context);
+
+    R visit(LikeExpression likeExpression, C context);
+
+    R visit(MinorThan minorThan, C context);
+
+    R visit(MinorThanEquals minorThanEquals, C context);
+
+    R visit(NotEqualsTo notEqualsTo, C context);
+
+    R visit(Column tableColumn, C context);
+
+    R visit(SubSelect subSelect, C context);
+
+    R visit(CaseExpression caseExpression, C context);
+
+    R visit(WhenClause whenClause, C context);
+
+    R visit(ExistsExpression existsExpression, C context);
+
+    R visit(AnyComparisonExpression anyComparisonExpression, C context);
+
+    R visit(Concat concat, C context);
+
+    R visit(Matches matches, C context);
+
+    R visit(BitwiseAnd bitwiseAnd, C context);
+
+    R visit(BitwiseOr bitwiseOr, C context);
+
+    R visit(BitwiseXor bitwiseXor, C context);
+
+    R visit(CastExpression cast, C context);
+
+    R visit(TryCastExpression cast, C context);
+
+    R visit(SafeCastExpression cast, C context);
+
+    R visit(Modulo modulo, C context);
+
+    R visit(AnalyticExpression aexpr, C context);
+
+    R visit(ExtractExpression eexpr, C context);
+
+    R visit(IntervalExpression iexpr, C context);
+
+    R visit(OracleHierarchicalExpression oexpr, C context);
+
+    R visit(RegExpMatchOperator rexpr, C context);
+
+    R visit(JsonExpression jsonExpr, C context);
+
+    R visit(JsonOperator jsonExpr, C context);
+
+    R visit(RegExpMySQLOperator regExpMySQLOperator, C context);
+
+    R visit(UserVariable var, C context);
+
+    R visit(NumericBind bind, C context);
+
+    R visit(KeepExpression aexpr, C context);
+
+    R visit(MySQLGroupConcat groupConcat, C context);
+
+    R visit(ValueListExpression valueList, C context);
+
+    R visit(RowConstructor rowConstructor, C context);
+
+    R visit(RowGetExpression rowGetExpression, C context);
+
+    R visit(OracleHint hint, C context);
+
+    R visit(TimeKeyExpression timeKeyExpression, C context);
+
+    R visit(DateTimeLiteralExpression literal, C context);
+
+    R visit(NotExpression aThis, C context);
+
+    R visit(NextValExpression aThis, C context);
+
+    R visit(CollateExpression aThis, C context);
+
+    R visit(SimilarToExpression aThis, C context);
+
+    R visit(ArrayExpression aThis, C context);
+
+    R visit(ArrayConstructor aThis, C context);
+
+    R visit(VariableAssignment aThis, C context);
+
+    R visit(XMLSerializeExpr aThis, C context);
+
+    R visit(TimezoneExpression aThis, C context);
+
+    R visit(JsonAggregateFunction aThis, C context);
+
+    R visit(JsonFunction aThis, C context);
+
+    R visit(ConnectByRootOperator aThis, C context);
+
+    R visit(OracleNamedFunctionParameter aThis, C context);
+
+    R visit(AllColumns allColumns, C context);
+
+    R visit(AllTableColumns allTableColumns, C context);
+
+    R visit(AllValue allValue, C context);
+
+    R visit(IsDistinctExpression isDistinctExpression, C context);
+
+    R visit(GeometryDistance geometryDistance, C context);
+}
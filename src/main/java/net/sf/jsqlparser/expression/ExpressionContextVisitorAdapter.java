@@ -0,0 +1,473 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.expression;
+
+import net.sf.jsqlparser.expression.operators.arithmetic.*;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.ConditionalChain;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.conditional.XorExpression;
+import net.sf.jsqlparser.expression.operators.relational.*;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.AllColumns;
+import net.sf.jsqlparser.statement.select.AllTableColumns;
+import net.sf.jsqlparser.statement.select.SubSelect;
+
+/**
+ * An {@link ExpressionContextVisitor} returning <code>null</code> for every expression, to be
+ * extended by visitors handling a few kinds of expressions only. Unlike the
+ * {@link ExpressionVisitorAdapter}, it does not visit the children of the expressions.
+ *
+ * @param <R> the type of the results
+ * @param <C> the type of the context
+ */
+@SuppressWarnings({"PMD.CyclomaticComplexity"})
+public class ExpressionContextVisitorAdapter<R, C> implements ExpressionContextVisitor<R, C> {
+
+    @Override
+    public R visit(BitwiseRightShift aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(BitwiseLeftShift aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(NullValue nullValue, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Function function, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(SignedExpression signedExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(JdbcParameter jdbcParameter, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(JdbcNamedParameter jdbcNamedParameter, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(DoubleValue doubleValue, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(LongValue longValue, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(HexValue hexValue, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(DateValue dateValue, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(TimeValue timeValue, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(TimestampValue timestampValue, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Parenthesis parenthesis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(StringValue stringValue, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Addition addition, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Division division, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(IntegerDivision division, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Multiplication multiplication, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Subtraction subtraction, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(AndExpression andExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(OrExpression orExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(XorExpression orExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ConditionalChain conditionalChain, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Between between, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(OverlapsCondition overlapsCondition, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(EqualsTo equalsTo, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(GreaterThan greaterThan, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(GreaterThanEquals greaterThanEquals, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(InExpression inExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(FullTextSearch fullTextSearch, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(IsNullExpression isNullExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(IsBooleanExpression isBooleanExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(LikeExpression likeExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(MinorThan minorThan, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(MinorThanEquals minorThanEquals, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(NotEqualsTo notEqualsTo, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Column tableColumn, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(SubSelect subSelect, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(CaseExpression caseExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(WhenClause whenClause, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ExistsExpression existsExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(AnyComparisonExpression anyComparisonExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Concat concat, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Matches matches, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(BitwiseAnd bitwiseAnd, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(BitwiseOr bitwiseOr, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(BitwiseXor bitwiseXor, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(CastExpression cast, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(TryCastExpression cast, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(SafeCastExpression cast, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Modulo modulo, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(AnalyticExpression aexpr, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ExtractExpression eexpr, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(IntervalExpression iexpr, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(OracleHierarchicalExpression oexpr, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(RegExpMatchOperator rexpr, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(JsonExpression jsonExpr, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(JsonOperator jsonExpr, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(RegExpMySQLOperator regExpMySQLOperator, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(UserVariable var, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(NumericBind bind, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(KeepExpression aexpr, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(MySQLGroupConcat groupConcat, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ValueListExpression valueList, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(RowConstructor rowConstructor, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(RowGetExpression rowGetExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(OracleHint hint, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(TimeKeyExpression timeKeyExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(DateTimeLiteralExpression literal, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(NotExpression aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(NextValExpression aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(CollateExpression aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(SimilarToExpression aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ArrayExpression aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ArrayConstructor aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(VariableAssignment aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(XMLSerializeExpr aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(TimezoneExpression aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(JsonAggregateFunction aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(JsonFunction aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ConnectByRootOperator aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(OracleNamedFunctionParameter aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(AllColumns allColumns, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(AllTableColumns allTableColumns, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(AllValue allValue, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(IsDistinctExpression isDistinctExpression, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(GeometryDistance geometryDistance, C context) {
+        return null;
+    }
+}
@@ -11,6 +11,7 @@ package net.sf.jsqlparser.expression;
 
 import net.sf.jsqlparser.expression.operators.arithmetic.*;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.ConditionalChain;
 import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
 import net.sf.jsqlparser.expression.operators.conditional.XorExpression;
 import net.sf.jsqlparser.expression.operators.relational.*;
@@ -67,6 +68,8 @@ public interface ExpressionVisitor {
 
     void visit(XorExpression orExpression);
 
+    void visit(ConditionalChain conditionalChain);
+
     void visit(Between between);
 
     void visit (OverlapsCondition overlapsCondition);
@@ -11,6 +11,7 @@ package net.sf.jsqlparser.expression;
 
 import net.sf.jsqlparser.expression.operators.arithmetic.*;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.ConditionalChain;
 import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
 import net.sf.jsqlparser.expression.operators.conditional.XorExpression;
 import net.sf.jsqlparser.expression.operators.relational.*;
@@ -30,12 +31,15 @@ import net.sf.jsqlparser.statement.select.SelectVisitor;
 import net.sf.jsqlparser.statement.select.SubSelect;
 import net.sf.jsqlparser.statement.select.UnPivot;
 import net.sf.jsqlparser.statement.select.WithItem;
+import net.sf.jsqlparser.util.TraversalControl;
 
 @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.UncommentedEmptyMethodBody"})
 public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVisitor, PivotVisitor, SelectItemVisitor {
 
     private SelectVisitor selectVisitor;
 
+    private boolean terminated;
+
     public SelectVisitor getSelectVisitor() {
         return selectVisitor;
     }
@@ -44,6 +48,61 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
         this.selectVisitor = selectVisitor;
     }
 
+    /**
+     * Visits the given expression and its children, starting over if a previous traversal was
+     * terminated. Unlike {@code expression.accept(adapter)}, it passes the given expression to
+     * {@link #enter(Expression)} too.
+     *
+     * @param expression the expression to visit
+     */
+    public void traverse(Expression expression) {
+        terminated = false;
+        visitChild(expression);
+    }
+
+    /**
+     * Called for each expression reached by the adapter, before the expression is visited.
+     * Override it to prune the traversal: the sub selects of a search for columns, for example.
+     *
+     * @param expression the expression to visit
+     * @return {@link TraversalControl#CONTINUE} to visit the expression,
+     * {@link TraversalControl#SKIP_SUBTREE} to leave out the expression and its children,
+     * {@link TraversalControl#TERMINATE} to stop the traversal
+     */
+    protected TraversalControl enter(Expression expression) {
+        return TraversalControl.CONTINUE;
+    }
+
+    /**
+     * Stops the traversal: the expressions not visited yet are left out, until the next call of
+     * {@link #traverse(Expression)}. A search can call it as soon as its result is known.
+     */
+    public void terminate() {
+        terminated = true;
+    }
+
+    public boolean isTerminated() {
+        return terminated;
+    }
+
+    /**
+     * Visits an expression reached by the adapter, unless the traversal is terminated or
+     * {@link #enter(Expression)} prunes it.
+     *
+     * @param expression the expression to visit
+     */
+    protected void visitChild(Expression expression) {
+        if (terminated) {
+            return;
+        }
+        TraversalControl control = enter(expression);
+        if (control == TraversalControl.CONTINUE) {
+            expression.accept(this);
+        } else if (control == TraversalControl.TERMINATE) {
+            terminated = true;
+        }
+    }
+
     @Override
     public void visit(NullValue value) {
 
@@ -55,18 +114,18 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
             function.getParameters().accept(this);
         }
         if (function.getKeep() != null) {
-            function.getKeep().accept(this);
+            visitChild(function.getKeep());
         }
         if (function.getOrderByElements() != null) {
             for (OrderByElement orderByElement : function.getOrderByElements()) {
-                orderByElement.getExpression().accept(this);
+                visitChild(orderByElement.getExpression());
             }
         }
     }
 
     @Override
     public void visit(SignedExpression expr) {
-        expr.getExpression().accept(this);
+        visitChild(expr.getExpression());
     }
 
     @Override
@@ -106,7 +165,7 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
 
     @Override
     public void visit(Parenthesis parenthesis) {
-        parenthesis.getExpression().accept(this);
+        visitChild(parenthesis.getExpression());
     }
 
     @Override
@@ -154,11 +213,18 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
         visitBinaryExpression(expr);
     }
 
+    @Override
+    public void visit(ConditionalChain expr) {
+        for (Expression expression : expr.getExpressions()) {
+            visitChild(expression);
+        }
+    }
+
     @Override
     public void visit(Between expr) {
-        expr.getLeftExpression().accept(this);
-        expr.getBetweenExpressionStart().accept(this);
-        expr.getBetweenExpressionEnd().accept(this);
+        visitChild(expr.getLeftExpression());
+        visitChild(expr.getBetweenExpressionStart());
+        visitChild(expr.getBetweenExpressionEnd());
     }
 
     public void visit(OverlapsCondition overlapsCondition) {
@@ -185,10 +251,10 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
     @Override
     public void visit(InExpression expr) {
         if (expr.getLeftExpression() != null) {
-            expr.getLeftExpression().accept(this);
+            visitChild(expr.getLeftExpression());
         }
         if (expr.getRightExpression() != null) {
-            expr.getRightExpression().accept(this);
+            visitChild(expr.getRightExpression());
         } else if (expr.getRightItemsList() != null) {
             expr.getRightItemsList().accept(this);
         }
@@ -196,19 +262,19 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
 
     @Override
     public void visit(IsNullExpression expr) {
-        expr.getLeftExpression().accept(this);
+        visitChild(expr.getLeftExpression());
     }
 
     @Override
     public void visit(FullTextSearch expr) {
         for (Column col : expr.getMatchColumns()) {
-            col.accept(this);
+            visitChild(col);
         }
     }
 
     @Override
     public void visit(IsBooleanExpression expr) {
-        expr.getLeftExpression().accept(this);
+        visitChild(expr.getLeftExpression());
     }
 
     @Override
@@ -254,25 +320,25 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
     @Override
     public void visit(CaseExpression expr) {
         if (expr.getSwitchExpression() != null) {
-            expr.getSwitchExpression().accept(this);
+            visitChild(expr.getSwitchExpression());
         }
         for (Expression x : expr.getWhenClauses()) {
-            x.accept(this);
+            visitChild(x);
         }
         if (expr.getElseExpression() != null) {
-            expr.getElseExpression().accept(this);
+            visitChild(expr.getElseExpression());
         }
     }
 
     @Override
     public void visit(WhenClause expr) {
-        expr.getWhenExpression().accept(this);
-        expr.getThenExpression().accept(this);
+        visitChild(expr.getWhenExpression());
+        visitChild(expr.getThenExpression());
     }
 
     @Override
     public void visit(ExistsExpression expr) {
-        expr.getRightExpression().accept(this);
+        visitChild(expr.getRightExpression());
     }
    
     @Override
@@ -307,17 +373,17 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
 
     @Override
     public void visit(CastExpression expr) {
-        expr.getLeftExpression().accept(this);
+        visitChild(expr.getLeftExpression());
     }
 
     @Override
     public void visit(TryCastExpression expr) {
-        expr.getLeftExpression().accept(this);
+        visitChild(expr.getLeftExpression());
     }
 
     @Override
     public void visit(SafeCastExpression expr) {
-        expr.getLeftExpression().accept(this);
+        visitChild(expr.getLeftExpression());
     }
 
     @Override
@@ -328,31 +394,31 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
     @Override
     public void visit(AnalyticExpression expr) {
         if (expr.getExpression() != null) {
-            expr.getExpression().accept(this);
+            visitChild(expr.getExpression());
         }
         if (expr.getDefaultValue() != null) {
-            expr.getDefaultValue().accept(this);
+            visitChild(expr.getDefaultValue());
         }
         if (expr.getOffset() != null) {
-            expr.getOffset().accept(this);
+            visitChild(expr.getOffset());
         }
         if (expr.getKeep() != null) {
-            expr.getKeep().accept(this);
+            visitChild(expr.getKeep());
         }
         for (OrderByElement element : expr.getOrderByElements()) {
-            element.getExpression().accept(this);
+            visitChild(element.getExpression());
         }
 
         if (expr.getWindowElement() != null) {
-            expr.getWindowElement().getRange().getStart().getExpression().accept(this);
-            expr.getWindowElement().getRange().getEnd().getExpression().accept(this);
-            expr.getWindowElement().getOffset().getExpression().accept(this);
+            visitChild(expr.getWindowElement().getRange().getStart().getExpression());
+            visitChild(expr.getWindowElement().getRange().getEnd().getExpression());
+            visitChild(expr.getWindowElement().getOffset().getExpression());
         }
     }
 
     @Override
     public void visit(ExtractExpression expr) {
-        expr.getExpression().accept(this);
+        visitChild(expr.getExpression());
     }
 
     @Override
@@ -361,8 +427,8 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
 
     @Override
     public void visit(OracleHierarchicalExpression expr) {
-        expr.getConnectExpression().accept(this);
-        expr.getStartExpression().accept(this);
+        visitChild(expr.getConnectExpression());
+        visitChild(expr.getStartExpression());
     }
 
     @Override
@@ -373,14 +439,14 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
     @Override
     public void visit(ExpressionList expressionList) {
         for (Expression expr : expressionList.getExpressions()) {
-            expr.accept(this);
+            visitChild(expr);
         }
     }
 
     @Override
     public void visit(NamedExpressionList namedExpressionList) {
         for (Expression expr : namedExpressionList.getExpressions()) {
-            expr.accept(this);
+            visitChild(expr);
         }
     }
 
@@ -393,7 +459,7 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
 
     @Override
     public void visit(NotExpression notExpr) {
-        notExpr.getExpression().accept(this);
+        visitChild(notExpr.getExpression());
     }
 
     @Override
@@ -407,13 +473,13 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
     }
 
     protected void visitBinaryExpression(BinaryExpression expr) {
-        expr.getLeftExpression().accept(this);
-        expr.getRightExpression().accept(this);
+        visitChild(expr.getLeftExpression());
+        visitChild(expr.getRightExpression());
     }
 
     @Override
     public void visit(JsonExpression jsonExpr) {
-        jsonExpr.getExpression().accept(this);
+        visitChild(jsonExpr.getExpression());
     }
 
     @Override
@@ -439,18 +505,18 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
     @Override
     public void visit(KeepExpression expr) {
         for (OrderByElement element : expr.getOrderByElements()) {
-            element.getExpression().accept(this);
+            visitChild(element.getExpression());
         }
     }
 
     @Override
     public void visit(MySQLGroupConcat groupConcat) {
         for (Expression expr : groupConcat.getExpressionList().getExpressions()) {
-            expr.accept(this);
+            visitChild(expr);
         }
         if (groupConcat.getOrderByElements() != null) {
             for (OrderByElement element : groupConcat.getOrderByElements()) {
-                element.getExpression().accept(this);
+                visitChild(element.getExpression());
             }
         }
     }
@@ -458,17 +524,17 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
     @Override
     public void visit(ValueListExpression valueListExpression) {
         for (Expression expr : valueListExpression.getExpressionList().getExpressions()) {
-            expr.accept(this);
+            visitChild(expr);
         }
     }
 
     @Override
     public void visit(Pivot pivot) {
         for (FunctionItem item : pivot.getFunctionItems()) {
-            item.getFunction().accept(this);
+            visitChild(item.getFunction());
         }
         for (Column col : pivot.getForColumns()) {
-            col.accept(this);
+            visitChild(col);
         }
         if (pivot.getSingleInItems() != null) {
             for (SelectExpressionItem item : pivot.getSingleInItems()) {
@@ -486,10 +552,10 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
     @Override
     public void visit(PivotXml pivot) {
         for (FunctionItem item : pivot.getFunctionItems()) {
-            item.getFunction().accept(this);
+            visitChild(item.getFunction());
         }
         for (Column col : pivot.getForColumns()) {
-            col.accept(this);
+            visitChild(col);
         }
         if (pivot.getInSelect() != null && selectVisitor != null) {
             pivot.getInSelect().accept(selectVisitor);
@@ -520,14 +586,14 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
 
     @Override
     public void visit(SelectExpressionItem selectExpressionItem) {
-        selectExpressionItem.getExpression().accept(this);
+        visitChild(selectExpressionItem.getExpression());
     }
 
     @Override
     public void visit(RowConstructor rowConstructor) {
         if (rowConstructor.getColumnDefinitions().isEmpty()) {
             for (Expression expression: rowConstructor.getExprList().getExpressions()) {
-                expression.accept(this);
+                visitChild(expression);
               }
         } else {
             for (ColumnDefinition columnDefinition : rowConstructor.getColumnDefinitions()) {
@@ -538,7 +604,7 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
 
     @Override
     public void visit(RowGetExpression rowGetExpression) {
-        rowGetExpression.getExpression().accept(this);
+        visitChild(rowGetExpression.getExpression());
     }
 
     @Override
@@ -566,7 +632,7 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
 
     @Override
     public void visit(CollateExpression col) {
-        col.getLeftExpression().accept(this);
+        visitChild(col.getLeftExpression());
     }
 
     @Override
@@ -576,72 +642,72 @@ public class ExpressionVisitorAdapter implements ExpressionVisitor, ItemsListVis
 
     @Override
     public void visit(ArrayExpression array) {
-        array.getObjExpression().accept(this);
+        visitChild(array.getObjExpression());
         if (array.getIndexExpression() != null) {
-            array.getIndexExpression().accept(this);
+            visitChild(array.getIndexExpression());
         }
         if (array.getStartIndexExpression() != null) {
-            array.getStartIndexExpression().accept(this);
+            visitChild(array.getStartIndexExpression());
         }
         if (array.getStopIndexExpression() != null) {
-            array.getStopIndexExpression().accept(this);
+            visitChild(array.getStopIndexExpression());
         }
     }
 
     @Override
     public void visit(ArrayConstructor aThis) {
         for (Expression expression : aThis.getExpressions()) {
-            expression.accept(this);
+            visitChild(expression);
         }
     }
 
     @Override
     public void visit(VariableAssignment var) {
-        var.getVariable().accept(this);
-        var.getExpression().accept(this);
+        visitChild(var.getVariable());
+        visitChild(var.getExpression());
     }
 
     @Override
     public void visit(XMLSerializeExpr expr) {
-        expr.getExpression().accept(this);
+        visitChild(expr.getExpression());
         for (OrderByElement elm : expr.getOrderByElements()) {
-            elm.getExpression().accept(this);
+            visitChild(elm.getExpression());
         }
     }
 
     @Override
     public void visit(TimezoneExpression expr) {
-        expr.getLeftExpression().accept(this);
+        visitChild(expr.getLeftExpression());
     }
 
     @Override
     public void visit(JsonAggregateFunction expression) {
         Expression expr = expression.getExpression();
         if (expr!=null) {
-            expr.accept(this);
+            visitChild(expr);
         }
         
         expr = expression.getFilterExpression();
         if (expr!=null) {
-            expr.accept(this);
+            visitChild(expr);
         }
     }
 
     @Override
     public void visit(JsonFunction expression) {
         for (JsonFunctionExpression expr: expression.getExpressions()) {
-            expr.getExpression().accept(this);
+            visitChild(expr.getExpression());
         }
     }
 
     @Override
     public void visit(ConnectByRootOperator connectByRootOperator) {
-        connectByRootOperator.getColumn().accept(this);
+        visitChild(connectByRootOperator.getColumn());
     }
     
     @Override
     public void visit(OracleNamedFunctionParameter oracleNamedFunctionParameter) {
-        oracleNamedFunctionParameter.getExpression().accept(this);
+        visitChild(oracleNamedFunctionParameter.getExpression());
     }
 
     @Override
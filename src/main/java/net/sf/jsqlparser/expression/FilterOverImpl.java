@@ -30,6 +30,7 @@ public class FilterOverImpl extends ASTNodeAccessImpl {
     }
 
     public void setAnalyticType(AnalyticType analyticType) {
+        checkNotFrozen();
         this.analyticType = analyticType;
     }
     
@@ -43,6 +44,7 @@ public class FilterOverImpl extends ASTNodeAccessImpl {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         orderBy.setOrderByElements(orderByElements);
     }
     
@@ -56,10 +58,12 @@ public class FilterOverImpl extends ASTNodeAccessImpl {
     }
 
     public void setPartitionExpressionList(ExpressionList partitionExpressionList) {
+        checkNotFrozen();
         setPartitionExpressionList(partitionExpressionList, false);
     }
 
     public void setPartitionExpressionList(ExpressionList partitionExpressionList, boolean brackets) {
+        checkNotFrozen();
         partitionBy.setPartitionExpressionList(partitionExpressionList, brackets);
     }
 
@@ -72,6 +76,7 @@ public class FilterOverImpl extends ASTNodeAccessImpl {
     }
 
     public void setFilterExpression(Expression filterExpression) {
+        checkNotFrozen();
         this.filterExpression = filterExpression;
     }
 
@@ -86,6 +91,7 @@ public class FilterOverImpl extends ASTNodeAccessImpl {
     }
 
     public void setWindowElement(WindowElement windowElement) {
+        checkNotFrozen();
         this.windowElement = windowElement;
     }
     
@@ -40,6 +40,11 @@ public class Function extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public String getName() {
         return nameparts == null ? null : String.join(".", nameparts);
     }
@@ -49,6 +54,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setName(String string) {
+        checkNotFrozen();
         nameparts = Arrays.asList(string);
     }
     
@@ -58,6 +64,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
     
     public void setName(List<String> string) {
+        checkNotFrozen();
         nameparts = string;
     }
 
@@ -66,6 +73,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setAllColumns(boolean b) {
+        checkNotFrozen();
         allColumns = b;
     }
 
@@ -79,6 +87,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
      *
      */
     public void setIgnoreNulls(boolean ignoreNulls) {
+        checkNotFrozen();
         this.ignoreNulls = ignoreNulls;
     }
 
@@ -92,6 +101,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setDistinct(boolean b) {
+        checkNotFrozen();
         distinct = b;
     }
 
@@ -105,6 +115,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setUnique(boolean b) {
+        checkNotFrozen();
         unique = b;
     }
 
@@ -119,6 +130,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setParameters(ExpressionList list) {
+        checkNotFrozen();
         parameters = list;
     }
 
@@ -132,6 +144,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setNamedParameters(NamedExpressionList list) {
+        checkNotFrozen();
         namedParameters = list;
     }
 
@@ -145,6 +158,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setEscaped(boolean isEscaped) {
+        checkNotFrozen();
         this.isEscaped = isEscaped;
     }
 
@@ -153,6 +167,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setAttribute(Expression attribute) {
+        checkNotFrozen();
         this.attribute = attribute;
     }
 
@@ -161,6 +176,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setAttributeName(String attributeName) {
+        checkNotFrozen();
         this.attributeName = attributeName;
     }
 
@@ -169,6 +185,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setKeep(KeepExpression keep) {
+        checkNotFrozen();
         this.keep = keep;
     }
 
@@ -280,6 +297,7 @@ public class Function extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -29,11 +29,17 @@ public class HexValue extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public String getValue() {
         return value;
     }
 
     public void setValue(String value) {
+        checkNotFrozen();
         this.value = value;
     }
 
@@ -32,6 +32,7 @@ public class IntervalExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setParameter(String parameter) {
+        checkNotFrozen();
         this.parameter = parameter;
     }
 
@@ -40,6 +41,7 @@ public class IntervalExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setIntervalType(String intervalType) {
+        checkNotFrozen();
         this.intervalType = intervalType;
     }
 
@@ -48,6 +50,7 @@ public class IntervalExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -63,6 +66,11 @@ public class IntervalExpression extends ASTNodeAccessImpl implements Expression
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public IntervalExpression withParameter(String parameter) {
         this.setParameter(parameter);
         return this;
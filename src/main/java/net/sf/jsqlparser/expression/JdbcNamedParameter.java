@@ -27,6 +27,7 @@ public class JdbcNamedParameter extends ASTNodeAccessImpl implements Expression
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -35,6 +36,11 @@ public class JdbcNamedParameter extends ASTNodeAccessImpl implements Expression
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return ":" + name;
@@ -32,6 +32,7 @@ public class JdbcParameter extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setIndex(Integer index) {
+        checkNotFrozen();
         this.index = index;
     }
 
@@ -40,6 +41,7 @@ public class JdbcParameter extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setUseFixedIndex(boolean useFixedIndex) {
+        checkNotFrozen();
         this.useFixedIndex = useFixedIndex;
     }
 
@@ -48,6 +50,11 @@ public class JdbcParameter extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return useFixedIndex ? "?" + index : "?";
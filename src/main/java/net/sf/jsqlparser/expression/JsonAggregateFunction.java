@@ -40,6 +40,7 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     }
 
     public void setOnNullType(JsonAggregateOnNullType onNullType) {
+        checkNotFrozen();
         this.onNullType = onNullType;
     }
     
@@ -53,6 +54,7 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     }
 
     public void setUniqueKeysType(JsonAggregateUniqueKeysType uniqueKeysType) {
+        checkNotFrozen();
         this.uniqueKeysType = uniqueKeysType;
     }
     
@@ -66,6 +68,7 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     }
     
     public void setType(JsonFunctionType type) {
+        checkNotFrozen();
         this.functionType = Objects.requireNonNull(type, "The Type of the JSON Aggregate Function must not be null");
     }
     
@@ -75,6 +78,7 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     }
 
     public void setType(String typeName) {
+        checkNotFrozen();
         this.functionType = JsonFunctionType
           .valueOf( Objects.requireNonNull(typeName, "The Type of the JSON Aggregate Function must not be null").toUpperCase());
     }
@@ -89,6 +93,7 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
     
@@ -102,6 +107,7 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     }
 
     public void setUsingKeyKeyword(boolean usingKeyKeyword) {
+        checkNotFrozen();
         this.usingKeyKeyword = usingKeyKeyword;
     }
     
@@ -115,6 +121,7 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     }
 
     public void setKey(String key) {
+        checkNotFrozen();
         this.key = key;
     }
     
@@ -128,6 +135,7 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     }
 
     public void setUsingValueKeyword(boolean usingValueKeyword) {
+        checkNotFrozen();
         this.usingValueKeyword = usingValueKeyword;
     }
     
@@ -141,6 +149,7 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     }
 
     public void setValue(Object value) {
+        checkNotFrozen();
         this.value = value;
     }
     
@@ -154,6 +163,7 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     }
 
     public void setUsingFormatJson(boolean usingFormatJson) {
+        checkNotFrozen();
         this.usingFormatJson = usingFormatJson;
     }
     
@@ -167,6 +177,7 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     }
 
     public void setExpressionOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         expressionOrderBy.setOrderByElements(orderByElements);
     }
     
@@ -179,6 +190,11 @@ public class JsonAggregateFunction extends FilterOverImpl implements Expression
     public void accept(ExpressionVisitor expressionVisitor) {
         expressionVisitor.visit(this);
     }
+
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
     
     // avoid countless Builder --> String conversion
     @Override
@@ -25,15 +25,22 @@ public class JsonExpression extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public Expression getExpression() {
         return expr;
     }
 
     public void setExpression(Expression expr) {
+        checkNotFrozen();
         this.expr = expr;
     }
 
     public void addIdent(String ident, String operator) {
+        checkNotFrozen();
         idents.add(ident);
         operators.add(operator);
     }
@@ -10,6 +10,7 @@
 package net.sf.jsqlparser.expression;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 
@@ -20,16 +21,16 @@ import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 
 public class JsonFunction extends ASTNodeAccessImpl implements Expression {
   private JsonFunctionType functionType;
-  private final ArrayList<JsonKeyValuePair> keyValuePairs = new ArrayList<>();
-  private final ArrayList<JsonFunctionExpression> expressions = new ArrayList<>();
+  private List<JsonKeyValuePair> keyValuePairs = new ArrayList<>();
+  private List<JsonFunctionExpression> expressions = new ArrayList<>();
   private JsonAggregateOnNullType onNullType;
   private JsonAggregateUniqueKeysType uniqueKeysType;
 
-  public ArrayList<JsonKeyValuePair> getKeyValuePairs() {
+  public List<JsonKeyValuePair> getKeyValuePairs() {
     return keyValuePairs;
   }
 
-  public ArrayList<JsonFunctionExpression> getExpressions() {
+  public List<JsonFunctionExpression> getExpressions() {
     return expressions;
   }
 
@@ -66,6 +67,7 @@ public class JsonFunction extends ASTNodeAccessImpl implements Expression {
   }
 
   public void setOnNullType(JsonAggregateOnNullType onNullType) {
+    checkNotFrozen();
     this.onNullType = onNullType;
   }
 
@@ -79,6 +81,7 @@ public class JsonFunction extends ASTNodeAccessImpl implements Expression {
   }
 
   public void setUniqueKeysType(JsonAggregateUniqueKeysType uniqueKeysType) {
+    checkNotFrozen();
     this.uniqueKeysType = uniqueKeysType;
   }
 
@@ -92,6 +95,7 @@ public class JsonFunction extends ASTNodeAccessImpl implements Expression {
   }
 
   public void setType(JsonFunctionType type) {
+    checkNotFrozen();
     this.functionType =
         Objects.requireNonNull(type, "The Type of the JSON Aggregate Function must not be null");
   }
@@ -102,6 +106,7 @@ public class JsonFunction extends ASTNodeAccessImpl implements Expression {
   }
 
   public void setType(String typeName) {
+    checkNotFrozen();
     this.functionType = JsonFunctionType.valueOf(
         Objects.requireNonNull(typeName, "The Type of the JSON Aggregate Function must not be null")
             .toUpperCase());
@@ -117,6 +122,11 @@ public class JsonFunction extends ASTNodeAccessImpl implements Expression {
     expressionVisitor.visit(this);
   }
 
+  @Override
+  public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+      return expressionVisitor.visit(this, context);
+  }
+
   // avoid countless Builder --> String conversion
   public StringBuilder append(StringBuilder builder) {
     switch (functionType) {
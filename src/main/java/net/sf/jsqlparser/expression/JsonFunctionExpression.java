@@ -12,17 +12,23 @@ package net.sf.jsqlparser.expression;
 
 import java.io.Serializable;
 import java.util.Objects;
+import net.sf.jsqlparser.parser.Freezable;
 
 /**
  *
  * @author <a href="mailto:andreas@manticore-projects.com">Andreas Reichel</a>
  */
 
-public class JsonFunctionExpression implements Serializable {
+public class JsonFunctionExpression extends Freezable implements Serializable {
     private final Expression expression;
 
     private boolean usingFormatJson = false;
 
+    private JsonFunctionExpression() {
+        // for ModelClass, which sets the fields afterwards
+        this.expression = null;
+    }
+
     public JsonFunctionExpression(Expression expression) {
         this.expression = Objects.requireNonNull(expression, "The EXPRESSION must not be null");
     }
@@ -35,6 +41,7 @@ public class JsonFunctionExpression implements Serializable {
     }
 
     public void setUsingFormatJson(boolean usingFormatJson) {
+        checkNotFrozen();
         this.usingFormatJson = usingFormatJson;
     }
     
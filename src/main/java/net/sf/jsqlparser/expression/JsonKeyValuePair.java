@@ -12,19 +12,26 @@ package net.sf.jsqlparser.expression;
 
 import java.io.Serializable;
 import java.util.Objects;
+import net.sf.jsqlparser.parser.Freezable;
 
 /**
  *
  * @author <a href="mailto:andreas@manticore-projects.com">Andreas Reichel</a>
  */
 
-public class JsonKeyValuePair implements Serializable {
+public class JsonKeyValuePair extends Freezable implements Serializable {
   private final String key;
   private boolean usingKeyKeyword = false;
   private final Object value;
   private boolean usingValueKeyword = false;
   private boolean usingFormatJson = false;
 
+  private JsonKeyValuePair() {
+    // for ModelClass, which sets the fields afterwards
+    this.key = null;
+    this.value = null;
+  }
+
   public JsonKeyValuePair(String key, Object value, boolean usingKeyKeyword,
       boolean usingValueKeyword) {
     this.key = Objects.requireNonNull(key, "The KEY of the Pair must not be null");
@@ -38,6 +45,7 @@ public class JsonKeyValuePair implements Serializable {
   }
 
   public void setUsingKeyKeyword(boolean usingKeyKeyword) {
+      checkNotFrozen();
     this.usingKeyKeyword = usingKeyKeyword;
   }
 
@@ -51,6 +59,7 @@ public class JsonKeyValuePair implements Serializable {
   }
 
   public void setUsingValueKeyword(boolean usingValueKeyword) {
+      checkNotFrozen();
     this.usingValueKeyword = usingValueKeyword;
   }
 
@@ -64,6 +73,7 @@ public class JsonKeyValuePair implements Serializable {
   }
 
   public void setUsingFormatJson(boolean usingFormatJson) {
+      checkNotFrozen();
     this.usingFormatJson = usingFormatJson;
   }
 
@@ -28,11 +28,17 @@ public class KeepExpression extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public List<OrderByElement> getOrderByElements() {
         return orderByElements;
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -41,6 +47,7 @@ public class KeepExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -49,6 +56,7 @@ public class KeepExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setFirst(boolean first) {
+        checkNotFrozen();
         this.first = first;
     }
 
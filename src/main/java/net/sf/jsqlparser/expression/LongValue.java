@@ -19,6 +19,14 @@ import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
  */
 public class LongValue extends ASTNodeAccessImpl implements Expression {
 
+    // texts with up to 18 digits can not overflow a long
+    private static final int MAX_SAFE_DIGITS = 18;
+
+    private long value;
+
+    // only set, if the text differs from the canonical text of the value (like "007") or exceeds
+    // the range of a long; the value is then parsed once, unless it is 0 or out of range, which
+    // getValue() parses again
     private String stringValue;
 
     public LongValue() {
@@ -30,11 +38,11 @@ public class LongValue extends ASTNodeAccessImpl implements Expression {
         if (val.charAt(0) == '+') {
             val = val.substring(1);
         }
-        this.stringValue = val;
+        setText(val);
     }
 
     public LongValue(long value) {
-        stringValue = String.valueOf(value);
+        this.value = value;
     }
 
     @Override
@@ -42,16 +50,23 @@ public class LongValue extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public long getValue() {
-        return Long.parseLong(stringValue);
+        return stringValue == null || value != 0 ? value : Long.parseLong(stringValue);
     }
 
     public BigInteger getBigIntegerValue() {
-        return new BigInteger(stringValue);
+        return stringValue == null ? BigInteger.valueOf(value) : new BigInteger(stringValue);
     }
 
     public void setValue(long d) {
-        stringValue = String.valueOf(d);
+        checkNotFrozen();
+        value = d;
+        stringValue = null;
     }
 
     public LongValue withValue(long d) {
@@ -59,12 +74,66 @@ public class LongValue extends ASTNodeAccessImpl implements Expression {
         return this;
     }
 
+    /**
+     * @return <code>true</code> if the text of this value is the one of {@link Long#toString(long)},
+     * so the value alone reproduces it
+     */
+    public boolean hasCanonicalText() {
+        return stringValue == null;
+    }
+
     public String getStringValue() {
-        return stringValue;
+        return stringValue == null ? Long.toString(value) : stringValue;
     }
 
     public void setStringValue(String string) {
-        stringValue = string;
+        checkNotFrozen();
+        setText(string);
+    }
+
+    private void setText(String text) {
+        if (isCanonical(text)) {
+            value = Long.parseLong(text);
+            stringValue = null;
+        } else {
+            value = parseOrZero(text);
+            stringValue = text;
+        }
+    }
+
+    private static long parseOrZero(String text) {
+        try {
+            return text == null ? 0 : Long.parseLong(text);
+        } catch (NumberFormatException ex) {
+            // out of range, getValue() fails as well
+            return 0;
+        }
+    }
+
+    /**
+     * @return <code>true</code> for texts, which are reproduced by {@link Long#toString(long)} and
+     * are safely in the range of a long
+     */
+    private static boolean isCanonical(String text) {
+        if (text == null) {
+            return false;
+        }
+        int start = !text.isEmpty() && text.charAt(0) == '-' ? 1 : 0;
+        int digits = text.length() - start;
+        return digits >= 1 && digits <= MAX_SAFE_DIGITS
+                && (text.charAt(start) != '0' || text.length() == 1)
+                && isDigits(text, start);
+    }
+
+    private static boolean isDigits(String text, int start) {
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            // only ASCII digits, Long.toString(long) does not reproduce other ones
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -86,11 +155,11 @@ public class LongValue extends ASTNodeAccessImpl implements Expression {
             return false;
         }
         LongValue longValue = (LongValue) o;
-        return stringValue.equals(longValue.stringValue);
+        return value == longValue.value && Objects.equals(stringValue, longValue.stringValue);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(stringValue);
+        return 31 * Long.hashCode(value) + Objects.hashCode(stringValue);
     }
 }
@@ -31,6 +31,7 @@ public class MySQLGroupConcat extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setExpressionList(ExpressionList expressionList) {
+        checkNotFrozen();
         this.expressionList = expressionList;
     }
 
@@ -39,6 +40,7 @@ public class MySQLGroupConcat extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setDistinct(boolean distinct) {
+        checkNotFrozen();
         this.distinct = distinct;
     }
 
@@ -47,6 +49,7 @@ public class MySQLGroupConcat extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -55,6 +58,7 @@ public class MySQLGroupConcat extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setSeparator(String separator) {
+        checkNotFrozen();
         this.separator = separator;
     }
 
@@ -63,6 +67,11 @@ public class MySQLGroupConcat extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         StringBuilder b = new StringBuilder();
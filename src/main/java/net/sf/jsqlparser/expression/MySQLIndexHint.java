@@ -11,8 +11,9 @@ package net.sf.jsqlparser.expression;
 
 import java.io.Serializable;
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class MySQLIndexHint implements Serializable {
+public class MySQLIndexHint extends Freezable implements Serializable {
 
     private final String action;
     private final String indexQualifier;
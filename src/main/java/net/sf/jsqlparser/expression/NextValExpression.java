@@ -19,6 +19,11 @@ public class NextValExpression extends ASTNodeAccessImpl implements Expression {
     private final List<String> nameList;
     private boolean usingNextValueFor = false;
 
+    private NextValExpression() {
+        // for ModelClass, which sets the fields afterwards
+        this.nameList = null;
+    }
+
     public NextValExpression(List<String> nameList, String image) {
         this.nameList = nameList;
         // Test if we shall use NEXT VALUE FOR instead of NEXTVAL FOR
@@ -32,6 +37,7 @@ public class NextValExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setUsingNextValueFor(boolean usingNextValueFor) {
+        checkNotFrozen();
         this.usingNextValueFor = usingNextValueFor;
     }
 
@@ -66,4 +72,9 @@ public class NextValExpression extends ASTNodeAccessImpl implements Expression {
     public void accept(ExpressionVisitor expressionVisitor) {
         expressionVisitor.visit(this);
     }
+
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
 }
@@ -38,6 +38,7 @@ public class NotExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public final void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -46,6 +47,11 @@ public class NotExpression extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return (exclamationMark ? "! " : "NOT ") + expression.toString();
@@ -56,6 +62,7 @@ public class NotExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setExclamationMark(boolean exclamationMark) {
+        checkNotFrozen();
         this.exclamationMark = exclamationMark;
     }
 
@@ -20,6 +20,7 @@ public class NumericBind extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setBindId(int bindId) {
+        checkNotFrozen();
         this.bindId = bindId;
     }
 
@@ -28,6 +29,11 @@ public class NumericBind extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return ":" + bindId;
@@ -23,6 +23,7 @@ public class OracleHierarchicalExpression extends ASTNodeAccessImpl implements E
     }
 
     public void setStartExpression(Expression startExpression) {
+        checkNotFrozen();
         this.startExpression = startExpression;
     }
 
@@ -31,6 +32,7 @@ public class OracleHierarchicalExpression extends ASTNodeAccessImpl implements E
     }
 
     public void setConnectExpression(Expression connectExpression) {
+        checkNotFrozen();
         this.connectExpression = connectExpression;
     }
 
@@ -39,6 +41,7 @@ public class OracleHierarchicalExpression extends ASTNodeAccessImpl implements E
     }
 
     public void setNoCycle(boolean noCycle) {
+        checkNotFrozen();
         this.noCycle = noCycle;
     }
 
@@ -47,6 +50,7 @@ public class OracleHierarchicalExpression extends ASTNodeAccessImpl implements E
     }
 
     public void setConnectFirst(boolean connectFirst) {
+        checkNotFrozen();
         this.connectFirst = connectFirst;
     }
 
@@ -55,6 +59,11 @@ public class OracleHierarchicalExpression extends ASTNodeAccessImpl implements E
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         StringBuilder b = new StringBuilder();
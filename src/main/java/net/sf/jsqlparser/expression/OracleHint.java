@@ -31,6 +31,7 @@ public class OracleHint extends ASTNodeAccessImpl implements Expression {
     }
 
     public final void setComment(String comment) {
+        checkNotFrozen();
         Matcher m;
         m = SINGLE_LINE.matcher(comment);
         if (m.find()) {
@@ -50,6 +51,7 @@ public class OracleHint extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setValue(String value) {
+        checkNotFrozen();
         this.value = value;
     }
 
@@ -58,6 +60,7 @@ public class OracleHint extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setSingleLine(boolean singleLine) {
+        checkNotFrozen();
         this.singleLine = singleLine;
     }
 
@@ -66,6 +69,11 @@ public class OracleHint extends ASTNodeAccessImpl implements Expression {
         visitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> visitor, C context) {
+        return visitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         if (singleLine) {
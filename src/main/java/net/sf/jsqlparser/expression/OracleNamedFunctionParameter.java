@@ -20,6 +20,12 @@ public class OracleNamedFunctionParameter extends ASTNodeAccessImpl implements E
     private final String name;
     private final Expression expression;
 
+    private OracleNamedFunctionParameter() {
+        // for ModelClass, which sets the fields afterwards
+        this.name = null;
+        this.expression = null;
+    }
+
     public OracleNamedFunctionParameter(String name, Expression expression) {
         this.name = Objects.requireNonNull(name, "The NAME of the OracleNamedFunctionParameter must not be null.");
         this.expression = Objects.requireNonNull(expression, "The EXPRESSION of the OracleNamedFunctionParameter must not be null.");
@@ -37,6 +43,11 @@ public class OracleNamedFunctionParameter extends ASTNodeAccessImpl implements E
     public void accept(ExpressionVisitor expressionVisitor) {
         expressionVisitor.visit(this);
     }
+
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
     
     public StringBuilder appendTo(StringBuilder builder) {
         builder.append(name)
@@ -15,9 +15,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.select.OrderByElement;
 
-public class OrderByClause implements Serializable {
+public class OrderByClause extends Freezable implements Serializable {
     private List<OrderByElement> orderByElements;
 
     public List<OrderByElement> getOrderByElements() {
@@ -25,6 +26,7 @@ public class OrderByClause implements Serializable {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -37,6 +37,11 @@ public class OverlapsCondition extends ASTNodeAccessImpl implements Expression{
             expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return String.format("%s OVERLAPS %s"
@@ -30,6 +30,7 @@ public class Parenthesis extends ASTNodeAccessImpl implements Expression {
     }
 
     public final void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -38,6 +39,11 @@ public class Parenthesis extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return "(" + expression + ")";
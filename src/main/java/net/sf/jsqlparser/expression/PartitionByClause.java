@@ -10,11 +10,12 @@
 package net.sf.jsqlparser.expression;
 
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
 import java.io.Serializable;
 
-public class PartitionByClause implements Serializable {
+public class PartitionByClause extends Freezable implements Serializable {
     ExpressionList partitionExpressionList;
     boolean brackets = false;
 
@@ -23,10 +24,12 @@ public class PartitionByClause implements Serializable {
     }
     
     public void setPartitionExpressionList(ExpressionList partitionExpressionList) {
+        checkNotFrozen();
         setPartitionExpressionList(partitionExpressionList, false);
     }
 
     public void setPartitionExpressionList(ExpressionList partitionExpressionList, boolean brackets) {
+        checkNotFrozen();
         this.partitionExpressionList = partitionExpressionList;
         this.brackets = brackets;
     }
@@ -10,23 +10,25 @@
 package net.sf.jsqlparser.expression;
 
 import java.util.ArrayList;
+import java.util.List;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 import net.sf.jsqlparser.statement.create.table.ColumnDefinition;
 
 public class RowConstructor extends ASTNodeAccessImpl implements Expression {
     private ExpressionList exprList;
-    private ArrayList<ColumnDefinition> columnDefinitions = new ArrayList<>();
+    private List<ColumnDefinition> columnDefinitions = new ArrayList<>();
     private String name = null;
 
     public RowConstructor() {
     }
     
-    public ArrayList<ColumnDefinition> getColumnDefinitions() {
+    public List<ColumnDefinition> getColumnDefinitions() {
         return columnDefinitions;
     }
     
     public boolean addColumnDefinition(ColumnDefinition columnDefinition) {
+        checkNotFrozen();
         return columnDefinitions.add(columnDefinition);
     }
 
@@ -35,6 +37,7 @@ public class RowConstructor extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setExprList(ExpressionList exprList) {
+        checkNotFrozen();
         this.exprList = exprList;
     }
 
@@ -43,6 +46,7 @@ public class RowConstructor extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -51,6 +55,11 @@ public class RowConstructor extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         if (columnDefinitions.size()>0) {
@@ -25,6 +25,11 @@ public final class RowGetExpression extends ASTNodeAccessImpl implements Express
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return expression + "." + columnName;
@@ -35,6 +40,7 @@ public final class RowGetExpression extends ASTNodeAccessImpl implements Express
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -43,6 +49,7 @@ public final class RowGetExpression extends ASTNodeAccessImpl implements Express
     }
 
     public void setColumnName(String columnName) {
+        checkNotFrozen();
         this.columnName = columnName;
     }
 }
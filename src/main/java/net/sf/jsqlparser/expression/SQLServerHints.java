@@ -12,8 +12,9 @@ package net.sf.jsqlparser.expression;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class SQLServerHints implements Serializable {
+public class SQLServerHints extends Freezable implements Serializable {
 
     private Boolean noLock;
     private String indexName;
@@ -22,6 +23,7 @@ public class SQLServerHints implements Serializable {
     }
 
     public SQLServerHints withNoLock() {
+        checkNotFrozen();
         this.noLock = true;
         return this;
     }
@@ -31,6 +33,7 @@ public class SQLServerHints implements Serializable {
     }
 
     public void setNoLock(Boolean noLock) {
+        checkNotFrozen();
         this.noLock = noLock;
     }
 
@@ -39,6 +42,7 @@ public class SQLServerHints implements Serializable {
     }
 
     public void setIndexName(String indexName) {
+        checkNotFrozen();
         this.indexName = indexName;
     }
 
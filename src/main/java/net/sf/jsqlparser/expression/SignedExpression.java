@@ -33,6 +33,7 @@ public class SignedExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public final void setSign(char sign) {
+        checkNotFrozen();
         this.sign = sign;
         if (sign != '+' && sign != '-' && sign != '~') {
             throw new IllegalArgumentException("illegal sign character, only + - ~ allowed");
@@ -44,6 +45,7 @@ public class SignedExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public final void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -52,6 +54,11 @@ public class SignedExpression extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return getSign() + expression.toString();
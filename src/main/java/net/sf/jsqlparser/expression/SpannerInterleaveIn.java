@@ -9,12 +9,13 @@
  */
 package net.sf.jsqlparser.expression;
 
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 
 import java.util.Collections;
 import java.util.List;
 
-public class SpannerInterleaveIn {
+public class SpannerInterleaveIn extends Freezable {
 
     public enum OnDelete {
         CASCADE,
@@ -46,6 +47,7 @@ public class SpannerInterleaveIn {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -54,6 +56,7 @@ public class SpannerInterleaveIn {
     }
 
     public void setOnDelete(OnDelete action) {
+        checkNotFrozen();
         this.onDelete = action;
     }
 
@@ -71,10 +71,12 @@ public final class StringValue extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setValue(String string) {
+        checkNotFrozen();
         value = string;
     }
 
     public void setPrefix(String prefix) {
+        checkNotFrozen();
         this.prefix = prefix;
     }
 
@@ -83,6 +85,11 @@ public final class StringValue extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return (prefix != null ? prefix : "") + "'" + value + "'";
@@ -28,11 +28,17 @@ public class TimeKeyExpression extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public String getStringValue() {
         return stringValue;
     }
 
     public void setStringValue(String string) {
+        checkNotFrozen();
         stringValue = string;
     }
 
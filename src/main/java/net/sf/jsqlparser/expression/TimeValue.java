@@ -18,14 +18,17 @@ import java.sql.Time;
  */
 public class TimeValue extends ASTNodeAccessImpl implements Expression {
 
-    private Time value;
+    // marks a missing value
+    private static final long NO_VALUE = Long.MIN_VALUE;
+
+    private long value = NO_VALUE;
 
     public TimeValue() {
         // empty constructor
     }
 
     public TimeValue(String value) {
-        this.value = Time.valueOf(value.substring(1, value.length() - 1));
+        this.value = Time.valueOf(value.substring(1, value.length() - 1)).getTime();
     }
 
     @Override
@@ -33,17 +36,33 @@ public class TimeValue extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
+    /**
+     * @return a new {@link Time} of this value or <code>null</code>
+     */
     public Time getValue() {
+        return value == NO_VALUE ? null : new Time(value);
+    }
+
+    /**
+     * @return the milliseconds since the epoch of this time, as returned by {@link Time#getTime()}
+     */
+    public long getEpochMillis() {
         return value;
     }
 
     public void setValue(Time d) {
-        value = d;
+        checkNotFrozen();
+        value = d == null ? NO_VALUE : d.getTime();
     }
 
     @Override
     public String toString() {
-        return "{t '" + value + "'}";
+        return "{t '" + getValue() + "'}";
     }
 
     public TimeValue withValue(Time value) {
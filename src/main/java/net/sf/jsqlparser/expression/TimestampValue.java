@@ -19,7 +19,11 @@ import java.util.Objects;
  */
 public final class TimestampValue extends ASTNodeAccessImpl implements Expression {
 
-    private Timestamp value;
+    // marks a missing value
+    private static final long NO_VALUE = Long.MIN_VALUE;
+
+    private long value = NO_VALUE;
+    private int nanos;
     private String rawValue;
     private static final char QUOTATION = '\'';
 
@@ -41,12 +45,46 @@ public final class TimestampValue extends ASTNodeAccessImpl implements Expressio
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
+    /**
+     * @return a new {@link Timestamp} of this value or <code>null</code>
+     */
     public Timestamp getValue() {
+        if (value == NO_VALUE) {
+            return null;
+        }
+        Timestamp timestamp = new Timestamp(value);
+        timestamp.setNanos(nanos);
+        return timestamp;
+    }
+
+    /**
+     * @return the milliseconds since the epoch of this timestamp, as returned by
+     * {@link Timestamp#getTime()}
+     */
+    public long getEpochMillis() {
         return value;
     }
 
+    /**
+     * @return the fractional seconds of this timestamp in nanoseconds
+     */
+    public int getNanos() {
+        return nanos;
+    }
+
     public void setValue(Timestamp d) {
-        value = d;
+        checkNotFrozen();
+        setTimestamp(d);
+    }
+
+    private void setTimestamp(Timestamp d) {
+        value = d == null ? NO_VALUE : d.getTime();
+        nanos = d == null ? 0 : d.getNanos();
     }
 
     public String getRawValue() {
@@ -54,17 +92,18 @@ public final class TimestampValue extends ASTNodeAccessImpl implements Expressio
     }
 
     public void setRawValue(String rawValue) {
+        checkNotFrozen();
         this.rawValue = rawValue;
         if (rawValue.charAt(0) == QUOTATION) {
-            this.value = Timestamp.valueOf(rawValue.substring(1, rawValue.length() - 1));
+            setTimestamp(Timestamp.valueOf(rawValue.substring(1, rawValue.length() - 1)));
         } else {
-            this.value = Timestamp.valueOf(rawValue.substring(0, rawValue.length()));
+            setTimestamp(Timestamp.valueOf(rawValue.substring(0, rawValue.length())));
         }
     }
 
     @Override
     public String toString() {
-        return "{ts '" + value + "'}";
+        return "{ts '" + getValue() + "'}";
     }
 
     public TimestampValue withValue(Timestamp value) {
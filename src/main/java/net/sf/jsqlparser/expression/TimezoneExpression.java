@@ -17,13 +17,14 @@ import java.util.List;
 public class TimezoneExpression extends ASTNodeAccessImpl implements Expression {
 
     private Expression leftExpression;
-    private ArrayList<Expression> timezoneExpressions = new ArrayList<>();
+    private List<Expression> timezoneExpressions = new ArrayList<>();
 
     public Expression getLeftExpression() {
         return leftExpression;
     }
 
     public void setLeftExpression(Expression expression) {
+        checkNotFrozen();
         leftExpression = expression;
     }
 
@@ -32,11 +33,17 @@ public class TimezoneExpression extends ASTNodeAccessImpl implements Expression
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public List<Expression> getTimezoneExpressions() {
         return timezoneExpressions;
     }
 
     public void addTimezoneExpression(Expression timezoneExpr) {
+        checkNotFrozen();
         this.timezoneExpressions.add(timezoneExpr);
     }
 
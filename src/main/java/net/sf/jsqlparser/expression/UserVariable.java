@@ -32,6 +32,7 @@ public class UserVariable extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -40,11 +41,17 @@ public class UserVariable extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public boolean isDoubleAdd() {
         return doubleAdd;
     }
 
     public void setDoubleAdd(boolean doubleAdd) {
+        checkNotFrozen();
         this.doubleAdd = doubleAdd;
     }
 
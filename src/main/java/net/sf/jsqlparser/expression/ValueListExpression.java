@@ -27,6 +27,7 @@ public class ValueListExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setExpressionList(ExpressionList expressionList) {
+        checkNotFrozen();
         this.expressionList = expressionList;
     }
 
@@ -34,6 +35,11 @@ public class ValueListExpression extends ASTNodeAccessImpl implements Expression
     public void accept(ExpressionVisitor expressionVisitor) {
         expressionVisitor.visit(this);
     }
+
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
     
     @Override
     public String toString() {
@@ -25,6 +25,7 @@ public class VariableAssignment extends ASTNodeAccessImpl implements Expression
     }
 
     public void setVariable(UserVariable variable) {
+        checkNotFrozen();
         this.variable = variable;
     }
 
@@ -33,6 +34,7 @@ public class VariableAssignment extends ASTNodeAccessImpl implements Expression
     }
 
     public void setOperation(String operation) {
+        checkNotFrozen();
         this.operation = operation;
     }
 
@@ -41,6 +43,7 @@ public class VariableAssignment extends ASTNodeAccessImpl implements Expression
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -54,5 +57,10 @@ public class VariableAssignment extends ASTNodeAccessImpl implements Expression
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     
 }
@@ -25,11 +25,17 @@ public class WhenClause extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public Expression getThenExpression() {
         return thenExpression;
     }
 
     public void setThenExpression(Expression thenExpression) {
+        checkNotFrozen();
         this.thenExpression = thenExpression;
     }
 
@@ -44,6 +50,7 @@ public class WhenClause extends ASTNodeAccessImpl implements Expression {
      * @param whenExpression The whenExpression to set.
      */
     public void setWhenExpression(Expression whenExpression) {
+        checkNotFrozen();
         this.whenExpression = whenExpression;
     }
 
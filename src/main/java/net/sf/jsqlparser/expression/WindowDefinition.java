@@ -12,9 +12,10 @@ package net.sf.jsqlparser.expression;
 import java.io.Serializable;
 import java.util.List;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.select.OrderByElement;
 
-public class WindowDefinition implements Serializable {
+public class WindowDefinition extends Freezable implements Serializable {
 
 
     final OrderByClause orderBy = new OrderByClause();
@@ -35,6 +36,7 @@ public class WindowDefinition implements Serializable {
     }
 
     public void setWindowElement(WindowElement windowElement) {
+        checkNotFrozen();
         this.windowElement = windowElement;
     }
 
@@ -43,6 +45,7 @@ public class WindowDefinition implements Serializable {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         orderBy.setOrderByElements(orderByElements);
     }
 
@@ -51,10 +54,12 @@ public class WindowDefinition implements Serializable {
     }
 
     public void setPartitionExpressionList(ExpressionList partitionExpressionList) {
+        checkNotFrozen();
         setPartitionExpressionList(partitionExpressionList, false);
     }
 
     public void setPartitionExpressionList(ExpressionList partitionExpressionList, boolean brackets) {
+        checkNotFrozen();
         partitionBy.setPartitionExpressionList(partitionExpressionList, brackets);
     }
 
@@ -63,6 +68,7 @@ public class WindowDefinition implements Serializable {
     }
 
     public void setWindowName(String windowName) {
+        checkNotFrozen();
         this.windowName = windowName;
     }
     
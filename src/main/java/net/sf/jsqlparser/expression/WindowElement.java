@@ -10,8 +10,9 @@
 package net.sf.jsqlparser.expression;
 
 import java.io.Serializable;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class WindowElement implements Serializable {
+public class WindowElement extends Freezable implements Serializable {
 
     public enum Type {
 
@@ -28,6 +29,7 @@ public class WindowElement implements Serializable {
     }
 
     public void setType(Type type) {
+        checkNotFrozen();
         this.type = type;
     }
 
@@ -36,6 +38,7 @@ public class WindowElement implements Serializable {
     }
 
     public void setOffset(WindowOffset offset) {
+        checkNotFrozen();
         this.offset = offset;
     }
 
@@ -44,6 +47,7 @@ public class WindowElement implements Serializable {
     }
 
     public void setRange(WindowRange range) {
+        checkNotFrozen();
         this.range = range;
     }
 
@@ -74,5 +78,4 @@ public class WindowElement implements Serializable {
         this.setRange(range);
         return this;
     }
-
 }
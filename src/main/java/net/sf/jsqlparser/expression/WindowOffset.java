@@ -10,8 +10,9 @@
 package net.sf.jsqlparser.expression;
 
 import java.io.Serializable;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class WindowOffset implements Serializable {
+public class WindowOffset extends Freezable implements Serializable {
 
     public enum Type {
 
@@ -29,6 +30,7 @@ public class WindowOffset implements Serializable {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -37,6 +39,7 @@ public class WindowOffset implements Serializable {
     }
 
     public void setType(Type type) {
+        checkNotFrozen();
         this.type = type;
     }
 
@@ -82,5 +85,4 @@ public class WindowOffset implements Serializable {
     public <E extends Expression> E getExpression(Class<E> type) {
         return type.cast(getExpression());
     }
-
 }
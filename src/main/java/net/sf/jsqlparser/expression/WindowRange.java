@@ -10,8 +10,9 @@
 package net.sf.jsqlparser.expression;
 
 import java.io.Serializable;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class WindowRange implements Serializable {
+public class WindowRange extends Freezable implements Serializable {
 
     private WindowOffset start;
     private WindowOffset end;
@@ -21,6 +22,7 @@ public class WindowRange implements Serializable {
     }
 
     public void setEnd(WindowOffset end) {
+        checkNotFrozen();
         this.end = end;
     }
 
@@ -29,6 +31,7 @@ public class WindowRange implements Serializable {
     }
 
     public void setStart(WindowOffset start) {
+        checkNotFrozen();
         this.start = start;
     }
 
@@ -26,11 +26,17 @@ public class XMLSerializeExpr extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public Expression getExpression() {
         return expression;
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -39,6 +45,7 @@ public class XMLSerializeExpr extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -47,6 +54,7 @@ public class XMLSerializeExpr extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setDataType(ColDataType dataType) {
+        checkNotFrozen();
         this.dataType = dataType;
     }
     
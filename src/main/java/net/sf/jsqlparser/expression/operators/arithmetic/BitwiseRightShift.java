@@ -11,6 +11,7 @@ package net.sf.jsqlparser.expression.operators.arithmetic;
 
 import net.sf.jsqlparser.expression.BinaryExpression;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 public class BitwiseRightShift extends BinaryExpression {
@@ -20,6 +21,11 @@ public class BitwiseRightShift extends BinaryExpression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String getStringExpression() {
         return ">>";
@@ -11,6 +11,7 @@ package net.sf.jsqlparser.expression.operators.conditional;
 
 import net.sf.jsqlparser.expression.BinaryExpression;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 public class AndExpression extends BinaryExpression {
@@ -26,6 +27,7 @@ public class AndExpression extends BinaryExpression {
     }
 
     public void setUseOperator(boolean useOperator) {
+        checkNotFrozen();
         this.useOperator = useOperator;
     }
 
@@ -38,6 +40,11 @@ public class AndExpression extends BinaryExpression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String getStringExpression() {
         return useOperator ? "&&" : "AND";
@@ -0,0 +1,141 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.expression.operators.conditional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
+import net.sf.jsqlparser.expression.ExpressionVisitor;
+import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
+
+/**
+ * Any number of conditions joined by the same operator, like {@code a = 1 OR a = 2 OR a = 3}. The
+ * parser creates it instead of a chain of {@link AndExpression}s or {@link OrExpression}s with
+ * {@code Feature.flattenConditions}, so that visitors, deparsers and {@link #toString()} iterate
+ * over the conditions instead of recursing once per operator.
+ */
+public class ConditionalChain extends ASTNodeAccessImpl implements Expression {
+
+    public enum Operator {
+        AND, OR
+    }
+
+    private Operator operator = Operator.AND;
+    private boolean useOperator = false;
+    private List<Expression> expressions = new ArrayList<>();
+
+    public ConditionalChain() {
+        // nothing
+    }
+
+    public ConditionalChain(Operator operator, List<Expression> expressions) {
+        setOperator(operator);
+        setExpressions(expressions);
+    }
+
+    public ConditionalChain(Operator operator, Expression... expressions) {
+        this(operator, new ArrayList<>(Arrays.asList(expressions)));
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public void setOperator(Operator operator) {
+        checkNotFrozen();
+        this.operator = operator;
+    }
+
+    /**
+     * @return <code>true</code>, if the conditions are joined by {@code &&} instead of {@code AND}
+     */
+    public boolean isUseOperator() {
+        return useOperator;
+    }
+
+    public void setUseOperator(boolean useOperator) {
+        checkNotFrozen();
+        this.useOperator = useOperator;
+    }
+
+    public List<Expression> getExpressions() {
+        return expressions;
+    }
+
+    public void setExpressions(List<Expression> expressions) {
+        checkNotFrozen();
+        this.expressions = expressions;
+    }
+
+    public String getStringExpression() {
+        if (operator == Operator.OR) {
+            return "OR";
+        }
+        return useOperator ? "&&" : "AND";
+    }
+
+    /**
+     * @return the left-deep chain of {@link AndExpression}s or {@link OrExpression}s the parser
+     * creates without {@code Feature.flattenConditions}, or the only condition
+     */
+    public Expression toBinaryExpression() {
+        Expression result = expressions.get(0);
+        for (int i = 1; i < expressions.size(); i++) {
+            result = operator == Operator.OR ? new OrExpression(result, expressions.get(i))
+                    : new AndExpression(result, expressions.get(i)).withUseOperator(useOperator);
+        }
+        return result;
+    }
+
+    @Override
+    public void accept(ExpressionVisitor expressionVisitor) {
+        expressionVisitor.visit(this);
+    }
+
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String separator = " " + getStringExpression() + " ";
+        for (int i = 0; i < expressions.size(); i++) {
+            if (i > 0) {
+                builder.append(separator);
+            }
+            builder.append(expressions.get(i));
+        }
+        return builder.toString();
+    }
+
+    public ConditionalChain withOperator(Operator operator) {
+        this.setOperator(operator);
+        return this;
+    }
+
+    public ConditionalChain withUseOperator(boolean useOperator) {
+        this.setUseOperator(useOperator);
+        return this;
+    }
+
+    public ConditionalChain withExpressions(List<Expression> expressions) {
+        this.setExpressions(expressions);
+        return this;
+    }
+
+    public ConditionalChain addExpressions(Expression... expressions) {
+        getExpressions().addAll(Arrays.asList(expressions));
+        return this;
+    }
+}
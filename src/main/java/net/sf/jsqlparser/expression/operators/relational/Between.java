@@ -10,6 +10,7 @@
 package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 
@@ -40,18 +41,22 @@ public class Between extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setBetweenExpressionEnd(Expression expression) {
+        checkNotFrozen();
         betweenExpressionEnd = expression;
     }
 
     public void setBetweenExpressionStart(Expression expression) {
+        checkNotFrozen();
         betweenExpressionStart = expression;
     }
 
     public void setLeftExpression(Expression expression) {
+        checkNotFrozen();
         leftExpression = expression;
     }
 
     public void setNot(boolean b) {
+        checkNotFrozen();
         not = b;
     }
 
@@ -60,6 +65,11 @@ public class Between extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return leftExpression + " " + (not ? "NOT " : "") + "BETWEEN " + betweenExpressionStart + " AND "
@@ -10,6 +10,7 @@
 package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 
@@ -23,6 +24,7 @@ public class ExistsExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setRightExpression(Expression expression) {
+        checkNotFrozen();
         rightExpression = expression;
     }
 
@@ -31,6 +33,7 @@ public class ExistsExpression extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setNot(boolean b) {
+        checkNotFrozen();
         not = b;
     }
 
@@ -39,6 +42,11 @@ public class ExistsExpression extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     public String getStringExpression() {
         return (not ? "NOT " : "") + "EXISTS";
     }
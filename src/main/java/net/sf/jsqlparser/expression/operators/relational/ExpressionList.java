@@ -17,12 +17,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
 /**
  * A list of expressions, as in SELECT A FROM TAB WHERE B IN (expr1,expr2,expr3)
  */
-public class ExpressionList implements ItemsList, Serializable {
+public class ExpressionList extends Freezable implements ItemsList, Serializable {
 
     private List<Expression> expressions;
     private boolean usingBrackets = true;
@@ -32,6 +33,7 @@ public class ExpressionList implements ItemsList, Serializable {
     }
 
     public void setUsingBrackets(boolean usingBrackets) {
+        checkNotFrozen();
         this.usingBrackets = usingBrackets;
     }
     
@@ -67,6 +69,7 @@ public class ExpressionList implements ItemsList, Serializable {
     }
 
     public void setExpressions(List<Expression> expressions) {
+        checkNotFrozen();
         this.expressions = expressions;
     }
 
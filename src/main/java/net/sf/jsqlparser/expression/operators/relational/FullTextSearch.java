@@ -16,6 +16,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 import net.sf.jsqlparser.expression.JdbcNamedParameter;
 import net.sf.jsqlparser.expression.JdbcParameter;
@@ -34,6 +35,7 @@ public class FullTextSearch extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setMatchColumns(List<Column> columns) {
+        checkNotFrozen();
         this._matchColumns = columns;
     }
 
@@ -42,14 +44,17 @@ public class FullTextSearch extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setAgainstValue(StringValue val) {
+        checkNotFrozen();
         this._againstValue = val;
     }
     
     public void setAgainstValue(JdbcNamedParameter val) {
+        checkNotFrozen();
         this._againstValue = val;
     }
     
     public void setAgainstValue(JdbcParameter val) {
+        checkNotFrozen();
         this._againstValue = val;
     }
 
@@ -58,6 +63,7 @@ public class FullTextSearch extends ASTNodeAccessImpl implements Expression {
     }
 
     public void setSearchModifier(String val) {
+        checkNotFrozen();
         this._searchModifier = val;
     }
 
@@ -70,6 +76,11 @@ public class FullTextSearch extends ASTNodeAccessImpl implements Expression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         // Build a list of matched columns
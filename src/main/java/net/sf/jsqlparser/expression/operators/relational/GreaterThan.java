@@ -10,6 +10,7 @@
 package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 public class GreaterThan extends ComparisonOperator {
@@ -23,6 +24,11 @@ public class GreaterThan extends ComparisonOperator {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public GreaterThan withLeftExpression(Expression arg0) {
         return (GreaterThan) super.withLeftExpression(arg0);
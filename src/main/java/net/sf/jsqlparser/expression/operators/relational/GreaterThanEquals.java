@@ -10,6 +10,7 @@
 package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 public class GreaterThanEquals extends ComparisonOperator {
@@ -27,6 +28,11 @@ public class GreaterThanEquals extends ComparisonOperator {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public GreaterThanEquals withLeftExpression(Expression arg0) {
         return (GreaterThanEquals) super.withLeftExpression(arg0);
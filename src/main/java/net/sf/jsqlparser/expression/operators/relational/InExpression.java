@@ -10,6 +10,7 @@
 package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 
@@ -31,6 +32,7 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
 
     @Override
     public void setOldOracleJoinSyntax(int oldOracleJoinSyntax) {
+        checkNotFrozen();
         this.oldOracleJoinSyntax = oldOracleJoinSyntax;
         if (oldOracleJoinSyntax < 0 || oldOracleJoinSyntax > 1) {
             throw new IllegalArgumentException(
@@ -57,6 +59,7 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
     }
 
     public final void setRightItemsList(ItemsList list) {
+        checkNotFrozen();
         rightItemsList = list;
     }
 
@@ -66,6 +69,7 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
     }
 
     public final void setLeftExpression(Expression expression) {
+        checkNotFrozen();
         leftExpression = expression;
     }
 
@@ -74,6 +78,7 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
     }
 
     public void setNot(boolean b) {
+        checkNotFrozen();
         not = b;
     }
 
@@ -82,6 +87,7 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
     }
 
     public void setRightExpression(Expression rightExpression) {
+        checkNotFrozen();
         this.rightExpression = rightExpression;
     }
 
@@ -90,6 +96,11 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     private String getLeftExpressionString() {
         return leftExpression + (oldOracleJoinSyntax == ORACLE_JOIN_RIGHT ? "(+)" : "");
     }
@@ -119,6 +130,7 @@ public class InExpression extends ASTNodeAccessImpl implements Expression, Suppo
 
     @Override
     public void setOraclePriorPosition(int priorPosition) {
+        checkNotFrozen();
         if (priorPosition != SupportsOldOracleJoinSyntax.NO_ORACLE_PRIOR) {
             throw new IllegalArgumentException("unexpected prior for oracle found");
         }
@@ -10,6 +10,7 @@
 package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 
@@ -28,10 +29,12 @@ public class IsBooleanExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setLeftExpression(Expression expression) {
+        checkNotFrozen();
         leftExpression = expression;
     }
 
     public void setNot(boolean b) {
+        checkNotFrozen();
         not = b;
     }
 
@@ -40,6 +43,7 @@ public class IsBooleanExpression extends ASTNodeAccessImpl implements Expression
     }
 
     public void setIsTrue(boolean isTrue) {
+        checkNotFrozen();
         this.isTrue = isTrue;
     }
 
@@ -48,6 +52,11 @@ public class IsBooleanExpression extends ASTNodeAccessImpl implements Expression
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         if (isTrue()) {
@@ -11,6 +11,7 @@ package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.BinaryExpression;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 public class LikeExpression extends BinaryExpression {
@@ -24,6 +25,7 @@ public class LikeExpression extends BinaryExpression {
     }
 
     public void setNot(boolean b) {
+        checkNotFrozen();
         not = b;
     }
 
@@ -32,6 +34,11 @@ public class LikeExpression extends BinaryExpression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String getStringExpression() {
         return caseInsensitive ? "ILIKE" : "LIKE";
@@ -52,6 +59,7 @@ public class LikeExpression extends BinaryExpression {
     }
 
     public void setEscape(Expression escapeExpression) {
+        checkNotFrozen();
         this.escapeExpression = escapeExpression;
     }
 
@@ -60,6 +68,7 @@ public class LikeExpression extends BinaryExpression {
     }
 
     public void setCaseInsensitive(boolean caseInsensitive) {
+        checkNotFrozen();
         this.caseInsensitive = caseInsensitive;
     }
 
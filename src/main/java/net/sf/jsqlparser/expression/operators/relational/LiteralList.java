@@ -0,0 +1,229 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.expression.operators.relational;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.RowConstructor;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+
+/**
+ * A list of literals, like an IN list, or of rows of literals, like the VALUES of an INSERT, which
+ * stores the integers in a {@code long[]} and the texts in a {@code String[]} instead of holding
+ * objects for each row and literal. It is used for the items of an {@link ExpressionList} with
+ * {@code Feature.compactLiterals}.
+ *
+ * The items are created on each access, so changing an item returned by {@link #get(int)} does not
+ * change the list: replace it with {@link #set(int, Expression)} instead. The first change of the
+ * list copies its items into an {@link ArrayList}, which holds them from then on.
+ */
+@SuppressWarnings({"PMD.CyclomaticComplexity"})
+public final class LiteralList extends AbstractList<Expression> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final byte LONG = 0;
+    private static final byte STRING = 1;
+    private static final byte NULL = 2;
+    // a minus sign in front of the number
+    private static final byte NEGATIVE_LONG = 3;
+
+    private final byte[] kinds;
+
+    // null, if there is no number
+    private final long[] longs;
+
+    // null, if there is no text
+    private final String[] strings;
+
+    // the position of the first literal in the arrays
+    private final int offset;
+
+    private final int size;
+
+    // 0 for a list of literals, the number of literals of each row for a list of rows
+    private final int width;
+
+    // the items after the first change
+    private List<Expression> items;
+
+    private LiteralList(byte[] kinds, long[] longs, String[] strings, int offset, int size, int width) {
+        this.kinds = kinds;
+        this.longs = longs;
+        this.strings = strings;
+        this.offset = offset;
+        this.size = size;
+        this.width = width;
+    }
+
+    /**
+     * @param expressions the items of an expression list
+     * @return a {@link LiteralList} holding the same items, if there are at least two and all of
+     * them are integers, texts without a prefix or NULL, or all of them are rows of such literals
+     * with the same number of literals; otherwise the given list
+     */
+    public static List<Expression> of(List<Expression> expressions) {
+        if (expressions.size() < 2) {
+            return expressions;
+        }
+        int width = rowWidth(expressions.get(0));
+        for (Expression expression : expressions) {
+            if (width > 0 ? rowWidth(expression) != width : !isStorable(expression)) {
+                return expressions;
+            }
+        }
+        int count = width > 0 ? expressions.size() * width : expressions.size();
+        byte[] kinds = new byte[count];
+        long[] longs = new long[count];
+        String[] strings = new String[count];
+        boolean anyLong = false;
+        boolean anyString = false;
+        int position = 0;
+        for (Expression expression : expressions) {
+            List<Expression> literals = width > 0
+                    ? ((RowConstructor) expression).getExprList().getExpressions()
+                    : Collections.singletonList(expression);
+            for (Expression literal : literals) {
+                kinds[position] = kind(literal);
+                if (kinds[position] == STRING) {
+                    strings[position] = ((StringValue) literal).getValue();
+                    anyString = true;
+                } else if (kinds[position] != NULL) {
+                    longs[position] = number(literal);
+                    anyLong = true;
+                }
+                position++;
+            }
+        }
+        return new LiteralList(kinds, anyLong ? longs : null, anyString ? strings : null, 0, expressions.size(),
+                width);
+    }
+
+    /**
+     * @return the number of literals of a row holding nothing but literals, otherwise 0
+     */
+    private static int rowWidth(Expression expression) {
+        if (expression == null || expression.getClass() != RowConstructor.class) {
+            return 0;
+        }
+        RowConstructor row = (RowConstructor) expression;
+        ExpressionList list = row.getExprList();
+        if (row.getName() != null || !row.getColumnDefinitions().isEmpty() || list == null
+                || !list.isUsingBrackets() || list.getExpressions() == null) {
+            return 0;
+        }
+        for (Expression literal : list.getExpressions()) {
+            if (!isStorable(literal)) {
+                return 0;
+            }
+        }
+        return list.getExpressions().size();
+    }
+
+    /**
+     * @return <code>true</code> for the exact classes of literals, which are reproduced from their
+     * value alone
+     */
+    private static boolean isStorable(Expression expression) {
+        if (expression == null) {
+            return false;
+        }
+        Class<?> type = expression.getClass();
+        if (type == LongValue.class) {
+            return ((LongValue) expression).hasCanonicalText();
+        } else if (type == SignedExpression.class) {
+            SignedExpression signed = (SignedExpression) expression;
+            return signed.getSign() == '-' && signed.getExpression() instanceof LongValue
+                    && isStorable(signed.getExpression());
+        } else if (type == StringValue.class) {
+            return ((StringValue) expression).getPrefix() == null;
+        }
+        return type == NullValue.class;
+    }
+
+    private static byte kind(Expression literal) {
+        if (literal instanceof LongValue) {
+            return LONG;
+        } else if (literal instanceof SignedExpression) {
+            return NEGATIVE_LONG;
+        } else if (literal instanceof StringValue) {
+            return STRING;
+        }
+        return NULL;
+    }
+
+    private static long number(Expression literal) {
+        return literal instanceof LongValue ? ((LongValue) literal).getValue()
+                : ((SignedExpression) literal).getExpression(LongValue.class).getValue();
+    }
+
+    @Override
+    public Expression get(int index) {
+        if (items != null) {
+            return items.get(index);
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (width > 0) {
+            return new RowConstructor().withExprList(new ExpressionList(
+                    new LiteralList(kinds, longs, strings, offset + index * width, width, 0)));
+        }
+        int position = offset + index;
+        switch (kinds[position]) {
+            case LONG:
+                return new LongValue(longs[position]);
+            case NEGATIVE_LONG:
+                return new SignedExpression('-', new LongValue(longs[position]));
+            case STRING:
+                return new StringValue().withValue(strings[position]);
+            default:
+                return new NullValue();
+        }
+    }
+
+    @Override
+    public int size() {
+        return items != null ? items.size() : size;
+    }
+
+    @Override
+    public Expression set(int index, Expression element) {
+        return expanded().set(index, element);
+    }
+
+    @Override
+    public void add(int index, Expression element) {
+        expanded().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public Expression remove(int index) {
+        Expression removed = expanded().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    private List<Expression> expanded() {
+        if (items == null) {
+            items = new ArrayList<>(this);
+        }
+        return items;
+    }
+}
@@ -10,6 +10,7 @@
 package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 public class MinorThanEquals extends ComparisonOperator {
@@ -27,6 +28,11 @@ public class MinorThanEquals extends ComparisonOperator {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public MinorThanEquals withLeftExpression(Expression arg0) {
         return (MinorThanEquals) super.withLeftExpression(arg0);
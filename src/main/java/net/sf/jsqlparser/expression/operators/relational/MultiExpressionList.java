@@ -17,12 +17,13 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 
 /**
  * A list of ExpressionList items. e.g. multi values of insert statements. This one allows only
  * equally sized ExpressionList.
  */
-public class MultiExpressionList implements ItemsList {
+public class MultiExpressionList extends Freezable implements ItemsList {
 
     private List<ExpressionList> expressionLists;
 
@@ -45,6 +46,7 @@ public class MultiExpressionList implements ItemsList {
     }
 
     public void setExpressionLists(List<ExpressionList> expressionLists) {
+        checkNotFrozen();
         this.expressionLists = expressionLists;
     }
 
@@ -54,6 +56,7 @@ public class MultiExpressionList implements ItemsList {
     }
 
     public void addExpressionList(ExpressionList el) {
+        checkNotFrozen();
         if (!expressionLists.isEmpty()
                 && expressionLists.get(0).getExpressions().size() != el.getExpressions().size()) {
             throw new IllegalArgumentException("different count of parameters");
@@ -16,12 +16,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 
 /**
  * A list of named expressions, as in
  * as in select substr('xyzzy' from 2 for 3)
  */
-public class NamedExpressionList implements ItemsList {
+public class NamedExpressionList extends Freezable implements ItemsList {
 
     private List<Expression> expressions;
     private List<String> names;
@@ -46,10 +47,12 @@ public class NamedExpressionList implements ItemsList {
     }
 
     public void setExpressions(List<Expression> list) {
+        checkNotFrozen();
         expressions = list;
     }
 
     public void setNames(List<String> list) {
+        checkNotFrozen();
         names = list;
     }
 
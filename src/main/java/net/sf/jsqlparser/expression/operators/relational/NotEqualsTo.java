@@ -10,6 +10,7 @@
 package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 public class NotEqualsTo extends ComparisonOperator {
@@ -43,6 +44,11 @@ public class NotEqualsTo extends ComparisonOperator {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public NotEqualsTo withOldOracleJoinSyntax(int arg0) {
         return (NotEqualsTo) super.withOldOracleJoinSyntax(arg0);
@@ -20,6 +20,7 @@ public abstract class OldOracleJoinBinaryExpression extends BinaryExpression imp
 
     @Override
     public void setOldOracleJoinSyntax(int oldOracleJoinSyntax) {
+        checkNotFrozen();
         this.oldOracleJoinSyntax = oldOracleJoinSyntax;
         if (oldOracleJoinSyntax < 0 || oldOracleJoinSyntax > 2) {
             throw new IllegalArgumentException("unknown join type for oracle found (type=" + oldOracleJoinSyntax + ")");
@@ -50,6 +51,7 @@ public abstract class OldOracleJoinBinaryExpression extends BinaryExpression imp
 
     @Override
     public void setOraclePriorPosition(int oraclePriorPosition) {
+        checkNotFrozen();
         this.oraclePriorPosition = oraclePriorPosition;
     }
 
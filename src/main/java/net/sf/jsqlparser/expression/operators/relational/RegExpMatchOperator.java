@@ -12,12 +12,17 @@ package net.sf.jsqlparser.expression.operators.relational;
 import java.util.Objects;
 import net.sf.jsqlparser.expression.BinaryExpression;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 public class RegExpMatchOperator extends BinaryExpression {
 
     private RegExpMatchOperatorType operatorType;
 
+    private RegExpMatchOperator() {
+        // for ModelClass, which sets the fields afterwards
+    }
+
     public RegExpMatchOperator(RegExpMatchOperatorType operatorType) {
         this.operatorType = Objects.requireNonNull(operatorType, "The provided RegExpMatchOperatorType must not be NULL.");
     }
@@ -31,6 +36,11 @@ public class RegExpMatchOperator extends BinaryExpression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String getStringExpression() {
         switch (operatorType) {
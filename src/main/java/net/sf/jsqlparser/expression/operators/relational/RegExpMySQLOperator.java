@@ -12,6 +12,7 @@ package net.sf.jsqlparser.expression.operators.relational;
 import java.util.Objects;
 import net.sf.jsqlparser.expression.BinaryExpression;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 public class RegExpMySQLOperator extends BinaryExpression {
@@ -20,6 +21,10 @@ public class RegExpMySQLOperator extends BinaryExpression {
     private boolean useRLike = false;
     private boolean not = false;
 
+    private RegExpMySQLOperator() {
+        // for ModelClass, which sets the fields afterwards
+    }
+
     public RegExpMySQLOperator(RegExpMatchOperatorType operatorType) {
         this(false, operatorType); 
     }
@@ -34,6 +39,7 @@ public class RegExpMySQLOperator extends BinaryExpression {
     }
 
     public void setNot(boolean not) {
+        checkNotFrozen();
         this.not = not;
     }
 
@@ -55,6 +61,11 @@ public class RegExpMySQLOperator extends BinaryExpression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String getStringExpression() {
         return (not?"NOT ":"") 
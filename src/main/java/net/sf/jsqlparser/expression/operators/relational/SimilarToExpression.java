@@ -11,6 +11,7 @@ package net.sf.jsqlparser.expression.operators.relational;
 
 import net.sf.jsqlparser.expression.BinaryExpression;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 
 public class SimilarToExpression extends BinaryExpression {
@@ -23,6 +24,7 @@ public class SimilarToExpression extends BinaryExpression {
     }
 
     public void setNot(boolean b) {
+        checkNotFrozen();
         not = b;
     }
 
@@ -31,6 +33,11 @@ public class SimilarToExpression extends BinaryExpression {
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String getStringExpression() {
         return "SIMILAR TO";
@@ -51,6 +58,7 @@ public class SimilarToExpression extends BinaryExpression {
     }
 
     public void setEscape(String escape) {
+        checkNotFrozen();
         this.escape = escape;
     }
 
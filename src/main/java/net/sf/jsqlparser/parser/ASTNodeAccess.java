@@ -16,4 +16,14 @@ public interface ASTNodeAccess extends Serializable {
     SimpleNode getASTNode();
 
     void setASTNode(SimpleNode node);
+
+    /**
+     * @return a view of the original text of this node, <code>null</code> if the node is not linked
+     * to the syntax tree or the parser did not know its input
+     * @see CCJSqlParser#withSourceText(CharSequence)
+     */
+    default SourceText getSourceText() {
+        SimpleNode node = getASTNode();
+        return node == null ? null : SourceText.of(node.jjtGetFirstToken(), node.jjtGetLastToken());
+    }
 }
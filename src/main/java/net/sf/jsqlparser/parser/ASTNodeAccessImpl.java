@@ -9,7 +9,7 @@
  */
 package net.sf.jsqlparser.parser;
 
-public class ASTNodeAccessImpl implements ASTNodeAccess {
+public class ASTNodeAccessImpl extends Freezable implements ASTNodeAccess {
 
     private transient SimpleNode node;
 
@@ -20,6 +20,7 @@ public class ASTNodeAccessImpl implements ASTNodeAccess {
 
     @Override
     public void setASTNode(SimpleNode node) {
+        checkNotFrozen();
         this.node = node;
     }
 
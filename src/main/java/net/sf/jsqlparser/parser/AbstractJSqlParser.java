@@ -12,14 +12,26 @@ package net.sf.jsqlparser.parser;
 import java.util.ArrayList;
 import java.util.List;
 
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
 import net.sf.jsqlparser.parser.feature.Feature;
 import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.Join;
 
 public abstract class AbstractJSqlParser<P> {
 
     protected int jdbcParameterIndex = 0;
     protected boolean errorRecovery = false;
     protected List<ParseException> parseErrors = new ArrayList<>();
+    protected ParseListener parseListener;
+    protected InsertRowHandler insertRowHandler;
+
+    // the names of a DDL statement are not reported to the listener
+    private boolean definition;
 
     public P withSquareBracketQuotation(boolean allowSquareBracketQuotation) {
         return withFeature(Feature.allowSquareBracketQuotation, allowSquareBracketQuotation);
@@ -40,7 +52,52 @@ public abstract class AbstractJSqlParser<P> {
     public P withBackslashEscapeCharacter(boolean allowBackslashEscapeCharacter) {
         return withFeature(Feature.allowBackslashEscapeCharacter, allowBackslashEscapeCharacter);
     }
+
+    public P withInternIdentifiers(boolean internIdentifiers) {
+        return withFeature(Feature.internIdentifiers, internIdentifiers);
+    }
+
+    public P withBuildAST(boolean buildAST) {
+        return withFeature(Feature.buildAST, buildAST);
+    }
+
+    public P withCompactLiterals(boolean compactLiterals) {
+        return withFeature(Feature.compactLiterals, compactLiterals);
+    }
+
+    public P withFlattenConditions(boolean flattenConditions) {
+        return withFeature(Feature.flattenConditions, flattenConditions);
+    }
+
+    public P withMaxStatementLength(int maxStatementLength) {
+        return withFeature(Feature.maxStatementLength, maxStatementLength);
+    }
     
+    /**
+     * @param parseListener the listener to notify while parsing, <code>null</code> for none
+     */
+    public P withParseListener(ParseListener parseListener) {
+        this.parseListener = parseListener;
+        return me();
+    }
+
+    public ParseListener getParseListener() {
+        return parseListener;
+    }
+
+    /**
+     * @param insertRowHandler the handler receiving the rows of the VALUES of an INSERT instead of
+     * the statement, <code>null</code> to keep the rows in the statement
+     */
+    public P withInsertRowHandler(InsertRowHandler insertRowHandler) {
+        this.insertRowHandler = insertRowHandler;
+        return me();
+    }
+
+    public InsertRowHandler getInsertRowHandler() {
+        return insertRowHandler;
+    }
+
     public P withFeature(Feature f, boolean enabled) {
         getConfiguration().setValue(f, enabled);
         return me();
@@ -63,6 +120,123 @@ public abstract class AbstractJSqlParser<P> {
         return getConfiguration().getAsInteger(f);
     }
 
+    /**
+     * @param identifier a parsed name
+     * @return the pooled instance of the name, if {@link Feature#internIdentifiers} is enabled
+     */
+    protected String intern(String identifier) {
+        return getAsBoolean(Feature.internIdentifiers) ? IdentifierPool.intern(identifier) : identifier;
+    }
+
+    protected void enterStatement() {
+        definition = false;
+        if (parseListener != null) {
+            parseListener.enterStatement();
+        }
+    }
+
+    protected Statement exitStatement(Statement statement) {
+        if (parseListener != null && statement != null) {
+            parseListener.exitStatement(statement);
+        }
+        return statement;
+    }
+
+    protected void abortStatement() {
+        if (parseListener != null) {
+            parseListener.abortStatement();
+        }
+    }
+
+    /**
+     * Marks the statement being parsed as a DDL statement, whose names are not reported to the
+     * listener.
+     */
+    protected void enterDefinition() {
+        definition = true;
+    }
+
+    /**
+     * @return whether the names were left out before the query, to be passed to
+     * {@link #exitQuery(boolean)}
+     */
+    protected boolean enterQuery() {
+        boolean outer = definition;
+        definition = false;
+        return outer;
+    }
+
+    protected void exitQuery(boolean outer) {
+        definition = outer;
+    }
+
+    protected void enterFromItem() {
+        if (parseListener != null) {
+            parseListener.enterFromItem();
+        }
+    }
+
+    protected FromItem exitFromItem(FromItem fromItem) {
+        if (parseListener != null) {
+            parseListener.exitFromItem(fromItem);
+        }
+        return fromItem;
+    }
+
+    protected void enterJoin() {
+        if (parseListener != null) {
+            parseListener.enterJoin();
+        }
+    }
+
+    protected Join exitJoin(Join join) {
+        if (parseListener != null) {
+            parseListener.exitJoin(join);
+        }
+        return join;
+    }
+
+    protected void enterExpression() {
+        if (parseListener != null) {
+            parseListener.enterExpression();
+        }
+    }
+
+    protected Expression exitExpression(Expression expression) {
+        if (parseListener != null) {
+            parseListener.exitExpression(expression);
+        }
+        return expression;
+    }
+
+    protected Table tableReferenced(Table table) {
+        if (parseListener != null && !definition) {
+            parseListener.tableReferenced(table);
+        }
+        return table;
+    }
+
+    protected Column columnReferenced(Column column) {
+        if (parseListener != null && !definition) {
+            parseListener.columnReferenced(column);
+        }
+        return column;
+    }
+
+    protected Function functionCalled(Function function) {
+        if (parseListener != null) {
+            parseListener.functionCalled(function);
+        }
+        return function;
+    }
+
+    protected <T extends Expression> T parameterFound(T parameter) {
+        if (parseListener != null) {
+            parseListener.parameterFound(parameter);
+        }
+        return parameter;
+    }
+
     public void setErrorRecovery(boolean errorRecovery) {
         this.errorRecovery = errorRecovery;
     }
@@ -13,4 +13,6 @@ public class BaseToken {
 
     public int absoluteBegin = 0;
     public int absoluteEnd = 0;
+    // the text read by the parser, if known
+    public CharSequence source;
 }
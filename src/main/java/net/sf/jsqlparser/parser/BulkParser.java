@@ -0,0 +1,118 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * The parsers of a single thread, for texts parsed one after the other, each holding a single
+ * statement. The parsers are configured once and reused for all texts.
+ *
+ * @see CCJSqlParserUtil#parseAll(java.util.Collection, java.util.concurrent.ForkJoinPool, Consumer)
+ */
+final class BulkParser {
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private final CCJSqlParser simple;
+
+    private final CCJSqlParser complex;
+
+    // holds back the events of the simple parser until it succeeded
+    private final DeferredParseListener deferred;
+
+    BulkParser(Consumer<CCJSqlParser> consumer) {
+        simple = CCJSqlParserUtil.newParser("").withAllowComplexParsing(false);
+        complex = CCJSqlParserUtil.newParser("").withAllowComplexParsing(true);
+        if (consumer != null) {
+            consumer.accept(simple);
+            consumer.accept(complex);
+        }
+        deferred = DeferredParseListener.install(simple);
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "JSqlParser time out");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Parses fast and simple first, like {@link CCJSqlParserUtil#parse(String, Consumer)}.
+     */
+    ParseResult parseResult(String sql, long begin, long end) {
+        try {
+            Statement statement = parse(simple, sql);
+            deferred.replay();
+            return new ParseResult(sql, statement, null, begin, end);
+        } catch (JSQLParserException ex) {
+            if (CCJSqlParserUtil.getNestingDepth(sql) > CCJSqlParserUtil.ALLOWED_NESTING_DEPTH) {
+                deferred.replay();
+                return new ParseResult(sql, null, ex, begin, end);
+            }
+            deferred.discard();
+        }
+        try {
+            return new ParseResult(sql, parse(complex, sql), null, begin, end);
+        } catch (JSQLParserException ex) {
+            return new ParseResult(sql, null, ex, begin, end);
+        }
+    }
+
+    /**
+     * Flags the parser as interrupted once the time out passed. The flag is only checked by some
+     * lookaheads, so parsing stops at the next check instead of right at the time out.
+     */
+    private static Statement parse(CCJSqlParser parser, String sql) throws JSQLParserException {
+        parser.reset(sql);
+        ScheduledFuture<?> timeOut = TIMER.schedule(() -> {
+            parser.interrupted = true;
+        }, parser.getConfiguration().getAsInteger(Feature.timeOut), TimeUnit.MILLISECONDS);
+        Statement statement;
+        try {
+            statement = parser.Statement();
+        } catch (Exception ex) {
+            throw parser.interrupted ? new JSQLParserException("Time out occurred.", ex)
+                    : new JSQLParserException(ex);
+        } finally {
+            cancel(timeOut);
+        }
+        if (parser.interrupted) {
+            throw new JSQLParserException("Time out occurred.");
+        }
+        return statement;
+    }
+
+    /**
+     * Cancels the time out, or waits for it if it is just running, so that it cannot flag the
+     * parser while the next text is parsed.
+     */
+    private static void cancel(ScheduledFuture<?> timeOut) {
+        if (!timeOut.cancel(false)) {
+            try {
+                timeOut.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
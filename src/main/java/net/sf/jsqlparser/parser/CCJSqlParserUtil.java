@@ -11,14 +11,30 @@ package net.sf.jsqlparser.parser;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.parser.feature.Feature;
@@ -35,6 +51,11 @@ import net.sf.jsqlparser.statement.Statements;
 public final class CCJSqlParserUtil {
     public final static int ALLOWED_NESTING_DEPTH = 10;
 
+    // the smallest run of statements parsed by a parser of its own
+    private static final int MIN_CHUNK_LENGTH = 16 * 1024;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
     private CCJSqlParserUtil() {
     }
 
@@ -64,6 +85,7 @@ public final class CCJSqlParserUtil {
      */
     public static Statement parse(String sql, Consumer<CCJSqlParser> consumer) throws JSQLParserException {
         Statement statement = null;
+        DeferredParseListener deferred = null;
 
         // first, try to parse fast and simple
         try {
@@ -71,21 +93,26 @@ public final class CCJSqlParserUtil {
             if (consumer != null) {
                 consumer.accept(parser);
             }
+            deferred = DeferredParseListener.install(parser);
             statement = parseStatement(parser);
+            deferred.replay();
         } catch (JSQLParserException ex) {
             if (getNestingDepth(sql)<=ALLOWED_NESTING_DEPTH) {
+                deferred.discard();
                 CCJSqlParser parser = newParser(sql).withAllowComplexParsing(true);
                 if (consumer != null) {
                     consumer.accept(parser);
                 }
                 statement = parseStatement(parser);
+            } else {
+                deferred.replay();
             }
         }
         return statement;
     }
 
     public static CCJSqlParser newParser(String sql) {
-        return new CCJSqlParser(new StringProvider(sql));
+        return new CCJSqlParser(new StringProvider(sql)).withSourceText(sql);
     }
 
     public static CCJSqlParser newParser(InputStream is) throws IOException {
@@ -136,6 +163,7 @@ public final class CCJSqlParserUtil {
     @SuppressWarnings("PMD.CyclomaticComplexity")
     public static Expression parseExpression(String expressionStr, boolean allowPartialParse, Consumer<CCJSqlParser> consumer) throws JSQLParserException {
         Expression expression = null;
+        DeferredParseListener deferred = null;
 
         // first, try to parse fast and simple
         try {
@@ -143,6 +171,7 @@ public final class CCJSqlParserUtil {
             if (consumer != null) {
                 consumer.accept(parser);
             }
+            deferred = DeferredParseListener.install(parser);
             try {
                 expression = parser.Expression();
                 if (parser.getNextToken().kind != CCJSqlParserTokenManager.EOF) {
@@ -151,9 +180,11 @@ public final class CCJSqlParserUtil {
             } catch (ParseException ex) {
                 throw new JSQLParserException(ex);
             }
+            deferred.replay();
         } catch (JSQLParserException ex1) {
             // when fast simple parsing fails, try complex parsing but only if it has a chance to succeed
             if (getNestingDepth(expressionStr)<=ALLOWED_NESTING_DEPTH) {
+                deferred.discard();
                 CCJSqlParser parser = newParser(expressionStr).withAllowComplexParsing(true);
                 if (consumer != null) {
                     consumer.accept(parser);
@@ -168,6 +199,8 @@ public final class CCJSqlParserUtil {
                 } catch (ParseException ex) {
                     throw new JSQLParserException(ex);
                 }
+            } else {
+                deferred.replay();
             }
         }
         return expression;
@@ -202,6 +235,7 @@ public final class CCJSqlParserUtil {
     @SuppressWarnings("PMD.CyclomaticComplexity")
     public static Expression parseCondExpression(String conditionalExpressionStr, boolean allowPartialParse, Consumer<CCJSqlParser> consumer) throws JSQLParserException {
         Expression expression = null;
+        DeferredParseListener deferred = null;
 
         // first, try to parse fast and simple
         try {
@@ -209,6 +243,7 @@ public final class CCJSqlParserUtil {
             if (consumer != null) {
                 consumer.accept(parser);
             }
+            deferred = DeferredParseListener.install(parser);
             try {
                 expression = parser.Expression();
                 if (parser.getNextToken().kind != CCJSqlParserTokenManager.EOF) {
@@ -217,8 +252,10 @@ public final class CCJSqlParserUtil {
             } catch (ParseException ex) {
                 throw new JSQLParserException(ex);
             }
+            deferred.replay();
         }  catch (JSQLParserException ex1) {
             if (getNestingDepth(conditionalExpressionStr)<=ALLOWED_NESTING_DEPTH) {
+                deferred.discard();
                 CCJSqlParser parser = newParser(conditionalExpressionStr).withAllowComplexParsing(true);
                 if (consumer != null) {
                     consumer.accept(parser);
@@ -233,6 +270,8 @@ public final class CCJSqlParserUtil {
                 } catch (ParseException ex) {
                     throw new JSQLParserException(ex);
                 }
+            } else {
+                deferred.replay();
             }
         }
         return expression;
@@ -281,6 +320,7 @@ public final class CCJSqlParserUtil {
      */
     public static Statements parseStatements(String sqls, Consumer<CCJSqlParser> consumer) throws JSQLParserException {
         Statements statements = null;
+        DeferredParseListener deferred = null;
 
         // first, try to parse fast and simple
         try {
@@ -288,20 +328,563 @@ public final class CCJSqlParserUtil {
             if (consumer != null) {
                 consumer.accept(parser);
             }
+            deferred = DeferredParseListener.install(parser);
             statements = parseStatements(parser);
+            deferred.replay();
         } catch (JSQLParserException ex) {
             // when fast simple parsing fails, try complex parsing but only if it has a chance to succeed
             if (getNestingDepth(sqls)<=ALLOWED_NESTING_DEPTH) {
+                deferred.discard();
                 CCJSqlParser parser = newParser(sqls).withAllowComplexParsing(true);
                 if (consumer != null) {
                     consumer.accept(parser);
                 }
                 statements = parseStatements(parser);
+            } else {
+                deferred.replay();
             }
         }
         return statements;
     }
 
+    /**
+     * Parses a statement list again after an edit. Only the statements touched by the edit are
+     * parsed again, the other ones are taken from the previous result.
+     *
+     * @param previous the statements parsed from previousSqls
+     * @param previousSqls the text before the edit
+     * @param offset the offset of the edit
+     * @param removedLength the number of characters removed at the offset
+     * @param insertedSqls the text inserted at the offset
+     * @return the statements of the edited text
+     * @see #reparseStatements(Statements, String, int, int, String, Consumer)
+     */
+    public static Statements reparseStatements(Statements previous, String previousSqls, int offset, int removedLength,
+            String insertedSqls) throws JSQLParserException {
+        return reparseStatements(previous, previousSqls, offset, removedLength, insertedSqls, null);
+    }
+
+    /**
+     * Parses a statement list again after an edit.
+     *
+     * Each statement owns its text and the separator behind it. The statements owning the edited
+     * characters, or a character next to them, are parsed again, unless the edit removed the
+     * separator behind them, in which case the following statements are added until a separator is
+     * found. The unchanged statements are reused, so they are shared with the previous result,
+     * and their {@link Statements#getSourceTexts() source texts} are moved to the edited text. The
+     * statements parsed again are parsed within the edited text, so their nodes have the offsets,
+     * lines and columns of the whole text. The nodes of reused statements still refer to the
+     * previous text, so the positions of those behind the edit are off by the edit.
+     *
+     * If the edited statements can not be parsed on their own, or the previous result does not
+     * know the source texts of its statements, the whole text is parsed.
+     *
+     * @param consumer to configure the parser, as for {@link #parseStatements(String, Consumer)}
+     */
+    public static Statements reparseStatements(Statements previous, String previousSqls, int offset, int removedLength,
+            String insertedSqls, Consumer<CCJSqlParser> consumer) throws JSQLParserException {
+        String sqls = previousSqls.substring(0, offset) + insertedSqls
+                + previousSqls.substring(offset + removedLength);
+        List<SourceText> sourceTexts = previous.getSourceTexts();
+        if (!hasSourceTexts(previous, previousSqls)) {
+            return parseStatements(sqls, consumer);
+        }
+
+        int count = sourceTexts.size();
+        int delta = insertedSqls.length() - removedLength;
+        int first = owner(sourceTexts, offset - 1);
+        int last = owner(sourceTexts, offset + removedLength);
+        int regionBegin = first == 0 ? 0 : sourceTexts.get(first).getBegin();
+        int[] position = position(sqls, regionBegin);
+        Statements parsed = null;
+        while (parsed == null) {
+            int regionEnd = (last + 1 < count ? sourceTexts.get(last + 1).getBegin() : previousSqls.length()) + delta;
+            try {
+                parsed = parseRegion(sqls, regionBegin, regionEnd, position[0], position[1], consumer);
+            } catch (JSQLParserException ex) {
+                return parseStatements(sqls, consumer);
+            }
+            if (parsed == null || parsed.getSourceTexts() == null) {
+                return parseStatements(sqls, consumer);
+            }
+            if (last + 1 < count && !endsWithSeparator(sqls, regionEnd, parsed)) {
+                last++;
+                parsed = null;
+            }
+        }
+
+        int size = count - (last - first + 1) + parsed.getStatements().size();
+        List<Statement> statements = new ArrayList<>(size);
+        List<SourceText> texts = new ArrayList<>(size);
+        for (int i = 0; i < first; i++) {
+            statements.add(previous.getStatements().get(i));
+            texts.add(move(sourceTexts.get(i), sqls, 0));
+        }
+        statements.addAll(parsed.getStatements());
+        texts.addAll(parsed.getSourceTexts());
+        for (int i = last + 1; i < count; i++) {
+            statements.add(previous.getStatements().get(i));
+            texts.add(move(sourceTexts.get(i), sqls, delta));
+        }
+        Statements result = new Statements().withStatements(statements);
+        result.setSourceTexts(texts);
+        return result;
+    }
+
+    private static boolean hasSourceTexts(Statements statements, String sqls) {
+        List<SourceText> sourceTexts = statements.getSourceTexts();
+        if (sourceTexts == null || sourceTexts.isEmpty() || statements.getStatements() == null
+                || sourceTexts.size() != statements.getStatements().size()) {
+            return false;
+        }
+        for (SourceText text : sourceTexts) {
+            if (text == null || text.getSource().length() != sqls.length()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the statement owning the character at the offset, the first one for characters in
+     * front of all statements
+     */
+    private static int owner(List<SourceText> sourceTexts, int offset) {
+        int low = 0;
+        int high = sourceTexts.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (sourceTexts.get(middle).getBegin() <= offset) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return Math.max(high, 0);
+    }
+
+    private static boolean endsWithSeparator(String sqls, int regionEnd, Statements parsed) {
+        List<SourceText> texts = parsed.getSourceTexts();
+        if (texts.isEmpty()) {
+            return true;
+        }
+        CCJSqlParser tail = newParser(sqls.substring(texts.get(texts.size() - 1).getEnd(), regionEnd));
+        return tail.getToken(1).kind == CCJSqlParserTokenManager.ST_SEMICOLON;
+    }
+
+    private static SourceText move(SourceText text, String sqls, int delta) {
+        return new SourceText(sqls, text.getBegin() + delta, text.getEnd() + delta);
+    }
+
+    /**
+     * @return the line and the column of the character at the offset, counted like
+     * {@link SimpleCharStream} does
+     */
+    private static int[] position(String sqls, int offset) {
+        int line = 1;
+        int column = 1;
+        for (int i = 0; i < offset; i++) {
+            if (isLineEnd(sqls, i)) {
+                line++;
+                column = 1;
+            } else {
+                column++;
+            }
+        }
+        return new int[] {line, column};
+    }
+
+    private static boolean isLineEnd(String sqls, int offset) {
+        char c = sqls.charAt(offset);
+        return c == '\n' || c == '\r' && (offset + 1 == sqls.length() || sqls.charAt(offset + 1) != '\n');
+    }
+
+    /**
+     * Parses the statements between begin and end, fast and simple first, with parsers continuing
+     * the offsets, lines and columns of the whole text.
+     *
+     * @param line the line of the character at begin
+     * @param column the column of the character at begin
+     */
+    private static Statements parseRegion(String sqls, int begin, int end, int line, int column,
+            Consumer<CCJSqlParser> consumer) throws JSQLParserException {
+        String region = sqls.substring(begin, end);
+        CCJSqlParser parser = newParser(sqls, region, begin, line, column, false, consumer);
+        DeferredParseListener deferred = DeferredParseListener.install(parser);
+        try {
+            Statements statements = parseStatements(parser);
+            deferred.replay();
+            return statements;
+        } catch (JSQLParserException ex) {
+            if (getNestingDepth(region) > ALLOWED_NESTING_DEPTH) {
+                deferred.replay();
+                throw ex;
+            }
+            deferred.discard();
+            return parseStatements(newParser(sqls, region, begin, line, column, true, consumer));
+        }
+    }
+
+    private static CCJSqlParser newParser(String sqls, String region, int begin, int line, int column,
+            boolean allowComplexParsing, Consumer<CCJSqlParser> consumer) {
+        SimpleCharStream stream = new SimpleCharStream(new StringProvider(region), line, column);
+        stream.setAbsoluteOffset(begin);
+        CCJSqlParser parser = new CCJSqlParser(new CCJSqlParserTokenManager(stream)).withSourceText(sqls)
+                .withAllowComplexParsing(allowComplexParsing);
+        if (consumer != null) {
+            consumer.accept(parser);
+        }
+        return parser;
+    }
+
+    /**
+     * Parses a statement list on the common fork join pool.
+     *
+     * @return the statements parsed
+     * @see #parseStatementsParallel(String, ForkJoinPool, Consumer)
+     */
+    public static Statements parseStatementsParallel(String sqls) throws JSQLParserException {
+        return parseStatementsParallel(sqls, ForkJoinPool.commonPool(), null);
+    }
+
+    /**
+     * Parses a statement list on a fork join pool. The text is split at the statement boundaries
+     * found by a {@link ScriptSplitter}, and runs of statements are parsed concurrently, each by a
+     * parser of its own. These parsers continue the offsets, lines and columns of the whole text,
+     * so the statements, their {@link Statements#getSourceTexts() source texts} and the positions
+     * reported by errors are the same as if the whole text had been parsed at once.
+     *
+     * Where the splitter ends a statement the grammar continues, for example in front of the ELSE
+     * of an IF statement, the run failing to parse is parsed again together with its neighbours.
+     *
+     * @param pool the pool running the parsers, its parallelism limits the number of parsers
+     * running at the same time
+     * @param consumer to configure the parsers, as for {@link #parseStatements(String, Consumer)}
+     * @return the statements parsed, in the order of the text
+     */
+    public static Statements parseStatementsParallel(String sqls, ForkJoinPool pool, Consumer<CCJSqlParser> consumer)
+            throws JSQLParserException {
+        List<SourceText> ranges = newSplitter(consumer).split(sqls);
+        int chunkLength = Math.max(sqls.length() / (pool.getParallelism() * CHUNKS_PER_THREAD), MIN_CHUNK_LENGTH);
+        List<Chunk> chunks = Chunk.split(sqls, ranges, chunkLength);
+        if (chunks.size() <= 1) {
+            return parseStatements(sqls, consumer);
+        }
+        for (Chunk chunk : chunks) {
+            chunk.task = pool.submit(() -> chunk.parse(sqls, chunk, consumer));
+        }
+
+        List<Statement> statements = new ArrayList<>(ranges.size());
+        List<SourceText> texts = new ArrayList<>(ranges.size());
+        try {
+            // the first chunk of the last run added to the result
+            int run = 0;
+            for (int i = 0; i < chunks.size(); i++) {
+                int first = i;
+                Statements parsed;
+                try {
+                    parsed = chunks.get(i).join();
+                } catch (JSQLParserException ex) {
+                    first = i > 0 ? run : i;
+                    int last = Math.min(i + 1, chunks.size() - 1);
+                    parsed = chunks.get(first).parse(sqls, chunks.get(last), consumer, ex);
+                    statements.subList(chunks.get(first).firstStatement, statements.size()).clear();
+                    texts.subList(chunks.get(first).firstStatement, texts.size()).clear();
+                    i = last;
+                }
+                run = first;
+                chunks.get(run).firstStatement = statements.size();
+                statements.addAll(parsed.getStatements());
+                texts.addAll(parsed.getSourceTexts());
+            }
+        } finally {
+            for (Chunk chunk : chunks) {
+                chunk.task.cancel(false);
+            }
+        }
+        Statements result = new Statements().withStatements(statements);
+        result.setSourceTexts(texts);
+        return result;
+    }
+
+    /**
+     * A run of statements parsed by a parser of its own.
+     */
+    private static final class Chunk {
+        private final int begin;
+
+        private final int end;
+
+        private final int line;
+
+        private final int column;
+
+        private ForkJoinTask<Statements> task;
+
+        // the index of the first statement of this run in the result
+        private int firstStatement;
+
+        private Chunk(int begin, int end, int line, int column) {
+            this.begin = begin;
+            this.end = end;
+            this.line = line;
+            this.column = column;
+        }
+
+        /**
+         * Groups the statements into runs of about the given length, and finds the line and the
+         * column each run begins at, counted like {@link SimpleCharStream} does.
+         */
+        private static List<Chunk> split(String sqls, List<SourceText> ranges, int chunkLength) {
+            List<Chunk> chunks = new ArrayList<>();
+            int line = 1;
+            int column = 1;
+            int offset = 0;
+            for (int first = 0, last; first < ranges.size(); first = last + 1) {
+                int begin = ranges.get(first).getBegin();
+                last = first;
+                while (last + 1 < ranges.size() && ranges.get(last + 1).getEnd() - begin <= chunkLength) {
+                    last++;
+                }
+                for (; offset < begin; offset++) {
+                    if (isLineEnd(sqls, offset)) {
+                        line++;
+                        column = 1;
+                    } else {
+                        column++;
+                    }
+                }
+                // up to the next run, as the grammar may depend on the separator behind a statement
+                int end = last + 1 < ranges.size() ? ranges.get(last + 1).getBegin() : sqls.length();
+                chunks.add(new Chunk(begin, end, line, column));
+            }
+            return chunks;
+        }
+
+        private Statements join() throws JSQLParserException {
+            try {
+                return task.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new JSQLParserException(ex);
+            } catch (ExecutionException ex) {
+                // the pool wraps checked exceptions into runtime exceptions
+                Throwable cause = ex.getCause();
+                while (cause instanceof RuntimeException && cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                if (cause instanceof JSQLParserException) {
+                    throw (JSQLParserException) cause;
+                }
+                throw new JSQLParserException(cause);
+            }
+        }
+
+        /**
+         * Parses the text from the beginning of this run to the end of the last one, reporting the
+         * original failure if it still fails.
+         */
+        private Statements parse(String sqls, Chunk last, Consumer<CCJSqlParser> consumer, JSQLParserException failure)
+                throws JSQLParserException {
+            try {
+                return parse(sqls, last, consumer);
+            } catch (JSQLParserException ex) {
+                throw failure;
+            }
+        }
+
+        private Statements parse(String sqls, Chunk last, Consumer<CCJSqlParser> consumer) throws JSQLParserException {
+            return parseRegion(sqls, begin, last.end, line, column, consumer);
+        }
+    }
+
+    /**
+     * Parses many independent statements on the common fork join pool.
+     *
+     * @see #parseAll(Collection, ForkJoinPool, Consumer)
+     */
+    public static List<ParseResult> parseAll(Collection<String> sqls) {
+        return parseAll(sqls, ForkJoinPool.commonPool(), null);
+    }
+
+    /**
+     * Parses many independent statements, each text holding a single statement as for
+     * {@link #parse(String, Consumer)}. The texts are divided into slices, which are parsed
+     * concurrently on the pool. Each slice reuses its parsers for all of its texts, and the time
+     * outs of all texts are watched by a single timer thread instead of a thread per text.
+     *
+     * The time outs are best effort: the timer only flags the parser, which stops at the next
+     * lookahead checking the flag, so a text may take longer than {@code Feature.timeOut}.
+     * {@link #parse(String, Consumer)} instead parses on a thread of its own and gives up on it at
+     * the time out.
+     *
+     * @param pool the pool running the parsers, its parallelism limits the number of parsers
+     * running at the same time
+     * @param consumer to configure the parsers, as for {@link #parse(String, Consumer)}
+     * @return the results in the order of the texts, holding either the statement or the error
+     */
+    public static List<ParseResult> parseAll(Collection<String> sqls, ForkJoinPool pool,
+            Consumer<CCJSqlParser> consumer) {
+        List<String> list = sqls instanceof List ? (List<String>) sqls : new ArrayList<>(sqls);
+        ParseResult[] results = new ParseResult[list.size()];
+        int slices = Math.min(list.size(), pool.getParallelism() * CHUNKS_PER_THREAD);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(slices);
+        for (int slice = 0; slice < slices; slice++) {
+            int from = (int) ((long) list.size() * slice / slices);
+            int to = (int) ((long) list.size() * (slice + 1) / slices);
+            tasks.add(pool.submit(() -> {
+                BulkParser parser = new BulkParser(consumer);
+                for (int i = from; i < to; i++) {
+                    results[i] = parser.parseResult(list.get(i), -1, -1);
+                }
+            }));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Parses many independent statements.
+     *
+     * @see #parseAll(Stream, Consumer)
+     */
+    public static Stream<ParseResult> parseAll(Stream<String> sqls) {
+        return parseAll(sqls, null);
+    }
+
+    /**
+     * Parses many independent statements lazily, while the returned stream is consumed. A parallel
+     * stream parses on the pool running its terminal operation. Each thread reuses its parsers for
+     * all of the texts it parses.
+     *
+     * @param consumer to configure the parsers, as for {@link #parse(String, Consumer)}
+     * @return the results in the order of the texts, holding either the statement or the error
+     * @see #parseAll(Collection, ForkJoinPool, Consumer)
+     */
+    public static Stream<ParseResult> parseAll(Stream<String> sqls, Consumer<CCJSqlParser> consumer) {
+        ThreadLocal<BulkParser> parsers = ThreadLocal.withInitial(() -> new BulkParser(consumer));
+        return sqls.map(sql -> parsers.get().parseResult(sql, -1, -1));
+    }
+
+    /**
+     * Parses the statements of a script lazily.
+     *
+     * @see #streamStatements(Reader, Consumer)
+     */
+    public static Stream<ParseResult> streamStatements(Reader reader) {
+        return streamStatements(reader, null);
+    }
+
+    /**
+     * Parses the statements of a script lazily, while the returned stream is consumed. The script
+     * is read in chunks and split into statements by a {@link ScriptSplitter}, and each statement
+     * is parsed on its own. A statement failing to parse yields a result holding the error and the
+     * stream continues with the next statement, so a single bad statement does not stop the
+     * others. Short-circuiting operations like {@code limit} or {@code findFirst} stop reading.
+     * A statement longer than {@code Feature.maxStatementLength} yields a failed result as well,
+     * and the stream continues behind its line.
+     *
+     * A parallel stream reads the script in batches and parses them concurrently. The reader is
+     * not closed by the stream.
+     *
+     * @param consumer to configure the parsers, as for {@link #parse(String, Consumer)}
+     * @return the results in the order of the script, each holding either the statement or the
+     * error, together with the offsets of the statement in the script
+     * @throws UncheckedIOException while the stream is consumed, if reading fails
+     */
+    public static Stream<ParseResult> streamStatements(Reader reader, Consumer<CCJSqlParser> consumer) {
+        return stream(new ScriptSplitter.Cursor(newSplitter(consumer), reader, null), consumer);
+    }
+
+    /**
+     * Parses the statements of a dump lazily, like {@link #streamStatements(Reader, Consumer)},
+     * leaving out the data. The rows of PostgreSQL {@code COPY ... FROM stdin} blocks and the
+     * INSERT and REPLACE statements, as written by pg_dump and mysqldump, are recognized by the
+     * splitter without tokenizing them, so reading the schema of a dump costs little more than
+     * reading the dump.
+     *
+     * @param consumer to configure the parsers, as for {@link #parse(String, Consumer)}
+     * @param dataHandler receives the raw text of each row of COPY data and each INSERT or REPLACE
+     * statement while the stream is consumed, in the order of the dump; <code>null</code> to skip
+     * the data without copying it
+     * @return the results of the other statements in the order of the dump
+     * @throws UncheckedIOException while the stream is consumed, if reading fails
+     */
+    public static Stream<ParseResult> streamDump(Reader reader, Consumer<CCJSqlParser> consumer,
+            ScriptSplitter.StatementHandler dataHandler) {
+        ScriptSplitter splitter = newSplitter(consumer).withDataStatements(true);
+        return stream(new ScriptSplitter.Cursor(splitter, reader, dataHandler), consumer);
+    }
+
+    private static Stream<ParseResult> stream(ScriptSplitter.Cursor cursor, Consumer<CCJSqlParser> consumer) {
+        Spliterator<ParseResult> texts = new Spliterators.AbstractSpliterator<ParseResult>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super ParseResult> action) {
+                try {
+                    // not parsed yet, so a parallel stream parses on the threads of the batches
+                    return cursor.next(new ScriptSplitter.StatementHandler() {
+                        @Override
+                        public void statement(long begin, long end, String text) {
+                            action.accept(new ParseResult(text, null, null, begin, end));
+                        }
+
+                        @Override
+                        public void statementTooLong(long begin, long end) {
+                            action.accept(ParseResult.tooLong(begin, end));
+                        }
+                    });
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        };
+        ThreadLocal<BulkParser> parsers = ThreadLocal.withInitial(() -> new BulkParser(consumer));
+        return StreamSupport.stream(texts, false)
+                .map(text -> text.getException() != null ? text
+                        : parsers.get().parseResult(text.getSql(), text.getBegin(), text.getEnd()));
+    }
+
+    /**
+     * Parses the statements of a script lazily. The stream is not closed.
+     *
+     * @see #streamStatements(Reader, Consumer)
+     */
+    public static Stream<ParseResult> streamStatements(InputStream is, Charset charset,
+            Consumer<CCJSqlParser> consumer) {
+        return streamStatements(new InputStreamReader(is, charset), consumer);
+    }
+
+    /**
+     * Parses the statements of a file lazily. The file is closed when the stream is closed.
+     *
+     * @see #streamStatements(Reader, Consumer)
+     */
+    public static Stream<ParseResult> streamStatements(Path path, Charset charset, Consumer<CCJSqlParser> consumer)
+            throws IOException {
+        Reader reader = Files.newBufferedReader(path, charset);
+        return streamStatements(reader, consumer).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    /**
+     * @return a splitter matching the configuration of the parsers
+     */
+    static ScriptSplitter newSplitter(Consumer<CCJSqlParser> consumer) {
+        CCJSqlParser configured = newParser("");
+        if (consumer != null) {
+            consumer.accept(configured);
+        }
+        return new ScriptSplitter().withConfiguration(configured.getConfiguration());
+    }
+
     /**
      * @param parser
      * @return the statements parsed
@@ -0,0 +1,145 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.Join;
+
+/**
+ * Holds back the events and the streamed INSERT rows of a first attempt to parse with simple
+ * parsing. They are handed over to the listener and the row handler once the attempt succeeded,
+ * and dropped if the text is parsed again with {@code Feature.allowComplexParsing}, so the listener
+ * and the row handler receive the events and rows of a single attempt.
+ */
+final class DeferredParseListener implements ParseListener, InsertRowHandler {
+
+    private final ParseListener listener;
+
+    private final InsertRowHandler insertRowHandler;
+
+    private final List<Runnable> events = new ArrayList<>();
+
+    private DeferredParseListener(ParseListener listener, InsertRowHandler insertRowHandler) {
+        this.listener = listener;
+        this.insertRowHandler = insertRowHandler;
+    }
+
+    /**
+     * Installs a listener and a row handler holding back the events and rows in place of the
+     * listener and the row handler of the parser, if it has them.
+     */
+    static DeferredParseListener install(CCJSqlParser parser) {
+        DeferredParseListener deferred = new DeferredParseListener(parser.getParseListener(),
+                parser.getInsertRowHandler());
+        if (deferred.listener != null) {
+            parser.withParseListener(deferred);
+        }
+        if (deferred.insertRowHandler != null) {
+            parser.withInsertRowHandler(deferred);
+        }
+        return deferred;
+    }
+
+    /**
+     * Hands the events and rows held back over to the listener and the row handler, in the order
+     * they were received.
+     */
+    void replay() {
+        for (Runnable event : events) {
+            event.run();
+        }
+        events.clear();
+    }
+
+    /**
+     * Drops the events and rows held back, before parsing again.
+     */
+    void discard() {
+        events.clear();
+    }
+
+    @Override
+    public void enterStatement() {
+        events.add(() -> listener.enterStatement());
+    }
+
+    @Override
+    public void exitStatement(Statement statement) {
+        events.add(() -> listener.exitStatement(statement));
+    }
+
+    @Override
+    public void abortStatement() {
+        events.add(() -> listener.abortStatement());
+    }
+
+    @Override
+    public void enterFromItem() {
+        events.add(() -> listener.enterFromItem());
+    }
+
+    @Override
+    public void exitFromItem(FromItem fromItem) {
+        events.add(() -> listener.exitFromItem(fromItem));
+    }
+
+    @Override
+    public void enterJoin() {
+        events.add(() -> listener.enterJoin());
+    }
+
+    @Override
+    public void exitJoin(Join join) {
+        events.add(() -> listener.exitJoin(join));
+    }
+
+    @Override
+    public void enterExpression() {
+        events.add(() -> listener.enterExpression());
+    }
+
+    @Override
+    public void exitExpression(Expression expression) {
+        events.add(() -> listener.exitExpression(expression));
+    }
+
+    @Override
+    public void tableReferenced(Table table) {
+        events.add(() -> listener.tableReferenced(table));
+    }
+
+    @Override
+    public void columnReferenced(Column column) {
+        events.add(() -> listener.columnReferenced(column));
+    }
+
+    @Override
+    public void functionCalled(Function function) {
+        events.add(() -> listener.functionCalled(function));
+    }
+
+    @Override
+    public void parameterFound(Expression parameter) {
+        events.add(() -> listener.parameterFound(parameter));
+    }
+
+    @Override
+    public void row(Insert insert, Expression row) {
+        events.add(() -> insertRowHandler.row(insert, row));
+    }
+}
@@ -0,0 +1,47 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+/**
+ * The base of the classes of the object model, holding whether an object has been made read only.
+ *
+ * @see net.sf.jsqlparser.util.model.ModelFreezer
+ */
+public abstract class Freezable {
+
+    private transient boolean frozen;
+
+    /**
+     * @return <code>true</code> if this object is read only
+     * @see net.sf.jsqlparser.util.model.ModelFreezer
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Marks this single object as read only. Use
+     * {@link net.sf.jsqlparser.util.model.ModelFreezer#freeze(Object)} to freeze a whole tree.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Called by all modifying methods of the model.
+     *
+     * @throws UnsupportedOperationException if this object has been frozen
+     */
+    protected void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " is frozen and can not be modified.");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of identifiers shared by all parsers, which have {@code Feature.internIdentifiers}
+ * enabled.
+ *
+ * Names of tables, schemas, columns and aliases repeat a lot between the statements of an
+ * application. Parsing each statement creates new strings for them, which adds up when many parsed
+ * statements are kept in a cache. The pool returns one canonical instance for equal names instead.
+ *
+ * Other than {@link String#intern()} the pool holds its entries weakly: a name is dropped as soon
+ * as no parsed statement uses it anymore. The pool is split into segments to keep the contention
+ * low when several threads parse at the same time.
+ */
+public final class IdentifierPool {
+
+    private static final int SEGMENTS = 16;
+
+    @SuppressWarnings("unchecked")
+    private static final Map<String, WeakReference<String>>[] POOL = new Map[SEGMENTS];
+
+    static {
+        for (int i = 0; i < SEGMENTS; i++) {
+            POOL[i] = new WeakHashMap<>();
+        }
+    }
+
+    private IdentifierPool() {
+    }
+
+    /**
+     * @param identifier the name to look up, may be <code>null</code>
+     * @return the canonical instance of the given name
+     */
+    public static String intern(String identifier) {
+        if (identifier == null) {
+            return null;
+        }
+
+        Map<String, WeakReference<String>> segment = POOL[identifier.hashCode() & (SEGMENTS - 1)];
+        synchronized (segment) {
+            WeakReference<String> reference = segment.get(identifier);
+            String canonical = reference != null ? reference.get() : null;
+            if (canonical == null) {
+                segment.put(identifier, new WeakReference<>(identifier));
+                canonical = identifier;
+            }
+            return canonical;
+        }
+    }
+
+    /**
+     * @return the number of names currently held by the pool
+     */
+    public static int size() {
+        int size = 0;
+        for (Map<String, WeakReference<String>> segment : POOL) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+}
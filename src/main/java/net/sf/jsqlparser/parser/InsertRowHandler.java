@@ -0,0 +1,46 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.statement.insert.Insert;
+
+/**
+ * Receives the rows of the VALUES of an INSERT one by one, as soon as each row is parsed. The
+ * parser does not keep the rows: the VALUES of the parsed statement are left empty, so only its
+ * header (the table, the columns and the clauses following the VALUES) is held in memory, however
+ * many rows the statement has.
+ *
+ * <pre>
+ * CCJSqlParser parser = CCJSqlParserUtil.newParser(inputStream)
+ *         .withInsertRowHandler((insert, row) -&gt; load(insert.getTable(), row));
+ * Insert insert = (Insert) parser.Statement();
+ * </pre>
+ *
+ * The VALUES of the returned {@code Insert} are left empty, so its {@code toString()} is not valid
+ * SQL: it is a header describing the rows, not a statement to execute again.
+ *
+ * Rows are not retracted when parsing fails. The methods of {@link CCJSqlParserUtil} which parse a
+ * statement again with {@code Feature.allowComplexParsing} after a failed first attempt hold back
+ * the rows of the first attempt, like the events of a {@link ParseListener}: they are handed over
+ * once that attempt succeeded, and dropped before the second attempt, so every row is received
+ * once. The rows of the first attempt are kept in memory until then; a parser used directly, as
+ * above, streams them right away.
+ */
+@FunctionalInterface
+public interface InsertRowHandler {
+
+    /**
+     * @param insert the statement the row belongs to, holding the table and the columns; the
+     * clauses following the VALUES are not parsed yet
+     * @param row an item of the VALUES, a {@code RowConstructor} for a row of several values
+     */
+    void row(Insert insert, Expression row);
+}
@@ -0,0 +1,194 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Maps offsets of the parsed text to the nodes of the syntax tree. The index is filled by the
+ * parser while it opens and closes the nodes, see {@link CCJSqlParser#withNodeIndex(NodeIndex)}.
+ *
+ * <pre>
+ * NodeIndex index = new NodeIndex();
+ * Statement statement = CCJSqlParserUtil.parse(sql, parser -&gt; parser.withNodeIndex(index));
+ * Object model = index.getInnermostModel(cursor);
+ * </pre>
+ *
+ * Offsets count from 0, like the ones of {@link SourceText}; the end of a node is exclusive. The
+ * nodes are kept in the order they were opened, which sorts them by their begin and puts every
+ * node behind its ancestors. Each node points to its parent and to a further ancestor, chosen so
+ * that the ancestors of a node can be searched in logarithmic time.
+ */
+public final class NodeIndex {
+
+    private static final int NONE = -1;
+
+    private int size;
+
+    private SimpleNode[] nodes = new SimpleNode[64];
+
+    private int[] begins = new int[64];
+
+    // NONE while the node is open or after it has been discarded
+    private int[] ends = new int[64];
+
+    private int[] parents = new int[64];
+
+    private int[] depths = new int[64];
+
+    private int[] jumps = new int[64];
+
+    private int[] open = new int[16];
+
+    private int openCount;
+
+    /**
+     * @return the number of nodes opened by the parser, including discarded ones
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param offset an offset into the parsed text
+     * @return the smallest node containing the offset, <code>null</code> if there is none
+     */
+    public SimpleNode getInnermostNode(int offset) {
+        int node = innermost(offset);
+        return node == NONE ? null : nodes[node];
+    }
+
+    /**
+     * @param offset an offset into the parsed text
+     * @return the model object of the smallest node containing the offset which is linked to one,
+     * <code>null</code> if there is none
+     * @see ASTNodeAccess#getASTNode()
+     */
+    public Object getInnermostModel(int offset) {
+        for (int node = innermost(offset); node != NONE; node = parents[node]) {
+            Object value = nodes[node].jjtGetValue();
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param from the first offset of the range
+     * @param to the offset after the range
+     * @return the nodes sharing at least one offset with the range, outer nodes first
+     */
+    public List<SimpleNode> getNodes(int from, int to) {
+        List<SimpleNode> result = new ArrayList<>();
+        if (from >= to) {
+            return result;
+        }
+        // nodes beginning before the range overlap it, if they contain its first offset
+        int before = lastBeginningAtOrBefore(from - 1);
+        for (int node = before == NONE ? NONE : innermostFrom(before, from); node != NONE; node = parents[node]) {
+            result.add(nodes[node]);
+        }
+        Collections.reverse(result);
+        // followed by all nodes beginning within the range
+        for (int node = before + 1; node < size && begins[node] < to; node++) {
+            if (ends[node] > begins[node]) {
+                result.add(nodes[node]);
+            }
+        }
+        return result;
+    }
+
+    void reset() {
+        Arrays.fill(nodes, 0, size, null);
+        size = 0;
+        openCount = 0;
+    }
+
+    void open(SimpleNode node, int begin) {
+        if (size == nodes.length) {
+            int capacity = size * 2;
+            nodes = Arrays.copyOf(nodes, capacity);
+            begins = Arrays.copyOf(begins, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            depths = Arrays.copyOf(depths, capacity);
+            jumps = Arrays.copyOf(jumps, capacity);
+        }
+        int parent = openCount == 0 ? NONE : open[openCount - 1];
+        nodes[size] = node;
+        begins[size] = begin;
+        ends[size] = NONE;
+        parents[size] = parent;
+        if (parent == NONE) {
+            depths[size] = 0;
+            jumps[size] = size;
+        } else {
+            depths[size] = depths[parent] + 1;
+            int jump = jumps[parent];
+            jumps[size] = depths[parent] - depths[jump] == depths[jump] - depths[jumps[jump]]
+                    ? jumps[jump]
+                    : parent;
+        }
+        if (openCount == open.length) {
+            open = Arrays.copyOf(open, openCount * 2);
+        }
+        open[openCount++] = size++;
+    }
+
+    void close(int end) {
+        int node = open[--openCount];
+        ends[node] = Math.max(end, begins[node]);
+    }
+
+    /**
+     * Discards the innermost open node, together with all nodes opened after it.
+     */
+    void discard() {
+        int node = open[--openCount];
+        Arrays.fill(ends, node, size, NONE);
+    }
+
+    private int innermost(int offset) {
+        int candidate = lastBeginningAtOrBefore(offset);
+        return candidate == NONE ? NONE : innermostFrom(candidate, offset);
+    }
+
+    /**
+     * Every node containing the offset is the candidate or one of its ancestors, and the ends of
+     * the ancestors grow towards the root. Jumps are only taken to ancestors not containing the
+     * offset, so no node containing it is skipped.
+     */
+    private int innermostFrom(int candidate, int offset) {
+        int node = candidate;
+        while (node != NONE && ends[node] <= offset) {
+            int jump = jumps[node];
+            node = jump != node && ends[jump] <= offset ? jump : parents[node];
+        }
+        return node;
+    }
+
+    private int lastBeginningAtOrBefore(int offset) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (begins[middle] <= offset) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+}
@@ -0,0 +1,92 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.Join;
+
+/**
+ * Receives events from the grammar actions while a statement is parsed, in the order of the
+ * source text. This lets an analysis collect tables, columns, functions and parameters without
+ * walking the parsed statement afterwards.
+ *
+ * Every {@link #enterStatement()} is followed either by {@link #exitStatement(Statement)} or, if
+ * parsing fails, by {@link #abortStatement()}. The other enter events of an aborted statement may
+ * lack their exit events, and events are not retracted, so a listener needing exact results should
+ * collect the events of a statement and only keep them on {@link #exitStatement(Statement)}.
+ * {@link CCJSqlParserUtil} parses a text a second time with {@code Feature.allowComplexParsing} if
+ * the first attempt fails. It holds back the events of the first attempt and drops them in that
+ * case, so the listener receives the events of a single attempt. Events held back are received
+ * after the attempt, when the objects they carry are complete.
+ *
+ * The events carry the objects of the model as they are built. The model is always built, a
+ * listener only saves the walk over it; {@code Feature.buildAST} can be disabled to leave out the
+ * nodes of the syntax tree.
+ *
+ * <pre>
+ * CCJSqlParserUtil.parse(sql, parser -&gt; parser.withParseListener(new ParseListenerAdapter() {
+ *     &#64;Override
+ *     public void tableReferenced(Table table) {
+ *         tables.add(table.getFullyQualifiedName());
+ *     }
+ * }));
+ * </pre>
+ *
+ * @see ParseListenerAdapter
+ */
+public interface ParseListener {
+
+    void enterStatement();
+
+    void exitStatement(Statement statement);
+
+    /**
+     * Called instead of {@link #exitStatement(Statement)} if parsing the statement fails.
+     */
+    void abortStatement();
+
+    void enterFromItem();
+
+    void exitFromItem(FromItem fromItem);
+
+    void enterJoin();
+
+    void exitJoin(Join join);
+
+    void enterExpression();
+
+    void exitExpression(Expression expression);
+
+    /**
+     * Called for every table name read by a query or a data manipulating statement. The names
+     * within DDL statements, like those of created, altered and dropped tables, are left out,
+     * except within the queries these statements hold, like {@code CREATE VIEW ... AS SELECT}.
+     * The table is reported once its name is read. Whether an alias or hints following the name are
+     * set already depends on the events being held back, see above.
+     */
+    void tableReferenced(Table table);
+
+    /**
+     * Called for every column name, except within DDL statements, like {@link #tableReferenced(Table)}.
+     */
+    void columnReferenced(Column column);
+
+    void functionCalled(Function function);
+
+    /**
+     * @param parameter a {@code JdbcParameter} or a {@code JdbcNamedParameter}
+     */
+    void parameterFound(Expression parameter);
+}
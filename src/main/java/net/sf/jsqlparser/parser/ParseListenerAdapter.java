@@ -0,0 +1,87 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.Join;
+
+@SuppressWarnings({"PMD.UncommentedEmptyMethodBody"})
+public class ParseListenerAdapter implements ParseListener {
+
+    @Override
+    public void enterStatement() {
+
+    }
+
+    @Override
+    public void exitStatement(Statement statement) {
+
+    }
+
+    @Override
+    public void abortStatement() {
+
+    }
+
+    @Override
+    public void enterFromItem() {
+
+    }
+
+    @Override
+    public void exitFromItem(FromItem fromItem) {
+
+    }
+
+    @Override
+    public void enterJoin() {
+
+    }
+
+    @Override
+    public void exitJoin(Join join) {
+
+    }
+
+    @Override
+    public void enterExpression() {
+
+    }
+
+    @Override
+    public void exitExpression(Expression expression) {
+
+    }
+
+    @Override
+    public void tableReferenced(Table table) {
+
+    }
+
+    @Override
+    public void columnReferenced(Column column) {
+
+    }
+
+    @Override
+    public void functionCalled(Function function) {
+
+    }
+
+    @Override
+    public void parameterFound(Expression parameter) {
+
+    }
+}
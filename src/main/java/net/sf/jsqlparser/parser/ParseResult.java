@@ -0,0 +1,116 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.statement.Statement;
+
+/**
+ * The outcome of parsing one of many texts: either the statement or the reason it could not be
+ * parsed. Failures are returned instead of thrown, so a single bad text does not stop the others.
+ *
+ * @see CCJSqlParserUtil#parseAll(java.util.Collection, java.util.concurrent.ForkJoinPool,
+ * java.util.function.Consumer)
+ */
+public final class ParseResult {
+
+    private final String sql;
+
+    private final Statement statement;
+
+    private final JSQLParserException exception;
+
+    private final long begin;
+
+    private final long end;
+
+    public ParseResult(String sql, Statement statement) {
+        this(sql, statement, null, -1, -1);
+    }
+
+    public ParseResult(String sql, JSQLParserException exception) {
+        this(sql, null, exception, -1, -1);
+    }
+
+    ParseResult(String sql, Statement statement, JSQLParserException exception, long begin, long end) {
+        this.sql = sql;
+        this.statement = statement;
+        this.exception = exception;
+        this.begin = begin;
+        this.end = end;
+    }
+
+    /**
+     * @return the failure of a statement, which the splitter dropped as too long
+     * @see ScriptSplitter.StatementHandler#statementTooLong(long, long)
+     */
+    static ParseResult tooLong(long begin, long end) {
+        return new ParseResult("", null, new JSQLParserException("The statement at offset " + begin
+                + " is longer than the maximum statement length, the rest of its line is skipped."), begin, end);
+    }
+
+    /**
+     * @return the text parsed
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return the statement parsed, <code>null</code> if parsing failed
+     */
+    public Statement getStatement() {
+        return statement;
+    }
+
+    /**
+     * @return the reason parsing failed, <code>null</code> if it succeeded
+     */
+    public JSQLParserException getException() {
+        return exception;
+    }
+
+    /**
+     * @return the offset of the text in the script it was read from, -1 if it was not read from
+     * a script
+     * @see CCJSqlParserUtil#streamStatements(java.io.Reader, java.util.function.Consumer)
+     */
+    public long getBegin() {
+        return begin;
+    }
+
+    /**
+     * @return the offset behind the text in the script it was read from, -1 if it was not read
+     * from a script
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * @return the statement parsed
+     * @throws JSQLParserException if parsing failed
+     */
+    public Statement getStatementOrThrow() throws JSQLParserException {
+        if (exception != null) {
+            throw exception;
+        }
+        return statement;
+    }
+
+    @Override
+    public String toString() {
+        return exception != null ? exception.getMessage() : String.valueOf(statement);
+    }
+}
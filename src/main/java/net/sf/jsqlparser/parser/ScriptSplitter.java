@@ -0,0 +1,855 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+
+/**
+ * Splits a script into statements without parsing them. A single pass over the characters skips
+ * string literals, quoted identifiers, comments and PostgreSQL dollar quoted strings, and keeps
+ * {@code BEGIN ... END} blocks together. The MySQL {@code DELIMITER} command changes the
+ * delimiter for the following statements.
+ *
+ * Each statement starts at its first character and ends behind its last character, so leading
+ * and trailing comments and white space as well as the delimiter are left out, just as in
+ * {@link net.sf.jsqlparser.statement.Statements#getSourceTexts()}.
+ *
+ * The rows following a PostgreSQL {@code COPY ... FROM stdin} statement, up to the line holding
+ * only {@code \.}, are data instead of statements. They are handed over line by line to the data
+ * handler of {@link #split(Reader, StatementHandler, StatementHandler)}, and left out otherwise.
+ * With {@link #withDataStatements(boolean)}, INSERT and REPLACE statements are data as well, as
+ * in the data sections of a dump.
+ *
+ * An unterminated string literal or quoted identifier would swallow the rest of the script. A
+ * quoted text is therefore taken as unterminated, if a line within it ends with the delimiter and
+ * the next line starts with a statement keyword like SELECT or CREATE in its first column. The
+ * statement then ends in front of that delimiter, and splitting goes on with the keyword. When
+ * reading from a {@link Reader}, a statement longer than {@link #withMaxStatementLength(int)} is
+ * reported to {@link StatementHandler#statementTooLong(long, long)} instead, and splitting goes
+ * on with the next line.
+ */
+public final class ScriptSplitter {
+
+    private boolean squareBracketQuotation;
+
+    private boolean backslashEscapeCharacter;
+
+    private boolean dataStatements;
+
+    private int maxStatementLength = (Integer) Feature.maxStatementLength.getDefaultValue();
+
+    /**
+     * Receives the statements read from a {@link Reader}.
+     */
+    @FunctionalInterface
+    public interface StatementHandler {
+
+        /**
+         * @param begin the offset of the first character of the statement in the script
+         * @param end the offset behind the last character of the statement
+         * @param text the statement
+         */
+        void statement(long begin, long end, String text);
+
+        /**
+         * Called instead of {@link #statement(long, long, String)} for a statement which is longer
+         * than the maximum statement length. Its text is dropped, and the rest of the line is
+         * skipped.
+         *
+         * @param begin the offset of the first character of the statement in the script
+         * @param end the offset where the statement was cut
+         */
+        default void statementTooLong(long begin, long end) {
+            // skipped
+        }
+    }
+
+    public ScriptSplitter withSquareBracketQuotation(boolean squareBracketQuotation) {
+        this.squareBracketQuotation = squareBracketQuotation;
+        return this;
+    }
+
+    public ScriptSplitter withBackslashEscapeCharacter(boolean backslashEscapeCharacter) {
+        this.backslashEscapeCharacter = backslashEscapeCharacter;
+        return this;
+    }
+
+    /**
+     * @param dataStatements whether INSERT and REPLACE statements are data, which is skipped or
+     * handed over to a data handler instead of the statement handler
+     */
+    public ScriptSplitter withDataStatements(boolean dataStatements) {
+        this.dataStatements = dataStatements;
+        return this;
+    }
+
+    /**
+     * @param maxStatementLength the maximum number of characters of a statement read from a
+     * {@link Reader}, data statements are not limited
+     */
+    public ScriptSplitter withMaxStatementLength(int maxStatementLength) {
+        if (maxStatementLength < 1) {
+            throw new IllegalArgumentException("maxStatementLength must be positive, but was " + maxStatementLength);
+        }
+        this.maxStatementLength = maxStatementLength;
+        return this;
+    }
+
+    public int getMaxStatementLength() {
+        return maxStatementLength;
+    }
+
+    /**
+     * Takes over the quotation, escaping and statement length features of a parser configuration.
+     */
+    public ScriptSplitter withConfiguration(FeatureConfiguration configuration) {
+        return withSquareBracketQuotation(configuration.getAsBoolean(Feature.allowSquareBracketQuotation))
+                .withBackslashEscapeCharacter(configuration.getAsBoolean(Feature.allowBackslashEscapeCharacter))
+                .withMaxStatementLength(configuration.getAsInteger(Feature.maxStatementLength));
+    }
+
+    public List<SourceText> split(CharSequence script) {
+        List<SourceText> statements = new ArrayList<>();
+        split(script, statements::add);
+        return statements;
+    }
+
+    /**
+     * @param consumer receives a view of the script for each statement, in the order of the script;
+     * data is left out
+     */
+    public void split(CharSequence script, Consumer<SourceText> consumer) {
+        Scanner scanner = new Scanner(this, Long.MAX_VALUE, (begin, end, kind) -> {
+            if (kind == STATEMENT) {
+                consumer.accept(new SourceText(script, (int) begin, (int) end));
+            }
+        });
+        for (int i = 0, length = script.length(); i < length; i++) {
+            scanner.step(script.charAt(i), i);
+        }
+        scanner.finish();
+    }
+
+    /**
+     * Reads the script in chunks. Only the text of the current statement is held in memory. Data
+     * is left out.
+     */
+    public void split(Reader reader, StatementHandler handler) throws IOException {
+        split(reader, handler, null);
+    }
+
+    /**
+     * Reads the script in chunks. Only the text of the current statement is held in memory, data
+     * which is skipped is not even copied.
+     *
+     * @param dataHandler receives each row of COPY data and each data statement, in the order of
+     * the script; <code>null</code> to skip data
+     */
+    public void split(Reader reader, StatementHandler handler, StatementHandler dataHandler) throws IOException {
+        Cursor cursor = new Cursor(this, reader, dataHandler);
+        boolean found;
+        do {
+            found = cursor.next(handler);
+        } while (found);
+    }
+
+    /**
+     * Reads a script in chunks, as far as needed to find the next statement.
+     */
+    static final class Cursor {
+        private final Reader reader;
+
+        private final StatementHandler dataHandler;
+
+        private final Scanner scanner;
+
+        private final char[] chunk = new char[8192];
+
+        private final StringBuilder text = new StringBuilder();
+
+        // the statements found in the chunks read so far
+        private final ArrayDeque<Found> found = new ArrayDeque<>();
+
+        // the offset of the first character in text
+        private long textOffset;
+
+        // the offset of the first character in chunk
+        private long chunkOffset;
+
+        // the characters of chunk before this index have been appended to text
+        private int flushed;
+
+        // the index of the current character in chunk, -1 at the end of the input
+        private int position;
+
+        private boolean finished;
+
+        /**
+         * @param dataHandler receives the data, <code>null</code> to skip it
+         */
+        Cursor(ScriptSplitter splitter, Reader reader, StatementHandler dataHandler) {
+            this.reader = reader;
+            this.dataHandler = dataHandler;
+            this.scanner = new Scanner(splitter, splitter.maxStatementLength, this::found);
+        }
+
+        /**
+         * Hands the next statement over to the handler, and the data in front of it to the data
+         * handler.
+         *
+         * @return <code>false</code> if there is none, at the end of the script
+         */
+        boolean next(StatementHandler handler) throws IOException {
+            Found statement = poll();
+            while (statement != null && statement.kind == DATA) {
+                dataHandler.statement(statement.begin, statement.end, statement.text);
+                statement = poll();
+            }
+            if (statement == null) {
+                return false;
+            } else if (statement.kind == TOO_LONG) {
+                handler.statementTooLong(statement.begin, statement.end);
+            } else {
+                handler.statement(statement.begin, statement.end, statement.text);
+            }
+            return true;
+        }
+
+        private Found poll() throws IOException {
+            while (found.isEmpty() && !finished) {
+                int length = reader.read(chunk);
+                if (length < 0) {
+                    position = -1;
+                    scanner.finish();
+                    finished = true;
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        position = i;
+                        scanner.step(chunk[i], chunkOffset + i);
+                    }
+                    text.append(chunk, flushed, length - flushed);
+                    chunkOffset += length;
+                    flushed = 0;
+                    if (dataHandler == null && scanner.isInData() || scanner.isSkippingLine()) {
+                        // skipped anyway
+                        text.setLength(0);
+                        textOffset = chunkOffset;
+                    }
+                }
+            }
+            return found.poll();
+        }
+
+        private void found(long begin, long end, int kind) {
+            int next = position + 1;
+            if (position >= 0) {
+                text.append(chunk, flushed, next - flushed);
+                flushed = next;
+            }
+            if (kind == TOO_LONG) {
+                found.add(new Found(begin, end, null, kind));
+            } else if (kind == STATEMENT || dataHandler != null) {
+                found.add(new Found(begin, end, text.substring((int) (begin - textOffset), (int) (end - textOffset)),
+                        kind));
+            }
+            // the next statement may have been read already, if the splitter looked ahead
+            int consumed = (int) Math.min(Math.max(end - textOffset, 0), text.length());
+            text.delete(0, consumed);
+            textOffset += consumed;
+        }
+    }
+
+    private static final class Found {
+        private final long begin;
+
+        private final long end;
+
+        private final String text;
+
+        private final int kind;
+
+        private Found(long begin, long end, String text, int kind) {
+            this.begin = begin;
+            this.end = end;
+            this.text = text;
+            this.kind = kind;
+        }
+    }
+
+    // the kinds of ranges found by the scanner
+    private static final int STATEMENT = 0;
+    private static final int DATA = 1;
+    private static final int TOO_LONG = 2;
+
+    @FunctionalInterface
+    private interface RangeConsumer {
+        void accept(long begin, long end, int kind);
+    }
+
+    /**
+     * The state machine reading the characters one by one.
+     */
+    @SuppressWarnings({"PMD.CyclomaticComplexity"})
+    private static final class Scanner {
+        private static final int NORMAL = 0;
+        private static final int SLASH = 1;
+        private static final int DASH = 2;
+        private static final int DOLLAR_TAG = 3;
+        private static final int LINE_COMMENT = 4;
+        private static final int BLOCK_COMMENT = 5;
+        private static final int BLOCK_COMMENT_STAR = 6;
+        private static final int QUOTED = 7;
+        private static final int QUOTED_END = 8;
+        private static final int ESCAPED = 9;
+        private static final int DOLLAR_QUOTED = 10;
+        private static final int DELIMITER_ARGUMENT = 11;
+        private static final int COPY_DATA = 12;
+        private static final int QUOTED_NEW_LINE = 13;
+        private static final int SKIPPED_LINE = 14;
+
+        private static final int MAX_WORD = 12;
+
+        private static final String[] STATEMENT_KEYWORDS = {"SELECT", "INSERT", "UPDATE", "DELETE", "MERGE",
+            "UPSERT", "REPLACE", "CREATE", "ALTER", "DROP", "TRUNCATE", "WITH", "GRANT", "REVOKE", "COMMIT",
+            "ROLLBACK"};
+
+        private final boolean squareBracketQuotation;
+
+        private final boolean backslashEscapeCharacter;
+
+        private final boolean dataStatements;
+
+        private final long maxStatementLength;
+
+        private final RangeConsumer consumer;
+
+        private int state = NORMAL;
+
+        private char[] delimiter = {';'};
+
+        // the last characters read outside of literals and comments, to find the delimiter
+        private char[] recent = new char[1];
+
+        // the end of the statement before each of the recent characters
+        private long[] recentEnds = new long[1];
+
+        private int recentCount;
+
+        private long begin = -1;
+
+        private long end = -1;
+
+        private char closingQuote;
+
+        // behind the last character within a quoted text, which is not white space
+        private long quotedEnd;
+
+        // the end of the statement in front of a delimiter within a quoted text, if only white space
+        // followed the delimiter so far
+        private long quotedDelimiter;
+
+        private final char[] word = new char[MAX_WORD];
+
+        private int wordLength;
+
+        private long wordBegin;
+
+        private final StringBuilder tag = new StringBuilder();
+
+        private long commentBegin;
+
+        private int tagMatched;
+
+        private final StringBuilder delimiterArgument = new StringBuilder();
+
+        private int blockDepth;
+
+        private int caseDepth;
+
+        private boolean pendingBegin;
+
+        private boolean pendingEnd;
+
+        private boolean afterEnd;
+
+        // whether a BEGIN at the current position would start a block
+        private boolean blockStart = true;
+
+        // whether the current statement is data
+        private boolean dataStatement;
+
+        private boolean copyStatement;
+
+        private boolean previousFrom;
+
+        // whether the current statement is a COPY ... FROM STDIN, followed by rows of data
+        private boolean copyFromStdin;
+
+        // the current row of COPY data, -1 while skipping the rest of the line of the statement
+        private long lineBegin;
+
+        // behind the last character of the row, leaving out a carriage return
+        private long lineEnd;
+
+        // whether the row starts with \.
+        private boolean endMarker;
+
+        private Scanner(ScriptSplitter splitter, long maxStatementLength, RangeConsumer consumer) {
+            this.squareBracketQuotation = splitter.squareBracketQuotation;
+            this.backslashEscapeCharacter = splitter.backslashEscapeCharacter;
+            this.dataStatements = splitter.dataStatements;
+            this.maxStatementLength = maxStatementLength;
+            this.consumer = consumer;
+        }
+
+        private void step(char c, long offset) {
+            if (begin >= 0 && offset - begin >= maxStatementLength && !dataStatement) {
+                consumer.accept(begin, offset, TOO_LONG);
+                reset();
+                state = c == '\n' ? NORMAL : SKIPPED_LINE;
+                return;
+            }
+            if ((state == SLASH || state == DASH) && !startsComment(c)) {
+                state = NORMAL;
+                significant(commentBegin);
+                blockStart = false;
+            }
+            if (state <= DOLLAR_TAG) {
+                if (state == NORMAL && !isWordPart(c)) {
+                    completeWord(c, offset);
+                    if (state == DELIMITER_ARGUMENT) {
+                        return;
+                    }
+                    if (!Character.isWhitespace(c)) {
+                        resolvePending(c == ';');
+                    }
+                }
+                if (isDelimiter(c)) {
+                    long statementEnd = recentEnds[0];
+                    if (begin >= 0 && begin < offset + 1 - delimiter.length) {
+                        consumer.accept(begin, statementEnd, dataStatement ? DATA : STATEMENT);
+                    }
+                    boolean copyData = copyFromStdin;
+                    reset();
+                    if (copyData) {
+                        state = COPY_DATA;
+                        lineBegin = -1;
+                    }
+                    return;
+                }
+            }
+            switch (state) {
+                case NORMAL:
+                    normal(c, offset);
+                    break;
+                case SLASH:
+                case DASH:
+                    state = c == '*' ? BLOCK_COMMENT : LINE_COMMENT;
+                    recentCount = 0;
+                    break;
+                case DOLLAR_TAG:
+                    dollarTag(c, offset);
+                    break;
+                case LINE_COMMENT:
+                    if (c == '\n' || c == '\r') {
+                        state = NORMAL;
+                    }
+                    break;
+                case SKIPPED_LINE:
+                    if (c == '\n') {
+                        state = NORMAL;
+                    }
+                    break;
+                case BLOCK_COMMENT:
+                case BLOCK_COMMENT_STAR:
+                    blockComment(c);
+                    break;
+                case DELIMITER_ARGUMENT:
+                    delimiterArgument(c);
+                    break;
+                case COPY_DATA:
+                    copyData(c, offset);
+                    break;
+                default:
+                    quoted(c, offset);
+            }
+        }
+
+        private void finish() {
+            switch (state) {
+                case SLASH:
+                case DASH:
+                    significant(commentBegin);
+                    break;
+                case DELIMITER_ARGUMENT:
+                    delimiterArgument('\n');
+                    break;
+                case COPY_DATA:
+                    if (lineBegin >= 0 && lineEnd > lineBegin) {
+                        endLine();
+                    }
+                    break;
+                case QUOTED_NEW_LINE:
+                    // the characters read ahead belong to the quoted text
+                    wordLength = 0;
+                    break;
+                default:
+                    completeWord(' ', -1);
+            }
+            if (begin >= 0) {
+                consumer.accept(begin, end, dataStatement ? DATA : STATEMENT);
+            }
+            reset();
+        }
+
+        /**
+         * @return whether the characters read last belong to data
+         */
+        private boolean isInData() {
+            return state == COPY_DATA || begin >= 0 && dataStatement;
+        }
+
+        /**
+         * @return whether the rest of the line of a statement, which was too long, is skipped
+         */
+        private boolean isSkippingLine() {
+            return state == SKIPPED_LINE;
+        }
+
+        private void reset() {
+            state = NORMAL;
+            begin = -1;
+            end = -1;
+            recentCount = 0;
+            wordLength = 0;
+            blockDepth = 0;
+            caseDepth = 0;
+            pendingBegin = false;
+            pendingEnd = false;
+            afterEnd = false;
+            blockStart = true;
+            dataStatement = false;
+            copyStatement = false;
+            previousFrom = false;
+            copyFromStdin = false;
+        }
+
+        private void significant(long offset) {
+            if (begin < 0) {
+                begin = offset;
+            }
+            end = offset + 1;
+        }
+
+        private boolean isDelimiter(char c) {
+            if (recentCount == recent.length) {
+                System.arraycopy(recent, 1, recent, 0, recentCount - 1);
+                System.arraycopy(recentEnds, 1, recentEnds, 0, recentCount - 1);
+                recentCount--;
+            }
+            recent[recentCount] = c;
+            recentEnds[recentCount] = end;
+            recentCount++;
+            if (recentCount < delimiter.length || delimiter.length == 1 && blockDepth > 0) {
+                return false;
+            }
+            for (int i = 0; i < delimiter.length; i++) {
+                if (recent[i] != delimiter[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void normal(char c, long offset) {
+            if (isWordPart(c)) {
+                if (wordLength == 0) {
+                    wordBegin = offset;
+                }
+                if (wordLength < MAX_WORD) {
+                    word[wordLength] = c;
+                }
+                wordLength++;
+                significant(offset);
+            } else if (c == '/' || c == '-') {
+                // decided by the next character
+                state = c == '/' ? SLASH : DASH;
+                commentBegin = offset;
+            } else if (c == '$') {
+                state = DOLLAR_TAG;
+                tag.setLength(0);
+                blockStart = false;
+                significant(offset);
+            } else if (c == '\'' || c == '"' || c == '`' || c == '[' && squareBracketQuotation) {
+                closingQuote = c == '[' ? ']' : c;
+                state = QUOTED;
+                quotedEnd = offset + 1;
+                quotedDelimiter = -1;
+                recentCount = 0;
+                blockStart = false;
+                significant(offset);
+            } else if (!Character.isWhitespace(c)) {
+                blockStart = c == ';' || c == ')' || c == ':';
+                significant(offset);
+            }
+        }
+
+        private boolean startsComment(char c) {
+            return state == SLASH ? c == '/' || c == '*' : c == '-';
+        }
+
+        private void blockComment(char c) {
+            if (c == '/' && state == BLOCK_COMMENT_STAR) {
+                state = NORMAL;
+            } else {
+                state = c == '*' ? BLOCK_COMMENT_STAR : BLOCK_COMMENT;
+            }
+        }
+
+        private void dollarTag(char c, long offset) {
+            if (c == '$') {
+                state = DOLLAR_QUOTED;
+                tagMatched = 0;
+                recentCount = 0;
+                significant(offset);
+            } else if (Character.isLetter(c) || c == '_' || Character.isDigit(c) && tag.length() > 0) {
+                tag.append(c);
+                significant(offset);
+            } else {
+                // a parameter like $1, not a dollar quoted string
+                state = NORMAL;
+                normal(c, offset);
+            }
+        }
+
+        private void quoted(char c, long offset) {
+            significant(offset);
+            switch (state) {
+                case QUOTED:
+                    if (c == closingQuote) {
+                        state = QUOTED_END;
+                    } else if (c == '\\' && backslashEscapeCharacter && closingQuote == '\'') {
+                        state = ESCAPED;
+                    } else if (c == '\n' && quotedDelimiter >= 0) {
+                        state = QUOTED_NEW_LINE;
+                    }
+                    if (c == delimiter[0] && delimiter.length == 1 && blockDepth == 0) {
+                        quotedDelimiter = quotedEnd;
+                    } else if (!Character.isWhitespace(c)) {
+                        quotedDelimiter = -1;
+                    }
+                    if (!Character.isWhitespace(c)) {
+                        quotedEnd = offset + 1;
+                    }
+                    break;
+                case QUOTED_NEW_LINE:
+                    quotedNewLine(c, offset);
+                    break;
+                case QUOTED_END:
+                    if (c == closingQuote) {
+                        state = QUOTED;
+                        quotedEnd = offset + 1;
+                    } else {
+                        state = NORMAL;
+                        end = offset;
+                        step(c, offset);
+                    }
+                    break;
+                case ESCAPED:
+                    state = QUOTED;
+                    break;
+                default:
+                    // DOLLAR_QUOTED, the closing tag is "$" + tag + "$"
+                    if (c == (tagMatched == 0 || tagMatched > tag.length() ? '$' : tag.charAt(tagMatched - 1))) {
+                        if (++tagMatched == tag.length() + 2) {
+                            state = NORMAL;
+                        }
+                    } else {
+                        tagMatched = c == '$' ? 1 : 0;
+                    }
+            }
+        }
+
+        /**
+         * Reads ahead the first word of a line within a quoted text, if the line before ended with
+         * the delimiter. A statement keyword in the first column ends the statement in front of
+         * that delimiter, like the closing quote was missing. Otherwise the word is read as part of
+         * the quoted text.
+         */
+        private void quotedNewLine(char c, long offset) {
+            if (isWordPart(c) && wordLength < MAX_WORD) {
+                if (wordLength == 0) {
+                    wordBegin = offset;
+                }
+                word[wordLength++] = c;
+                return;
+            } else if (wordLength == 0 && (c == '\n' || c == '\r')) {
+                // empty lines in between
+                return;
+            }
+            boolean unterminated = !isWordPart(c) && isStatementKeyword();
+            char[] readAhead = Arrays.copyOf(word, wordLength);
+            long readAheadBegin = wordBegin;
+            wordLength = 0;
+            if (unterminated) {
+                consumer.accept(begin, quotedDelimiter, dataStatement ? DATA : STATEMENT);
+                reset();
+            } else {
+                state = QUOTED;
+                quotedDelimiter = -1;
+            }
+            for (int i = 0; i < readAhead.length; i++) {
+                step(readAhead[i], readAheadBegin + i);
+            }
+            step(c, offset);
+        }
+
+        private boolean isStatementKeyword() {
+            for (String keyword : STATEMENT_KEYWORDS) {
+                if (isWord(keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Reads the rows following COPY ... FROM STDIN, one per line, up to a line holding only
+         * \. as in the text format of PostgreSQL.
+         */
+        private void copyData(char c, long offset) {
+            if (lineBegin < 0) {
+                if (c == '\n') {
+                    lineBegin = offset + 1;
+                    lineEnd = lineBegin;
+                }
+            } else if (c == '\n') {
+                endLine();
+                lineBegin = offset + 1;
+                lineEnd = lineBegin;
+            } else if (c != '\r') {
+                if (offset == lineBegin) {
+                    endMarker = c == '\\';
+                } else if (offset == lineBegin + 1) {
+                    endMarker &= c == '.';
+                }
+                lineEnd = offset + 1;
+            }
+        }
+
+        private void endLine() {
+            if (endMarker && lineEnd - lineBegin == 2) {
+                state = NORMAL;
+            } else {
+                consumer.accept(lineBegin, lineEnd, DATA);
+            }
+            endMarker = false;
+        }
+
+        private void delimiterArgument(char c) {
+            if (c == '\n' || c == '\r') {
+                String argument = delimiterArgument.toString().trim();
+                delimiterArgument.setLength(0);
+                if (!argument.isEmpty()) {
+                    delimiter = argument.toCharArray();
+                    recent = new char[delimiter.length];
+                    recentEnds = new long[delimiter.length];
+                }
+                reset();
+            } else {
+                delimiterArgument.append(c);
+            }
+        }
+
+        private static boolean isWordPart(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '#' || c == '@';
+        }
+
+        private void completeWord(char following, long offset) {
+            if (wordLength == 0) {
+                return;
+            }
+            boolean first = wordBegin == begin;
+            if (first) {
+                copyStatement = isWord("COPY");
+                dataStatement = dataStatements && (isWord("INSERT") || isWord("REPLACE"));
+            }
+            copyFromStdin |= copyStatement && previousFrom && isWord("STDIN");
+            previousFrom = isWord("FROM");
+            boolean startsBlock = blockStart;
+            boolean consumedByEnd = afterEnd;
+            afterEnd = false;
+            if (pendingBegin || pendingEnd) {
+                boolean blockKeyword = isWord("TRANSACTION") || isWord("WORK") || isWord("TRAN")
+                        || isWord("ISOLATION") || isWord("DEFERRED") || isWord("IMMEDIATE") || isWord("EXCLUSIVE")
+                        || isWord("DISTRIBUTED") || isWord("READ");
+                boolean endKeyword = isWord("IF") || isWord("LOOP") || isWord("WHILE") || isWord("REPEAT")
+                        || isWord("FOR") || isWord("CASE");
+                if (pendingBegin && !blockKeyword) {
+                    blockDepth++;
+                } else if (pendingEnd && !endKeyword) {
+                    blockDepth--;
+                }
+                consumedByEnd = pendingEnd && isWord("CASE");
+                pendingBegin = false;
+                pendingEnd = false;
+            }
+
+            blockStart = isWord("AS") || isWord("IS") || isWord("THEN") || isWord("ELSE") || isWord("DO")
+                    || isWord("LOOP") || isWord("REPEAT") || isWord("ROW") || isWord("BEGIN");
+            if (isWord("BEGIN")) {
+                pendingBegin = startsBlock;
+            } else if (isWord("CASE") && !consumedByEnd) {
+                caseDepth++;
+            } else if (isWord("END")) {
+                if (caseDepth > 0) {
+                    caseDepth--;
+                } else if (blockDepth > 0) {
+                    pendingEnd = true;
+                }
+                afterEnd = true;
+            } else if (first && isWord("DELIMITER") && (following == ' ' || following == '\t') && offset >= 0) {
+                state = DELIMITER_ARGUMENT;
+            }
+            wordLength = 0;
+        }
+
+        private void resolvePending(boolean semicolon) {
+            if (pendingBegin && !semicolon) {
+                blockDepth++;
+            } else if (pendingEnd) {
+                blockDepth--;
+            }
+            pendingBegin = false;
+            pendingEnd = false;
+            afterEnd = false;
+        }
+
+        private boolean isWord(String keyword) {
+            if (wordLength != keyword.length()) {
+                return false;
+            }
+            for (int i = 0; i < wordLength; i++) {
+                if (Character.toUpperCase(word[i]) != keyword.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
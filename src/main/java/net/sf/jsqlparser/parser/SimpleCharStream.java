@@ -59,6 +59,15 @@ public class SimpleCharStream {
         return absoluteTokenBegin;
     }
 
+    /**
+     * Continues the absolute positions of a larger text, when this stream reads a part of it.
+     * @param offset the offset of the first character of this stream in the larger text
+     */
+    public void setAbsoluteOffset(int offset) {
+        totalCharsRead = offset;
+        absoluteTokenBegin = offset;
+    }
+
     protected void ExpandBuff(boolean wrapAround) throws IOException {
         char[] newbuffer = new char[bufsize + 2048];
         int newbufline[] = new int[bufsize + 2048];
@@ -366,6 +375,7 @@ public class SimpleCharStream {
         }
         prevCharIsLF = prevCharIsCR = false;
         tokenBegin = inBuf = maxNextCharInd = 0;
+        totalCharsRead = absoluteTokenBegin = 0;
         bufpos = -1;
     }
 
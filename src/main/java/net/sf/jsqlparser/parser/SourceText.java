@@ -0,0 +1,100 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.util.Objects;
+
+/**
+ * A view of a range of the original input of the parser. No characters are copied until
+ * {@link #toString()} is called, so the original text of a statement or a node can be logged or
+ * forwarded without deparsing it.
+ *
+ * The view keeps the whole input reachable, as long as it is referenced.
+ */
+public final class SourceText implements CharSequence {
+
+    private final CharSequence source;
+
+    private final int begin;
+
+    private final int end;
+
+    /**
+     * @param source the whole input of the parser
+     * @param begin the offset of the first character, inclusive
+     * @param end the offset after the last character, exclusive
+     */
+    public SourceText(CharSequence source, int begin, int end) {
+        this.source = Objects.requireNonNull(source);
+        if (begin < 0 || end < begin || end > source.length()) {
+            throw new IndexOutOfBoundsException("[" + begin + ", " + end + ") of " + source.length());
+        }
+        this.begin = begin;
+        this.end = end;
+    }
+
+    /**
+     * @return the span of the tokens from first to last, <code>null</code> if the tokens do not know
+     * their source
+     */
+    static SourceText of(Token first, Token last) {
+        if (first == null || last == null || first.source == null || first.absoluteBegin < 1
+                || last.absoluteEnd < first.absoluteBegin) {
+            return null;
+        }
+        // the absolute positions of the tokens count from 1
+        return new SourceText(first.source, first.absoluteBegin - 1, last.absoluteEnd - 1);
+    }
+
+    public CharSequence getSource() {
+        return source;
+    }
+
+    public int getBegin() {
+        return begin;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    @Override
+    public int length() {
+        return end - begin;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return source.charAt(begin + index);
+    }
+
+    @Override
+    public SourceText subSequence(int start, int stop) {
+        if (start < 0 || stop < start || stop > length()) {
+            throw new IndexOutOfBoundsException("[" + start + ", " + stop + ") of " + length());
+        }
+        return new SourceText(source, begin + start, begin + stop);
+    }
+
+    /**
+     * Appends the text to the given builder without creating an intermediate string.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        return builder.append(source, begin, end);
+    }
+
+    @Override
+    public String toString() {
+        return source.subSequence(begin, end).toString();
+    }
+}
@@ -0,0 +1,337 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Reads, parses and consumes the statements of a script on separate threads. One thread splits
+ * the script into statements, parser threads parse them and consumer threads hand the results
+ * over to a listener.
+ *
+ * <pre>
+ * long count = new StatementPipeline().withParserThreads(4).run(reader, result -&gt; store(result));
+ * </pre>
+ *
+ * The stages are connected by bounded queues. When the listener is slower than the parsers, the
+ * queues fill up and reading and parsing wait, so at most about twice the capacity of statements
+ * are held in memory at any time. Like {@link CCJSqlParserUtil#streamStatements(Reader, Consumer)},
+ * a statement failing to parse yields a result holding the error and the others continue.
+ *
+ * By default the listener is called by a single thread in the order of the script. Without
+ * ordered delivery the results are handed over by all consumer threads as soon as they are parsed.
+ */
+public final class StatementPipeline {
+
+    private static final Work END_OF_WORK = new Work(null, -1, -1, null);
+
+    private static final CompletableFuture<ParseResult> END_OF_RESULTS = new CompletableFuture<>();
+
+    private int parserThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private int consumerThreads = 1;
+
+    private int capacity = 1024;
+
+    private boolean ordered = true;
+
+    private Consumer<CCJSqlParser> parserConfiguration;
+
+    public StatementPipeline withParserThreads(int parserThreads) {
+        this.parserThreads = requirePositive(parserThreads, "parserThreads");
+        return this;
+    }
+
+    /**
+     * @param consumerThreads the number of threads calling the listener, if the delivery is not
+     * ordered
+     */
+    public StatementPipeline withConsumerThreads(int consumerThreads) {
+        this.consumerThreads = requirePositive(consumerThreads, "consumerThreads");
+        return this;
+    }
+
+    /**
+     * @param capacity the number of statements each queue between the stages holds
+     */
+    public StatementPipeline withCapacity(int capacity) {
+        this.capacity = requirePositive(capacity, "capacity");
+        return this;
+    }
+
+    /**
+     * @param ordered whether the listener is called by a single thread in the order of the script
+     */
+    public StatementPipeline withOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * @param parserConfiguration to configure the parsers, as for
+     * {@link CCJSqlParserUtil#parse(String, Consumer)}
+     */
+    public StatementPipeline withParserConfiguration(Consumer<CCJSqlParser> parserConfiguration) {
+        this.parserConfiguration = parserConfiguration;
+        return this;
+    }
+
+    public int getParserThreads() {
+        return parserThreads;
+    }
+
+    public int getConsumerThreads() {
+        return consumerThreads;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    private static int requirePositive(int value, String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive, but was " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Runs the pipeline over a script and returns when all of its statements have been consumed.
+     * If reading fails, a parser thread fails with an error or the listener throws an exception, the
+     * pipeline is stopped and the exception or error is thrown here. The reader is not closed.
+     *
+     * @param listener receives the result of each statement
+     * @return the number of results handed over to the listener
+     * @throws IOException if reading the script fails
+     * @throws InterruptedException if the calling thread is interrupted while waiting, which stops
+     * the pipeline
+     */
+    public long run(Reader reader, Consumer<ParseResult> listener) throws IOException, InterruptedException {
+        Run run = new Run(reader, listener);
+        try {
+            run.start();
+            for (Future<?> consumer : run.consumers) {
+                consumer.get();
+            }
+        } catch (ExecutionException ex) {
+            // the tasks catch their exceptions
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            run.executor.shutdownNow();
+        }
+        rethrow(run.failure.get());
+        return run.count.get();
+    }
+
+    private static void rethrow(Throwable failure) throws IOException {
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+    }
+
+    /**
+     * A statement to parse, and where to put its result.
+     */
+    private static final class Work {
+        private final String text;
+
+        private final long begin;
+
+        private final long end;
+
+        private final CompletableFuture<ParseResult> result;
+
+        private Work(String text, long begin, long end, CompletableFuture<ParseResult> result) {
+            this.text = text;
+            this.begin = begin;
+            this.end = end;
+            this.result = result;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+
+    /**
+     * The state of a single run.
+     */
+    private final class Run {
+        private final Reader reader;
+
+        private final Consumer<ParseResult> listener;
+
+        private final int consumerCount = ordered ? 1 : consumerThreads;
+
+        private final ExecutorService executor;
+
+        private final BlockingQueue<Work> work = new ArrayBlockingQueue<>(capacity);
+
+        // in the order of the script if the delivery is ordered, otherwise as they are parsed
+        private final BlockingQueue<CompletableFuture<ParseResult>> results = new ArrayBlockingQueue<>(capacity);
+
+        private final AtomicInteger runningParsers = new AtomicInteger(parserThreads);
+
+        private final List<Future<?>> consumers = new ArrayList<>();
+
+        private final AtomicLong count = new AtomicLong();
+
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private Run(Reader reader, Consumer<ParseResult> listener) {
+            this.reader = reader;
+            this.listener = listener;
+            AtomicInteger threads = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(1 + parserThreads + consumerCount, runnable -> {
+                Thread thread = new Thread(runnable, "JSqlParser pipeline " + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private void start() {
+            submit(this::split);
+            for (int i = 0; i < parserThreads; i++) {
+                submit(this::parse);
+            }
+            for (int i = 0; i < consumerCount; i++) {
+                consumers.add(submit(this::consume));
+            }
+        }
+
+        private Future<?> submit(Task task) {
+            try {
+                return executor.submit(() -> {
+                    try {
+                        task.run();
+                    } catch (Throwable ex) {
+                        fail(ex);
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                // a stage failed before all of them were started
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+
+        /**
+         * Stops all stages. Only the first failure is kept, the others are caused by stopping.
+         */
+        private void fail(Throwable ex) {
+            if (failure.compareAndSet(null, ex)) {
+                executor.shutdownNow();
+            }
+        }
+
+        private void split() throws IOException, InterruptedException {
+            ScriptSplitter.Cursor cursor = new ScriptSplitter.Cursor(
+                    CCJSqlParserUtil.newSplitter(parserConfiguration), reader, null);
+            ScriptSplitter.StatementHandler handler = new ScriptSplitter.StatementHandler() {
+                @Override
+                public void statement(long begin, long end, String text) {
+                    CompletableFuture<ParseResult> result = new CompletableFuture<>();
+                    put(work, new Work(text, begin, end, result));
+                    if (ordered) {
+                        put(results, result);
+                    }
+                }
+
+                @Override
+                public void statementTooLong(long begin, long end) {
+                    // nothing to parse, but delivered like the other failures
+                    put(results, CompletableFuture.completedFuture(ParseResult.tooLong(begin, end)));
+                }
+            };
+            boolean found;
+            do {
+                found = cursor.next(handler);
+            } while (found);
+            for (int i = 0; i < parserThreads; i++) {
+                work.put(END_OF_WORK);
+            }
+            if (ordered) {
+                results.put(END_OF_RESULTS);
+            }
+        }
+
+        private void parse() throws InterruptedException {
+            BulkParser parser = new BulkParser(parserConfiguration);
+            for (Work next = work.take(); next != END_OF_WORK; next = work.take()) {
+                try {
+                    next.result.complete(parser.parseResult(next.text, next.begin, next.end));
+                } catch (Throwable ex) {
+                    // like a StackOverflowError, recorded before a consumer waiting for the result
+                    // sees it
+                    fail(ex);
+                    throw ex;
+                } finally {
+                    if (!next.result.isDone()) {
+                        next.result.completeExceptionally(failure.get());
+                    }
+                }
+                if (!ordered) {
+                    results.put(next.result);
+                }
+            }
+            if (!ordered && runningParsers.decrementAndGet() == 0) {
+                for (int i = 0; i < consumerCount; i++) {
+                    results.put(END_OF_RESULTS);
+                }
+            }
+        }
+
+        private void consume() throws InterruptedException, ExecutionException {
+            for (CompletableFuture<ParseResult> next = results.take(); next != END_OF_RESULTS
+                    && failure.get() == null; next = results.take()) {
+                listener.accept(next.get());
+                count.incrementAndGet();
+            }
+        }
+
+        /**
+         * Puts into a queue from within the handler of the splitter, which can not throw an
+         * {@link InterruptedException}.
+         */
+        private <T> void put(BlockingQueue<T> queue, T element) {
+            try {
+                queue.put(element);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted", ex);
+            }
+        }
+    }
+}
@@ -765,6 +765,42 @@ public enum Feature {
 
     timeOut( 6000),
 
+    /**
+     * shares the names of tables, columns and aliases of all parsed statements through the
+     * {@link net.sf.jsqlparser.parser.IdentifierPool}, disabled by default
+     */
+    internIdentifiers(false),
+
+    /**
+     * links the parsed objects to the nodes of the syntax tree, see
+     * {@link net.sf.jsqlparser.parser.ASTNodeAccess#getASTNode()}. Disabling it saves the node
+     * stack and keeps the nodes and tokens out of the parsed statements, but leaves them without
+     * source positions.
+     */
+    buildAST(true),
+
+    /**
+     * stores expression lists consisting of numbers, texts and NULL in arrays, see
+     * {@link net.sf.jsqlparser.expression.operators.relational.LiteralList}. The literals of these
+     * lists are created on access and have no nodes of the syntax tree. Disabled by default.
+     */
+    compactLiterals(false),
+
+    /**
+     * parses the conditions joined by the same AND or OR operator into a single
+     * {@link net.sf.jsqlparser.expression.operators.conditional.ConditionalChain} instead of a chain
+     * of binary expressions, which takes one nested call per operator to visit. Disabled by default.
+     */
+    flattenConditions(false),
+
+    /**
+     * the maximum number of characters of a statement read from a script by the
+     * {@link net.sf.jsqlparser.parser.ScriptSplitter}. A longer statement, like one left open by an
+     * unterminated string literal, is reported as an error and the rest of its line is skipped, so
+     * that a bad script can not fill up the memory.
+     */
+    maxStatementLength(64 * 1024 * 1024),
+
     /**
      * allows Backslash '\' as Escape Character
      */
@@ -11,6 +11,7 @@ package net.sf.jsqlparser.schema;
 
 import java.util.List;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 
@@ -22,6 +23,9 @@ public class Column extends ASTNodeAccessImpl implements Expression, MultiPartNa
     private Table table;
     private String columnName;
 
+    // cached once the column has been frozen
+    private transient String fullyQualifiedName;
+
     public Column() {
     }
 
@@ -66,6 +70,7 @@ public class Column extends ASTNodeAccessImpl implements Expression, MultiPartNa
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -74,11 +79,18 @@ public class Column extends ASTNodeAccessImpl implements Expression, MultiPartNa
     }
 
     public void setColumnName(String string) {
+        checkNotFrozen();
         columnName = string;
     }
 
     @Override
     public String getFullyQualifiedName() {
+        if (isFrozen()) {
+            if (fullyQualifiedName == null) {
+                fullyQualifiedName = getName(false);
+            }
+            return fullyQualifiedName;
+        }
         return getName(false);
     }
 
@@ -106,6 +118,11 @@ public class Column extends ASTNodeAccessImpl implements Expression, MultiPartNa
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return getName(true);
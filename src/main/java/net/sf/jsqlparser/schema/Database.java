@@ -9,7 +9,9 @@
  */
 package net.sf.jsqlparser.schema;
 
-public final class Database implements MultiPartName {
+import net.sf.jsqlparser.parser.Freezable;
+
+public final class Database extends Freezable implements MultiPartName {
 
     private Server server;
     private String databaseName;
@@ -28,6 +30,7 @@ public final class Database implements MultiPartName {
     }
 
     public void setServer(Server server) {
+        checkNotFrozen();
         this.server = server;
     }
 
@@ -36,6 +39,7 @@ public final class Database implements MultiPartName {
     }
 
     public void setDatabaseName(String databaseName) {
+        checkNotFrozen();
         this.databaseName = databaseName;
     }
 
@@ -38,6 +38,7 @@ public class Sequence extends ASTNodeAccessImpl implements MultiPartName {
     }
 
     public void setParameters(List<Parameter> parameters) {
+        checkNotFrozen();
         this.parameters = parameters;
     }
 
@@ -50,6 +51,7 @@ public class Sequence extends ASTNodeAccessImpl implements MultiPartName {
     }
 
     public void setDatabase(Database database) {
+        checkNotFrozen();
         setIndex(DATABASE_IDX, database.getDatabaseName());
         if (database.getServer() != null) {
             setIndex(SERVER_IDX, database.getServer().getFullyQualifiedName());
@@ -66,6 +68,7 @@ public class Sequence extends ASTNodeAccessImpl implements MultiPartName {
     }
 
     public void setSchemaName(String string) {
+        checkNotFrozen();
         setIndex(SCHEMA_IDX, string);
     }
 
@@ -79,6 +82,7 @@ public class Sequence extends ASTNodeAccessImpl implements MultiPartName {
     }
 
     public void setName(String string) {
+        checkNotFrozen();
         setIndex(NAME_IDX, string);
     }
 
@@ -9,9 +9,11 @@
  */
 package net.sf.jsqlparser.schema;
 
+import net.sf.jsqlparser.parser.Freezable;
+
 import java.util.regex.*;
 
-public final class Server implements MultiPartName {
+public final class Server extends Freezable implements MultiPartName {
 
     public static final Pattern SERVER_PATTERN = Pattern.
             compile("\\[([^\\]]+?)(?:\\\\([^\\]]+))?\\]");
@@ -44,6 +46,7 @@ public final class Server implements MultiPartName {
     }
 
     public void setServerName(String serverName) {
+        checkNotFrozen();
         this.serverName = serverName;
     }
 
@@ -52,6 +55,7 @@ public final class Server implements MultiPartName {
     }
 
     public void setInstanceName(String instanceName) {
+        checkNotFrozen();
         this.instanceName = instanceName;
     }
 
@@ -36,6 +36,7 @@ public class Synonym extends ASTNodeAccessImpl implements MultiPartName {
     }
 
     public void setDatabase(Database database) {
+        checkNotFrozen();
         setIndex(DATABASE_IDX, database.getDatabaseName());
         if (database.getServer() != null) {
             setIndex(SERVER_IDX, database.getServer().getFullyQualifiedName());
@@ -52,6 +53,7 @@ public class Synonym extends ASTNodeAccessImpl implements MultiPartName {
     }
 
     public void setSchemaName(String string) {
+        checkNotFrozen();
         setIndex(SCHEMA_IDX, string);
     }
 
@@ -65,6 +67,7 @@ public class Synonym extends ASTNodeAccessImpl implements MultiPartName {
     }
 
     public void setName(String string) {
+        checkNotFrozen();
         setIndex(NAME_IDX, string);
     }
 
@@ -9,7 +9,9 @@
  */
 package net.sf.jsqlparser.schema;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import net.sf.jsqlparser.expression.Alias;
@@ -17,6 +19,7 @@ import net.sf.jsqlparser.expression.MySQLIndexHint;
 import net.sf.jsqlparser.expression.SQLServerHints;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.FromItemContextVisitor;
 import net.sf.jsqlparser.statement.select.FromItemVisitor;
 import net.sf.jsqlparser.statement.select.IntoTableVisitor;
 import net.sf.jsqlparser.statement.select.Pivot;
@@ -25,11 +28,9 @@ import net.sf.jsqlparser.statement.select.UnPivot;
 /**
  * A table. It can have an alias and the schema name it belongs to.
  */
+@SuppressWarnings({"PMD.CyclomaticComplexity"})
 public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName {
 
-    // private Database database;
-    // private String schemaName;
-    // private String name;
     private static final int NAME_IDX = 0;
 
     private static final int SCHEMA_IDX = 1;
@@ -38,17 +39,32 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
 
     private static final int SERVER_IDX = 3;
 
-    private List<String> partItems = new ArrayList<>();
+    private static final int EXTRA_IDX = 4;
 
-    private Alias alias;
+    // the name parts are held in fixed slots, starting with the table name
+    private String name;
+
+    private String schemaName;
+
+    private String databaseName;
 
-    private Pivot pivot;
+    private String serverName;
 
-    private UnPivot unpivot;
+    // parts beyond the server name, only used for unusual long names
+    private List<String> extraParts;
 
-    private MySQLIndexHint mysqlHints;
+    private int partCount;
+
+    private Alias alias;
 
-    private SQLServerHints sqlServerHints;
+    // created on first use of one of the rare clauses
+    private RareClauses rareClauses;
+
+    // cached once the table has been frozen
+    private transient String fullyQualifiedName;
+
+    // cached once the table has been frozen
+    private transient Database database;
 
     public Table() {
     }
@@ -69,11 +85,19 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
     }
 
     public Table(List<String> partItems) {
-        this.partItems = new ArrayList<>(partItems);
-        Collections.reverse(this.partItems);
+        for (int i = 0; i < partItems.size(); i++) {
+            setSlot(partItems.size() - 1 - i, partItems.get(i));
+        }
+        partCount = partItems.size();
     }
 
     public Database getDatabase() {
+        if (isFrozen()) {
+            if (database == null) {
+                database = new Database(getIndex(DATABASE_IDX));
+            }
+            return database;
+        }
         return new Database(getIndex(DATABASE_IDX));
     }
 
@@ -83,6 +107,7 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
     }
 
     public void setDatabase(Database database) {
+        checkNotFrozen();
         setIndex(DATABASE_IDX, database.getDatabaseName());
         if (database.getServer() != null) {
             setIndex(SERVER_IDX, database.getServer().getFullyQualifiedName());
@@ -99,6 +124,7 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
     }
 
     public void setSchemaName(String schemaName) {
+        checkNotFrozen();
         setIndex(SCHEMA_IDX, schemaName);
     }
 
@@ -130,6 +156,7 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         setIndex(NAME_IDX, name);
     }
 
@@ -140,36 +167,80 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
     private void setIndex(int idx, String value) {
-        int size = partItems.size();
-        for (int i = 0; i < idx - size + 1; i++) {
-            partItems.add(null);
+        if (idx >= partCount) {
+            partCount = idx + 1;
         }
 
-        if (value == null && idx == partItems.size() - 1) {
-            partItems.remove(idx);
-        } else {
-            partItems.set(idx, value);
+        setSlot(idx, value);
+        if (value == null && idx == partCount - 1) {
+            partCount--;
+        }
+    }
+
+    private void setSlot(int idx, String value) {
+        switch (idx) {
+            case NAME_IDX:
+                name = value;
+                break;
+            case SCHEMA_IDX:
+                schemaName = value;
+                break;
+            case DATABASE_IDX:
+                databaseName = value;
+                break;
+            case SERVER_IDX:
+                serverName = value;
+                break;
+            default:
+                if (extraParts == null) {
+                    extraParts = new ArrayList<>();
+                }
+                while (extraParts.size() <= idx - EXTRA_IDX) {
+                    extraParts.add(null);
+                }
+                extraParts.set(idx - EXTRA_IDX, value);
         }
     }
 
     private String getIndex(int idx) {
-        if (idx < partItems.size()) {
-            return partItems.get(idx);
-        } else {
+        if (idx >= partCount) {
             return null;
         }
+        switch (idx) {
+            case NAME_IDX:
+                return name;
+            case SCHEMA_IDX:
+                return schemaName;
+            case DATABASE_IDX:
+                return databaseName;
+            case SERVER_IDX:
+                return serverName;
+            default:
+                return extraParts != null && idx - EXTRA_IDX < extraParts.size() ? extraParts.get(idx - EXTRA_IDX) : null;
+        }
     }
 
     @Override
     public String getFullyQualifiedName() {
+        if (isFrozen()) {
+            if (fullyQualifiedName == null) {
+                fullyQualifiedName = buildFullyQualifiedName();
+            }
+            return fullyQualifiedName;
+        }
+        return buildFullyQualifiedName();
+    }
+
+    private String buildFullyQualifiedName() {
         StringBuilder fqn = new StringBuilder();
 
-        for (int i = partItems.size() - 1; i >= 0; i--) {
-            String part = partItems.get(i);
+        for (int i = partCount - 1; i >= 0; i--) {
+            String part = getIndex(i);
             if (part == null) {
                 part = "";
             }
@@ -187,32 +258,43 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
         fromItemVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(FromItemContextVisitor<R, C> fromItemVisitor, C context) {
+        return fromItemVisitor.visit(this, context);
+    }
+
     public void accept(IntoTableVisitor intoTableVisitor) {
         intoTableVisitor.visit(this);
     }
 
     @Override
     public Pivot getPivot() {
-        return pivot;
+        return rareClauses != null ? rareClauses.pivot : null;
     }
 
     @Override
     public void setPivot(Pivot pivot) {
-        this.pivot = pivot;
+        checkNotFrozen();
+        if (pivot != null || rareClauses != null) {
+            rareClauses().pivot = pivot;
+        }
     }
 
     @Override
     public UnPivot getUnPivot() {
-        return this.unpivot;
+        return rareClauses != null ? rareClauses.unpivot : null;
     }
 
     @Override
     public void setUnPivot(UnPivot unpivot) {
-        this.unpivot = unpivot;
+        checkNotFrozen();
+        if (unpivot != null || rareClauses != null) {
+            rareClauses().unpivot = unpivot;
+        }
     }
 
     public MySQLIndexHint getIndexHint() {
-        return mysqlHints;
+        return rareClauses != null ? rareClauses.mysqlHints : null;
     }
 
     public Table withHint(MySQLIndexHint hint) {
@@ -221,23 +303,34 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
     }
 
     public void setHint(MySQLIndexHint hint) {
-        this.mysqlHints = hint;
+        checkNotFrozen();
+        if (hint != null || rareClauses != null) {
+            rareClauses().mysqlHints = hint;
+        }
     }
 
     public SQLServerHints getSqlServerHints() {
-        return sqlServerHints;
+        return rareClauses != null ? rareClauses.sqlServerHints : null;
     }
 
     public void setSqlServerHints(SQLServerHints sqlServerHints) {
-        this.sqlServerHints = sqlServerHints;
+        checkNotFrozen();
+        if (sqlServerHints != null || rareClauses != null) {
+            rareClauses().sqlServerHints = sqlServerHints;
+        }
     }
 
     @Override
     public String toString() {
+        if (rareClauses == null) {
+            return alias != null ? getFullyQualifiedName() + alias : getFullyQualifiedName();
+        }
+        Pivot pivot = rareClauses.pivot;
+        UnPivot unpivot = rareClauses.unpivot;
         return getFullyQualifiedName() + ((alias != null) ? alias.toString() : "")
                 + ((pivot != null) ? " " + pivot : "") + ((unpivot != null) ? " " + unpivot : "")
-                + ((mysqlHints != null) ? mysqlHints.toString() : "")
-                + ((sqlServerHints != null) ? sqlServerHints.toString() : "");
+                + ((rareClauses.mysqlHints != null) ? rareClauses.mysqlHints.toString() : "")
+                + ((rareClauses.sqlServerHints != null) ? rareClauses.sqlServerHints.toString() : "");
     }
 
     @Override
@@ -260,7 +353,35 @@ public class Table extends ASTNodeAccessImpl implements FromItem, MultiPartName
         return this;
     }
 
+    /**
+     * @return the parts of the name, starting with the table name, as read only list
+     */
     public List<String> getNameParts() {
-        return partItems;
+        String[] parts = new String[partCount];
+        for (int i = 0; i < partCount; i++) {
+            parts[i] = getIndex(i);
+        }
+        return Collections.unmodifiableList(Arrays.asList(parts));
+    }
+
+    private RareClauses rareClauses() {
+        if (rareClauses == null) {
+            rareClauses = new RareClauses();
+        }
+        return rareClauses;
+    }
+
+    /**
+     * The clauses only few tables use, created on first use.
+     */
+    private static final class RareClauses implements Serializable {
+
+        private Pivot pivot;
+
+        private UnPivot unpivot;
+
+        private MySQLIndexHint mysqlHints;
+
+        private SQLServerHints sqlServerHints;
     }
 }
@@ -9,7 +9,9 @@
  */
 package net.sf.jsqlparser.statement;
 
-public class Block implements Statement {
+import net.sf.jsqlparser.parser.Freezable;
+
+public class Block extends Freezable implements Statement {
     private boolean hasSemicolonAfterEnd = false;
 
     private Statements statements;
@@ -19,6 +21,7 @@ public class Block implements Statement {
     }
 
     public void setStatements(Statements statements) {
+        checkNotFrozen();
         this.statements = statements;
     }
 
@@ -27,6 +30,7 @@ public class Block implements Statement {
     }
 
     public void setSemicolonAfterEnd(boolean hasSemicolonAfterEnd) {
+        checkNotFrozen();
         this.hasSemicolonAfterEnd = hasSemicolonAfterEnd;
     }
 
@@ -35,6 +39,11 @@ public class Block implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public StringBuilder appendTo(StringBuilder builder) {
         builder.append("BEGIN\n");
         if (statements != null) {
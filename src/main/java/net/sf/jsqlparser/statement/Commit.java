@@ -9,11 +9,18 @@
  */
 package net.sf.jsqlparser.statement;
 
-public class Commit implements Statement {
+import net.sf.jsqlparser.parser.Freezable;
+
+public class Commit extends Freezable implements Statement {
     @Override
     public void accept(StatementVisitor statementVisitor) {
         statementVisitor.visit(this);
     }
+
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
     
     @Override
     public String toString() {
@@ -14,11 +14,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 
 /**
  * A base for the declaration of function like statements
  */
-public abstract class CreateFunctionalStatement implements Statement {
+public abstract class CreateFunctionalStatement extends Freezable implements Statement {
 
     private String kind;
     private boolean orReplace = false;
@@ -40,6 +41,7 @@ public abstract class CreateFunctionalStatement implements Statement {
     }
 
     public void setFunctionDeclarationParts(List<String> functionDeclarationParts) {
+        checkNotFrozen();
         this.functionDeclarationParts = functionDeclarationParts;
     }
 
@@ -58,6 +60,7 @@ public abstract class CreateFunctionalStatement implements Statement {
     }
     
     public void setOrReplace(boolean orReplace) {
+        checkNotFrozen();
         this.orReplace = orReplace;
     }
 
@@ -89,6 +92,11 @@ public abstract class CreateFunctionalStatement implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return "CREATE " 
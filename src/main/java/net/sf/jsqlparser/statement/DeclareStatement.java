@@ -17,10 +17,11 @@ import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.UserVariable;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.create.table.ColDataType;
 import net.sf.jsqlparser.statement.create.table.ColumnDefinition;
 
-public final class DeclareStatement implements Statement {
+public final class DeclareStatement extends Freezable implements Statement {
 
     private UserVariable userVariable = null;
     private DeclareType declareType = DeclareType.TYPE;
@@ -32,6 +33,7 @@ public final class DeclareStatement implements Statement {
     }
 
     public void setUserVariable(UserVariable userVariable) {
+        checkNotFrozen();
         this.userVariable = userVariable;
     }
 
@@ -60,6 +62,7 @@ public final class DeclareStatement implements Statement {
     }
 
     public void setDeclareType(DeclareType declareType) {
+        checkNotFrozen();
         this.declareType = declareType;
     }
 
@@ -89,6 +92,7 @@ public final class DeclareStatement implements Statement {
     }
 
     public void setTypeDefExprList(List<TypeDefExpr> expr) {
+        checkNotFrozen();
         this.typeDefExprList = expr;
     }
 
@@ -97,10 +101,12 @@ public final class DeclareStatement implements Statement {
     }
 
     public void addColumnDefinition(ColumnDefinition colDef) {
+        checkNotFrozen();
         columnDefinitions.add(colDef);
     }
 
     public void setColumnDefinitions(List<ColumnDefinition> columnDefinitions) {
+        checkNotFrozen();
         this.columnDefinitions = columnDefinitions;
     }
 
@@ -113,6 +119,7 @@ public final class DeclareStatement implements Statement {
     }
 
     public void setTypeName(String typeName) {
+        checkNotFrozen();
         this.typeName = typeName;
     }
 
@@ -157,6 +164,11 @@ public final class DeclareStatement implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public DeclareStatement withUserVariable(UserVariable userVariable) {
         this.setUserVariable(userVariable);
         return this;
@@ -190,7 +202,7 @@ public final class DeclareStatement implements Statement {
         return this.withColumnDefinitions(collection);
     }
 
-    public static class TypeDefExpr implements Serializable {
+    public static class TypeDefExpr extends Freezable implements Serializable {
 
         public final UserVariable userVariable;
         public final ColDataType colDataType;
@@ -9,9 +9,10 @@
  */
 package net.sf.jsqlparser.statement;
 
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 
-public class DescribeStatement implements Statement {
+public class DescribeStatement extends Freezable implements Statement {
 
     private Table table;
 
@@ -28,6 +29,7 @@ public class DescribeStatement implements Statement {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -41,6 +43,11 @@ public class DescribeStatement implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public DescribeStatement withTable(Table table) {
         this.setTable(table);
         return this;
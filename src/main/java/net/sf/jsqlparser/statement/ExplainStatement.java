@@ -9,19 +9,21 @@
  */
 package net.sf.jsqlparser.statement;
 
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.select.Select;
 
 import java.io.Serializable;
 import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * An {@code EXPLAIN} statement
  */
-public class ExplainStatement implements Statement {
+public class ExplainStatement extends Freezable implements Statement {
 
     private Select select;
-    private LinkedHashMap<OptionType, Option> options;
+    private Map<OptionType, Option> options;
 
     public ExplainStatement() {
         // empty constructor
@@ -36,6 +38,7 @@ public class ExplainStatement implements Statement {
     }
 
     public void setStatement(Select select) {
+        checkNotFrozen();
         this.select = select;
     }
 
@@ -44,6 +47,7 @@ public class ExplainStatement implements Statement {
     }
 
     public void addOption(Option option) {
+        checkNotFrozen();
         if (options == null) {
             options = new LinkedHashMap<>();
         }
@@ -81,6 +85,11 @@ public class ExplainStatement implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public enum OptionType {
         ANALYZE,
         VERBOSE,
@@ -89,7 +98,7 @@ public class ExplainStatement implements Statement {
         FORMAT
     }
 
-    public static class Option implements Serializable {
+    public static class Option extends Freezable implements Serializable {
 
         private final OptionType type;
         private String value;
@@ -107,6 +116,7 @@ public class ExplainStatement implements Statement {
         }
 
         public void setValue(String value) {
+            checkNotFrozen();
             this.value = value;
         }
 
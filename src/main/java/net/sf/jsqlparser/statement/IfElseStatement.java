@@ -12,18 +12,25 @@ package net.sf.jsqlparser.statement;
 
 import java.util.Objects;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 
 /**
  *
  * @author <a href="mailto:andreas@manticore-projects.com">Andreas Reichel</a>
  */
-public class IfElseStatement implements Statement {
+public class IfElseStatement extends Freezable implements Statement {
   private final Expression condition;
   private final Statement ifStatement;
   private Statement elseStatement;
   private boolean usingSemicolonForIfStatement = false;
   private boolean usingSemicolonForElseStatement = false;
 
+  private IfElseStatement() {
+    // for ModelClass, which sets the fields afterwards
+    this.condition = null;
+    this.ifStatement = null;
+  }
+
   public IfElseStatement(Expression condition, Statement ifStatement) {
     this.condition =
         Objects.requireNonNull(condition, "The CONDITION of the IfElseStatement must not be null.");
@@ -40,6 +47,7 @@ public class IfElseStatement implements Statement {
   }
 
   public void setElseStatement(Statement elseStatement) {
+      checkNotFrozen();
     this.elseStatement = elseStatement;
   }
 
@@ -48,6 +56,7 @@ public class IfElseStatement implements Statement {
   }
 
   public void setUsingSemicolonForElseStatement(boolean usingSemicolonForElseStatement) {
+      checkNotFrozen();
     this.usingSemicolonForElseStatement = usingSemicolonForElseStatement;
   }
 
@@ -56,6 +65,7 @@ public class IfElseStatement implements Statement {
   }
 
   public void setUsingSemicolonForIfStatement(boolean usingSemicolonForIfStatement) {
+      checkNotFrozen();
     this.usingSemicolonForIfStatement = usingSemicolonForIfStatement;
   }
 
@@ -84,4 +94,8 @@ public class IfElseStatement implements Statement {
     statementVisitor.visit(this);
   }
 
+  @Override
+  public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+      return statementVisitor.visit(this, context);
+  }
 }
@@ -10,6 +10,7 @@
 package net.sf.jsqlparser.statement;
 
 import net.sf.jsqlparser.expression.UserVariable;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.SelectItem;
@@ -38,12 +39,16 @@ import java.util.Objects;
  *     | $action
  * </pre>
  */
-public class OutputClause implements Serializable {
+public class OutputClause extends Freezable implements Serializable {
     List<SelectItem> selectItemList;
     UserVariable tableVariable;
     Table outputTable;
     List<String> columnList;
 
+    private OutputClause() {
+        // for ModelClass, which sets the fields afterwards
+    }
+
     public OutputClause(List<SelectItem> selectItemList, UserVariable tableVariable, Table outputTable, List<String> columnList) {
         this.selectItemList = Objects.requireNonNull(selectItemList, "The Select List of the Output Clause must not be null.");
         this.tableVariable = tableVariable;
@@ -56,6 +61,7 @@ public class OutputClause implements Serializable {
     }
 
     public void setSelectItemList(List<SelectItem> selectItemList) {
+        checkNotFrozen();
         this.selectItemList = selectItemList;
     }
 
@@ -64,6 +70,7 @@ public class OutputClause implements Serializable {
     }
 
     public void setTableVariable(UserVariable tableVariable) {
+        checkNotFrozen();
         this.tableVariable = tableVariable;
     }
 
@@ -72,6 +79,7 @@ public class OutputClause implements Serializable {
     }
 
     public void setOutputTable(Table outputTable) {
+        checkNotFrozen();
         this.outputTable = outputTable;
     }
 
@@ -80,6 +88,7 @@ public class OutputClause implements Serializable {
     }
 
     public void setColumnList(List<String> columnList) {
+        checkNotFrozen();
         this.columnList = columnList;
     }
 
@@ -11,6 +11,7 @@
 package net.sf.jsqlparser.statement;
 
 import java.util.Objects;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.create.table.Index;
 
@@ -20,7 +21,7 @@ import net.sf.jsqlparser.statement.create.table.Index;
  * @see  <a href="https://docs.oracle.com/cd/B19306_01/server.102/b14200/statements_9018.htm">Purge</a>
  */
 
-public class PurgeStatement implements Statement {
+public class PurgeStatement extends Freezable implements Statement {
     private final PurgeObjectType purgeObjectType;
     private final Object object;
     private String userName;
@@ -50,6 +51,11 @@ public class PurgeStatement implements Statement {
     public void accept(StatementVisitor statementVisitor) {
         statementVisitor.visit(this);
     }
+
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
     
     @SuppressWarnings({"PMD.MissingBreakInSwitch", "PMD.SwitchStmtsShouldHaveDefault", "PMD.CyclomaticComplexity"})
     public StringBuilder appendTo(StringBuilder builder) {
@@ -90,6 +96,7 @@ public class PurgeStatement implements Statement {
     }
 
     public void setUserName(String userName) {
+        checkNotFrozen();
         this.userName = userName;
     }
 
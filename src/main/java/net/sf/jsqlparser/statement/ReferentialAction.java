@@ -10,8 +10,9 @@
 package net.sf.jsqlparser.statement;
 
 import java.io.Serializable;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class ReferentialAction implements Serializable {
+public class ReferentialAction extends Freezable implements Serializable {
 
     private Type type;
     private Action action;
@@ -30,6 +31,7 @@ public class ReferentialAction implements Serializable {
     }
 
     public void setType(Type type) {
+        checkNotFrozen();
         this.type = type;
     }
 
@@ -43,6 +45,7 @@ public class ReferentialAction implements Serializable {
     }
 
     public void setAction(Action action) {
+        checkNotFrozen();
         this.action = action;
     }
 
@@ -9,8 +9,10 @@
  */
 package net.sf.jsqlparser.statement;
 
+import net.sf.jsqlparser.parser.Freezable;
 
-public final class ResetStatement implements Statement {
+
+public final class ResetStatement extends Freezable implements Statement {
 
     private String name = "";
 
@@ -23,6 +25,7 @@ public final class ResetStatement implements Statement {
     }
 
     public void add(String name) {
+        checkNotFrozen();
         this.name = name;
     }
     
@@ -31,6 +34,7 @@ public final class ResetStatement implements Statement {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -45,4 +49,8 @@ public final class ResetStatement implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
 }
@@ -25,11 +25,13 @@
 
 package net.sf.jsqlparser.statement;
 
+import net.sf.jsqlparser.parser.Freezable;
+
 /**
  *
  * @author are
  */
-public class RollbackStatement implements Statement {
+public class RollbackStatement extends Freezable implements Statement {
     private boolean usingWorkKeyword=false;
     private boolean usingSavepointKeyword=false;
     private String savepointName=null;
@@ -40,11 +42,13 @@ public class RollbackStatement implements Statement {
     }
 
     public RollbackStatement withUsingWorkKeyword(boolean usingWorkKeyword) {
+        checkNotFrozen();
         this.usingWorkKeyword = usingWorkKeyword;
         return this;
     }
     
     public void setUsingWorkKeyword(boolean usingWorkKeyword) {
+        checkNotFrozen();
         this.usingWorkKeyword = usingWorkKeyword;
     }
 
@@ -53,11 +57,13 @@ public class RollbackStatement implements Statement {
     }
     
     public RollbackStatement withUsingSavepointKeyword(boolean usingSavepointKeyword) {
+        checkNotFrozen();
         this.usingSavepointKeyword = usingSavepointKeyword;
         return this;
     }
 
     public void setUsingSavepointKeyword(boolean usingSavepointKeyword) {
+        checkNotFrozen();
         this.usingSavepointKeyword = usingSavepointKeyword;
     }
 
@@ -66,11 +72,13 @@ public class RollbackStatement implements Statement {
     }
     
     public RollbackStatement withSavepointName(String savepointName) {
+        checkNotFrozen();
         this.savepointName = savepointName;
         return this;
     }
 
     public void setSavepointName(String savepointName) {
+        checkNotFrozen();
         this.savepointName = savepointName;
     }
 
@@ -79,11 +87,13 @@ public class RollbackStatement implements Statement {
     }
     
     public RollbackStatement withForceDistributedTransactionIdentifier(String forceDistributedTransactionIdentifier) {
+        checkNotFrozen();
         this.forceDistributedTransactionIdentifier = forceDistributedTransactionIdentifier;
         return this;
     }
 
     public void setForceDistributedTransactionIdentifier(String forceDistributedTransactionIdentifier) {
+        checkNotFrozen();
         this.forceDistributedTransactionIdentifier = forceDistributedTransactionIdentifier;
     }
 
@@ -109,4 +119,8 @@ public class RollbackStatement implements Statement {
          statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
 }
@@ -11,12 +11,13 @@
 package net.sf.jsqlparser.statement;
 
 import java.util.Objects;
+import net.sf.jsqlparser.parser.Freezable;
 
 /**
  *
  * @author <a href="mailto:andreas@manticore-projects.com">Andreas Reichel</a>
  */
-public class SavepointStatement implements Statement {
+public class SavepointStatement extends Freezable implements Statement {
     private String savepointName;
 
     public String getSavepointName() {
@@ -24,9 +25,14 @@ public class SavepointStatement implements Statement {
     }
 
     public void setSavepointName(String savepointName) {
+        checkNotFrozen();
         this.savepointName = Objects.requireNonNull(savepointName, "The Savepoint Name must not be NULL.");
     }
 
+    private SavepointStatement() {
+        // for ModelClass, which sets the fields afterwards
+    }
+
     public SavepointStatement(String savepointName) {
         this.savepointName = Objects.requireNonNull(savepointName, "The Savepoint Name must not be NULL.");
     }
@@ -40,4 +46,9 @@ public class SavepointStatement implements Statement {
     public void accept(StatementVisitor statementVisitor) {
          statementVisitor.visit(this);
     }
+
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
 }
@@ -13,9 +13,10 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
-public final class SetStatement implements Statement {
+public final class SetStatement extends Freezable implements Statement {
 
     private String effectParameter;
     private final List<NameExpr> values = new ArrayList<>();
@@ -29,10 +30,12 @@ public final class SetStatement implements Statement {
     }
 
     public void add(Object name, List<Expression> value, boolean useEqual) {
+        checkNotFrozen();
         values.add(new NameExpr(name, value, useEqual));
     }
 
     public void remove(int idx) {
+        checkNotFrozen();
         values.remove(idx);
     }
 
@@ -54,6 +57,7 @@ public final class SetStatement implements Statement {
     }
 
     public SetStatement setUseEqual(int idx, boolean useEqual) {
+        checkNotFrozen();
         values.get(idx).useEqual = useEqual;
         return this;
     }
@@ -64,6 +68,7 @@ public final class SetStatement implements Statement {
   }
 
     public SetStatement setUseEqual(boolean useEqual) {
+        checkNotFrozen();
         return setUseEqual(0, useEqual);
     }
 
@@ -76,10 +81,12 @@ public final class SetStatement implements Statement {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         setName(0, name);
     }
 
     public void setName(int idx, String name) {
+        checkNotFrozen();
         values.get(idx).name = name;
     }
 
@@ -92,10 +99,12 @@ public final class SetStatement implements Statement {
     }
 
     public void setExpressions(int idx, List<Expression> expressions) {
+        checkNotFrozen();
         values.get(idx).expressions = expressions;
     }
 
     public void setExpressions(List<Expression> expressions) {
+        checkNotFrozen();
         setExpressions(0, expressions);
     }
 
@@ -128,7 +137,12 @@ public final class SetStatement implements Statement {
         statementVisitor.visit(this);
     }
 
-    static class NameExpr implements Serializable {
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
+    static class NameExpr extends Freezable implements Serializable {
 
         private Object name;
         private List<Expression> expressions;
@@ -146,9 +160,11 @@ public final class SetStatement implements Statement {
     }
 
     public void setEffectParameter(String effectParameter) {
+        checkNotFrozen();
         this.effectParameter = effectParameter;
     }
     public SetStatement withEffectParameter(String effectParameter) {
+        checkNotFrozen();
         this.effectParameter = effectParameter;
         return this;
     }
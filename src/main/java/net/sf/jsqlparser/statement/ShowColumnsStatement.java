@@ -9,7 +9,9 @@
  */
 package net.sf.jsqlparser.statement;
 
-public class ShowColumnsStatement implements Statement {
+import net.sf.jsqlparser.parser.Freezable;
+
+public class ShowColumnsStatement extends Freezable implements Statement {
 
     private String tableName;
 
@@ -26,6 +28,7 @@ public class ShowColumnsStatement implements Statement {
     }
 
     public void setTableName(String tableName) {
+        checkNotFrozen();
         this.tableName = tableName;
     }
 
@@ -39,6 +42,11 @@ public class ShowColumnsStatement implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public ShowColumnsStatement withTableName(String tableName) {
         this.setTableName(tableName);
         return this;
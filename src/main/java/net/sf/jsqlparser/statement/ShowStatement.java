@@ -9,7 +9,9 @@
  */
 package net.sf.jsqlparser.statement;
 
-public class ShowStatement implements Statement {
+import net.sf.jsqlparser.parser.Freezable;
+
+public class ShowStatement extends Freezable implements Statement {
 
     private String name;
 
@@ -26,6 +28,7 @@ public class ShowStatement implements Statement {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -39,6 +42,11 @@ public class ShowStatement implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public ShowStatement withName(String name) {
         this.setName(name);
         return this;
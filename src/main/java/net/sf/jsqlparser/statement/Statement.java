@@ -13,4 +13,6 @@ import net.sf.jsqlparser.Model;
 
 public interface Statement extends Model {
     void accept(StatementVisitor statementVisitor);
+
+    <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context);
 }
@@ -0,0 +1,138 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.statement;
+
+import net.sf.jsqlparser.statement.alter.Alter;
+import net.sf.jsqlparser.statement.alter.AlterSession;
+import net.sf.jsqlparser.statement.alter.AlterSystemStatement;
+import net.sf.jsqlparser.statement.alter.RenameTableStatement;
+import net.sf.jsqlparser.statement.alter.sequence.AlterSequence;
+import net.sf.jsqlparser.statement.analyze.Analyze;
+import net.sf.jsqlparser.statement.comment.Comment;
+import net.sf.jsqlparser.statement.create.index.CreateIndex;
+import net.sf.jsqlparser.statement.create.schema.CreateSchema;
+import net.sf.jsqlparser.statement.create.sequence.CreateSequence;
+import net.sf.jsqlparser.statement.create.synonym.CreateSynonym;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.view.AlterView;
+import net.sf.jsqlparser.statement.create.view.CreateView;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.execute.Execute;
+import net.sf.jsqlparser.statement.grant.Grant;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.merge.Merge;
+import net.sf.jsqlparser.statement.replace.Replace;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.show.ShowIndexStatement;
+import net.sf.jsqlparser.statement.show.ShowTablesStatement;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+import net.sf.jsqlparser.statement.upsert.Upsert;
+import net.sf.jsqlparser.statement.values.ValuesStatement;
+
+/**
+ * The counterpart of {@link StatementVisitor} returning a result and taking a context, see
+ * {@link net.sf.jsqlparser.expression.ExpressionContextVisitor}.
+ *
+ * @param <R> the type of the results
+ * @param <C> the type of the context
+ */
+public interface StatementContextVisitor<R, C> {
+
+    R visit(Analyze analyze, C context);
+
+    R visit(SavepointStatement savepointStatement, C context);
+    
+    R visit(RollbackStatement rollbackStatement, C context);
+
+    R visit(Comment comment, C context);
+
+    R visit(Commit commit, C context);
+
+    R visit(Delete delete, C context);
+
+    R visit(Update update, C context);
+
+    R visit(Insert insert, C context);
+
+    R visit(Replace replace, C context);
+
+    R visit(Drop drop, C context);
+
+    R visit(Truncate truncate, C context);
+
+    R visit(CreateIndex createIndex, C context);
+
+    R visit(CreateSchema aThis, C context);
+
+    R visit(CreateTable createTable, C context);
+
+    R visit(CreateView createView, C context);
+
+    R visit(AlterView alterView, C context);
+
+    R visit(Alter alter, C context);
+
+    R visit(Statements stmts, C context);
+
+    R visit(Execute execute, C context);
+
+    R visit(SetStatement set, C context);
+
+    R visit(ResetStatement reset, C context);
+
+    R visit(ShowColumnsStatement set, C context);
+    
+    R visit(ShowIndexStatement showIndex, C context);
+    
+    R visit(ShowTablesStatement showTables, C context);
+
+    R visit(Merge merge, C context);
+
+    R visit(Select select, C context);
+
+    R visit(Upsert upsert, C context);
+
+    R visit(UseStatement use, C context);
+
+    R visit(Block block, C context);
+
+    R visit(ValuesStatement values, C context);
+
+    R visit(DescribeStatement describe, C context);
+
+    R visit(ExplainStatement aThis, C context);
+
+    R visit(ShowStatement aThis, C context);
+
+    R visit(DeclareStatement aThis, C context);
+
+    R visit(Grant grant, C context);
+
+    R visit(CreateSequence createSequence, C context);
+
+    R visit(AlterSequence alterSequence, C context);
+
+    R visit(CreateFunctionalStatement createFunctionalStatement, C context);
+
+    R visit(CreateSynonym createSynonym, C context);
+
+    R visit(AlterSession alterSession, C context);
+
+    R visit(IfElseStatement aThis, C context);
+    R visit(RenameTableStatement renameTableStatement, C context);
+
+    R visit(PurgeStatement purgeStatement, C context);
+
+    R visit(AlterSystemStatement alterSystemStatement, C context);
+
+    R visit(UnsupportedStatement unsupportedStatement, C context);
+}
@@ -0,0 +1,277 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.statement;
+
+import net.sf.jsqlparser.statement.alter.Alter;
+import net.sf.jsqlparser.statement.alter.AlterSession;
+import net.sf.jsqlparser.statement.alter.AlterSystemStatement;
+import net.sf.jsqlparser.statement.alter.RenameTableStatement;
+import net.sf.jsqlparser.statement.alter.sequence.AlterSequence;
+import net.sf.jsqlparser.statement.analyze.Analyze;
+import net.sf.jsqlparser.statement.comment.Comment;
+import net.sf.jsqlparser.statement.create.index.CreateIndex;
+import net.sf.jsqlparser.statement.create.schema.CreateSchema;
+import net.sf.jsqlparser.statement.create.sequence.CreateSequence;
+import net.sf.jsqlparser.statement.create.synonym.CreateSynonym;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.view.AlterView;
+import net.sf.jsqlparser.statement.create.view.CreateView;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.execute.Execute;
+import net.sf.jsqlparser.statement.grant.Grant;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.merge.Merge;
+import net.sf.jsqlparser.statement.replace.Replace;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.show.ShowIndexStatement;
+import net.sf.jsqlparser.statement.show.ShowTablesStatement;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+import net.sf.jsqlparser.statement.upsert.Upsert;
+import net.sf.jsqlparser.statement.values.ValuesStatement;
+
+/**
+ * A {@link StatementContextVisitor} returning <code>null</code> for every statement, except for
+ * visiting the statements of {@link Statements}, like the {@link StatementVisitorAdapter}.
+ *
+ * @param <R> the type of the results
+ * @param <C> the type of the context
+ */
+public class StatementContextVisitorAdapter<R, C> implements StatementContextVisitor<R, C> {
+
+    @Override
+    public R visit(Analyze analyze, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(SavepointStatement savepointStatement, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(RollbackStatement rollbackStatement, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Comment comment, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Commit commit, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Delete delete, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Update update, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Insert insert, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Replace replace, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Drop drop, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Truncate truncate, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(CreateIndex createIndex, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(CreateSchema aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(CreateTable createTable, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(CreateView createView, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(AlterView alterView, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Alter alter, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Statements stmts, C context) {
+        for (Statement statement : stmts.getStatements()) {
+            statement.accept(this, context);
+        }
+        return null;
+    }
+
+    @Override
+    public R visit(Execute execute, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(SetStatement set, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ResetStatement reset, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ShowColumnsStatement set, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ShowIndexStatement showIndex, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ShowTablesStatement showTables, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Merge merge, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Select select, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Upsert upsert, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(UseStatement use, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Block block, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ValuesStatement values, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(DescribeStatement describe, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ExplainStatement aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ShowStatement aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(DeclareStatement aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(Grant grant, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(CreateSequence createSequence, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(AlterSequence alterSequence, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(CreateFunctionalStatement createFunctionalStatement, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(CreateSynonym createSynonym, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(AlterSession alterSession, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(IfElseStatement aThis, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(RenameTableStatement renameTableStatement, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(PurgeStatement purgeStatement, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(AlterSystemStatement alterSystemStatement, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(UnsupportedStatement unsupportedStatement, C context) {
+        return null;
+    }
+}
@@ -37,10 +37,36 @@ import net.sf.jsqlparser.statement.truncate.Truncate;
 import net.sf.jsqlparser.statement.update.Update;
 import net.sf.jsqlparser.statement.upsert.Upsert;
 import net.sf.jsqlparser.statement.values.ValuesStatement;
+import net.sf.jsqlparser.util.TraversalControl;
 
 @SuppressWarnings({"PMD.UncommentedEmptyMethodBody"})
 public class StatementVisitorAdapter implements StatementVisitor {
 
+    private boolean terminated;
+
+    /**
+     * Called for each statement of {@link Statements}, before the statement is visited.
+     *
+     * @param statement the statement to visit
+     * @return {@link TraversalControl#CONTINUE} to visit the statement,
+     * {@link TraversalControl#SKIP_SUBTREE} to leave it out, {@link TraversalControl#TERMINATE} to
+     * stop the traversal
+     */
+    protected TraversalControl enter(Statement statement) {
+        return TraversalControl.CONTINUE;
+    }
+
+    /**
+     * Stops the visit of {@link Statements}: the statements not visited yet are left out.
+     */
+    public void terminate() {
+        terminated = true;
+    }
+
+    public boolean isTerminated() {
+        return terminated;
+    }
+
     @Override
     public void visit(Comment comment) {
 
@@ -112,8 +138,17 @@ public class StatementVisitorAdapter implements StatementVisitor {
 
     @Override
     public void visit(Statements stmts) {
+        terminated = false;
         for (Statement statement : stmts.getStatements()) {
-            statement.accept(this);
+            if (terminated) {
+                break;
+            }
+            TraversalControl control = enter(statement);
+            if (control == TraversalControl.CONTINUE) {
+                statement.accept(this);
+            } else if (control == TraversalControl.TERMINATE) {
+                terminated = true;
+            }
         }
     }
 
@@ -15,23 +15,46 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.parser.SourceText;
 
-public class Statements implements Serializable {
+public class Statements extends Freezable implements Serializable {
 
     private List<Statement> statements;
 
+    private transient List<SourceText> sourceTexts;
+
     public List<Statement> getStatements() {
         return statements;
     }
 
     public void setStatements(List<Statement> statements) {
+        checkNotFrozen();
         this.statements = statements;
     }
 
+    /**
+     * @return views of the original text of the parsed statements, in the order of
+     * {@link #getStatements()}. An element is <code>null</code> if the parser did not know its
+     * input, the list is <code>null</code> if these statements were not parsed.
+     */
+    public List<SourceText> getSourceTexts() {
+        return sourceTexts;
+    }
+
+    public void setSourceTexts(List<SourceText> sourceTexts) {
+        checkNotFrozen();
+        this.sourceTexts = sourceTexts;
+    }
+
     public void accept(StatementVisitor statementVisitor) {
         statementVisitor.visit(this);
     }
 
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         StringBuilder b = new StringBuilder();
@@ -12,15 +12,20 @@ package net.sf.jsqlparser.statement;
 
 import java.util.List;
 import java.util.Objects;
+import net.sf.jsqlparser.parser.Freezable;
 
 /**
  *
  * @author <a href="mailto:andreas@manticore-projects.com">Andreas Reichel</a>
  */
 
-public class UnsupportedStatement implements Statement {
+public class UnsupportedStatement extends Freezable implements Statement {
     private List<String> declarations;
 
+    private UnsupportedStatement() {
+        // for ModelClass, which sets the fields afterwards
+    }
+
     public UnsupportedStatement(List<String> declarations) {
         this.declarations = Objects.requireNonNull(declarations, "The List of Tokens must not be null.");
     }
@@ -29,6 +34,11 @@ public class UnsupportedStatement implements Statement {
     public void accept(StatementVisitor statementVisitor) {
         statementVisitor.visit(this);
     }
+
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
     
     @SuppressWarnings({"PMD.MissingBreakInSwitch", "PMD.SwitchStmtsShouldHaveDefault", "PMD.CyclomaticComplexity"})
     public StringBuilder appendTo(StringBuilder builder) {
@@ -9,7 +9,9 @@
  */
 package net.sf.jsqlparser.statement;
 
-public class UseStatement implements Statement {
+import net.sf.jsqlparser.parser.Freezable;
+
+public class UseStatement extends Freezable implements Statement {
 
     private String name;
     private boolean schemaKeyword;
@@ -32,6 +34,7 @@ public class UseStatement implements Statement {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -40,6 +43,7 @@ public class UseStatement implements Statement {
     }
 
     public void setSchemaKeyword(boolean schemaKeyword) {
+        checkNotFrozen();
         this.schemaKeyword = schemaKeyword;
     }
 
@@ -53,6 +57,11 @@ public class UseStatement implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public UseStatement withName(String name) {
         this.setName(name);
         return this;
@@ -15,11 +15,13 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
-public class Alter implements Statement {
+public class Alter extends Freezable implements Statement {
 
     private Table table;
     private boolean useOnly = false;
@@ -31,6 +33,7 @@ public class Alter implements Statement {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -39,10 +42,12 @@ public class Alter implements Statement {
     }
 
     public void setUseOnly(boolean useOnly) {
+        checkNotFrozen();
         this.useOnly = useOnly;
     }
 
     public void addAlterExpression(AlterExpression alterExpression) {
+        checkNotFrozen();
         if (alterExpressions == null) {
             alterExpressions = new ArrayList<AlterExpression>();
         }
@@ -54,6 +59,7 @@ public class Alter implements Statement {
     }
 
     public void setAlterExpressions(List<AlterExpression> alterExpressions) {
+        checkNotFrozen();
         this.alterExpressions = alterExpressions;
     }
 
@@ -62,6 +68,11 @@ public class Alter implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
 
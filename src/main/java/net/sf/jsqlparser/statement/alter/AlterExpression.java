@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.ReferentialAction;
 import net.sf.jsqlparser.statement.ReferentialAction.Action;
 import net.sf.jsqlparser.statement.ReferentialAction.Type;
@@ -29,7 +30,7 @@ import net.sf.jsqlparser.statement.create.table.Index;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
 @SuppressWarnings({"PMD.CyclomaticComplexity"})
-public class AlterExpression implements Serializable {
+public class AlterExpression extends Freezable implements Serializable {
 
   private AlterOperation operation;
   private String optionalSpecifier;
@@ -90,6 +91,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setFkSourceSchema(String fkSourceSchema) {
+      checkNotFrozen();
     this.fkSourceSchema = fkSourceSchema;
   }
 
@@ -98,6 +100,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setCommentText(String commentText) {
+      checkNotFrozen();
     this.commentText = commentText;
   }
 
@@ -106,6 +109,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setOperation(AlterOperation operation) {
+      checkNotFrozen();
     this.operation = operation;
   }
 
@@ -114,6 +118,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setOptionalSpecifier(String optionalSpecifier) {
+      checkNotFrozen();
     this.optionalSpecifier = optionalSpecifier;
   }
 
@@ -122,6 +127,7 @@ public class AlterExpression implements Serializable {
    * @param action
    */
   public void setReferentialAction(Type type, Action action) {
+      checkNotFrozen();
     setReferentialAction(type, action, true);
   }
 
@@ -174,6 +180,7 @@ public class AlterExpression implements Serializable {
    */
   @Deprecated
   public void setOnDeleteCascade(boolean onDeleteCascade) {
+      checkNotFrozen();
     setReferentialAction(Type.DELETE, Action.CASCADE, onDeleteCascade);
   }
 
@@ -193,6 +200,7 @@ public class AlterExpression implements Serializable {
    */
   @Deprecated
   public void setOnDeleteRestrict(boolean onDeleteRestrict) {
+      checkNotFrozen();
     setReferentialAction(Type.DELETE, Action.RESTRICT, onDeleteRestrict);
   }
 
@@ -212,6 +220,7 @@ public class AlterExpression implements Serializable {
    */
   @Deprecated
   public void setOnDeleteSetNull(boolean onDeleteSetNull) {
+      checkNotFrozen();
     setReferentialAction(Type.DELETE, Action.SET_NULL, onDeleteSetNull);
   }
 
@@ -220,6 +229,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setFkColumns(List<String> fkColumns) {
+      checkNotFrozen();
     this.fkColumns = fkColumns;
   }
 
@@ -228,6 +238,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setFkSourceTable(String fkSourceTable) {
+      checkNotFrozen();
     this.fkSourceTable = fkSourceTable;
   }
 
@@ -240,6 +251,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void addColDataType(ColumnDataType columnDataType) {
+      checkNotFrozen();
     if (colDataTypeList == null) {
       colDataTypeList = new ArrayList<>();
     }
@@ -247,6 +259,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void addColDropNotNull(ColumnDropNotNull columnDropNotNull) {
+      checkNotFrozen();
     if (columnDropNotNullList == null) {
       columnDropNotNullList = new ArrayList<>();
     }
@@ -254,6 +267,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void addColDropDefault(ColumnDropDefault columnDropDefault) {
+      checkNotFrozen();
     if (columnDropDefaultList == null) {
       columnDropDefaultList = new ArrayList<>();
     }
@@ -265,6 +279,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setFkSourceColumns(List<String> fkSourceColumns) {
+      checkNotFrozen();
     this.fkSourceColumns = fkSourceColumns;
   }
 
@@ -273,6 +288,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setNewTableName(String newTableName) {
+      checkNotFrozen();
     this.newTableName = newTableName;
   }
 
@@ -281,6 +297,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setColumnName(String columnName) {
+      checkNotFrozen();
     this.columnName = columnName;
   }
 
@@ -291,6 +308,7 @@ public class AlterExpression implements Serializable {
 
   @Deprecated
   public void setColOldName(String columnOldName) {
+      checkNotFrozen();
     setColumnOldName(columnOldName);
   }
 
@@ -299,6 +317,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setColumnOldName(String columnOldName) {
+      checkNotFrozen();
     this.columnOldName = columnOldName;
   }
 
@@ -307,6 +326,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setConstraintName(final String constraintName) {
+      checkNotFrozen();
     this.constraintName = constraintName;
   }
 
@@ -315,6 +335,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setUsingIfExists(boolean usingIfExists) {
+      checkNotFrozen();
     this.usingIfExists = usingIfExists;
   }
 
@@ -323,6 +344,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setPkColumns(List<String> pkColumns) {
+      checkNotFrozen();
     this.pkColumns = pkColumns;
   }
 
@@ -331,6 +353,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setUkColumns(List<String> ukColumns) {
+      checkNotFrozen();
     this.ukColumns = ukColumns;
   }
 
@@ -339,6 +362,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setUkName(String ukName) {
+      checkNotFrozen();
     this.ukName = ukName;
   }
 
@@ -347,6 +371,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setIndex(Index index) {
+      checkNotFrozen();
     this.index = index;
   }
 
@@ -355,6 +380,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setConstraints(List<ConstraintState> constraints) {
+      checkNotFrozen();
     this.constraints = constraints;
   }
 
@@ -363,6 +389,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void addParameters(String... params) {
+      checkNotFrozen();
     if (parameters == null) {
       parameters = new ArrayList<>();
     }
@@ -378,6 +405,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setUseEqual(boolean useEqual) {
+      checkNotFrozen();
     this.useEqual = useEqual;
   }
 
@@ -386,6 +414,7 @@ public class AlterExpression implements Serializable {
   }
 
   public void setUk(boolean uk) {
+      checkNotFrozen();
     this.uk = uk;
   }
 
@@ -725,7 +754,7 @@ public class AlterExpression implements Serializable {
     }
   }
 
-  public static final class ColumnDropNotNull implements Serializable {
+  public static final class ColumnDropNotNull extends Freezable implements Serializable {
 
     private final String columnName;
     private final boolean withNot;
@@ -753,7 +782,7 @@ public class AlterExpression implements Serializable {
     }
   }
 
-  public static final class ColumnDropDefault implements Serializable {
+  public static final class ColumnDropDefault extends Freezable implements Serializable {
 
     private final String columnName;
 
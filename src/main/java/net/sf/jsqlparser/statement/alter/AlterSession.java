@@ -11,7 +11,9 @@
 package net.sf.jsqlparser.statement.alter;
 
 import java.util.List;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
 /**
@@ -19,7 +21,7 @@ import net.sf.jsqlparser.statement.StatementVisitor;
  * @author are
  * @see  <a href="https://docs.oracle.com/cd/B19306_01/server.102/b14200/statements_2012.htm">ALTER SESSION</a>
  */
-public class AlterSession implements Statement  {
+public class AlterSession extends Freezable implements Statement  {
     private AlterSessionOperation operation;
     private List<String> parameters;
 
@@ -33,6 +35,7 @@ public class AlterSession implements Statement  {
     }
 
     public void setOperation(AlterSessionOperation operation) {
+        checkNotFrozen();
         this.operation = operation;
     }
 
@@ -41,6 +44,7 @@ public class AlterSession implements Statement  {
     }
 
     public void setParameters(List<String> parameters) {
+        checkNotFrozen();
         this.parameters = parameters;
     }
     
@@ -149,4 +153,9 @@ public class AlterSession implements Statement  {
     public void accept(StatementVisitor statementVisitor) {
         statementVisitor.visit(this);
     }
+
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
 }
@@ -11,7 +11,9 @@ package net.sf.jsqlparser.statement.alter;
 
 import java.util.List;
 import java.util.Objects;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
 /**
@@ -20,10 +22,16 @@ import net.sf.jsqlparser.statement.StatementVisitor;
  * @see  <a href="https://docs.oracle.com/cd/B12037_01/server.101/b10759/statements_2013.htm">ALTER SESSION</a>
  */
 
-public class AlterSystemStatement implements Statement {
+public class AlterSystemStatement extends Freezable implements Statement {
     private final AlterSystemOperation operation;
     private final List<String> parameters;
 
+    private AlterSystemStatement() {
+        // for ModelClass, which sets the fields afterwards
+        this.operation = null;
+        this.parameters = null;
+    }
+
     public AlterSystemStatement(AlterSystemOperation operation, List<String> parameters) {
         this.operation = Objects.requireNonNull(operation, "The ALTER SYSTEM Operation must not be Null");
         this.parameters = Objects.requireNonNull(parameters, "The PARAMETERS List must not be null although it can be empty.");
@@ -41,6 +49,11 @@ public class AlterSystemStatement implements Statement {
     public void accept(StatementVisitor statementVisitor) {
         statementVisitor.visit(this);
       }
+
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
     
     private static void appendParameters(StringBuilder builder, List<String> parameters) {
         for (String s: parameters) {
@@ -58,5 +71,4 @@ public class AlterSystemStatement implements Statement {
     public String toString() {
         return appendTo(new StringBuilder()).toString();
     }
-
 }
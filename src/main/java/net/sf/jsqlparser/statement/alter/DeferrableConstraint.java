@@ -9,7 +9,9 @@
  */
 package net.sf.jsqlparser.statement.alter;
 
-public class DeferrableConstraint implements ConstraintState {
+import net.sf.jsqlparser.parser.Freezable;
+
+public class DeferrableConstraint extends Freezable implements ConstraintState {
 
     private boolean not;
 
@@ -26,6 +28,7 @@ public class DeferrableConstraint implements ConstraintState {
     }
 
     public void setNot(boolean not) {
+        checkNotFrozen();
         this.not = not;
     }
 
@@ -9,7 +9,9 @@
  */
 package net.sf.jsqlparser.statement.alter;
 
-public class EnableConstraint implements ConstraintState {
+import net.sf.jsqlparser.parser.Freezable;
+
+public class EnableConstraint extends Freezable implements ConstraintState {
 
     private boolean disable;
 
@@ -26,6 +28,7 @@ public class EnableConstraint implements ConstraintState {
     }
 
     public void setDisable(boolean disable) {
+        checkNotFrozen();
         this.disable = disable;
     }
 
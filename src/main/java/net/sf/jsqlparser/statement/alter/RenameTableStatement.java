@@ -15,8 +15,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
 /**
@@ -24,14 +26,18 @@ import net.sf.jsqlparser.statement.StatementVisitor;
  * @author are
  * @see  <a href="https://docs.oracle.com/cd/B19306_01/server.102/b14200/statements_9019.htm">Rename</a>
  */
-public class RenameTableStatement implements Statement {
-    private final LinkedHashMap<Table, Table> tableNames = new LinkedHashMap<>();
+public class RenameTableStatement extends Freezable implements Statement {
+    private Map<Table, Table> tableNames = new LinkedHashMap<>();
     
     private boolean usingTableKeyword = false;
     private boolean usingIfExistsKeyword = false;
     
     private String waitDirective = "";
 
+    private RenameTableStatement() {
+        // for ModelClass, which sets the fields afterwards
+    }
+
     public RenameTableStatement(Table oldName, Table newName) {
         tableNames.put(
             Objects.requireNonNull(oldName, "The OLD NAME of the Rename Statement must not be null.")
@@ -51,6 +57,7 @@ public class RenameTableStatement implements Statement {
     }
     
     public void addTableNames(Table oldName, Table newName) {
+        checkNotFrozen();
         tableNames.put(
             Objects.requireNonNull(oldName, "The OLD NAME of the Rename Statement must not be null.")
             , Objects.requireNonNull(newName, "The NEW NAME of the Rename Statement must not be null.")
@@ -63,10 +70,12 @@ public class RenameTableStatement implements Statement {
     }
 
     public void setUsingTableKeyword(boolean usingTableKeyword) {
+        checkNotFrozen();
         this.usingTableKeyword = usingTableKeyword;
     }
     
     public RenameTableStatement withUsingTableKeyword(boolean usingTableKeyword) {
+        checkNotFrozen();
         this.usingTableKeyword = usingTableKeyword;
         return this;
     }
@@ -76,10 +85,12 @@ public class RenameTableStatement implements Statement {
     }
 
     public void setUsingIfExistsKeyword(boolean usingIfExistsKeyword) {
+        checkNotFrozen();
         this.usingIfExistsKeyword = usingIfExistsKeyword;
     }
     
     public RenameTableStatement withUsingIfExistsKeyword(boolean usingIfExistsKeyword) {
+        checkNotFrozen();
         this.usingIfExistsKeyword = usingIfExistsKeyword;
         return this;
     }
@@ -89,10 +100,12 @@ public class RenameTableStatement implements Statement {
     }
 
     public void setWaitDirective(String waitDirective) {
+        checkNotFrozen();
         this.waitDirective = waitDirective;
     }
     
     public RenameTableStatement withWaitDirective(String waitDirective) {
+        checkNotFrozen();
         this.waitDirective = waitDirective;
         return this;
     }
@@ -113,6 +126,11 @@ public class RenameTableStatement implements Statement {
     public void accept(StatementVisitor statementVisitor) {
         statementVisitor.visit(this);
       }
+
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
     
     public StringBuilder appendTo(StringBuilder builder) {
         int i=0;
@@ -9,18 +9,21 @@
  */
 package net.sf.jsqlparser.statement.alter.sequence;
 
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Sequence;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
 /**
  * An {@code ALTER SEQUENCE} statement
  */
-public class AlterSequence implements Statement {
+public class AlterSequence extends Freezable implements Statement {
 
     public Sequence sequence;
 
     public void setSequence(Sequence sequence) {
+        checkNotFrozen();
         this.sequence = sequence;
     }
 
@@ -33,6 +36,11 @@ public class AlterSequence implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         String sql;
@@ -9,11 +9,13 @@
  */
 package net.sf.jsqlparser.statement.analyze;
 
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
-public class Analyze implements Statement {
+public class Analyze extends Freezable implements Statement {
 
     private Table table;
 
@@ -22,11 +24,17 @@ public class Analyze implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public Table getTable() {
         return table;
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -10,12 +10,14 @@
 package net.sf.jsqlparser.statement.comment;
 
 import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
-public class Comment implements Statement {
+public class Comment extends Freezable implements Statement {
 
     private Table table;
     private Column column;
@@ -27,11 +29,17 @@ public class Comment implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public Table getTable() {
         return table;
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -40,6 +48,7 @@ public class Comment implements Statement {
     }
 
     public void setColumn(Column column) {
+        checkNotFrozen();
         this.column = column;
     }
 
@@ -48,6 +57,7 @@ public class Comment implements Statement {
     }
 
     public void setView(Table view) {
+        checkNotFrozen();
         this.view = view;
     }
 
@@ -56,6 +66,7 @@ public class Comment implements Statement {
     }
 
     public void setComment(StringValue comment) {
+        checkNotFrozen();
         this.comment = comment;
     }
 
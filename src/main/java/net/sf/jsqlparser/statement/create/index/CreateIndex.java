@@ -9,6 +9,8 @@
  */
 package net.sf.jsqlparser.statement.create.index;
 
+import net.sf.jsqlparser.parser.Freezable;
+
 import net.sf.jsqlparser.schema.*;
 import net.sf.jsqlparser.statement.*;
 import net.sf.jsqlparser.statement.create.table.*;
@@ -16,7 +18,7 @@ import net.sf.jsqlparser.statement.create.table.*;
 import java.util.*;
 import static java.util.stream.Collectors.joining;
 
-public class CreateIndex implements Statement {
+public class CreateIndex extends Freezable implements Statement {
 
     private Table table;
     private Index index;
@@ -27,11 +29,17 @@ public class CreateIndex implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public Index getIndex() {
         return index;
     }
 
     public void setIndex(Index index) {
+        checkNotFrozen();
         this.index = index;
     }
 
@@ -40,6 +48,7 @@ public class CreateIndex implements Statement {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -48,6 +57,7 @@ public class CreateIndex implements Statement {
     }
 
     public void setTailParameters(List<String> tailParameters) {
+        checkNotFrozen();
         this.tailParameters = tailParameters;
     }
 
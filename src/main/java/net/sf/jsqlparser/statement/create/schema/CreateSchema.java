@@ -14,10 +14,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
-public class CreateSchema implements Statement {
+public class CreateSchema extends Freezable implements Statement {
 
     private String authorization;
     private String schemaName;
@@ -29,6 +31,11 @@ public class CreateSchema implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     /**
      * Add a statement to the schema definition
      *
@@ -37,6 +44,7 @@ public class CreateSchema implements Statement {
      *
      */
     public boolean addStatement(Statement statement) {
+        checkNotFrozen();
         return statements.add(statement);
     }
 
@@ -86,6 +94,7 @@ public class CreateSchema implements Statement {
      *
      */
     public void setAuthorization(String authorization) {
+        checkNotFrozen();
         this.authorization = authorization;
     }
 
@@ -96,6 +105,7 @@ public class CreateSchema implements Statement {
      *
      */
     public void setSchemaName(String schemaName) {
+        checkNotFrozen();
         this.schemaName = schemaName;
     }
 
@@ -106,6 +116,7 @@ public class CreateSchema implements Statement {
      *
      */
     public void setSchemaPath(List<String> schemaPath) {
+        checkNotFrozen();
         this.schemaPath = schemaPath;
     }
 
@@ -9,14 +9,16 @@
  */
 package net.sf.jsqlparser.statement.create.synonym;
 
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Synonym;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
 import java.util.ArrayList;
 import java.util.List;
 
-public class CreateSynonym implements Statement {
+public class CreateSynonym extends Freezable implements Statement {
 
     private boolean orReplace;
     private boolean publicSynonym;
@@ -24,6 +26,7 @@ public class CreateSynonym implements Statement {
     private List<String> forList = new ArrayList<>();
 
     public void setSynonym(Synonym synonym) {
+        checkNotFrozen();
         this.synonym = synonym;
     }
 
@@ -36,6 +39,7 @@ public class CreateSynonym implements Statement {
     }
 
     public void setOrReplace(boolean orReplace) {
+        checkNotFrozen();
         this.orReplace = orReplace;
     }
 
@@ -44,10 +48,12 @@ public class CreateSynonym implements Statement {
     }
 
     public void setPublicSynonym(boolean publicSynonym) {
+        checkNotFrozen();
         this.publicSynonym = publicSynonym;
     }
 
     public void setForList(List<String> forList) {
+        checkNotFrozen();
         this.forList = forList;
     }
 
@@ -71,6 +77,11 @@ public class CreateSynonym implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         StringBuilder sqlBuilder = new StringBuilder();
@@ -25,6 +25,7 @@ public class CheckConstraint extends NamedConstraint {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -33,6 +34,7 @@ public class CheckConstraint extends NamedConstraint {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
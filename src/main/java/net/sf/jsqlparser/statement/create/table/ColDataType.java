@@ -16,14 +16,15 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import static java.util.stream.Collectors.joining;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
-public class ColDataType implements Serializable {
+public class ColDataType extends Freezable implements Serializable {
 
     private String dataType;
     private List<String> argumentsStringList;
     private String characterSet;
-    private List<Integer> arrayData = new ArrayList<Integer>();
+    private List<Integer> arrayData;
 
     public ColDataType() {
         // empty constructor
@@ -42,14 +43,17 @@ public class ColDataType implements Serializable {
     }
 
     public void setArgumentsStringList(List<String> list) {
+        checkNotFrozen();
         argumentsStringList = list;
     }
 
     public void setDataType(String string) {
+        checkNotFrozen();
         dataType = string;
     }
     
     public void setDataType(List<String> list) {
+        checkNotFrozen();
         dataType = list.stream().collect(joining("."));
     }
 
@@ -58,6 +62,7 @@ public class ColDataType implements Serializable {
     }
 
     public void setCharacterSet(String characterSet) {
+        checkNotFrozen();
         this.characterSet = characterSet;
     }
 
@@ -66,18 +71,21 @@ public class ColDataType implements Serializable {
     }
 
     public void setArrayData(List<Integer> arrayData) {
+        checkNotFrozen();
         this.arrayData = arrayData;
     }
 
     @Override
     public String toString() {
         StringBuilder arraySpec = new StringBuilder();
-        for (Integer item : arrayData) {
-            arraySpec.append("[");
-            if (item != null) {
-                arraySpec.append(item);
+        if (arrayData != null) {
+            for (Integer item : arrayData) {
+                arraySpec.append("[");
+                if (item != null) {
+                    arraySpec.append(item);
+                }
+                arraySpec.append("]");
             }
-            arraySpec.append("]");
         }
         return dataType
                 + (argumentsStringList != null ? " " + PlainSelect.
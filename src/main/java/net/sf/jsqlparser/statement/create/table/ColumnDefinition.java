@@ -16,12 +16,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.ExpressionVisitorAdapter;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
 /**
  * Globally used definition class for columns.
  */
-public class ColumnDefinition implements Serializable {
+public class ColumnDefinition extends Freezable implements Serializable {
 
     private String columnName;
     private ColDataType colDataType;
@@ -45,6 +46,7 @@ public class ColumnDefinition implements Serializable {
     }
 
     public void setColumnSpecs(List<String> list) {
+        checkNotFrozen();
         columnSpecs = list;
     }
 
@@ -53,6 +55,7 @@ public class ColumnDefinition implements Serializable {
     }
 
     public void setColDataType(ColDataType type) {
+        checkNotFrozen();
         colDataType = type;
     }
 
@@ -61,6 +64,7 @@ public class ColumnDefinition implements Serializable {
     }
 
     public void setColumnName(String string) {
+        checkNotFrozen();
         columnName = string;
     }
 
@@ -16,13 +16,15 @@ import java.util.List;
 import java.util.Optional;
 
 import net.sf.jsqlparser.expression.SpannerInterleaveIn;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
 
-public class CreateTable implements Statement {
+public class CreateTable extends Freezable implements Statement {
 
     private Table table;
     private boolean unlogged = false;
@@ -46,11 +48,17 @@ public class CreateTable implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public Table getTable() {
         return table;
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -59,6 +67,7 @@ public class CreateTable implements Statement {
     }
 
     public void setUnlogged(boolean unlogged) {
+        checkNotFrozen();
         this.unlogged = unlogged;
     }
 
@@ -70,6 +79,7 @@ public class CreateTable implements Statement {
     }
 
     public void setColumnDefinitions(List<ColumnDefinition> list) {
+        checkNotFrozen();
         columnDefinitions = list;
     }
 
@@ -78,6 +88,7 @@ public class CreateTable implements Statement {
     }
 
     public void setColumns(List<String> columns) {
+        checkNotFrozen();
         this.columns =columns;
     }
 
@@ -89,6 +100,7 @@ public class CreateTable implements Statement {
     }
 
     public void setTableOptionsStrings(List<String> tableOptionsStrings) {
+        checkNotFrozen();
         this.tableOptionsStrings = tableOptionsStrings;
     }
 
@@ -97,6 +109,7 @@ public class CreateTable implements Statement {
     }
 
     public void setCreateOptionsStrings(List<String> createOptionsStrings) {
+        checkNotFrozen();
         this.createOptionsStrings = createOptionsStrings;
     }
 
@@ -110,6 +123,7 @@ public class CreateTable implements Statement {
     }
 
     public void setIndexes(List<Index> list) {
+        checkNotFrozen();
         indexes = list;
     }
 
@@ -118,6 +132,7 @@ public class CreateTable implements Statement {
     }
 
     public void setSelect(Select select, boolean parenthesis) {
+        checkNotFrozen();
         this.select = select;
         this.selectParenthesis = parenthesis;
     }
@@ -127,6 +142,7 @@ public class CreateTable implements Statement {
     }
 
     public void setLikeTable(Table likeTable, boolean parenthesis) {
+        checkNotFrozen();
         this.likeTable = likeTable;
         this.selectParenthesis = parenthesis;
     }
@@ -136,6 +152,7 @@ public class CreateTable implements Statement {
     }
 
     public void setIfNotExists(boolean ifNotExists) {
+        checkNotFrozen();
         this.ifNotExists = ifNotExists;
     }
 
@@ -144,6 +161,7 @@ public class CreateTable implements Statement {
     }
 
     public void setOrReplace(boolean orReplace) {
+        checkNotFrozen();
         this.orReplace = orReplace;
     }
 
@@ -152,6 +170,7 @@ public class CreateTable implements Statement {
     }
 
     public void setSelectParenthesis(boolean selectParenthesis) {
+        checkNotFrozen();
         this.selectParenthesis = selectParenthesis;
     }
 
@@ -160,6 +179,7 @@ public class CreateTable implements Statement {
     }
 
     public void setRowMovement(RowMovement rowMovement) {
+        checkNotFrozen();
         this.rowMovement = rowMovement;
     }
 
@@ -311,10 +331,12 @@ public class CreateTable implements Statement {
     }
 
     public void setSpannerInterleaveIn(SpannerInterleaveIn spannerInterleaveIn) {
+        checkNotFrozen();
         this.interleaveIn = spannerInterleaveIn;
     }
 
     public CreateTable withSpannerInterleaveIn(SpannerInterleaveIn spannerInterleaveIn) {
+        checkNotFrozen();
         this.interleaveIn = spannerInterleaveIn;
         return this;
     }
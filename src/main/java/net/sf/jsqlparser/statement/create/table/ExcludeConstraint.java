@@ -22,6 +22,7 @@ public class ExcludeConstraint extends Index {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -33,6 +33,7 @@ public class ForeignKeyIndex extends NamedConstraint {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -41,6 +42,7 @@ public class ForeignKeyIndex extends NamedConstraint {
     }
 
     public void setReferencedColumnNames(List<String> referencedColumnNames) {
+        checkNotFrozen();
         this.referencedColumnNames = referencedColumnNames;
     }
 
@@ -49,6 +51,7 @@ public class ForeignKeyIndex extends NamedConstraint {
      * @param action
      */
     public void setReferentialAction(Type type, Action action) {
+        checkNotFrozen();
         setReferentialAction(type, action, true);
     }
 
@@ -93,6 +96,7 @@ public class ForeignKeyIndex extends NamedConstraint {
 
     @Deprecated
     public void setOnDeleteReferenceOption(String onDeleteReferenceOption) {
+        checkNotFrozen();
         if (onDeleteReferenceOption == null) {
             removeReferentialAction(Type.DELETE);
         } else {
@@ -108,6 +112,7 @@ public class ForeignKeyIndex extends NamedConstraint {
 
     @Deprecated
     public void setOnUpdateReferenceOption(String onUpdateReferenceOption) {
+        checkNotFrozen();
         if (onUpdateReferenceOption == null) {
             removeReferentialAction(Type.UPDATE);
         } else {
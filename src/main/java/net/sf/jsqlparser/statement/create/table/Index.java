@@ -17,9 +17,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
-public class Index implements Serializable {
+public class Index extends Freezable implements Serializable {
 
     private String type;
     private String using;
@@ -40,6 +41,7 @@ public class Index implements Serializable {
 
     @Deprecated
     public void setColumnNamesWithParams(List<ColumnParams> list) {
+        checkNotFrozen();
         setColumns(list);
     }
 
@@ -48,6 +50,7 @@ public class Index implements Serializable {
     }
 
     public void setColumns(List<ColumnParams> columns) {
+        checkNotFrozen();
         this.columns = columns;
     }
 
@@ -89,10 +92,12 @@ public class Index implements Serializable {
      *  @param using
      */
     public void setUsing(String using) {
+        checkNotFrozen();
         this.using = using;
     }
 
     public void setColumnsNames(List<String> list) {
+        checkNotFrozen();
         columns = list.stream().map(ColumnParams::new).collect(toList());
     }
 
@@ -102,16 +107,19 @@ public class Index implements Serializable {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name.clear();
         this.name.add(name);
     }
 
     public void setName(List<String> name) {
+        checkNotFrozen();
         this.name.clear();
         this.name.addAll(name);
     }
 
     public void setType(String string) {
+        checkNotFrozen();
         type = string;
     }
 
@@ -124,6 +132,7 @@ public class Index implements Serializable {
     }
 
     public void setIndexSpec(List<String> idxSpec) {
+        checkNotFrozen();
         this.idxSpec = idxSpec;
     }
 
@@ -159,7 +168,7 @@ public class Index implements Serializable {
         return this;
     }
 
-    public static class ColumnParams implements Serializable {
+    public static class ColumnParams extends Freezable implements Serializable {
         public final String columnName;
         public final List<String> params;
 
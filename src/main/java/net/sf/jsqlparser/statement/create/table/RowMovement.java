@@ -10,11 +10,12 @@
 package net.sf.jsqlparser.statement.create.table;
 
 import java.io.Serializable;
+import net.sf.jsqlparser.parser.Freezable;
 
 /**
  * Holds data for the {@code row_movement} clause: https://docs.oracle.com/cd/B19306_01/server.102/b14200/statements_7002.htm#i2204697
  */
-public class RowMovement implements Serializable {
+public class RowMovement extends Freezable implements Serializable {
 
     private RowMovementMode mode;
 
@@ -23,6 +24,7 @@ public class RowMovement implements Serializable {
     }
 
     public void setMode(RowMovementMode mode) {
+        checkNotFrozen();
         this.mode = mode;
     }
 
@@ -14,13 +14,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.SelectBody;
 
-public class AlterView implements Statement {
+public class AlterView extends Freezable implements Statement {
 
     private Table view;
     private SelectBody selectBody;
@@ -32,11 +34,17 @@ public class AlterView implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public Table getView() {
         return view;
     }
 
     public void setView(Table view) {
+        checkNotFrozen();
         this.view = view;
     }
 
@@ -45,6 +53,7 @@ public class AlterView implements Statement {
     }
 
     public void setSelectBody(SelectBody selectBody) {
+        checkNotFrozen();
         this.selectBody = selectBody;
     }
 
@@ -53,6 +62,7 @@ public class AlterView implements Statement {
     }
 
     public void setColumnNames(List<String> columnNames) {
+        checkNotFrozen();
         this.columnNames = columnNames;
     }
 
@@ -61,6 +71,7 @@ public class AlterView implements Statement {
     }
 
     public void setUseReplace(boolean useReplace) {
+        checkNotFrozen();
         this.useReplace = useReplace;
     }
 
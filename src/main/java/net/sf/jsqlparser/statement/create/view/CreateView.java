@@ -14,13 +14,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
 
-public class CreateView implements Statement {
+public class CreateView extends Freezable implements Statement {
 
     private Table view;
     private Select select;
@@ -37,11 +39,17 @@ public class CreateView implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public Table getView() {
         return view;
     }
 
     public void setView(Table view) {
+        checkNotFrozen();
         this.view = view;
     }
 
@@ -53,6 +61,7 @@ public class CreateView implements Statement {
      * @param orReplace was "OR REPLACE" specified?
      */
     public void setOrReplace(boolean orReplace) {
+        checkNotFrozen();
         this.orReplace = orReplace;
     }
 
@@ -61,6 +70,7 @@ public class CreateView implements Statement {
     }
 
     public void setSelect(Select select) {
+        checkNotFrozen();
         this.select = select;
     }
 
@@ -69,6 +79,7 @@ public class CreateView implements Statement {
     }
 
     public void setColumnNames(List<String> columnNames) {
+        checkNotFrozen();
         this.columnNames = columnNames;
     }
 
@@ -77,6 +88,7 @@ public class CreateView implements Statement {
     }
 
     public void setMaterialized(boolean materialized) {
+        checkNotFrozen();
         this.materialized = materialized;
     }
 
@@ -85,6 +97,7 @@ public class CreateView implements Statement {
     }
 
     public void setForce(ForceOption force) {
+        checkNotFrozen();
         this.force = force;
     }
 
@@ -93,6 +106,7 @@ public class CreateView implements Statement {
     }
 
     public void setTemporary(TemporaryOption temp) {
+        checkNotFrozen();
         this.temp = temp;
     }
 
@@ -101,6 +115,7 @@ public class CreateView implements Statement {
     }
 
     public void setWithReadOnly(boolean withReadOnly) {
+        checkNotFrozen();
         this.withReadOnly = withReadOnly;
     }
 
@@ -109,6 +124,7 @@ public class CreateView implements Statement {
     }
 
     public void setIfNotExists(boolean ifNotExists) {
+        checkNotFrozen();
         this.ifNotExists = ifNotExists;
     }
 
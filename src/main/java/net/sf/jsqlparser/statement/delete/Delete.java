@@ -19,9 +19,11 @@ import java.util.Optional;
 import static java.util.stream.Collectors.joining;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.OracleHint;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.OutputClause;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.Join;
 import net.sf.jsqlparser.statement.select.Limit;
@@ -30,7 +32,7 @@ import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.SelectItem;
 import net.sf.jsqlparser.statement.select.WithItem;
 
-public class Delete implements Statement {
+public class Delete extends Freezable implements Statement {
 
     private List<WithItem> withItemsList;
     private Table table;
@@ -53,6 +55,7 @@ public class Delete implements Statement {
     }
 
     public void setOutputClause(OutputClause outputClause) {
+        checkNotFrozen();
         this.outputClause = outputClause;
     }
 
@@ -61,10 +64,12 @@ public class Delete implements Statement {
     }
 
     public void setReturningExpressionList(List<SelectItem> returningExpressionList) {
+        checkNotFrozen();
         this.returningExpressionList = returningExpressionList;
     }
 
     public Delete withReturningExpressionList(List<SelectItem> returningExpressionList) {
+        checkNotFrozen();
         this.returningExpressionList = returningExpressionList;
         return this;
     }
@@ -74,6 +79,7 @@ public class Delete implements Statement {
     }
 
     public void setWithItemsList(List<WithItem> withItemsList) {
+        checkNotFrozen();
         this.withItemsList = withItemsList;
     }
 
@@ -99,6 +105,7 @@ public class Delete implements Statement {
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -107,6 +114,11 @@ public class Delete implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public Table getTable() {
         return table;
     }
@@ -116,10 +128,12 @@ public class Delete implements Statement {
     }
 
     public void setTable(Table name) {
+        checkNotFrozen();
         table = name;
     }
 
     public void setWhere(Expression expression) {
+        checkNotFrozen();
         where = expression;
     }
     
@@ -128,6 +142,7 @@ public class Delete implements Statement {
     }
 
     public void setOracleHint(OracleHint oracleHint) {
+        checkNotFrozen();
         this.oracleHint = oracleHint;
     }
 
@@ -136,6 +151,7 @@ public class Delete implements Statement {
     }
 
     public void setLimit(Limit limit) {
+        checkNotFrozen();
         this.limit = limit;
     }
 
@@ -144,6 +160,7 @@ public class Delete implements Statement {
     }
 
     public void setTables(List<Table> tables) {
+        checkNotFrozen();
         this.tables = tables;
     }
 
@@ -152,6 +169,7 @@ public class Delete implements Statement {
     }
 
     public void setUsingList(List<Table> usingList) {
+        checkNotFrozen();
         this.usingList = usingList;
     }
 
@@ -160,6 +178,7 @@ public class Delete implements Statement {
     }
 
     public void setJoins(List<Join> joins) {
+        checkNotFrozen();
         this.joins = joins;
     }
 
@@ -168,6 +187,7 @@ public class Delete implements Statement {
     }
 
     public void setHasFrom(boolean hasFrom) {
+        checkNotFrozen();
         this.hasFrom = hasFrom;
     }
 
@@ -309,6 +329,7 @@ public class Delete implements Statement {
     }
 
     public void setModifierPriority(DeleteModifierPriority modifierPriority) {
+        checkNotFrozen();
         this.modifierPriority = modifierPriority;
     }
 
@@ -317,10 +338,12 @@ public class Delete implements Statement {
     }
 
     public void setModifierIgnore(boolean modifierIgnore) {
+        checkNotFrozen();
         this.modifierIgnore = modifierIgnore;
     }
 
     public void setModifierQuick(boolean modifierQuick) {
+        checkNotFrozen();
         this.modifierQuick = modifierQuick;
     }
 
@@ -16,12 +16,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
-public class Drop implements Statement {
+public class Drop extends Freezable implements Statement {
 
     private String type;
     private Table name;
@@ -37,6 +39,11 @@ public class Drop implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public Table getName() {
         return name;
     }
@@ -50,14 +57,17 @@ public class Drop implements Statement {
     }
 
     public void setName(Table string) {
+        checkNotFrozen();
         name = string;
     }
 
     public void setParameters(List<String> list) {
+        checkNotFrozen();
         parameters = list;
     }
 
     public void setType(String string) {
+        checkNotFrozen();
         type = string;
     }
 
@@ -66,6 +76,7 @@ public class Drop implements Statement {
     }
 
     public void setIfExists(boolean ifExists) {
+        checkNotFrozen();
         this.ifExists = ifExists;
     }
 
@@ -74,6 +85,7 @@ public class Drop implements Statement {
     }
 
     public void setUsingTemporary(boolean useTemporary) {
+        checkNotFrozen();
         this.isUsingTemporary=useTemporary;
     }
 
@@ -87,6 +99,7 @@ public class Drop implements Statement {
     }
 
     public void setMaterialized(boolean materialized) {
+        checkNotFrozen();
         this.materialized = materialized;
     }
 
@@ -95,6 +108,7 @@ public class Drop implements Statement {
     }
 
     public void setTypeToParameters(Map<String, List<String>> typeToParameters) {
+        checkNotFrozen();
         this.typeToParameters = typeToParameters;
     }
 
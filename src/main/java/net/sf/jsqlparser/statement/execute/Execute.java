@@ -11,11 +11,13 @@ package net.sf.jsqlparser.statement.execute;
 
 import java.util.List;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
-public class Execute implements Statement {
+public class Execute extends Freezable implements Statement {
 
     private ExecType execType = ExecType.EXECUTE;
     private String name;
@@ -27,10 +29,12 @@ public class Execute implements Statement {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
     public void setName(List<String> names) {
+        checkNotFrozen();
         for (String item : names) {
             if (this.name != null) {
                 this.name = this.name + "." + item;
@@ -45,6 +49,7 @@ public class Execute implements Statement {
     }
 
     public void setExprList(ExpressionList exprList) {
+        checkNotFrozen();
         this.exprList = exprList;
     }
 
@@ -53,6 +58,7 @@ public class Execute implements Statement {
     }
 
     public void setExecType(ExecType execType) {
+        checkNotFrozen();
         this.execType = execType;
     }
 
@@ -61,6 +67,7 @@ public class Execute implements Statement {
     }
 
     public void setParenthesis(boolean parenthesis) {
+        checkNotFrozen();
         this.parenthesis = parenthesis;
     }
 
@@ -69,6 +76,11 @@ public class Execute implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return execType.name() + " " + name
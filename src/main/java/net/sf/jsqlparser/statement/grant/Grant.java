@@ -15,10 +15,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import static java.util.stream.Collectors.joining;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
-public class Grant implements Statement {
+public class Grant extends Freezable implements Statement {
 
     private String role;
     private List<String> privileges;
@@ -30,11 +32,17 @@ public class Grant implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public String getRole() {
         return role;
     }
 
     public void setRole(String role) {
+        checkNotFrozen();
         this.role = role;
     }
 
@@ -43,6 +51,7 @@ public class Grant implements Statement {
     }
 
     public void setPrivileges(List<String> privileges) {
+        checkNotFrozen();
         this.privileges = privileges;
     }
 
@@ -57,11 +66,13 @@ public class Grant implements Statement {
     }
 
     public void setObjectName(String objectName) {
+        checkNotFrozen();
         this.objectName.clear();
         this.objectName.add(objectName);
     }
     
     public void setObjectName(List<String> objectName) {
+        checkNotFrozen();
         this.objectName.clear();
         this.objectName.addAll(objectName);
     }
@@ -71,6 +82,7 @@ public class Grant implements Statement {
     }
 
     public void setUsers(List<String> users) {
+        checkNotFrozen();
         this.users = users;
     }
 
@@ -21,10 +21,12 @@ import net.sf.jsqlparser.expression.OracleHint;
 import net.sf.jsqlparser.expression.RowConstructor;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
 import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.OutputClause;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
@@ -35,7 +37,7 @@ import net.sf.jsqlparser.statement.select.WithItem;
 import net.sf.jsqlparser.statement.values.ValuesStatement;
 
 @SuppressWarnings({"PMD.CyclomaticComplexity"})
-public class Insert implements Statement {
+public class Insert extends Freezable implements Statement {
 
     private Table table;
     private OracleHint oracleHint = null;
@@ -62,6 +64,7 @@ public class Insert implements Statement {
         return outputClause;
     }
     public void setOutputClause(OutputClause outputClause) {
+        checkNotFrozen();
         this.outputClause = outputClause;
     }
 
@@ -70,11 +73,17 @@ public class Insert implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public Table getTable() {
         return table;
     }
 
     public void setTable(Table name) {
+        checkNotFrozen();
         table = name;
     }
     
@@ -83,6 +92,7 @@ public class Insert implements Statement {
     }
 
     public void setOracleHint(OracleHint oracleHint) {
+        checkNotFrozen();
         this.oracleHint = oracleHint;
     }
 
@@ -91,6 +101,7 @@ public class Insert implements Statement {
     }
 
     public void setColumns(List<Column> list) {
+        checkNotFrozen();
         columns = list;
     }
 
@@ -141,6 +152,7 @@ public class Insert implements Statement {
     }
 
     public void setReturningExpressionList(List<SelectItem> returningExpressionList) {
+        checkNotFrozen();
         this.returningExpressionList = returningExpressionList;
     }
 
@@ -149,6 +161,7 @@ public class Insert implements Statement {
     }
 
     public void setSelect(Select select) {
+        checkNotFrozen();
         this.select = select;
     }
 
@@ -162,6 +175,7 @@ public class Insert implements Statement {
     }
 
     public void setUseDuplicate(boolean useDuplicate) {
+        checkNotFrozen();
         this.useDuplicate = useDuplicate;
     }
 
@@ -170,6 +184,7 @@ public class Insert implements Statement {
     }
 
     public void setDuplicateUpdateColumns(List<Column> duplicateUpdateColumns) {
+        checkNotFrozen();
         this.duplicateUpdateColumns = duplicateUpdateColumns;
     }
 
@@ -178,6 +193,7 @@ public class Insert implements Statement {
     }
 
     public void setDuplicateUpdateExpressionList(List<Expression> duplicateUpdateExpressionList) {
+        checkNotFrozen();
         this.duplicateUpdateExpressionList = duplicateUpdateExpressionList;
     }
 
@@ -186,6 +202,7 @@ public class Insert implements Statement {
     }
 
     public void setModifierPriority(InsertModifierPriority modifierPriority) {
+        checkNotFrozen();
         this.modifierPriority = modifierPriority;
     }
 
@@ -194,10 +211,12 @@ public class Insert implements Statement {
     }
 
     public void setModifierIgnore(boolean modifierIgnore) {
+        checkNotFrozen();
         this.modifierIgnore = modifierIgnore;
     }
 
     public void setUseSet(boolean useSet) {
+        checkNotFrozen();
         this.useSet = useSet;
     }
 
@@ -206,6 +225,7 @@ public class Insert implements Statement {
     }
 
     public void setSetColumns(List<Column> setColumns) {
+        checkNotFrozen();
         this.setColumns = setColumns;
     }
 
@@ -214,6 +234,7 @@ public class Insert implements Statement {
     }
 
     public void setSetExpressionList(List<Expression> setExpressionList) {
+        checkNotFrozen();
         this.setExpressionList = setExpressionList;
     }
 
@@ -226,6 +247,7 @@ public class Insert implements Statement {
     }
 
     public void setWithItemsList(List<WithItem> withItemsList) {
+        checkNotFrozen();
         this.withItemsList = withItemsList;
     }
 
@@ -234,6 +256,7 @@ public class Insert implements Statement {
     }
 
     public void setConflictTarget(InsertConflictTarget conflictTarget) {
+        checkNotFrozen();
         this.conflictTarget = conflictTarget;
     }
 
@@ -247,6 +270,7 @@ public class Insert implements Statement {
     }
 
     public void setConflictAction(InsertConflictAction conflictAction) {
+        checkNotFrozen();
         this.conflictAction = conflictAction;
     }
 
@@ -331,6 +355,7 @@ public class Insert implements Statement {
     }
     
     public Insert withWithItemsList(List<WithItem> withList) {
+        checkNotFrozen();
         this.withItemsList = withList;
         return this;
     }
@@ -10,12 +10,14 @@
 package net.sf.jsqlparser.statement.insert;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.statement.update.UpdateSet;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -32,17 +34,21 @@ import java.util.Objects;
  * </pre>
  */
 
-public class InsertConflictAction implements Serializable {
+public class InsertConflictAction extends Freezable implements Serializable {
     ConflictActionType conflictActionType;
 
-    private final ArrayList<UpdateSet> updateSets = new ArrayList<>();
+    private List<UpdateSet> updateSets = new ArrayList<>();
 
     Expression whereExpression;
+    private InsertConflictAction() {
+        // for ModelClass, which sets the fields afterwards
+    }
+
     public InsertConflictAction(ConflictActionType conflictActionType) {
         this.conflictActionType = Objects.requireNonNull(conflictActionType, "The Conflict Action Type is mandatory and must not be Null.");
     }
 
-    public ArrayList<UpdateSet> getUpdateSets() {
+    public List<UpdateSet> getUpdateSets() {
         return updateSets;
     }
 
@@ -51,6 +57,7 @@ public class InsertConflictAction implements Serializable {
     }
 
     public void setConflictActionType(ConflictActionType conflictActionType) {
+        checkNotFrozen();
         this.conflictActionType = Objects.requireNonNull(conflictActionType, "The Conflict Action Type is mandatory and must not be Null.");
     }
 
@@ -60,16 +67,19 @@ public class InsertConflictAction implements Serializable {
     }
 
     public InsertConflictAction addUpdateSet(Column column, Expression expression) {
+        checkNotFrozen();
         this.updateSets.add(new UpdateSet(column, expression));
         return this;
     }
 
     public InsertConflictAction addUpdateSet(UpdateSet updateSet) {
+        checkNotFrozen();
         this.updateSets.add(updateSet);
         return this;
     }
 
     public InsertConflictAction withUpdateSets(Collection<UpdateSet> updateSets) {
+        checkNotFrozen();
         this.updateSets.clear();
         this.updateSets.addAll(updateSets);
         return this;
@@ -80,6 +90,7 @@ public class InsertConflictAction implements Serializable {
     }
 
     public void setWhereExpression(Expression whereExpression) {
+        checkNotFrozen();
         this.whereExpression = whereExpression;
     }
 
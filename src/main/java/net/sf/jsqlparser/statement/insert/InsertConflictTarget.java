@@ -10,6 +10,7 @@
 package net.sf.jsqlparser.statement.insert;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 
 import java.io.Serializable;
 
@@ -23,7 +24,7 @@ import java.io.Serializable;
  * </pre>
  * Currently, COLLATE is not supported yet.
  */
-public class InsertConflictTarget implements Serializable {
+public class InsertConflictTarget extends Freezable implements Serializable {
 
     String indexColumnName;
     Expression indexExpression;
@@ -43,6 +44,7 @@ public class InsertConflictTarget implements Serializable {
     }
 
     public void setIndexColumnName(String indexColumnName) {
+        checkNotFrozen();
         this.indexColumnName = indexColumnName;
         this.indexExpression = null;
     }
@@ -57,6 +59,7 @@ public class InsertConflictTarget implements Serializable {
     }
 
     public void setIndexExpression(Expression indexExpression) {
+        checkNotFrozen();
         this.indexExpression = indexExpression;
         this.indexColumnName = null;
     }
@@ -71,6 +74,7 @@ public class InsertConflictTarget implements Serializable {
     }
 
     public void setWhereExpression(Expression whereExpression) {
+        checkNotFrozen();
         this.whereExpression = whereExpression;
     }
 
@@ -84,6 +88,7 @@ public class InsertConflictTarget implements Serializable {
     }
 
     public void setConstraintName(String constraintName) {
+        checkNotFrozen();
         this.constraintName = constraintName;
     }
 
@@ -18,13 +18,15 @@ import java.util.Optional;
 import net.sf.jsqlparser.expression.Alias;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.OracleHint;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.SubSelect;
 import net.sf.jsqlparser.statement.select.WithItem;
 
-public class Merge implements Statement {
+public class Merge extends Freezable implements Statement {
 
     private List<WithItem> withItemsList;
     private Table table;
@@ -42,6 +44,7 @@ public class Merge implements Statement {
     }
 
     public void setWithItemsList(List<WithItem> withItemsList) {
+        checkNotFrozen();
         this.withItemsList = withItemsList;
     }
 
@@ -67,6 +70,7 @@ public class Merge implements Statement {
     }
 
     public void setTable(Table name) {
+        checkNotFrozen();
         table = name;
     }
 
@@ -75,6 +79,7 @@ public class Merge implements Statement {
     }
 
     public void setOracleHint(OracleHint oracleHint) {
+        checkNotFrozen();
         this.oracleHint = oracleHint;
     }
 
@@ -83,6 +88,7 @@ public class Merge implements Statement {
     }
 
     public void setUsingTable(Table usingTable) {
+        checkNotFrozen();
         this.usingTable = usingTable;
     }
 
@@ -91,6 +97,7 @@ public class Merge implements Statement {
     }
 
     public void setUsingSelect(SubSelect usingSelect) {
+        checkNotFrozen();
         this.usingSelect = usingSelect;
         if (this.usingSelect != null) {
             this.usingSelect.setUseBrackets(false);
@@ -102,6 +109,7 @@ public class Merge implements Statement {
     }
 
     public void setUsingAlias(Alias usingAlias) {
+        checkNotFrozen();
         this.usingAlias = usingAlias;
     }
 
@@ -110,6 +118,7 @@ public class Merge implements Statement {
     }
 
     public void setOnCondition(Expression onCondition) {
+        checkNotFrozen();
         this.onCondition = onCondition;
     }
 
@@ -118,6 +127,7 @@ public class Merge implements Statement {
     }
 
     public void setMergeInsert(MergeInsert insert) {
+        checkNotFrozen();
         this.mergeInsert = insert;
     }
 
@@ -126,6 +136,7 @@ public class Merge implements Statement {
     }
 
     public void setMergeUpdate(MergeUpdate mergeUpdate) {
+        checkNotFrozen();
         this.mergeUpdate = mergeUpdate;
     }
 
@@ -134,11 +145,17 @@ public class Merge implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public boolean isInsertFirst() {
         return insertFirst;
     }
 
     public void setInsertFirst(boolean insertFirst) {
+        checkNotFrozen();
         this.insertFirst = insertFirst;
     }
 
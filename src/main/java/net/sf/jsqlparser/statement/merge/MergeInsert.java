@@ -16,10 +16,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 
-public class MergeInsert implements Serializable {
+public class MergeInsert extends Freezable implements Serializable {
 
     private List<Column> columns = null;
     private List<Expression> values = null;
@@ -30,6 +31,7 @@ public class MergeInsert implements Serializable {
     }
 
     public void setColumns(List<Column> columns) {
+        checkNotFrozen();
         this.columns = columns;
     }
 
@@ -38,6 +40,7 @@ public class MergeInsert implements Serializable {
     }
 
     public void setValues(List<Expression> values) {
+        checkNotFrozen();
         this.values = values;
     }
     
@@ -46,6 +49,7 @@ public class MergeInsert implements Serializable {
     }
 
     public void setWhereCondition(Expression whereCondition) {
+        checkNotFrozen();
         this.whereCondition = whereCondition;
     }
 
@@ -16,9 +16,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Column;
 
-public class MergeUpdate implements Serializable {
+public class MergeUpdate extends Freezable implements Serializable {
 
     private List<Column> columns = null;
     private List<Expression> values = null;
@@ -30,6 +31,7 @@ public class MergeUpdate implements Serializable {
     }
 
     public void setColumns(List<Column> columns) {
+        checkNotFrozen();
         this.columns = columns;
     }
 
@@ -38,6 +40,7 @@ public class MergeUpdate implements Serializable {
     }
 
     public void setValues(List<Expression> values) {
+        checkNotFrozen();
         this.values = values;
     }
 
@@ -46,6 +49,7 @@ public class MergeUpdate implements Serializable {
     }
 
     public void setWhereCondition(Expression whereCondition) {
+        checkNotFrozen();
         this.whereCondition = whereCondition;
     }
 
@@ -54,6 +58,7 @@ public class MergeUpdate implements Serializable {
     }
 
     public void setDeleteWhereCondition(Expression deleteWhereCondition) {
+        checkNotFrozen();
         this.deleteWhereCondition = deleteWhereCondition;
     }
 
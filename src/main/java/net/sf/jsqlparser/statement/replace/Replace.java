@@ -37,6 +37,7 @@ public class Replace extends Upsert {
 
     @Deprecated
     public void setUseIntoTables(boolean useIntoTables) {
+        checkNotFrozen();
         super.setUsingInto( useIntoTables );
     }
 
@@ -52,6 +53,7 @@ public class Replace extends Upsert {
 
     @Deprecated
     public void setExpressions(List<Expression> list) {
+        checkNotFrozen();
         super.setItemsList( new ExpressionList(list) );
     }
 
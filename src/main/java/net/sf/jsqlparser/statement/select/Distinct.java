@@ -15,8 +15,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class Distinct implements Serializable {
+public class Distinct extends Freezable implements Serializable {
 
     private List<SelectItem> onSelectItems;
     private boolean useUnique = false;
@@ -33,6 +34,7 @@ public class Distinct implements Serializable {
     }
 
     public void setOnSelectItems(List<SelectItem> list) {
+        checkNotFrozen();
         onSelectItems = list;
     }
 
@@ -41,6 +43,7 @@ public class Distinct implements Serializable {
     }
 
     public void setUseUnique(boolean useUnique) {
+        checkNotFrozen();
         this.useUnique = useUnique;
     }
 
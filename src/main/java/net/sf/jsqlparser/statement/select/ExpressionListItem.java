@@ -11,10 +11,11 @@ package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Alias;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.Freezable;
 
 import java.io.Serializable;
 
-public class ExpressionListItem implements Serializable {
+public class ExpressionListItem extends Freezable implements Serializable {
 
     private ExpressionList expressionList;
     private Alias alias;
@@ -24,6 +25,7 @@ public class ExpressionListItem implements Serializable {
     }
 
     public void setExpressionList(ExpressionList expressionList) {
+        checkNotFrozen();
         this.expressionList = expressionList;
     }
 
@@ -32,6 +34,7 @@ public class ExpressionListItem implements Serializable {
     }
 
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
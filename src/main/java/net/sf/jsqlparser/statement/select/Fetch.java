@@ -10,10 +10,11 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.parser.Freezable;
 
 import java.io.Serializable;
 
-public class Fetch implements Serializable {
+public class Fetch extends Freezable implements Serializable {
 
     private long rowCount;
     private JdbcParameter fetchJdbcParameter = null;
@@ -25,6 +26,7 @@ public class Fetch implements Serializable {
     }
 
     public void setRowCount(long l) {
+        checkNotFrozen();
         rowCount = l;
     }
 
@@ -41,14 +43,17 @@ public class Fetch implements Serializable {
     }
 
     public void setFetchJdbcParameter(JdbcParameter jdbc) {
+        checkNotFrozen();
         fetchJdbcParameter = jdbc;
     }
 
     public void setFetchParam(String s) {
+        checkNotFrozen();
         this.fetchParam = s;
     }
 
     public void setFetchParamFirst(boolean b) {
+        checkNotFrozen();
         this.isFetchParamFirst = b;
     }
 
@@ -10,10 +10,11 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.parser.Freezable;
 
 import java.io.Serializable;
 
-public class First implements Serializable {
+public class First extends Freezable implements Serializable {
 
     public enum Keyword {
         FIRST,
@@ -30,6 +31,7 @@ public class First implements Serializable {
     }
 
     public void setRowCount(Long rowCount) {
+        checkNotFrozen();
         this.rowCount = rowCount;
     }
 
@@ -38,6 +40,7 @@ public class First implements Serializable {
     }
 
     public void setJdbcParameter(JdbcParameter jdbcParameter) {
+        checkNotFrozen();
         this.jdbcParameter = jdbcParameter;
     }
 
@@ -46,6 +49,7 @@ public class First implements Serializable {
     }
 
     public void setKeyword(Keyword keyword) {
+        checkNotFrozen();
         this.keyword = keyword;
     }
 
@@ -54,6 +58,7 @@ public class First implements Serializable {
     }
 
     public void setVariable(String variable) {
+        checkNotFrozen();
         this.variable = variable;
     }
 
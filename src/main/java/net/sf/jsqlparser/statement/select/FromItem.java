@@ -16,6 +16,8 @@ public interface FromItem extends Model {
 
     void accept(FromItemVisitor fromItemVisitor);
 
+    <R, C> R accept(FromItemContextVisitor<R, C> fromItemVisitor, C context);
+
     Alias getAlias();
 
     default FromItem withAlias(Alias alias) {
@@ -0,0 +1,35 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.statement.select;
+
+import net.sf.jsqlparser.schema.Table;
+
+/**
+ * The counterpart of {@link FromItemVisitor} returning a result and taking a context.
+ *
+ * @param <R> the type of the results
+ * @param <C> the type of the context
+ */
+public interface FromItemContextVisitor<R, C> {
+
+    R visit(Table tableName, C context);
+
+    R visit(SubSelect subSelect, C context);
+
+    R visit(SubJoin subjoin, C context);
+
+    R visit(LateralSubSelect lateralSubSelect, C context);
+
+    R visit(ValuesList valuesList, C context);
+
+    R visit(TableFunction tableFunction, C context);
+
+    R visit(ParenthesisFromItem aThis, C context);
+}
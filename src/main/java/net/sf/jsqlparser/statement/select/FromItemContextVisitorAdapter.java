@@ -0,0 +1,56 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.statement.select;
+
+import net.sf.jsqlparser.schema.Table;
+
+/**
+ * A {@link FromItemContextVisitor} returning <code>null</code> for every from item.
+ *
+ * @param <R> the type of the results
+ * @param <C> the type of the context
+ */
+public class FromItemContextVisitorAdapter<R, C> implements FromItemContextVisitor<R, C> {
+
+    @Override
+    public R visit(Table tableName, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(SubSelect subSelect, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(SubJoin subjoin, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(LateralSubSelect lateralSubSelect, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ValuesList valuesList, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(TableFunction tableFunction, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ParenthesisFromItem aThis, C context) {
+        return null;
+    }
+}
@@ -12,8 +12,9 @@ package net.sf.jsqlparser.statement.select;
 import net.sf.jsqlparser.Model;
 import net.sf.jsqlparser.expression.Alias;
 import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class FunctionItem implements Model {
+public class FunctionItem extends Freezable implements Model {
 
     private Function function;
     private Alias alias;
@@ -23,6 +24,7 @@ public class FunctionItem implements Model {
     }
 
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -31,6 +33,7 @@ public class FunctionItem implements Model {
     }
 
     public void setFunction(Function function) {
+        checkNotFrozen();
         this.function = function;
     }
 
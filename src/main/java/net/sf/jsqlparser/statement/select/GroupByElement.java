@@ -17,21 +17,25 @@ import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class GroupByElement implements Serializable {
+public class GroupByElement extends Freezable implements Serializable {
     // ExpressionList has 'usingBrackets = true' and so we need to switch it off explicitly
     private ExpressionList groupByExpressions = new ExpressionList().withUsingBrackets(false);
-    private List groupingSets = new ArrayList();
+    // created by the first grouping set added
+    private List groupingSets;
 
     public boolean isUsingBrackets() {
         return groupByExpressions.isUsingBrackets();
     }
 
     public void setUsingBrackets(boolean usingBrackets) {
+        checkNotFrozen();
         this.groupByExpressions.setUsingBrackets(usingBrackets);
     }
 
     public GroupByElement withUsingBrackets(boolean usingBrackets) {
+        checkNotFrozen();
         this.groupByExpressions.setUsingBrackets(usingBrackets);
         return this;
     }
@@ -45,6 +49,7 @@ public class GroupByElement implements Serializable {
     }
     
     public void setGroupByExpressionList(ExpressionList groupByExpressions) {
+        checkNotFrozen();
         this.groupByExpressions=groupByExpressions;
     }
     
@@ -55,31 +60,51 @@ public class GroupByElement implements Serializable {
 
     @Deprecated
     public void setGroupByExpressions(List<Expression> groupByExpressions) {
+        checkNotFrozen();
         this.groupByExpressions.setExpressions(groupByExpressions);
     }
 
     @Deprecated
     public void addGroupByExpression(Expression groupByExpression) {
+        checkNotFrozen();
         if (groupByExpressions.getExpressions()==null) {
             groupByExpressions.setExpressions(new ArrayList());
         }
         groupByExpressions.getExpressions().add(groupByExpression);
     }
 
+    /**
+     * @return the grouping sets, {@link Expression}s and {@link ExpressionList}s; the list is read
+     * only while there are none or this element is frozen, add grouping sets with
+     * {@link #addGroupingSet(Expression)} and {@link #addGroupingSet(ExpressionList)}
+     */
     public List getGroupingSets() {
-        return groupingSets;
+        if (groupingSets == null) {
+            return Collections.emptyList();
+        }
+        return isFrozen() ? Collections.unmodifiableList(groupingSets) : groupingSets;
     }
 
     public void setGroupingSets(List groupingSets) {
+        checkNotFrozen();
         this.groupingSets = groupingSets;
     }
 
     public void addGroupingSet(Expression expr) {
-        this.groupingSets.add(expr);
+        checkNotFrozen();
+        groupingSets().add(expr);
     }
 
     public void addGroupingSet(ExpressionList list) {
-        this.groupingSets.add(list);
+        checkNotFrozen();
+        groupingSets().add(list);
+    }
+
+    private List groupingSets() {
+        if (groupingSets == null) {
+            groupingSets = new ArrayList();
+        }
+        return groupingSets;
     }
 
     @Override
@@ -100,7 +125,7 @@ public class GroupByElement implements Serializable {
             b.append("()");
         }
 
-        if (groupingSets.size() > 0) {
+        if (groupingSets != null && !groupingSets.isEmpty()) {
             if (b.charAt(b.length() - 1) != ' ') {
                 b.append(' ');
             }
@@ -150,13 +175,13 @@ public class GroupByElement implements Serializable {
     }
 
     public GroupByElement addGroupingSets(Object... groupingSets) {
-        List collection = Optional.ofNullable(getGroupingSets()).orElseGet(ArrayList::new);
+        List collection = new ArrayList(getGroupingSets());
         Collections.addAll(collection, groupingSets);
         return this.withGroupingSets(collection);
     }
 
     public GroupByElement addGroupingSets(Collection<? extends Object> groupingSets) {
-        List collection = Optional.ofNullable(getGroupingSets()).orElseGet(ArrayList::new);
+        List collection = new ArrayList(getGroupingSets());
         collection.addAll(groupingSets);
         return this.withGroupingSets(collection);
     }
@@ -15,6 +15,7 @@ import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
 import net.sf.jsqlparser.schema.Column;
 
+@SuppressWarnings({"PMD.CyclomaticComplexity"})
 public class Join extends ASTNodeAccessImpl {
 
     private boolean outer = false;
@@ -30,8 +31,9 @@ public class Join extends ASTNodeAccessImpl {
     private boolean straight = false;
     private boolean apply = false;
     private FromItem rightItem;
-    private final LinkedList<Expression> onExpressions = new LinkedList<>();
-    private final LinkedList<Column> usingColumns = new LinkedList<>();
+    // both created by the first change, most joins have a single ON expression and no USING columns
+    private List<Expression> onExpressions;
+    private List<Column> usingColumns;
     private KSQLJoinWindow joinWindow;
 
     public boolean isSimple() {
@@ -44,6 +46,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setSimple(boolean b) {
+        checkNotFrozen();
         simple = b;
     }
 
@@ -57,6 +60,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setInner(boolean b) {
+        checkNotFrozen();
         inner = b;
     }
 
@@ -70,6 +74,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setStraight(boolean b) {
+        checkNotFrozen();
         straight = b;
     }
 
@@ -88,6 +93,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setOuter(boolean b) {
+        checkNotFrozen();
         outer = b;
     }
 
@@ -101,6 +107,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setApply(boolean apply) {
+        checkNotFrozen();
         this.apply = apply;
     }
 
@@ -119,6 +126,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setSemi(boolean b) {
+        checkNotFrozen();
         semi = b;
     }
 
@@ -137,6 +145,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setLeft(boolean b) {
+        checkNotFrozen();
         left = b;
     }
 
@@ -155,6 +164,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setRight(boolean b) {
+        checkNotFrozen();
         right = b;
     }
 
@@ -177,10 +187,12 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setNatural(boolean b) {
+        checkNotFrozen();
         natural = b;
     }
 
     public void setGlobal(boolean b) {
+        checkNotFrozen();
         global = b;
     }
 
@@ -199,6 +211,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setFull(boolean b) {
+        checkNotFrozen();
         full = b;
     }
 
@@ -212,6 +225,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setCross(boolean cross) {
+        checkNotFrozen();
         this.cross = cross;
     }
 
@@ -228,6 +242,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setRightItem(FromItem item) {
+        checkNotFrozen();
         rightItem = item;
     }
 
@@ -236,11 +251,15 @@ public class Join extends ASTNodeAccessImpl {
      */
     @Deprecated
     public Expression getOnExpression() {
-        return onExpressions.get(0);
+        return onExpressions != null && !onExpressions.isEmpty() ? onExpressions.get(0) : null;
     }
 
+    /**
+     * @return the "ON" expressions, an empty list if there are none; the list is read only while
+     * there are none or the join is frozen, add expressions with {@link #addOnExpression(Expression)}
+     */
     public Collection<Expression> getOnExpressions() {
-        return onExpressions;
+        return view(onExpressions);
     }
 
     @Deprecated
@@ -251,25 +270,29 @@ public class Join extends ASTNodeAccessImpl {
 
     @Deprecated
     public void setOnExpression(Expression expression) {
-        onExpressions.add(0, expression);
+        checkNotFrozen();
+        onExpressions().add(0, expression);
     }
 
     public Join addOnExpression(Expression expression) {
-        onExpressions.add(expression);
+        checkNotFrozen();
+        onExpressions().add(expression);
         return this;
     }
 
     public Join setOnExpressions(Collection<Expression> expressions) {
-        onExpressions.clear();
-        onExpressions.addAll(expressions);
+        checkNotFrozen();
+        onExpressions = expressions != null && !expressions.isEmpty() ? new ArrayList<>(expressions) : null;
         return this;
     }
 
     /**
-     * Returns the "USING" list of {@link net.sf.jsqlparser.schema.Column}s (if any)
+     * Returns the "USING" list of {@link net.sf.jsqlparser.schema.Column}s, an empty list if there
+     * are none; the list is read only while there are none or the join is frozen, add columns with
+     * {@link #addUsingColumns(Column...)}
      */
     public List<Column> getUsingColumns() {
-        return usingColumns;
+        return view(usingColumns);
     }
 
     public Join withUsingColumns(List<Column> list) {
@@ -278,8 +301,29 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setUsingColumns(List<Column> list) {
-        usingColumns.clear();
-        usingColumns.addAll(list);
+        checkNotFrozen();
+        usingColumns = list != null && !list.isEmpty() ? new ArrayList<>(list) : null;
+    }
+
+    private List<Expression> onExpressions() {
+        if (onExpressions == null) {
+            onExpressions = new ArrayList<>();
+        }
+        return onExpressions;
+    }
+
+    private List<Column> usingColumns() {
+        if (usingColumns == null) {
+            usingColumns = new ArrayList<>();
+        }
+        return usingColumns;
+    }
+
+    private <T> List<T> view(List<T> list) {
+        if (list == null) {
+            return Collections.emptyList();
+        }
+        return isFrozen() ? Collections.unmodifiableList(list) : list;
     }
 
     public boolean isWindowJoin() {
@@ -300,6 +344,7 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public void setJoinWindow(KSQLJoinWindow joinWindow) {
+        checkNotFrozen();
         this.joinWindow = joinWindow;
     }
 
@@ -350,10 +395,12 @@ public class Join extends ASTNodeAccessImpl {
             builder.append(rightItem).append((joinWindow != null) ? " WITHIN " + joinWindow : "");
         }
 
-        for (Expression onExpression: onExpressions) {
-            builder.append(" ON ").append(onExpression);
+        if (onExpressions != null) {
+            for (Expression onExpression : onExpressions) {
+                builder.append(" ON ").append(onExpression);
+            }
         }
-        if (usingColumns.size()>0) {
+        if (usingColumns != null && !usingColumns.isEmpty()) {
             builder.append(PlainSelect.getFormatedList(usingColumns, "USING", true, true));
         }
 
@@ -361,14 +408,14 @@ public class Join extends ASTNodeAccessImpl {
     }
 
     public Join addUsingColumns(Column... usingColumns) {
-        List<Column> collection = Optional.ofNullable(getUsingColumns()).orElseGet(ArrayList::new);
-        Collections.addAll(collection, usingColumns);
-        return this.withUsingColumns(collection);
+        checkNotFrozen();
+        Collections.addAll(usingColumns(), usingColumns);
+        return this;
     }
 
     public Join addUsingColumns(Collection<? extends Column> usingColumns) {
-        List<Column> collection = Optional.ofNullable(getUsingColumns()).orElseGet(ArrayList::new);
-        collection.addAll(usingColumns);
-        return this.withUsingColumns(collection);
+        checkNotFrozen();
+        usingColumns().addAll(usingColumns);
+        return this;
     }
 }
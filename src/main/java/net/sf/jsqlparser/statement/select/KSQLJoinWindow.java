@@ -52,6 +52,7 @@ public class KSQLJoinWindow extends ASTNodeAccessImpl {
     }
 
     public void setBeforeAfterWindow(boolean beforeAfter) {
+        checkNotFrozen();
         this.beforeAfter = beforeAfter;
     }
 
@@ -60,6 +61,7 @@ public class KSQLJoinWindow extends ASTNodeAccessImpl {
     }
 
     public void setDuration(long duration) {
+        checkNotFrozen();
         this.duration = duration;
     }
 
@@ -68,6 +70,7 @@ public class KSQLJoinWindow extends ASTNodeAccessImpl {
     }
 
     public void setTimeUnit(TimeUnit timeUnit) {
+        checkNotFrozen();
         this.timeUnit = timeUnit;
     }
 
@@ -76,6 +79,7 @@ public class KSQLJoinWindow extends ASTNodeAccessImpl {
     }
 
     public void setBeforeDuration(long beforeDuration) {
+        checkNotFrozen();
         this.beforeDuration = beforeDuration;
     }
 
@@ -84,6 +88,7 @@ public class KSQLJoinWindow extends ASTNodeAccessImpl {
     }
 
     public void setBeforeTimeUnit(TimeUnit beforeTimeUnit) {
+        checkNotFrozen();
         this.beforeTimeUnit = beforeTimeUnit;
     }
 
@@ -92,6 +97,7 @@ public class KSQLJoinWindow extends ASTNodeAccessImpl {
     }
 
     public void setAfterDuration(long afterDuration) {
+        checkNotFrozen();
         this.afterDuration = afterDuration;
     }
 
@@ -100,6 +106,7 @@ public class KSQLJoinWindow extends ASTNodeAccessImpl {
     }
 
     public void setAfterTimeUnit(TimeUnit afterTimeUnit) {
+        checkNotFrozen();
         this.afterTimeUnit = afterTimeUnit;
     }
 
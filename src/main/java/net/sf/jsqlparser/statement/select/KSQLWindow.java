@@ -65,6 +65,7 @@ public class KSQLWindow extends ASTNodeAccessImpl {
     }
 
     public void setHoppingWindow(boolean hopping) {
+        checkNotFrozen();
         this.hopping = hopping;
     }
 
@@ -73,6 +74,7 @@ public class KSQLWindow extends ASTNodeAccessImpl {
     }
 
     public void setTumblingWindow(boolean tumbling) {
+        checkNotFrozen();
         this.tumbling = tumbling;
     }
 
@@ -81,6 +83,7 @@ public class KSQLWindow extends ASTNodeAccessImpl {
     }
 
     public void setSessionWindow(boolean session) {
+        checkNotFrozen();
         this.session = session;
     }
 
@@ -89,6 +92,7 @@ public class KSQLWindow extends ASTNodeAccessImpl {
     }
 
     public void setSizeDuration(long sizeDuration) {
+        checkNotFrozen();
         this.sizeDuration = sizeDuration;
     }
 
@@ -97,6 +101,7 @@ public class KSQLWindow extends ASTNodeAccessImpl {
     }
 
     public void setSizeTimeUnit(TimeUnit sizeTimeUnit) {
+        checkNotFrozen();
         this.sizeTimeUnit = sizeTimeUnit;
     }
 
@@ -105,6 +110,7 @@ public class KSQLWindow extends ASTNodeAccessImpl {
     }
 
     public void setAdvanceDuration(long advanceDuration) {
+        checkNotFrozen();
         this.advanceDuration = advanceDuration;
     }
 
@@ -113,6 +119,7 @@ public class KSQLWindow extends ASTNodeAccessImpl {
     }
 
     public void setAdvanceTimeUnit(TimeUnit advanceTimeUnit) {
+        checkNotFrozen();
         this.advanceTimeUnit = advanceTimeUnit;
     }
 
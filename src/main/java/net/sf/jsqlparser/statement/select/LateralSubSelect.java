@@ -26,6 +26,11 @@ public class LateralSubSelect extends SpecialSubSelect {
         fromItemVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(FromItemContextVisitor<R, C> fromItemVisitor, C context) {
+        return fromItemVisitor.visit(this, context);
+    }
+
     @Override
     public LateralSubSelect withPivot(Pivot pivot) {
         return (LateralSubSelect) super.withPivot(pivot);
@@ -28,10 +28,12 @@ public class Limit extends ASTNodeAccessImpl {
     }
 
     public void setOffset(Expression l) {
+        checkNotFrozen();
         offset = l;
     }
 
     public void setRowCount(Expression l) {
+        checkNotFrozen();
         rowCount = l;
     }
 
@@ -42,6 +44,7 @@ public class Limit extends ASTNodeAccessImpl {
 
     @Deprecated
     public void setLimitAll(boolean b) {
+        checkNotFrozen();
         if (b) {
             rowCount = new AllValue();
         }
@@ -54,6 +57,7 @@ public class Limit extends ASTNodeAccessImpl {
 
     @Deprecated
     public void setLimitNull(boolean b) {
+        checkNotFrozen();
         if (b) {
             rowCount = new NullValue();
         }
@@ -10,10 +10,11 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 
 import java.io.Serializable;
 
-public class Offset implements Serializable {
+public class Offset extends Freezable implements Serializable {
     private Expression offsetExpression = null;
     private String offsetParam = null;
 
@@ -26,10 +27,12 @@ public class Offset implements Serializable {
     }
 
     public void setOffset(Expression offsetExpression) {
+        checkNotFrozen();
         this.offsetExpression = offsetExpression;
     }
 
     public void setOffsetParam(String s) {
+        checkNotFrozen();
         offsetParam = s;
     }
 
@@ -10,11 +10,12 @@
 package net.sf.jsqlparser.statement.select;
 
 import java.io.Serializable;
+import net.sf.jsqlparser.parser.Freezable;
 
 /**
  * A optimize for clause.
  */
-public class OptimizeFor implements Serializable {
+public class OptimizeFor extends Freezable implements Serializable {
 
     private long rowCount;
 
@@ -27,6 +28,7 @@ public class OptimizeFor implements Serializable {
     }
 
     public void setRowCount(long l) {
+        checkNotFrozen();
         rowCount = l;
     }
 
@@ -10,10 +10,11 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 
 import java.io.Serializable;
 
-public class OrderByElement implements Serializable {
+public class OrderByElement extends Freezable implements Serializable {
 
     public enum NullOrdering {
         NULLS_FIRST,
@@ -34,14 +35,17 @@ public class OrderByElement implements Serializable {
     }
 
     public void setNullOrdering(NullOrdering nullOrdering) {
+        checkNotFrozen();
         this.nullOrdering = nullOrdering;
     }
 
     public void setAsc(boolean asc) {
+        checkNotFrozen();
         this.asc = asc;
     }
 
     public void setAscDescPresent(boolean ascDescPresent) {
+        checkNotFrozen();
         this.ascDescPresent = ascDescPresent;
     }
 
@@ -58,6 +62,7 @@ public class OrderByElement implements Serializable {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -102,5 +107,4 @@ public class OrderByElement implements Serializable {
     public <E extends Expression> E getExpression(Class<E> type) {
         return type.cast(getExpression());
     }
-
 }
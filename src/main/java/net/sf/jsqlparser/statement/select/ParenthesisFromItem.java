@@ -10,8 +10,9 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class ParenthesisFromItem implements FromItem {
+public class ParenthesisFromItem extends Freezable implements FromItem {
 
     private FromItem fromItem;
 
@@ -29,6 +30,7 @@ public class ParenthesisFromItem implements FromItem {
     }
 
     public final void setFromItem(FromItem fromItem) {
+        checkNotFrozen();
         this.fromItem = fromItem;
     }
 
@@ -37,6 +39,11 @@ public class ParenthesisFromItem implements FromItem {
         fromItemVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(FromItemContextVisitor<R, C> fromItemVisitor, C context) {
+        return fromItemVisitor.visit(this, context);
+    }
+
     @Override
     public String toString() {
         return "(" + fromItem + ")" + (alias != null ? alias.toString() : "");
@@ -49,6 +56,7 @@ public class ParenthesisFromItem implements FromItem {
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -59,6 +67,7 @@ public class ParenthesisFromItem implements FromItem {
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
@@ -69,6 +78,7 @@ public class ParenthesisFromItem implements FromItem {
 
     @Override
     public void setUnPivot(UnPivot unpivot) {
+        checkNotFrozen();
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
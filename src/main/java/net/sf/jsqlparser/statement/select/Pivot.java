@@ -16,9 +16,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Column;
 
-public class Pivot implements Serializable {
+public class Pivot extends Freezable implements Serializable {
 
     private List<FunctionItem> functionItems;
     private List<Column> forColumns;
@@ -35,6 +36,7 @@ public class Pivot implements Serializable {
     }
 
     public void setSingleInItems(List<SelectExpressionItem> singleInItems) {
+        checkNotFrozen();
         this.singleInItems = singleInItems;
     }
 
@@ -43,6 +45,7 @@ public class Pivot implements Serializable {
     }
 
     public void setMultiInItems(List<ExpressionListItem> multiInItems) {
+        checkNotFrozen();
         this.multiInItems = multiInItems;
     }
 
@@ -51,6 +54,7 @@ public class Pivot implements Serializable {
     }
 
     public void setFunctionItems(List<FunctionItem> functionItems) {
+        checkNotFrozen();
         this.functionItems = functionItems;
     }
 
@@ -59,6 +63,7 @@ public class Pivot implements Serializable {
     }
 
     public void setForColumns(List<Column> forColumns) {
+        checkNotFrozen();
         this.forColumns = forColumns;
     }
 
@@ -71,6 +76,7 @@ public class Pivot implements Serializable {
     }
 
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -30,6 +30,7 @@ public class PivotXml extends Pivot {
     }
 
     public void setInSelect(SelectBody inSelect) {
+        checkNotFrozen();
         this.inSelect = inSelect;
     }
 
@@ -38,6 +39,7 @@ public class PivotXml extends Pivot {
     }
 
     public void setInAny(boolean inAny) {
+        checkNotFrozen();
         this.inAny = inAny;
     }
 
@@ -9,6 +9,7 @@
  */
 package net.sf.jsqlparser.statement.select;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -28,7 +29,6 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
 
     private Distinct distinct = null;
     private List<SelectItem> selectItems;
-    private List<Table> intoTables;
     private FromItem fromItem;
     private List<Join> joins;
     private Expression where;
@@ -37,34 +37,17 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     private Expression having;
     private Limit limit;
     private Offset offset;
-    private Fetch fetch;
-    private OptimizeFor optimizeFor;
-    private Skip skip;
-    private boolean mySqlHintStraightJoin;
-    private First first;
     private Top top;
-    private OracleHierarchicalExpression oracleHierarchical = null;
-    private OracleHint oracleHint = null;
-    private boolean oracleSiblings = false;
-    private boolean forUpdate = false;
-    private Table forUpdateTable = null;
-    private boolean skipLocked;
     private boolean useBrackets = false;
-    private Wait wait;
-    private boolean mySqlSqlCalcFoundRows = false;
-    private MySqlSqlCacheFlags mySqlCacheFlag = null;
-    private String forXmlPath;
-    private KSQLWindow ksqlWindow = null;
-    private boolean noWait = false;
-    private boolean emitChanges = false;
-    private WithIsolation withIsolation;
-    private List<WindowDefinition> windowDefinitions;
+    // created on first use of one of the rare clauses
+    private RareClauses rareClauses;
 
     public boolean isUseBrackets() {
         return useBrackets;
     }
 
     public void setUseBrackets(boolean useBrackets) {
+        checkNotFrozen();
         this.useBrackets = useBrackets;
     }
 
@@ -73,7 +56,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public List<Table> getIntoTables() {
-        return intoTables;
+        return rareClauses != null ? rareClauses.intoTables : null;
     }
 
     public List<SelectItem> getSelectItems() {
@@ -90,11 +73,15 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setFromItem(FromItem item) {
+        checkNotFrozen();
         fromItem = item;
     }
 
     public void setIntoTables(List<Table> intoTables) {
-        this.intoTables = intoTables;
+        checkNotFrozen();
+        if (intoTables != null || rareClauses != null) {
+            rareClauses().intoTables = intoTables;
+        }
     }
 
     public PlainSelect withSelectItems(List<SelectItem> list) {
@@ -103,6 +90,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setSelectItems(List<SelectItem> list) {
+        checkNotFrozen();
         selectItems = list;
     }
 
@@ -113,6 +101,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setWhere(Expression where) {
+        checkNotFrozen();
         this.where = where;
     }
 
@@ -137,6 +126,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setJoins(List<Join> list) {
+        checkNotFrozen();
         joins = list;
     }
 
@@ -145,11 +135,17 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
         selectVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(SelectContextVisitor<R, C> selectVisitor, C context) {
+        return selectVisitor.visit(this, context);
+    }
+
     public List<OrderByElement> getOrderByElements() {
         return orderByElements;
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
@@ -158,6 +154,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setLimit(Limit limit) {
+        checkNotFrozen();
         this.limit = limit;
     }
 
@@ -166,23 +163,30 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setOffset(Offset offset) {
+        checkNotFrozen();
         this.offset = offset;
     }
 
     public Fetch getFetch() {
-        return fetch;
+        return rareClauses != null ? rareClauses.fetch : null;
     }
 
     public void setFetch(Fetch fetch) {
-        this.fetch = fetch;
+        checkNotFrozen();
+        if (fetch != null || rareClauses != null) {
+            rareClauses().fetch = fetch;
+        }
     }
 
     public OptimizeFor getOptimizeFor() {
-        return optimizeFor;
+        return rareClauses != null ? rareClauses.optimizeFor : null;
     }
 
     public void setOptimizeFor(OptimizeFor optimizeFor) {
-        this.optimizeFor = optimizeFor;
+        checkNotFrozen();
+        if (optimizeFor != null || rareClauses != null) {
+            rareClauses().optimizeFor = optimizeFor;
+        }
     }
 
     public Top getTop() {
@@ -190,31 +194,41 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setTop(Top top) {
+        checkNotFrozen();
         this.top = top;
     }
 
     public Skip getSkip() {
-        return skip;
+        return rareClauses != null ? rareClauses.skip : null;
     }
 
     public void setSkip(Skip skip) {
-        this.skip = skip;
+        checkNotFrozen();
+        if (skip != null || rareClauses != null) {
+            rareClauses().skip = skip;
+        }
     }
 
     public boolean getMySqlHintStraightJoin() {
-        return this.mySqlHintStraightJoin;
+        return rareClauses != null && rareClauses.mySqlHintStraightJoin;
     }
 
     public void setMySqlHintStraightJoin(boolean mySqlHintStraightJoin) {
-        this.mySqlHintStraightJoin = mySqlHintStraightJoin;
+        checkNotFrozen();
+        if (mySqlHintStraightJoin || rareClauses != null) {
+            rareClauses().mySqlHintStraightJoin = mySqlHintStraightJoin;
+        }
     }
 
     public First getFirst() {
-        return first;
+        return rareClauses != null ? rareClauses.first : null;
     }
 
     public void setFirst(First first) {
-        this.first = first;
+        checkNotFrozen();
+        if (first != null || rareClauses != null) {
+            rareClauses().first = first;
+        }
     }
 
     public Distinct getDistinct() {
@@ -222,6 +236,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setDistinct(Distinct distinct) {
+        checkNotFrozen();
         this.distinct = distinct;
     }
 
@@ -230,6 +245,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setHaving(Expression expression) {
+        checkNotFrozen();
         having = expression;
     }
 
@@ -243,6 +259,7 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setGroupByElement(GroupByElement groupBy) {
+        checkNotFrozen();
         this.groupBy = groupBy;
     }
 
@@ -253,43 +270,58 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public OracleHierarchicalExpression getOracleHierarchical() {
-        return oracleHierarchical;
+        return rareClauses != null ? rareClauses.oracleHierarchical : null;
     }
 
     public void setOracleHierarchical(OracleHierarchicalExpression oracleHierarchical) {
-        this.oracleHierarchical = oracleHierarchical;
+        checkNotFrozen();
+        if (oracleHierarchical != null || rareClauses != null) {
+            rareClauses().oracleHierarchical = oracleHierarchical;
+        }
     }
 
     public boolean isOracleSiblings() {
-        return oracleSiblings;
+        return rareClauses != null && rareClauses.oracleSiblings;
     }
 
     public void setOracleSiblings(boolean oracleSiblings) {
-        this.oracleSiblings = oracleSiblings;
+        checkNotFrozen();
+        if (oracleSiblings || rareClauses != null) {
+            rareClauses().oracleSiblings = oracleSiblings;
+        }
     }
 
     public boolean isForUpdate() {
-        return forUpdate;
+        return rareClauses != null && rareClauses.forUpdate;
     }
 
     public void setForUpdate(boolean forUpdate) {
-        this.forUpdate = forUpdate;
+        checkNotFrozen();
+        if (forUpdate || rareClauses != null) {
+            rareClauses().forUpdate = forUpdate;
+        }
     }
 
     public Table getForUpdateTable() {
-        return forUpdateTable;
+        return rareClauses != null ? rareClauses.forUpdateTable : null;
     }
 
     public void setForUpdateTable(Table forUpdateTable) {
-        this.forUpdateTable = forUpdateTable;
+        checkNotFrozen();
+        if (forUpdateTable != null || rareClauses != null) {
+            rareClauses().forUpdateTable = forUpdateTable;
+        }
     }
 
     public OracleHint getOracleHint() {
-        return oracleHint;
+        return rareClauses != null ? rareClauses.oracleHint : null;
     }
 
     public void setOracleHint(OracleHint oracleHint) {
-        this.oracleHint = oracleHint;
+        checkNotFrozen();
+        if (oracleHint != null || rareClauses != null) {
+            rareClauses().oracleHint = oracleHint;
+        }
     }
 
     /**
@@ -298,7 +330,10 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
      * @param wait the {@link Wait} for this SELECT
      */
     public void setWait(final Wait wait) {
-        this.wait = wait;
+        checkNotFrozen();
+        if (wait != null || rareClauses != null) {
+            rareClauses().wait = wait;
+        }
     }
 
     /**
@@ -307,55 +342,73 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
      * @return the value of the {@link Wait} set for this SELECT
      */
     public Wait getWait() {
-        return wait;
+        return rareClauses != null ? rareClauses.wait : null;
     }
 
     public String getForXmlPath() {
-        return forXmlPath;
+        return rareClauses != null ? rareClauses.forXmlPath : null;
     }
 
     public void setForXmlPath(String forXmlPath) {
-        this.forXmlPath = forXmlPath;
+        checkNotFrozen();
+        if (forXmlPath != null || rareClauses != null) {
+            rareClauses().forXmlPath = forXmlPath;
+        }
     }
 
     public KSQLWindow getKsqlWindow() {
-        return ksqlWindow;
+        return rareClauses != null ? rareClauses.ksqlWindow : null;
     }
 
     public void setKsqlWindow(KSQLWindow ksqlWindow) {
-        this.ksqlWindow = ksqlWindow;
+        checkNotFrozen();
+        if (ksqlWindow != null || rareClauses != null) {
+            rareClauses().ksqlWindow = ksqlWindow;
+        }
     }
 
     public void setEmitChanges(boolean emitChanges) {
-        this.emitChanges = emitChanges;
+        checkNotFrozen();
+        if (emitChanges || rareClauses != null) {
+            rareClauses().emitChanges = emitChanges;
+        }
     }
 
     public boolean isEmitChanges() {
-        return emitChanges;
+        return rareClauses != null && rareClauses.emitChanges;
     }
 
     public WithIsolation getWithIsolation() {
-        return withIsolation;
+        return rareClauses != null ? rareClauses.withIsolation : null;
     }
 
     public void setWithIsolation(WithIsolation withIsolation) {
-        this.withIsolation = withIsolation;
+        checkNotFrozen();
+        if (withIsolation != null || rareClauses != null) {
+            rareClauses().withIsolation = withIsolation;
+        }
     }
 
     public List<WindowDefinition> getWindowDefinitions() {
-        return windowDefinitions;
+        return rareClauses != null ? rareClauses.windowDefinitions : null;
     }
 
     public void setWindowDefinitions(List<WindowDefinition> windowDefinitions) {
-        this.windowDefinitions = windowDefinitions;
+        checkNotFrozen();
+        if (windowDefinitions != null || rareClauses != null) {
+            rareClauses().windowDefinitions = windowDefinitions;
+        }
     }
 
     public boolean isSkipLocked() {
-        return skipLocked;
+        return rareClauses != null && rareClauses.skipLocked;
     }
 
     public void setSkipLocked(boolean skipLocked) {
-        this.skipLocked = skipLocked;
+        checkNotFrozen();
+        if (skipLocked || rareClauses != null) {
+            rareClauses().skipLocked = skipLocked;
+        }
     }
 
     @Override
@@ -367,20 +420,20 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
         }
         sql.append("SELECT ");
 
-        if (this.mySqlHintStraightJoin) {
+        if (getMySqlHintStraightJoin()) {
             sql.append("STRAIGHT_JOIN ");
         }
 
-        if (oracleHint != null) {
-            sql.append(oracleHint).append(" ");
+        if (getOracleHint() != null) {
+            sql.append(getOracleHint()).append(" ");
         }
 
-        if (skip != null) {
-            sql.append(skip).append(" ");
+        if (getSkip() != null) {
+            sql.append(getSkip()).append(" ");
         }
 
-        if (first != null) {
-            sql.append(first).append(" ");
+        if (getFirst() != null) {
+            sql.append(getFirst()).append(" ");
         }
 
         if (distinct != null) {
@@ -389,17 +442,17 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
         if (top != null) {
             sql.append(top).append(" ");
         }
-        if (mySqlCacheFlag != null) {
-            sql.append(mySqlCacheFlag.name()).append(" ");
+        if (getMySqlSqlCacheFlag() != null) {
+            sql.append(getMySqlSqlCacheFlag().name()).append(" ");
         }
-        if (mySqlSqlCalcFoundRows) {
+        if (getMySqlSqlCalcFoundRows()) {
             sql.append("SQL_CALC_FOUND_ROWS").append(" ");
         }
         sql.append(getStringList(selectItems));
 
-        if (intoTables != null) {
+        if (getIntoTables() != null) {
             sql.append(" INTO ");
-            for (Iterator<Table> iter = intoTables.iterator(); iter.hasNext();) {
+            for (Iterator<Table> iter = getIntoTables().iterator(); iter.hasNext();) {
                 sql.append(iter.next().toString());
                 if (iter.hasNext()) {
                     sql.append(", ");
@@ -421,14 +474,14 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
                 }
             }
 
-            if (ksqlWindow != null) {
-                sql.append(" WINDOW ").append(ksqlWindow.toString());
+            if (getKsqlWindow() != null) {
+                sql.append(" WINDOW ").append(getKsqlWindow().toString());
             }
             if (where != null) {
                 sql.append(" WHERE ").append(where);
             }
-            if (oracleHierarchical != null) {
-                sql.append(oracleHierarchical.toString());
+            if (getOracleHierarchical() != null) {
+                sql.append(getOracleHierarchical().toString());
             }
             if (groupBy != null) {
                 sql.append(" ").append(groupBy.toString());
@@ -437,13 +490,13 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
                 sql.append(" HAVING ").append(having);
             }
 
-            if (windowDefinitions != null) {
+            if (getWindowDefinitions() != null) {
                 sql.append(" WINDOW ");
-                sql.append(windowDefinitions.stream().map(WindowDefinition::toString).collect(joining(", ")));
+                sql.append(getWindowDefinitions().stream().map(WindowDefinition::toString).collect(joining(", ")));
             }
 
-            sql.append(orderByToString(oracleSiblings, orderByElements));
-            if (emitChanges) {
+            sql.append(orderByToString(isOracleSiblings(), orderByElements));
+            if (isEmitChanges()) {
                 sql.append(" EMIT CHANGES");
             }
             if (limit != null) {
@@ -452,23 +505,23 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
             if (offset != null) {
                 sql.append(offset);
             }
-            if (fetch != null) {
-                sql.append(fetch);
+            if (getFetch() != null) {
+                sql.append(getFetch());
             }
 
-            if (withIsolation != null) {
-                sql.append(withIsolation);
+            if (getWithIsolation() != null) {
+                sql.append(getWithIsolation());
             }
             if (isForUpdate()) {
                 sql.append(" FOR UPDATE");
 
-                if (forUpdateTable != null) {
-                    sql.append(" OF ").append(forUpdateTable);
+                if (getForUpdateTable() != null) {
+                    sql.append(" OF ").append(getForUpdateTable());
                 }
 
-                if (wait != null) {
+                if (getWait() != null) {
                     // Wait's toString will do the formatting for us
-                    sql.append(wait);
+                    sql.append(getWait());
                 }
 
                 if (isNoWait()) {
@@ -477,8 +530,8 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
                     sql.append(" SKIP LOCKED");
                 }
             }
-            if (optimizeFor != null) {
-                sql.append(optimizeFor);
+            if (getOptimizeFor() != null) {
+                sql.append(getOptimizeFor());
             }
         } else {
             // without from
@@ -492,15 +545,15 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
             if (offset != null) {
                 sql.append(offset);
             }
-            if (fetch != null) {
-                sql.append(fetch);
+            if (getFetch() != null) {
+                sql.append(getFetch());
             }
-            if (withIsolation != null) {
-                sql.append(withIsolation);
+            if (getWithIsolation() != null) {
+                sql.append(getWithIsolation());
             }
         }
-        if (forXmlPath != null) {
-            sql.append(" FOR XML PATH(").append(forXmlPath).append(")");
+        if (getForXmlPath() != null) {
+            sql.append(" FOR XML PATH(").append(getForXmlPath()).append(")");
         }
         if (useBrackets) {
             sql.append(")");
@@ -603,27 +656,36 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     }
 
     public void setMySqlSqlCalcFoundRows(boolean mySqlCalcFoundRows) {
-        this.mySqlSqlCalcFoundRows = mySqlCalcFoundRows;
+        checkNotFrozen();
+        if (mySqlCalcFoundRows || rareClauses != null) {
+            rareClauses().mySqlSqlCalcFoundRows = mySqlCalcFoundRows;
+        }
     }
 
     public void setMySqlSqlCacheFlag(MySqlSqlCacheFlags sqlCacheFlag) {
-        this.mySqlCacheFlag = sqlCacheFlag;
+        checkNotFrozen();
+        if (sqlCacheFlag != null || rareClauses != null) {
+            rareClauses().mySqlCacheFlag = sqlCacheFlag;
+        }
     }
 
     public boolean getMySqlSqlCalcFoundRows() {
-        return this.mySqlSqlCalcFoundRows;
+        return rareClauses != null && rareClauses.mySqlSqlCalcFoundRows;
     }
 
     public MySqlSqlCacheFlags getMySqlSqlCacheFlag() {
-        return this.mySqlCacheFlag;
+        return rareClauses != null ? rareClauses.mySqlCacheFlag : null;
     }
 
     public void setNoWait(boolean noWait) {
-        this.noWait = noWait;
+        checkNotFrozen();
+        if (noWait || rareClauses != null) {
+            rareClauses().noWait = noWait;
+        }
     }
 
     public boolean isNoWait() {
-        return this.noWait;
+        return rareClauses != null && rareClauses.noWait;
     }
 
     public PlainSelect withDistinct(Distinct distinct) {
@@ -793,4 +855,40 @@ public class PlainSelect extends ASTNodeAccessImpl implements SelectBody {
     public <E extends Expression> E getHaving(Class<E> type) {
         return type.cast(getHaving());
     }
+
+    private RareClauses rareClauses() {
+        if (rareClauses == null) {
+            rareClauses = new RareClauses();
+        }
+        return rareClauses;
+    }
+
+    /**
+     * The clauses only few selects use. They are kept in a separate object, which is created on
+     * first use, so that common selects do not carry their fields.
+     */
+    private static final class RareClauses implements Serializable {
+
+        private List<Table> intoTables;
+        private Fetch fetch;
+        private OptimizeFor optimizeFor;
+        private Skip skip;
+        private boolean mySqlHintStraightJoin;
+        private First first;
+        private OracleHierarchicalExpression oracleHierarchical;
+        private OracleHint oracleHint;
+        private boolean oracleSiblings;
+        private boolean forUpdate;
+        private Table forUpdateTable;
+        private boolean skipLocked;
+        private Wait wait;
+        private boolean mySqlSqlCalcFoundRows;
+        private MySqlSqlCacheFlags mySqlCacheFlag;
+        private String forXmlPath;
+        private KSQLWindow ksqlWindow;
+        private boolean noWait;
+        private boolean emitChanges;
+        private WithIsolation withIsolation;
+        private List<WindowDefinition> windowDefinitions;
+    }
 }
@@ -15,10 +15,12 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
-public class Select implements Statement {
+public class Select extends Freezable implements Statement {
 
     private SelectBody selectBody;
     private List<WithItem> withItemsList;
@@ -30,6 +32,11 @@ public class Select implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public SelectBody getSelectBody() {
         return selectBody;
     }
@@ -40,14 +47,17 @@ public class Select implements Statement {
     }
 
     public void setSelectBody(SelectBody body) {
+        checkNotFrozen();
         selectBody = body;
     }
 
     public void setUsingWithBrackets(boolean useWithBrackets) {
+        checkNotFrozen();
         this.useWithBrackets = useWithBrackets;
     }
 
     public Select withUsingWithBrackets(boolean useWithBrackets) {
+        checkNotFrozen();
         this.useWithBrackets = useWithBrackets;
         return this;
     }
@@ -86,6 +96,7 @@ public class Select implements Statement {
     }
 
     public void setWithItemsList(List<WithItem> withItemsList) {
+        checkNotFrozen();
         this.withItemsList = withItemsList;
     }
 
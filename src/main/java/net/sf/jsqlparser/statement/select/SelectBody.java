@@ -14,4 +14,6 @@ import net.sf.jsqlparser.Model;
 public interface SelectBody extends Model {
 
     void accept(SelectVisitor selectVisitor);
+
+    <R, C> R accept(SelectContextVisitor<R, C> selectVisitor, C context);
 }
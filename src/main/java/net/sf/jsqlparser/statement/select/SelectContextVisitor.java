@@ -0,0 +1,29 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.statement.select;
+
+import net.sf.jsqlparser.statement.values.ValuesStatement;
+
+/**
+ * The counterpart of {@link SelectVisitor} returning a result and taking a context.
+ *
+ * @param <R> the type of the results
+ * @param <C> the type of the context
+ */
+public interface SelectContextVisitor<R, C> {
+
+    R visit(PlainSelect plainSelect, C context);
+
+    R visit(SetOperationList setOpList, C context);
+
+    R visit(WithItem withItem, C context);
+
+    R visit(ValuesStatement aThis, C context);
+}
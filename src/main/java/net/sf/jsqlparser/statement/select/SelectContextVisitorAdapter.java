@@ -0,0 +1,41 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.statement.select;
+
+import net.sf.jsqlparser.statement.values.ValuesStatement;
+
+/**
+ * A {@link SelectContextVisitor} returning <code>null</code> for every select body.
+ *
+ * @param <R> the type of the results
+ * @param <C> the type of the context
+ */
+public class SelectContextVisitorAdapter<R, C> implements SelectContextVisitor<R, C> {
+
+    @Override
+    public R visit(PlainSelect plainSelect, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(SetOperationList setOpList, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(WithItem withItem, C context) {
+        return null;
+    }
+
+    @Override
+    public R visit(ValuesStatement aThis, C context) {
+        return null;
+    }
+}
@@ -34,10 +34,12 @@ public class SelectExpressionItem extends ASTNodeAccessImpl implements SelectIte
     }
 
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -14,8 +14,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class SetOperationList implements SelectBody {
+public class SetOperationList extends Freezable implements SelectBody {
 
     private List<SelectBody> selects;
     private List<Boolean> brackets;
@@ -31,6 +32,11 @@ public class SetOperationList implements SelectBody {
         selectVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(SelectContextVisitor<R, C> selectVisitor, C context) {
+        return selectVisitor.visit(this, context);
+    }
+
     public List<OrderByElement> getOrderByElements() {
         return orderByElements;
     }
@@ -40,10 +46,12 @@ public class SetOperationList implements SelectBody {
     }
 
     public void setSelects(List<SelectBody> selects) {
+        checkNotFrozen();
         this.selects = selects;
     }
 
     public void setOperations(List<SetOperation> operations) {
+        checkNotFrozen();
         this.operations = operations;
     }
 
@@ -56,14 +64,17 @@ public class SetOperationList implements SelectBody {
     }
 
     public void setBrackets(List<Boolean> brackets) {
+        checkNotFrozen();
         this.brackets = brackets;
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
     public void setBracketsOpsAndSelects(List<Boolean> brackets, List<SelectBody> select, List<SetOperation> ops) {
+        checkNotFrozen();
         selects = select;
         operations = ops;
         this.brackets = brackets;
@@ -78,6 +89,7 @@ public class SetOperationList implements SelectBody {
     }
 
     public void setLimit(Limit limit) {
+        checkNotFrozen();
         this.limit = limit;
     }
 
@@ -86,6 +98,7 @@ public class SetOperationList implements SelectBody {
     }
 
     public void setOffset(Offset offset) {
+        checkNotFrozen();
         this.offset = offset;
     }
 
@@ -94,6 +107,7 @@ public class SetOperationList implements SelectBody {
     }
 
     public void setFetch(Fetch fetch) {
+        checkNotFrozen();
         this.fetch = fetch;
     }
 
@@ -102,6 +116,7 @@ public class SetOperationList implements SelectBody {
     }
 
     public void setWithIsolation(WithIsolation withIsolation) {
+        checkNotFrozen();
         this.withIsolation = withIsolation;
     }
 
@@ -10,10 +10,11 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.JdbcParameter;
+import net.sf.jsqlparser.parser.Freezable;
 
 import java.io.Serializable;
 
-public class Skip implements Serializable {
+public class Skip extends Freezable implements Serializable {
 
     private Long rowCount;
     private JdbcParameter jdbcParameter;
@@ -24,6 +25,7 @@ public class Skip implements Serializable {
     }
 
     public void setRowCount(Long rowCount) {
+        checkNotFrozen();
         this.rowCount = rowCount;
     }
 
@@ -32,6 +34,7 @@ public class Skip implements Serializable {
     }
 
     public void setJdbcParameter(JdbcParameter jdbcParameter) {
+        checkNotFrozen();
         this.jdbcParameter = jdbcParameter;
     }
 
@@ -40,6 +43,7 @@ public class Skip implements Serializable {
     }
 
     public void setVariable(String variable) {
+        checkNotFrozen();
         this.variable = variable;
     }
 
@@ -10,12 +10,13 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.parser.Freezable;
 
 /**
  * Special sub selects of the form prefix ( subselect ) e.g. lateral ( select * from mytable ).
  * @author tobens
  */
-public abstract class SpecialSubSelect implements FromItem {
+public abstract class SpecialSubSelect extends Freezable implements FromItem {
 
     private SubSelect subSelect;
     private Alias alias;
@@ -32,6 +33,7 @@ public abstract class SpecialSubSelect implements FromItem {
     }
 
     public void setSubSelect(SubSelect subSelect) {
+        checkNotFrozen();
         this.subSelect = subSelect;
     }
 
@@ -46,6 +48,7 @@ public abstract class SpecialSubSelect implements FromItem {
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -56,6 +59,7 @@ public abstract class SpecialSubSelect implements FromItem {
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
         this.pivot = pivot;
     }
 
@@ -66,6 +70,7 @@ public abstract class SpecialSubSelect implements FromItem {
 
     @Override
     public void setUnPivot(UnPivot unpivot) {
+        checkNotFrozen();
         this.unpivot = unpivot;
     }
 
@@ -15,8 +15,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class SubJoin implements FromItem {
+public class SubJoin extends Freezable implements FromItem {
 
     private FromItem left;
     private Alias alias;
@@ -29,6 +30,11 @@ public class SubJoin implements FromItem {
         fromItemVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(FromItemContextVisitor<R, C> fromItemVisitor, C context) {
+        return fromItemVisitor.visit(this, context);
+    }
+
     public FromItem getLeft() {
         return left;
     }
@@ -39,6 +45,7 @@ public class SubJoin implements FromItem {
     }
 
     public void setLeft(FromItem l) {
+        checkNotFrozen();
         left = l;
     }
 
@@ -47,6 +54,7 @@ public class SubJoin implements FromItem {
     }
 
     public void setJoinList(List<Join> joinList) {
+        checkNotFrozen();
         this.joinList = joinList;
     }
 
@@ -57,6 +65,7 @@ public class SubJoin implements FromItem {
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
         this.pivot = pivot;
     }
 
@@ -67,6 +76,7 @@ public class SubJoin implements FromItem {
 
     @Override
     public void setUnPivot(UnPivot unpivot) {
+        checkNotFrozen();
         this.unpivot = unpivot;
     }
 
@@ -77,6 +87,7 @@ public class SubJoin implements FromItem {
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
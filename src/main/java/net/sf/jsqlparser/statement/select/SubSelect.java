@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.Alias;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 import net.sf.jsqlparser.expression.operators.relational.ItemsList;
 import net.sf.jsqlparser.expression.operators.relational.ItemsListVisitor;
@@ -37,11 +38,17 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
         fromItemVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(FromItemContextVisitor<R, C> fromItemVisitor, C context) {
+        return fromItemVisitor.visit(this, context);
+    }
+
     public SelectBody getSelectBody() {
         return selectBody;
     }
 
     public void setSelectBody(SelectBody body) {
+        checkNotFrozen();
         selectBody = body;
     }
 
@@ -50,6 +57,11 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
         expressionVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(this, context);
+    }
+
     @Override
     public Alias getAlias() {
         return alias;
@@ -57,6 +69,7 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -67,6 +80,7 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
         this.pivot = pivot;
     }
 
@@ -77,6 +91,7 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
 
     @Override
     public void setUnPivot(UnPivot unpivot) {
+        checkNotFrozen();
         this.unpivot = unpivot;
     }
 
@@ -85,6 +100,7 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
     }
 
     public void setUseBrackets(boolean useBrackets) {
+        checkNotFrozen();
         this.useBrackets = useBrackets;
     }
 
@@ -93,6 +109,7 @@ public class SubSelect extends ASTNodeAccessImpl implements FromItem, Expression
     }
 
     public void setWithItemsList(List<WithItem> withItemsList) {
+        checkNotFrozen();
         this.withItemsList = withItemsList;
     }
 
@@ -20,6 +20,11 @@ public class TableFunction extends FunctionItem implements FromItem {
         fromItemVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(FromItemContextVisitor<R, C> fromItemVisitor, C context) {
+        return fromItemVisitor.visit(this, context);
+    }
+
     @Override
     public Pivot getPivot() {
         return null;
@@ -27,6 +32,7 @@ public class TableFunction extends FunctionItem implements FromItem {
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
 
     }
 
@@ -37,6 +43,7 @@ public class TableFunction extends FunctionItem implements FromItem {
 
     @Override
     public void setUnPivot(UnPivot unpivot) {
+        checkNotFrozen();
 
     }
 
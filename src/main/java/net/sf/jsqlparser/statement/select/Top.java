@@ -10,10 +10,11 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 
 import java.io.Serializable;
 
-public class Top implements Serializable {
+public class Top extends Freezable implements Serializable {
 
     private boolean hasParenthesis = false;
     private boolean isPercentage = false;
@@ -25,6 +26,7 @@ public class Top implements Serializable {
     }
 
     public void setExpression(Expression expression) {
+        checkNotFrozen();
         this.expression = expression;
     }
 
@@ -33,6 +35,7 @@ public class Top implements Serializable {
     }
 
     public void setParenthesis(boolean hasParenthesis) {
+        checkNotFrozen();
         this.hasParenthesis = hasParenthesis;
     }
 
@@ -41,10 +44,12 @@ public class Top implements Serializable {
     }
 
     public void setPercentage(boolean percentage) {
+        checkNotFrozen();
         this.isPercentage = percentage;
     }
 
     public void setWithTies(boolean withTies) {
+        checkNotFrozen();
         this.isWithTies = withTies;
     }
 
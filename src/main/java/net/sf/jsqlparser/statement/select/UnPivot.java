@@ -10,12 +10,13 @@
 package net.sf.jsqlparser.statement.select;
 
 import net.sf.jsqlparser.expression.Alias;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Column;
 
 import java.io.Serializable;
 import java.util.List;
 
-public class UnPivot implements Serializable {
+public class UnPivot extends Freezable implements Serializable {
 
     private boolean includeNulls = false;
     private boolean includeNullsSpecified = false;
@@ -33,6 +34,7 @@ public class UnPivot implements Serializable {
     }
 
     public void setIncludeNulls(boolean includeNulls) {
+        checkNotFrozen();
         this.includeNullsSpecified = true;
         this.includeNulls = includeNulls;
     }
@@ -46,6 +48,7 @@ public class UnPivot implements Serializable {
     }
 
     public void setUnPivotClause(List<Column> unpivotClause) {
+        checkNotFrozen();
         this.unpivotClause = unpivotClause;
     }
 
@@ -54,6 +57,7 @@ public class UnPivot implements Serializable {
     }
 
     public void setUnPivotForClause(List<Column> forColumns) {
+        checkNotFrozen();
         this.unpivotForClause = forColumns;
     }
 
@@ -62,6 +66,7 @@ public class UnPivot implements Serializable {
     }
 
     public void setUnPivotInClause(List<SelectExpressionItem> unpivotInClause) {
+        checkNotFrozen();
         this.unpivotInClause = unpivotInClause;
     }
 
@@ -86,6 +91,7 @@ public class UnPivot implements Serializable {
     }
 
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 }
@@ -25,6 +25,7 @@ public class UnionOp extends SetOperation {
     }
 
     public void setAll(boolean all) {
+        checkNotFrozen();
         this.all = all;
     }
 
@@ -33,6 +34,7 @@ public class UnionOp extends SetOperation {
     }
 
     public void setDistinct(boolean distinct) {
+        checkNotFrozen();
         this.distinct = distinct;
     }
 
@@ -18,9 +18,10 @@ import java.util.Optional;
 import net.sf.jsqlparser.expression.Alias;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
 import net.sf.jsqlparser.expression.operators.relational.MultiExpressionList;
+import net.sf.jsqlparser.parser.Freezable;
 
 @SuppressWarnings({"PMD.UncommentedEmptyMethodBody"})
-public class ValuesList implements FromItem {
+public class ValuesList extends Freezable implements FromItem {
 
     private Alias alias;
     private MultiExpressionList multiExpressionList;
@@ -39,6 +40,11 @@ public class ValuesList implements FromItem {
         fromItemVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(FromItemContextVisitor<R, C> fromItemVisitor, C context) {
+        return fromItemVisitor.visit(this, context);
+    }
+
     @Override
     public Alias getAlias() {
         return alias;
@@ -46,6 +52,7 @@ public class ValuesList implements FromItem {
 
     @Override
     public void setAlias(Alias alias) {
+        checkNotFrozen();
         this.alias = alias;
     }
 
@@ -56,6 +63,7 @@ public class ValuesList implements FromItem {
 
     @Override
     public void setPivot(Pivot pivot) {
+        checkNotFrozen();
     }
 
     @Override
@@ -65,6 +73,7 @@ public class ValuesList implements FromItem {
 
     @Override
     public void setUnPivot(UnPivot unpivot) {
+        checkNotFrozen();
     }
 
     public MultiExpressionList getMultiExpressionList() {
@@ -72,6 +81,7 @@ public class ValuesList implements FromItem {
     }
 
     public void setMultiExpressionList(MultiExpressionList multiExpressionList) {
+        checkNotFrozen();
         this.multiExpressionList = multiExpressionList;
     }
 
@@ -80,6 +90,7 @@ public class ValuesList implements FromItem {
     }
 
     public void setNoBrackets(boolean noBrackets) {
+        checkNotFrozen();
         this.noBrackets = noBrackets;
     }
 
@@ -118,6 +129,7 @@ public class ValuesList implements FromItem {
     }
 
     public void setColumnNames(List<String> columnNames) {
+        checkNotFrozen();
         this.columnNames = columnNames;
     }
 
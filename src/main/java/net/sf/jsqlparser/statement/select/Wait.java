@@ -10,8 +10,9 @@
 package net.sf.jsqlparser.statement.select;
 
 import java.io.Serializable;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class Wait implements Serializable {
+public class Wait extends Freezable implements Serializable {
 
     private long timeout;
 
@@ -20,6 +21,7 @@ public class Wait implements Serializable {
     }
 
     public void setTimeout(long timeout) {
+        checkNotFrozen();
         this.timeout = timeout;
     }
 
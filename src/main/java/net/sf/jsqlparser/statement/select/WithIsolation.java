@@ -11,8 +11,9 @@ package net.sf.jsqlparser.statement.select;
 
 
 import java.io.Serializable;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class WithIsolation implements Serializable {
+public class WithIsolation extends Freezable implements Serializable {
 
     private String isolation = "UR";
 
@@ -20,6 +21,7 @@ public class WithIsolation implements Serializable {
         return this.isolation;
     }
     public void setIsolation(String s) {
+        checkNotFrozen();
         this.isolation = s;
     }
 
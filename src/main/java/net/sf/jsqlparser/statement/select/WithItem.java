@@ -16,8 +16,9 @@ import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
 import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.parser.Freezable;
 
-public class WithItem implements SelectBody {
+public class WithItem extends Freezable implements SelectBody {
 
     private String name;
     private List<SelectItem> withItemList;
@@ -38,6 +39,7 @@ public class WithItem implements SelectBody {
     }
 
     public void setItemsList(ItemsList list) {
+        checkNotFrozen();
         itemsList = list;
     }
 
@@ -46,6 +48,7 @@ public class WithItem implements SelectBody {
     }
 
     public void setUseValues(boolean useValues) {
+        checkNotFrozen();
         this.useValues = useValues;
     }
 
@@ -64,6 +67,7 @@ public class WithItem implements SelectBody {
     }
 
     public void setUseBracketsForValues(boolean useBracketsForValues) {
+        checkNotFrozen();
         this.useBracketsForValues = useBracketsForValues;
     }
 
@@ -77,6 +81,7 @@ public class WithItem implements SelectBody {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -85,6 +90,7 @@ public class WithItem implements SelectBody {
     }
 
     public void setRecursive(boolean recursive) {
+        checkNotFrozen();
         this.recursive = recursive;
     }
 
@@ -93,6 +99,7 @@ public class WithItem implements SelectBody {
     }
 
     public void setSubSelect(SubSelect subSelect) {
+        checkNotFrozen();
         this.subSelect = subSelect.withUseBrackets(false);
     }
 
@@ -106,6 +113,7 @@ public class WithItem implements SelectBody {
     }
 
     public void setWithItemList(List<SelectItem> withItemList) {
+        checkNotFrozen();
         this.withItemList = withItemList;
     }
 
@@ -139,6 +147,11 @@ public class WithItem implements SelectBody {
         visitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(SelectContextVisitor<R, C> visitor, C context) {
+        return visitor.visit(this, context);
+    }
+
     public WithItem withName(String name) {
         this.setName(name);
         return this;
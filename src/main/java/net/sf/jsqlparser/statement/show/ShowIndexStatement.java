@@ -9,7 +9,9 @@
      */
 package net.sf.jsqlparser.statement.show;
 
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
 /**
@@ -17,7 +19,7 @@ import net.sf.jsqlparser.statement.StatementVisitor;
 * @author Jayant Kumar Yadav
 */
 
-public class ShowIndexStatement implements Statement {
+public class ShowIndexStatement extends Freezable implements Statement {
 
     private String tableName;
 
@@ -34,6 +36,7 @@ public class ShowIndexStatement implements Statement {
     }
 
     public void setTableName(String tableName) {
+        checkNotFrozen();
         this.tableName = tableName;
     }
 
@@ -47,8 +50,13 @@ public class ShowIndexStatement implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public ShowIndexStatement withTableName(String tableName) {
         this.setTableName(tableName);
         return this;
     }
-}
\ No newline at end of file
+}
@@ -10,7 +10,9 @@
 package net.sf.jsqlparser.statement.show;
 
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
 import java.util.EnumSet;
@@ -19,7 +21,7 @@ import java.util.EnumSet;
  * A {@code SHOW TABLES} statement
  * @see <a href="https://dev.mysql.com/doc/refman/8.0/en/show-tables.html">MySQL show tables</a>
  */
-public class ShowTablesStatement implements Statement {
+public class ShowTablesStatement extends Freezable implements Statement {
 
     private EnumSet<Modifiers> modifiers;
     private SelectionMode selectionMode;
@@ -32,6 +34,7 @@ public class ShowTablesStatement implements Statement {
     }
 
     public void setModifiers(EnumSet<Modifiers> modifiers) {
+        checkNotFrozen();
         this.modifiers = modifiers;
     }
 
@@ -40,6 +43,7 @@ public class ShowTablesStatement implements Statement {
     }
 
     public void setSelectionMode(SelectionMode selectionMode) {
+        checkNotFrozen();
         this.selectionMode = selectionMode;
     }
 
@@ -48,6 +52,7 @@ public class ShowTablesStatement implements Statement {
     }
 
     public void setDbName(String dbName) {
+        checkNotFrozen();
         this.dbName = dbName;
     }
 
@@ -56,6 +61,7 @@ public class ShowTablesStatement implements Statement {
     }
 
     public void setLikeExpression(Expression likeExpression) {
+        checkNotFrozen();
         this.likeExpression = likeExpression;
     }
 
@@ -64,6 +70,7 @@ public class ShowTablesStatement implements Statement {
     }
 
     public void setWhereCondition(Expression whereCondition) {
+        checkNotFrozen();
         this.whereCondition = whereCondition;
     }
 
@@ -101,6 +108,11 @@ public class ShowTablesStatement implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public enum SelectionMode {
         FROM, IN
     }
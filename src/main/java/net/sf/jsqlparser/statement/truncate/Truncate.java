@@ -9,11 +9,13 @@
  */
 package net.sf.jsqlparser.statement.truncate;
 
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 
-public class Truncate implements Statement {
+public class Truncate extends Freezable implements Statement {
 
     private Table table;
     boolean cascade;  // to support TRUNCATE TABLE ... CASCADE
@@ -26,11 +28,17 @@ public class Truncate implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public Table getTable() {
         return table;
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
@@ -39,6 +47,7 @@ public class Truncate implements Statement {
     }
 
     public void setCascade(boolean c) {
+        checkNotFrozen();
         cascade = c;
     }
 
@@ -66,6 +75,7 @@ public class Truncate implements Statement {
     }
 
     public void setTableToken(boolean hasTable) {
+        checkNotFrozen();
         this.tableToken = hasTable;
     }
 
@@ -74,6 +84,7 @@ public class Truncate implements Statement {
     }
 
     public void setOnly(boolean only) {
+        checkNotFrozen();
         this.only = only;
     }
 
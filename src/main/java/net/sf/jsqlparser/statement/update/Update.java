@@ -17,20 +17,22 @@ import java.util.List;
 import java.util.Optional;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.OracleHint;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.OutputClause;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.*;
 
 @SuppressWarnings({"PMD.CyclomaticComplexity"})
-public class Update implements Statement {
+public class Update extends Freezable implements Statement {
 
     private List<WithItem> withItemsList;
     private Table table;
     private Expression where;
-    private final ArrayList<UpdateSet> updateSets = new ArrayList<>();
+    private List<UpdateSet> updateSets = new ArrayList<>();
     private FromItem fromItem;
     private List<Join> joins;
     private List<Join> startJoins;
@@ -48,10 +50,11 @@ public class Update implements Statement {
     }
 
     public void setOutputClause(OutputClause outputClause) {
+        checkNotFrozen();
         this.outputClause = outputClause;
     }
 
-    public ArrayList<UpdateSet> getUpdateSets() {
+    public List<UpdateSet> getUpdateSets() {
         return updateSets;
     }
 
@@ -60,11 +63,17 @@ public class Update implements Statement {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public List<WithItem> getWithItemsList() {
         return withItemsList;
     }
 
     public void setWithItemsList(List<WithItem> withItemsList) {
+        checkNotFrozen();
         this.withItemsList = withItemsList;
     }
 
@@ -94,10 +103,12 @@ public class Update implements Statement {
     }
 
     public void setTable(Table table) {
+        checkNotFrozen();
         this.table = table;
     }
 
     public void setWhere(Expression expression) {
+        checkNotFrozen();
         where = expression;
     }
 
@@ -106,14 +117,17 @@ public class Update implements Statement {
     }
 
     public void setOracleHint(OracleHint oracleHint) {
+        checkNotFrozen();
         this.oracleHint = oracleHint;
     }
 
     public void addUpdateSet(Column column, Expression expression) {
+        checkNotFrozen();
         updateSets.add(new UpdateSet(column, expression));
     }
 
     public void addUpdateSet(UpdateSet updateSet) {
+        checkNotFrozen();
         updateSets.add(updateSet);
     }
 
@@ -129,6 +143,7 @@ public class Update implements Statement {
 
     @Deprecated
     public void setColumns(List<Column> list) {
+        checkNotFrozen();
         if (updateSets.isEmpty()) {
             updateSets.add(new UpdateSet());
         }
@@ -138,6 +153,7 @@ public class Update implements Statement {
 
     @Deprecated
     public void setExpressions(List<Expression> list) {
+        checkNotFrozen();
         updateSets.get(0).expressions.clear();
         updateSets.get(0).expressions.addAll(list);
     }
@@ -147,6 +163,7 @@ public class Update implements Statement {
     }
 
     public void setFromItem(FromItem fromItem) {
+        checkNotFrozen();
         this.fromItem = fromItem;
     }
 
@@ -155,6 +172,7 @@ public class Update implements Statement {
     }
 
     public void setJoins(List<Join> joins) {
+        checkNotFrozen();
         this.joins = joins;
     }
 
@@ -163,6 +181,7 @@ public class Update implements Statement {
     }
 
     public void setStartJoins(List<Join> startJoins) {
+        checkNotFrozen();
         this.startJoins = startJoins;
     }
 
@@ -179,6 +198,7 @@ public class Update implements Statement {
 
     @Deprecated
     public void setSelect(Select select) {
+        checkNotFrozen();
         if (select != null) {
             SubSelect subSelect = new SubSelect().withSelectBody(select.getSelectBody());
             if (select.getWithItemsList() != null && select.getWithItemsList().size() > 0) {
@@ -200,6 +220,7 @@ public class Update implements Statement {
 
     @Deprecated
     public void setUseColumnsBrackets(boolean useColumnsBrackets) {
+        checkNotFrozen();
         updateSets.get(0).usingBracketsForColumns = useColumnsBrackets;
     }
 
@@ -210,14 +231,17 @@ public class Update implements Statement {
 
     @Deprecated
     public void setUseSelect(boolean useSelect) {
+        checkNotFrozen();
         //todo
     }
 
     public void setOrderByElements(List<OrderByElement> orderByElements) {
+        checkNotFrozen();
         this.orderByElements = orderByElements;
     }
 
     public void setLimit(Limit limit) {
+        checkNotFrozen();
         this.limit = limit;
     }
 
@@ -234,6 +258,7 @@ public class Update implements Statement {
     }
 
     public void setReturningExpressionList(List<SelectItem> returningExpressionList) {
+        checkNotFrozen();
         this.returningExpressionList = returningExpressionList;
     }
 
@@ -242,6 +267,7 @@ public class Update implements Statement {
     }
 
     public void setModifierPriority(UpdateModifierPriority modifierPriority) {
+        checkNotFrozen();
         this.modifierPriority = modifierPriority;
     }
 
@@ -250,6 +276,7 @@ public class Update implements Statement {
     }
 
     public void setModifierIgnore(boolean modifierIgnore) {
+        checkNotFrozen();
         this.modifierIgnore = modifierIgnore;
     }
 
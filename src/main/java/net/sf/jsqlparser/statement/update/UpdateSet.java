@@ -11,18 +11,20 @@ package net.sf.jsqlparser.statement.update;
 
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Column;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
-public class UpdateSet implements Serializable {
+public class UpdateSet extends Freezable implements Serializable {
     protected boolean usingBracketsForColumns = false;
     protected boolean usingBracketsForValues = false;
-    protected ArrayList<Column> columns = new ArrayList<>();
-    protected ArrayList<Expression> expressions = new ArrayList<>();
+    protected List<Column> columns = new ArrayList<>();
+    protected List<Expression> expressions = new ArrayList<>();
 
     public UpdateSet() {
 
@@ -42,6 +44,7 @@ public class UpdateSet implements Serializable {
     }
 
     public void setUsingBracketsForValues(boolean usingBracketsForValues) {
+        checkNotFrozen();
         this.usingBracketsForValues = usingBracketsForValues;
     }
 
@@ -50,39 +53,46 @@ public class UpdateSet implements Serializable {
     }
 
     public void setUsingBracketsForColumns(boolean usingBracketsForColumns) {
+        checkNotFrozen();
         this.usingBracketsForColumns = usingBracketsForColumns;
     }
 
-    public ArrayList<Column> getColumns() {
+    public List<Column> getColumns() {
         return columns;
     }
 
-    public void setColumns(ArrayList<Column> columns) {
+    public void setColumns(List<Column> columns) {
+        checkNotFrozen();
         this.columns = Objects.requireNonNull(columns);
     }
 
-    public ArrayList<Expression> getExpressions() {
+    public List<Expression> getExpressions() {
         return expressions;
     }
 
-    public void setExpressions(ArrayList<Expression> expressions) {
+    public void setExpressions(List<Expression> expressions) {
+        checkNotFrozen();
         this.expressions = Objects.requireNonNull(expressions);
     }
 
     public void add(Column column, Expression expression) {
+        checkNotFrozen();
         columns.add(column);
         expressions.add(expression);
     }
 
     public void add(Column column) {
+        checkNotFrozen();
         columns.add(column);
     }
 
     public void add(Expression expression) {
+        checkNotFrozen();
         expressions.add(expression);
     }
 
     public void add(ExpressionList expressionList) {
+        checkNotFrozen();
         expressions.addAll(expressionList.getExpressions());
     }
 
@@ -136,5 +146,4 @@ public class UpdateSet implements Serializable {
 
         return builder;
     }
-
 }
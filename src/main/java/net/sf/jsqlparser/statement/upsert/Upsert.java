@@ -12,9 +12,11 @@ package net.sf.jsqlparser.statement.upsert;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
 import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
@@ -25,7 +27,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-public class Upsert implements Statement {
+public class Upsert extends Freezable implements Statement {
 
     private Table table;
     private List<Column> columns;
@@ -46,11 +48,17 @@ public class Upsert implements Statement {
         statementVisitor.visit(this); 
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public UpsertType getUpsertType() {
         return upsertType;
     }
 
     public void setUpsertType(UpsertType upsertType) {
+        checkNotFrozen();
         this.upsertType=upsertType;
     }
 
@@ -64,6 +72,7 @@ public class Upsert implements Statement {
     }
 
     public void setUsingInto(boolean useInto) {
+        checkNotFrozen();
         this.isUsingInto = useInto;
     }
 
@@ -73,6 +82,7 @@ public class Upsert implements Statement {
     }
     
     public void setTable(Table name) {
+        checkNotFrozen();
         table = name;
     }
     
@@ -81,6 +91,7 @@ public class Upsert implements Statement {
     }
     
     public void setColumns(List<Column> list) {
+        checkNotFrozen();
         columns = list;
     }
     
@@ -89,6 +100,7 @@ public class Upsert implements Statement {
     }
     
     public void setItemsList(ItemsList list) {
+        checkNotFrozen();
         itemsList = list;
     }
     
@@ -106,6 +118,7 @@ public class Upsert implements Statement {
     }
     
     public void setUseValues(boolean useValues) {
+        checkNotFrozen();
         this.useValues = useValues;
     }
     
@@ -114,6 +127,7 @@ public class Upsert implements Statement {
     }
     
     public void setSelect(Select select) {
+        checkNotFrozen();
         this.select = select;
     }
     
@@ -122,6 +136,7 @@ public class Upsert implements Statement {
     }
     
     public void setUseSelectBrackets(boolean useSelectBrackets) {
+        checkNotFrozen();
         this.useSelectBrackets = useSelectBrackets;
     }
     
@@ -130,6 +145,7 @@ public class Upsert implements Statement {
     }
     
     public void setUseDuplicate(boolean useDuplicate) {
+        checkNotFrozen();
         this.useDuplicate = useDuplicate;
     }
     
@@ -138,6 +154,7 @@ public class Upsert implements Statement {
     }
     
     public void setDuplicateUpdateColumns(List<Column> duplicateUpdateColumns) {
+        checkNotFrozen();
         this.duplicateUpdateColumns = duplicateUpdateColumns;
     }
     
@@ -146,6 +163,7 @@ public class Upsert implements Statement {
     }
     
     public void setDuplicateUpdateExpressionList(List<Expression> duplicateUpdateExpressionList) {
+        checkNotFrozen();
         this.duplicateUpdateExpressionList = duplicateUpdateExpressionList;
     }
     
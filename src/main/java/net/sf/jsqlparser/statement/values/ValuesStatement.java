@@ -14,12 +14,15 @@ import java.util.Collection;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
 import net.sf.jsqlparser.expression.operators.relational.ItemsList;
+import net.sf.jsqlparser.parser.Freezable;
 import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
 import net.sf.jsqlparser.statement.StatementVisitor;
 import net.sf.jsqlparser.statement.select.SelectBody;
+import net.sf.jsqlparser.statement.select.SelectContextVisitor;
 import net.sf.jsqlparser.statement.select.SelectVisitor;
 
-public class ValuesStatement implements Statement, SelectBody {
+public class ValuesStatement extends Freezable implements Statement, SelectBody {
 
     private ItemsList expressions;
 
@@ -36,11 +39,17 @@ public class ValuesStatement implements Statement, SelectBody {
         statementVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(StatementContextVisitor<R, C> statementVisitor, C context) {
+        return statementVisitor.visit(this, context);
+    }
+
     public ItemsList getExpressions() {
         return expressions;
     }
 
     public void setExpressions(ItemsList expressions) {
+        checkNotFrozen();
         this.expressions = expressions;
     }
 
@@ -57,12 +66,18 @@ public class ValuesStatement implements Statement, SelectBody {
         selectVisitor.visit(this);
     }
 
+    @Override
+    public <R, C> R accept(SelectContextVisitor<R, C> selectVisitor, C context) {
+        return selectVisitor.visit(this, context);
+    }
+
     public ValuesStatement withExpressions(ItemsList expressions) {
         this.setExpressions(expressions);
         return this;
     }
 
     public ValuesStatement addExpressions(Expression... addExpressions) {
+        checkNotFrozen();
         if (expressions != null && expressions instanceof ExpressionList) {
             ((ExpressionList) expressions).addExpressions(addExpressions);
             return this;
@@ -72,6 +87,7 @@ public class ValuesStatement implements Statement, SelectBody {
     }
 
     public ValuesStatement addExpressions(Collection<? extends Expression> addExpressions) {
+        checkNotFrozen();
         if (expressions != null && expressions instanceof ExpressionList) {
             ((ExpressionList) expressions).addExpressions(addExpressions);
             return this;
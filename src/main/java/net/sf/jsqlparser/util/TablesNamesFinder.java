@@ -78,6 +78,7 @@ import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
 import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
 import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.ConditionalChain;
 import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
 import net.sf.jsqlparser.expression.operators.conditional.XorExpression;
 import net.sf.jsqlparser.expression.operators.relational.Between;
@@ -287,6 +288,13 @@ public class TablesNamesFinder implements SelectVisitor, FromItemVisitor, Expres
         visitBinaryExpression(andExpression);
     }
 
+    @Override
+    public void visit(ConditionalChain conditionalChain) {
+        for (Expression expression : conditionalChain.getExpressions()) {
+            expression.accept(this);
+        }
+    }
+
     @Override
     public void visit(Between between) {
         between.getLeftExpression().accept(this);
@@ -0,0 +1,37 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util;
+
+/**
+ * Tells a traversal how to go on after it reached a node. The node is reached by a call of
+ * <code>enter</code>; whatever else the traversal does with the node comes after that call and is
+ * left out unless it returns {@link #CONTINUE}. See
+ * {@link net.sf.jsqlparser.expression.ExpressionVisitorAdapter#enter(net.sf.jsqlparser.expression.Expression)},
+ * {@link net.sf.jsqlparser.statement.StatementVisitorAdapter#enter(net.sf.jsqlparser.statement.Statement)}
+ * and {@link net.sf.jsqlparser.util.model.ModelWalker.Listener}.
+ */
+public enum TraversalControl {
+
+    /**
+     * visit the node and its children, and leave the node afterwards
+     */
+    CONTINUE,
+
+    /**
+     * leave out the node and its children, and go on with its next sibling: the adapters do not
+     * visit the node, and the walkers neither walk its children nor leave it
+     */
+    SKIP_SUBTREE,
+
+    /**
+     * stop the traversal, no further node is visited
+     */
+    TERMINATE
+}
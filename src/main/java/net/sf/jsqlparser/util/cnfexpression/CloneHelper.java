@@ -15,6 +15,7 @@ import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.NotExpression;
 import net.sf.jsqlparser.expression.Parenthesis;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.ConditionalChain;
 import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
 
 /**
@@ -58,6 +59,17 @@ class CloneHelper {
 //            }
             return result;
         }
+        if (express instanceof ConditionalChain) {
+            ConditionalChain chain = (ConditionalChain) express;
+            List<Expression> list = new ArrayList<>();
+            for (Expression condition : chain.getExpressions()) {
+                list.add(modify(condition));
+            }
+            if (chain.getOperator() == ConditionalChain.Operator.OR) {
+                return new MultiOrExpression(list);
+            }
+            return new MultiAndExpression(list);
+        }
 //        if (express instanceof BinaryExpression) {
 //            BinaryExpression binary = (BinaryExpression) express;
 //            if (binary.isNot()) {
@@ -11,6 +11,7 @@ package net.sf.jsqlparser.util.cnfexpression;
 
 import java.util.List;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionContextVisitor;
 import net.sf.jsqlparser.expression.ExpressionVisitor;
 import net.sf.jsqlparser.expression.NullValue;
 import net.sf.jsqlparser.parser.ASTNodeAccessImpl;
@@ -38,6 +39,11 @@ public abstract class MultipleExpression extends ASTNodeAccessImpl implements Ex
         expressionVisitor.visit(new NullValue());
     }
 
+    @Override
+    public <R, C> R accept(ExpressionContextVisitor<R, C> expressionVisitor, C context) {
+        return expressionVisitor.visit(new NullValue(), context);
+    }
+
     public List<Expression> getList() {
         return childlist;
     }
@@ -51,6 +57,7 @@ public abstract class MultipleExpression extends ASTNodeAccessImpl implements Ex
     }
 
     public void setChild(int index, Expression express) {
+        checkNotFrozen();
         childlist.set(index, express);
     }
 
@@ -59,6 +66,7 @@ public abstract class MultipleExpression extends ASTNodeAccessImpl implements Ex
     }
 
     public void addChild(int index, Expression express) {
+        checkNotFrozen();
         childlist.add(index, express);
     }
 
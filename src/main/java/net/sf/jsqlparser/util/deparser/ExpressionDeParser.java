@@ -27,6 +27,7 @@ import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
 import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
 import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.ConditionalChain;
 import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
 import net.sf.jsqlparser.expression.operators.conditional.XorExpression;
 import net.sf.jsqlparser.expression.operators.relational.Between;
@@ -93,6 +94,19 @@ public class ExpressionDeParser extends AbstractDeParser<Expression>
         visitBinaryExpression(andExpression, andExpression.isUseOperator() ? " && " : " AND ");
     }
 
+    @Override
+    public void visit(ConditionalChain conditionalChain) {
+        String operator = " " + conditionalChain.getStringExpression() + " ";
+        boolean first = true;
+        for (Expression expression : conditionalChain.getExpressions()) {
+            if (!first) {
+                buffer.append(operator);
+            }
+            expression.accept(this);
+            first = false;
+        }
+    }
+
     @Override
     public void visit(Between between) {
         between.getLeftExpression().accept(this);
@@ -453,7 +453,7 @@ public class SelectDeParser extends AbstractDeParser<PlainSelect>
             buffer.append(" ON ");
             onExpression.accept(expressionVisitor);
         }
-        if (join.getUsingColumns().size() > 0) {
+        if (!join.getUsingColumns().isEmpty()) {
             buffer.append(" USING (");
             for (Iterator<Column> iterator = join.getUsingColumns().iterator(); iterator.hasNext();) {
                 Column column = iterator.next();
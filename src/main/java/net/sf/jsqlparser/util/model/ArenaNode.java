@@ -0,0 +1,144 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A view of a single node of a {@link ModelArena}. Views only hold the arena and the number of
+ * the node, so they are cheap to create and to throw away.
+ *
+ * Views read the arrays of the arena only. A view is not an {@code Expression} or
+ * {@code Statement} and can not be passed to the existing visitors, deparsers or validators: call
+ * {@link #toModel()} first and visit the object tree it returns.
+ */
+public final class ArenaNode {
+
+    private final ModelArena arena;
+
+    private final int index;
+
+    ArenaNode(ModelArena arena, int index) {
+        this.arena = arena;
+        this.index = index;
+    }
+
+    public ModelArena getArena() {
+        return arena;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Class<?> getKind() {
+        return arena.getKind(index);
+    }
+
+    public String getFieldName() {
+        return arena.getFieldName(index);
+    }
+
+    public Object getAttribute(String fieldName) {
+        return arena.getAttribute(index, fieldName);
+    }
+
+    public Map<String, Object> getAttributes() {
+        return arena.getAttributes(index);
+    }
+
+    public ArenaNode getParent() {
+        return view(arena.getParent(index));
+    }
+
+    public ArenaNode getFirstChild() {
+        return view(arena.getFirstChild(index));
+    }
+
+    public ArenaNode getNextSibling() {
+        return view(arena.getNextSibling(index));
+    }
+
+    public List<ArenaNode> getChildren() {
+        List<ArenaNode> children = new ArrayList<>();
+        for (int child = arena.getFirstChild(index); child != ModelArena.NO_NODE; child = arena.getNextSibling(child)) {
+            children.add(new ArenaNode(arena, child));
+        }
+        return children;
+    }
+
+    /**
+     * @param fieldName the name of a field of this node
+     * @return the child held by the field, <code>null</code> if the field is <code>null</code> or
+     * scalar
+     */
+    public ArenaNode getChild(String fieldName) {
+        for (int child = arena.getFirstChild(index); child != ModelArena.NO_NODE; child = arena.getNextSibling(child)) {
+            if (fieldName.equals(arena.getFieldName(child))) {
+                return new ArenaNode(arena, child);
+            }
+        }
+        return null;
+    }
+
+    public int getBeginOffset() {
+        return arena.getBeginOffset(index);
+    }
+
+    public int getEndOffset() {
+        return arena.getEndOffset(index);
+    }
+
+    /**
+     * @param visitor the visitor receiving this node and its descendants
+     * @see ModelArena#walk(int, ModelArena.Visitor)
+     */
+    public void walk(ModelArena.Visitor visitor) {
+        arena.walk(index, visitor);
+    }
+
+    /**
+     * @return a new object tree of this node, to be passed to existing visitors, see
+     * {@link ModelArena#toModel(int)}
+     */
+    public Object toModel() {
+        return arena.toModel(index);
+    }
+
+    private ArenaNode view(int node) {
+        return node == ModelArena.NO_NODE ? null : new ArenaNode(arena, node);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ArenaNode)) {
+            return false;
+        }
+        ArenaNode other = (ArenaNode) obj;
+        return arena == other.arena && index == other.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(arena) * 31 + index;
+    }
+
+    /**
+     * @return the kind and the attributes of this node, e.g.
+     * <code>Table{name=t1, partCount=1}</code>, or the value of a scalar element
+     */
+    @Override
+    public String toString() {
+        Class<?> kind = getKind();
+        return kind == null ? String.valueOf(getAttribute(null)) : kind.getSimpleName() + getAttributes();
+    }
+}
@@ -0,0 +1,738 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.ASTNodeAccess;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.SimpleNode;
+import net.sf.jsqlparser.parser.Token;
+import net.sf.jsqlparser.util.TraversalControl;
+
+/**
+ * Keeps parsed statements in a handful of primitive arrays instead of millions of small objects,
+ * for bulk analysis of very large scripts.
+ *
+ * Every object of a parsed tree becomes a node identified by an <code>int</code>. The kind (the
+ * model class), the parent, the first child, the next sibling and the parent field of all nodes are
+ * kept in parallel arrays, next to the source offsets of the nodes linked to the jjtree. Strings,
+ * enum constants and other shared values are pooled, and scalar fields differing from their default
+ * are kept as primitive attributes. Nodes are numbered in
+ * pre-order, so the nodes of a subtree follow their root.
+ *
+ * Statements are flattened one by one while the script is parsed, so the object tree of a single
+ * statement is only alive for a moment, but the parser still builds that tree: the arena saves
+ * retained memory for scripts held for analysis, not the allocations of parsing.
+ *
+ * The arena is traversed over its arrays with the <code>int</code> based methods,
+ * {@link #walk(int, Visitor)} or {@link ArenaNode} views, without creating model objects.
+ *
+ * Nodes are not expressions or statements and have no {@code accept} methods, so the existing
+ * visitors ({@code ExpressionVisitor}, {@code StatementVisitor}, the deparsers, the validators and
+ * {@code TablesNamesFinder}) can not run over the arena. Rebuild the object tree of the part of
+ * interest with {@link #toModel(int)} first and pass the result to the visitor. This allocates the
+ * objects of that subtree again, so convert single statements or expressions rather than the whole
+ * script.
+ *
+ * <pre>
+ * ModelArena arena = ModelArena.parse(in, "UTF-8");
+ * arena.forEach(Table.class, node -&gt; names.add((String) arena.getAttribute(node, "name")));
+ * </pre>
+ *
+ * Objects referenced more than once within a tree are stored once per reference. An arena is not
+ * thread safe while statements are added; afterwards it can be read by several threads.
+ */
+@SuppressWarnings({"PMD.CyclomaticComplexity"})
+public final class ModelArena {
+
+    /**
+     * Returned by the navigation methods if there is no such node.
+     */
+    public static final int NO_NODE = -1;
+
+    /**
+     * Receives the nodes of {@link ModelArena#walk(int, Visitor)}.
+     */
+    public interface Visitor {
+
+        /**
+         * Called before the children of a node are walked.
+         *
+         * @param node the node
+         * @return {@link TraversalControl#CONTINUE} to walk the children of the node,
+         * {@link TraversalControl#SKIP_SUBTREE} to skip them without leaving the node,
+         * {@link TraversalControl#TERMINATE} to stop the walk right away, without leaving the node
+         * and its ancestors
+         */
+        TraversalControl enter(int node);
+
+        /**
+         * Called after the children of a node are walked, for the nodes {@link #enter(int)}
+         * returned {@link TraversalControl#CONTINUE} for.
+         *
+         * @param node the node
+         */
+        default void leave(int node) {
+            // nothing
+        }
+    }
+
+    // the kind of nodes holding a scalar element of a collection
+    private static final int VALUE = -1;
+
+    private static final int NO_FIELD = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte INT = 2;
+    private static final byte SHORT = 3;
+    private static final byte BYTE = 4;
+    private static final byte CHAR = 5;
+    private static final byte FLOAT = 6;
+    // strings, enum constants and other immutable values, including longs and doubles
+    private static final byte CONSTANT = 7;
+
+    private final List<Class<?>> kinds = new ArrayList<>();
+
+    private final Map<Class<?>, Integer> kindIds = new HashMap<>();
+
+    private final List<Object> constants = new ArrayList<>();
+
+    private final Map<Object, Integer> constantIds = new HashMap<>();
+
+    private int nodeCount;
+
+    // the kind in the upper and the index of the parent field in the lower half
+    private int[] nodeKindAndField = new int[INITIAL_CAPACITY];
+
+    private int[] nodeParent = new int[INITIAL_CAPACITY];
+
+    private int[] nodeFirstChild = new int[INITIAL_CAPACITY];
+
+    private int[] nodeNextSibling = new int[INITIAL_CAPACITY];
+
+    private int[] nodeFirstAttribute = new int[INITIAL_CAPACITY];
+
+    // source offsets of the nodes linked to a jjtree node, in ascending order of the nodes
+    private int positionCount;
+
+    private int[] positionNode = new int[INITIAL_CAPACITY];
+
+    private int[] positionBegin = new int[INITIAL_CAPACITY];
+
+    private int[] positionEnd = new int[INITIAL_CAPACITY];
+
+    private int attributeCount;
+
+    private short[] attributeField = new short[INITIAL_CAPACITY];
+
+    private byte[] attributeType = new byte[INITIAL_CAPACITY];
+
+    private int[] attributeValue = new int[INITIAL_CAPACITY];
+
+    private int rootCount;
+
+    private int[] roots = new int[INITIAL_CAPACITY];
+
+    /**
+     * Parses a script statement by statement and adds every statement to a new arena.
+     *
+     * @param is the script
+     * @param encoding the encoding of the script
+     * @return the arena holding all statements of the script
+     * @throws JSQLParserException if a statement cannot be parsed
+     */
+    public static ModelArena parse(InputStream is, String encoding) throws JSQLParserException {
+        ModelArena arena = new ModelArena();
+        CCJSqlParserUtil.streamStatements(arena::add, is, encoding);
+        arena.trimToSize();
+        return arena;
+    }
+
+    /**
+     * Adds a statement (or any other object of the model) as a new root to this arena. The object
+     * itself is not referenced by the arena afterwards.
+     *
+     * @param value the object to add
+     * @return the root node of the object
+     */
+    public int add(Object value) {
+        if (value == null || !isNode(value)) {
+            throw new IllegalArgumentException("Only objects of the model can be added: " + value);
+        }
+        int node = flatten(value);
+        if (rootCount == roots.length) {
+            roots = Arrays.copyOf(roots, rootCount * 2);
+        }
+        roots[rootCount++] = node;
+        return node;
+    }
+
+    public int getRootCount() {
+        return rootCount;
+    }
+
+    /**
+     * @param index the index of the root, in the order the roots were added
+     * @return the root node
+     */
+    public int getRoot(int index) {
+        if (index < 0 || index >= rootCount) {
+            throw new IndexOutOfBoundsException("Root " + index + " of " + rootCount);
+        }
+        return roots[index];
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @param node the node
+     * @return the model class or collection class of the node, <code>null</code> for the scalar
+     * elements of a collection
+     */
+    public Class<?> getKind(int node) {
+        int kind = kind(check(node));
+        return kind == VALUE ? null : kinds.get(kind);
+    }
+
+    public int getParent(int node) {
+        return nodeParent[check(node)];
+    }
+
+    public int getFirstChild(int node) {
+        return nodeFirstChild[check(node)];
+    }
+
+    public int getNextSibling(int node) {
+        return nodeNextSibling[check(node)];
+    }
+
+    /**
+     * @param node the node
+     * @return the name of the field of the parent holding the node, <code>null</code> for roots and
+     * elements of collections
+     */
+    public String getFieldName(int node) {
+        int field = field(check(node));
+        return field == NO_FIELD ? null : fieldOf(nodeParent[node], field).getName();
+    }
+
+    /**
+     * Returns the value of a scalar field (a string, number, boolean or enum constant) of a node.
+     * For the scalar elements of a collection the field name is ignored.
+     *
+     * @param node the node
+     * @param fieldName the name of the field
+     * @return the value, <code>null</code> if the field is <code>null</code> or not scalar
+     */
+    public Object getAttribute(int node, String fieldName) {
+        check(node);
+        if (kind(node) == VALUE) {
+            return attributeValue(nodeFirstAttribute[node]);
+        }
+        Class<?> type = kinds.get(kind(node));
+        if (Collection.class.isAssignableFrom(type)) {
+            return null;
+        }
+
+        ModelClass modelClass = ModelClass.of(type);
+        Field[] fields = modelClass.fields();
+        for (int attribute = nodeFirstAttribute[node]; attribute < attributeEnd(node); attribute++) {
+            if (fields[attributeField[attribute]].getName().equals(fieldName)) {
+                return attributeValue(attribute);
+            }
+        }
+        // primitive fields holding their default value are not stored
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].getName().equals(fieldName) && fields[i].getType().isPrimitive()) {
+                return modelClass.getBlankValue(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the scalar fields of a node differing from their default value, see
+     * {@link #getAttribute(int, String)}.
+     *
+     * @param node the node
+     * @return the values by field name, in the order of the fields
+     */
+    public Map<String, Object> getAttributes(int node) {
+        check(node);
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        int kind = kind(node);
+        if (kind != VALUE && !Collection.class.isAssignableFrom(kinds.get(kind))) {
+            Field[] fields = ModelClass.of(kinds.get(kind)).fields();
+            for (int attribute = nodeFirstAttribute[node]; attribute < attributeEnd(node); attribute++) {
+                attributes.put(fields[attributeField[attribute]].getName(), attributeValue(attribute));
+            }
+        }
+        return attributes;
+    }
+
+    /**
+     * @param node the node
+     * @return the offset of the first character of the node in the script, -1 if the node is not
+     * linked to the source
+     */
+    public int getBeginOffset(int node) {
+        int position = position(node);
+        return position < 0 ? -1 : positionBegin[position];
+    }
+
+    /**
+     * @param node the node
+     * @return the offset behind the last character of the node in the script, -1 if the node is
+     * not linked to the source
+     */
+    public int getEndOffset(int node) {
+        int position = position(node);
+        return position < 0 ? -1 : positionEnd[position];
+    }
+
+    /**
+     * @param node the node
+     * @return a lightweight view of the node
+     */
+    public ArenaNode getNode(int node) {
+        return new ArenaNode(this, check(node));
+    }
+
+    /**
+     * Calls the action for every node, whose kind is the given class or one of its sub classes, in
+     * pre-order.
+     *
+     * @param type a model class or interface, like {@code Table.class} or {@code Expression.class}
+     * @param action the action to call with the node
+     */
+    public void forEach(Class<?> type, IntConsumer action) {
+        boolean[] matches = new boolean[kinds.size()];
+        for (int kind = 0; kind < matches.length; kind++) {
+            matches[kind] = type.isAssignableFrom(kinds.get(kind));
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            int kind = kind(node);
+            if (kind != VALUE && matches[kind]) {
+                action.accept(node);
+            }
+        }
+    }
+
+    /**
+     * Walks the subtree of a node in pre-order over the arrays of the arena, without recursion and
+     * without creating model objects.
+     *
+     * @param node the root of the walk
+     * @param visitor the visitor receiving the nodes
+     */
+    public void walk(int node, Visitor visitor) {
+        check(node);
+        int current = node;
+        boolean entering = true;
+        while (true) {
+            if (entering) {
+                TraversalControl control = visitor.enter(current);
+                if (control == TraversalControl.TERMINATE) {
+                    return;
+                } else if (control == TraversalControl.CONTINUE && nodeFirstChild[current] != NO_NODE) {
+                    current = nodeFirstChild[current];
+                    continue;
+                } else if (control == TraversalControl.CONTINUE) {
+                    visitor.leave(current);
+                }
+            } else {
+                visitor.leave(current);
+            }
+            if (current == node) {
+                return;
+            }
+            entering = nodeNextSibling[current] != NO_NODE;
+            current = entering ? nodeNextSibling[current] : nodeParent[current];
+        }
+    }
+
+    /**
+     * Rebuilds the object tree of a node, which is needed to run an existing visitor, deparser or
+     * validator over it. The objects are not linked to the arena, so they can be modified freely.
+     *
+     * @param node the node
+     * @return the object represented by the node
+     */
+    @SuppressWarnings("unchecked")
+    public Object toModel(int node) {
+        check(node);
+        // the objects are created with their attributes first and get their children afterwards,
+        // so that the depth of the tree does not take thread stack
+        Deque<Frame> unfilled = new ArrayDeque<>();
+        Object root = newObject(node, unfilled);
+        while (!unfilled.isEmpty()) {
+            Frame frame = unfilled.pop();
+            ModelClass modelClass = frame.collection ? null : ModelClass.of(frame.value.getClass());
+            for (int child = nodeFirstChild[frame.node]; child != NO_NODE; child = nodeNextSibling[child]) {
+                Object childValue = newObject(child, unfilled);
+                if (modelClass == null) {
+                    ((Collection<Object>) frame.value).add(childValue);
+                } else {
+                    modelClass.set(modelClass.fields()[field(child)], frame.value, childValue);
+                }
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Shrinks the arrays of this arena to the number of nodes and attributes held.
+     */
+    public void trimToSize() {
+        nodeKindAndField = Arrays.copyOf(nodeKindAndField, nodeCount);
+        nodeParent = Arrays.copyOf(nodeParent, nodeCount);
+        nodeFirstChild = Arrays.copyOf(nodeFirstChild, nodeCount);
+        nodeNextSibling = Arrays.copyOf(nodeNextSibling, nodeCount);
+        nodeFirstAttribute = Arrays.copyOf(nodeFirstAttribute, nodeCount);
+        positionNode = Arrays.copyOf(positionNode, positionCount);
+        positionBegin = Arrays.copyOf(positionBegin, positionCount);
+        positionEnd = Arrays.copyOf(positionEnd, positionCount);
+        attributeField = Arrays.copyOf(attributeField, attributeCount);
+        attributeType = Arrays.copyOf(attributeType, attributeCount);
+        attributeValue = Arrays.copyOf(attributeValue, attributeCount);
+        roots = Arrays.copyOf(roots, rootCount);
+    }
+
+    /**
+     * Adds the nodes of a tree in pre-order, without recursion: the path from the root to the
+     * current node is kept in a stack on the heap.
+     */
+    private int flatten(Object root) {
+        Deque<Frame> path = new ArrayDeque<>();
+        Set<Object> onPath = Collections.newSetFromMap(new IdentityHashMap<>());
+        int rootNode = open(root, NO_NODE, NO_FIELD, path, onPath);
+        while (!path.isEmpty()) {
+            Frame frame = path.peek();
+            if (frame.index == frame.children.length) {
+                path.pop();
+                onPath.remove(frame.value);
+                continue;
+            }
+            int i = frame.index++;
+            Object child = frame.children[i];
+            int childNode;
+            if (isNode(child)) {
+                childNode = open(child, frame.node, frame.collection ? NO_FIELD : i, path, onPath);
+            } else if (frame.collection) {
+                childNode = newNode(VALUE, frame.node, NO_FIELD, null);
+                addAttribute(NO_FIELD, child);
+            } else {
+                continue;
+            }
+            frame.lastChild = link(frame.node, frame.lastChild, childNode);
+        }
+        return rootNode;
+    }
+
+    /**
+     * Adds the node of a collection or model object with its attributes and pushes it to the path,
+     * so that its children are added next.
+     */
+    private int open(Object value, int parent, int field, Deque<Frame> path, Set<Object> onPath) {
+        if (!onPath.add(value)) {
+            throw new IllegalArgumentException("Cyclic reference to " + value.getClass().getName());
+        }
+
+        int node = newNode(kindOf(value), parent, field, value);
+        Object[] children;
+        if (value instanceof Collection) {
+            if (value instanceof EnumSet) {
+                addAttribute(NO_FIELD, elementType((EnumSet<?>) value));
+            }
+            children = ((Collection<?>) value).toArray();
+        } else {
+            ModelClass modelClass = ModelClass.of(value.getClass());
+            Field[] fields = modelClass.fields();
+            children = new Object[fields.length];
+            // the attributes of a node are stored before any child is added
+            for (int i = 0; i < fields.length; i++) {
+                children[i] = modelClass.get(fields[i], value);
+                if (!isNode(children[i]) && !modelClass.isBlank(i, children[i])) {
+                    addAttribute(i, children[i]);
+                }
+            }
+        }
+        path.push(new Frame(value, node, children));
+        return node;
+    }
+
+    /**
+     * Creates the object of a node with its attributes, and pushes it if it still needs its
+     * children.
+     */
+    private Object newObject(int node, Deque<Frame> unfilled) {
+        int kind = kind(node);
+        if (kind == VALUE) {
+            return attributeValue(nodeFirstAttribute[node]);
+        }
+
+        Class<?> type = kinds.get(kind);
+        Object value;
+        if (Collection.class.isAssignableFrom(type)) {
+            value = newCollection(node, type);
+        } else {
+            ModelClass modelClass = ModelClass.of(type);
+            value = modelClass.newInstance();
+            Field[] fields = modelClass.fields();
+            for (int attribute = nodeFirstAttribute[node]; attribute < attributeEnd(node); attribute++) {
+                modelClass.set(fields[attributeField[attribute]], value, attributeValue(attribute));
+            }
+        }
+        if (nodeFirstChild[node] != NO_NODE) {
+            unfilled.push(new Frame(value, node, null));
+        }
+        return value;
+    }
+
+    private int newNode(int kind, int parent, int field, Object value) {
+        if (nodeCount == nodeKindAndField.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, nodeCount * 2);
+            nodeKindAndField = Arrays.copyOf(nodeKindAndField, capacity);
+            nodeParent = Arrays.copyOf(nodeParent, capacity);
+            nodeFirstChild = Arrays.copyOf(nodeFirstChild, capacity);
+            nodeNextSibling = Arrays.copyOf(nodeNextSibling, capacity);
+            nodeFirstAttribute = Arrays.copyOf(nodeFirstAttribute, capacity);
+        }
+
+        int node = nodeCount++;
+        nodeKindAndField[node] = kind << 16 | field & 0xFFFF;
+        nodeParent[node] = parent;
+        nodeFirstChild[node] = NO_NODE;
+        nodeNextSibling[node] = NO_NODE;
+        nodeFirstAttribute[node] = attributeCount;
+
+        SimpleNode astNode = value instanceof ASTNodeAccess ? ((ASTNodeAccess) value).getASTNode() : null;
+        if (astNode != null && astNode.jjtGetFirstToken() != null && astNode.jjtGetLastToken() != null) {
+            addPosition(node, astNode.jjtGetFirstToken(), astNode.jjtGetLastToken());
+        }
+        return node;
+    }
+
+    private void addPosition(int node, Token first, Token last) {
+        if (positionCount == positionNode.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, positionCount * 2);
+            positionNode = Arrays.copyOf(positionNode, capacity);
+            positionBegin = Arrays.copyOf(positionBegin, capacity);
+            positionEnd = Arrays.copyOf(positionEnd, capacity);
+        }
+        // the absolute positions of the tokens count from 1
+        positionNode[positionCount] = node;
+        positionBegin[positionCount] = first.absoluteBegin - 1;
+        positionEnd[positionCount] = last.absoluteEnd - 1;
+        positionCount++;
+    }
+
+    private int position(int node) {
+        return Arrays.binarySearch(positionNode, 0, positionCount, check(node));
+    }
+
+    private int attributeEnd(int node) {
+        return node + 1 < nodeCount ? nodeFirstAttribute[node + 1] : attributeCount;
+    }
+
+    private int link(int parent, int lastChild, int child) {
+        if (lastChild == NO_NODE) {
+            nodeFirstChild[parent] = child;
+        } else {
+            nodeNextSibling[lastChild] = child;
+        }
+        return child;
+    }
+
+    private void addAttribute(int field, Object value) {
+        byte type;
+        int bits;
+        if (value == null) {
+            type = NULL;
+            bits = 0;
+        } else if (value instanceof Boolean) {
+            type = BOOLEAN;
+            bits = (Boolean) value ? 1 : 0;
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            type = value instanceof Integer ? INT : value instanceof Short ? SHORT : BYTE;
+            bits = ((Number) value).intValue();
+        } else if (value instanceof Character) {
+            type = CHAR;
+            bits = (Character) value;
+        } else if (value instanceof Float) {
+            type = FLOAT;
+            bits = Float.floatToRawIntBits((Float) value);
+        } else if (value instanceof String || value instanceof Long || value instanceof Double
+                || value instanceof Enum || value instanceof Class || value instanceof BigInteger
+                || value instanceof BigDecimal) {
+            type = CONSTANT;
+            bits = constantIds.computeIfAbsent(value, constant -> {
+                constants.add(constant);
+                return constants.size() - 1;
+            });
+        } else {
+            throw new IllegalArgumentException("Cannot store " + value.getClass().getName());
+        }
+
+        if (attributeCount == attributeField.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, attributeCount * 2);
+            attributeField = Arrays.copyOf(attributeField, capacity);
+            attributeType = Arrays.copyOf(attributeType, capacity);
+            attributeValue = Arrays.copyOf(attributeValue, capacity);
+        }
+        attributeField[attributeCount] = (short) field;
+        attributeType[attributeCount] = type;
+        attributeValue[attributeCount] = bits;
+        attributeCount++;
+    }
+
+    private Object attributeValue(int attribute) {
+        int bits = attributeValue[attribute];
+        switch (attributeType[attribute]) {
+            case BOOLEAN:
+                return bits != 0;
+            case INT:
+                return bits;
+            case SHORT:
+                return (short) bits;
+            case BYTE:
+                return (byte) bits;
+            case CHAR:
+                return (char) bits;
+            case FLOAT:
+                return Float.intBitsToFloat(bits);
+            case CONSTANT:
+                return constants.get(bits);
+            default:
+                return null;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Collection<Object> newCollection(int node, Class<?> type) {
+        Collection<Object> collection;
+        if (type == EnumSet.class) {
+            collection = EnumSet.noneOf((Class) attributeValue(nodeFirstAttribute[node]));
+        } else if (type == LinkedList.class) {
+            collection = new LinkedList<>();
+        } else if (type == HashSet.class) {
+            collection = new HashSet<>();
+        } else if (type == LinkedHashSet.class) {
+            collection = new LinkedHashSet<>();
+        } else {
+            collection = new ArrayList<>();
+        }
+        return collection;
+    }
+
+    private int kindOf(Object value) {
+        Class<?> type;
+        if (value instanceof EnumSet) {
+            type = EnumSet.class;
+        } else if (value instanceof LinkedList) {
+            type = LinkedList.class;
+        } else if (value instanceof Set) {
+            type = value.getClass() == HashSet.class ? HashSet.class : LinkedHashSet.class;
+        } else if (value instanceof Collection) {
+            type = ArrayList.class;
+        } else {
+            type = value.getClass();
+        }
+        return kindIds.computeIfAbsent(type, kind -> {
+            if (kinds.size() == Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many kinds of nodes");
+            }
+            kinds.add(kind);
+            return kinds.size() - 1;
+        });
+    }
+
+    private int kind(int node) {
+        return nodeKindAndField[node] >> 16;
+    }
+
+    private int field(int node) {
+        return (short) nodeKindAndField[node];
+    }
+
+    private Field fieldOf(int node, int field) {
+        return ModelClass.of(kinds.get(kind(node))).fields()[field];
+    }
+
+    private int check(int node) {
+        if (node < 0 || node >= nodeCount) {
+            throw new IndexOutOfBoundsException("Node " + node + " of " + nodeCount);
+        }
+        return node;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Class<?> elementType(EnumSet<?> enumSet) {
+        // the element type of an empty set is only known through its complement
+        EnumSet<?> sample = enumSet.isEmpty() ? EnumSet.complementOf((EnumSet) enumSet) : enumSet;
+        return ((Enum<?>) sample.iterator().next()).getDeclaringClass();
+    }
+
+    private static boolean isNode(Object value) {
+        return value instanceof Collection || value != null && ModelClass.isModelClass(value.getClass());
+    }
+
+    /**
+     * A collection or model object whose children are being added to the arena or set from it.
+     */
+    private static final class Frame {
+
+        private final Object value;
+
+        private final int node;
+
+        private final boolean collection;
+
+        // the elements of a collection or the field values of a model object, while flattening
+        private final Object[] children;
+
+        private int index;
+
+        private int lastChild = NO_NODE;
+
+        Frame(Object value, int node, Object[] children) {
+            this.value = value;
+            this.node = node;
+            this.collection = value instanceof Collection;
+            this.children = children;
+        }
+    }
+}
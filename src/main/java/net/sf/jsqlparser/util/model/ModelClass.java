@@ -0,0 +1,279 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reflective description of a class of the JSqlParser object model (expressions, statements,
+ * from items, select items, items lists and their helpers).
+ *
+ * The description is built once per class on first use and cached. It lists the instance fields
+ * holding the state of a node (transient fields like the linked jjtree node are left out) and
+ * knows how to create a blank instance that can then be populated field by field. Model classes
+ * without a public default constructor declare a private one for that purpose. Generic
+ * utilities like the {@link ModelCopier} are built on top of it, so they cover every model class
+ * without per-type code.
+ */
+public final class ModelClass {
+
+    private static final String MODEL_PACKAGE = "net.sf.jsqlparser.";
+
+    private static final String PARSER_PACKAGE = "net.sf.jsqlparser.parser.";
+
+    private static final Map<Class<?>, ModelClass> CACHE = new ConcurrentHashMap<>();
+
+    private static final Object NOT_BLANK = new Object();
+
+    private final Class<?> type;
+
+    private final Field[] fields;
+
+    private final Constructor<?> constructor;
+
+    // values of a blank instance, created on first use
+    private volatile Object[] blankValues;
+
+    private ModelClass(Class<?> type) {
+        this.type = type;
+        this.fields = collectFields(type);
+        this.constructor = selectConstructor(type);
+    }
+
+    /**
+     * @param type a model class, see {@link #isModelClass(Class)}
+     * @return the cached description of the given class
+     */
+    public static ModelClass of(Class<?> type) {
+        ModelClass modelClass = CACHE.get(type);
+        if (modelClass == null) {
+            if (!isModelClass(type)) {
+                throw new IllegalArgumentException(type.getName() + " is not a class of the JSqlParser model.");
+            }
+            modelClass = CACHE.computeIfAbsent(type, ModelClass::new);
+        }
+        return modelClass;
+    }
+
+    /**
+     * Model classes are the concrete, non enum classes of JSqlParser outside of the generated
+     * parser package.
+     *
+     * @param type the class to check
+     * @return <code>true</code> if instances of the class are nodes of the object model
+     */
+    public static boolean isModelClass(Class<?> type) {
+        return type.getName().startsWith(MODEL_PACKAGE)
+                && !type.getName().startsWith(PARSER_PACKAGE)
+                && !type.isInterface()
+                && !Enum.class.isAssignableFrom(type)
+                && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    /**
+     * Immutable values are shared between trees instead of being copied or traversed.
+     *
+     * @param value the value to check, not <code>null</code>
+     * @return <code>true</code> for strings, boxed primitives, big numbers and enum constants
+     */
+    public static boolean isImmutableValue(Object value) {
+        return value instanceof String
+                || value instanceof Enum
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Integer
+                || value instanceof Long
+                || value instanceof Double
+                || value instanceof Float
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof BigInteger
+                || value instanceof BigDecimal
+                || value instanceof Class;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the persistent instance fields of this class and its super classes, super classes
+     * first and in declaration order within a class
+     */
+    public List<Field> getFields() {
+        return Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    Field[] fields() {
+        return fields;
+    }
+
+    /**
+     * Creates an instance of this class without any meaningful state through its default
+     * constructor, which may be private. The caller is expected to set all fields afterwards.
+     * Classes without a default constructor are created through their smallest constructor with
+     * <code>null</code>, 0 and <code>false</code> as arguments.
+     *
+     * @return a new instance
+     * @throws IllegalStateException if the constructor rejects the arguments
+     */
+    public Object newInstance() {
+        try {
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            Object[] args = new Object[parameterTypes.length];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = blankArgument(parameterTypes[i]);
+            }
+            return constructor.newInstance(args);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("Could not create an instance of " + type.getName()
+                    + ", it needs a constructor without arguments", ex);
+        }
+    }
+
+    public Object get(Field field, Object instance) {
+        try {
+            return field.get(instance);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public void set(Field field, Object instance, Object value) {
+        try {
+            field.set(instance, value);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Tells whether a field still holds the value it has within a {@link #newInstance() blank
+     * instance}. Only <code>null</code> and primitive values are considered, so a field found blank
+     * can be left out when rebuilding an object from a blank instance.
+     *
+     * @param fieldIndex the index of the field within {@link #getFields()}
+     * @param value the value of the field
+     * @return <code>true</code> if the value equals the value of the blank instance
+     */
+    boolean isBlank(int fieldIndex, Object value) {
+        Object blank = blankValues()[fieldIndex];
+        return blank != NOT_BLANK && Objects.equals(value, blank);
+    }
+
+    /**
+     * @param fieldIndex the index of a primitive field within {@link #getFields()}
+     * @return the value of the field within a blank instance
+     */
+    Object getBlankValue(int fieldIndex) {
+        return blankValues()[fieldIndex];
+    }
+
+    private Object[] blankValues() {
+        Object[] blank = blankValues;
+        if (blank == null) {
+            Object instance = newInstance();
+            blank = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                Object fieldValue = get(fields[i], instance);
+                blank[i] = fieldValue == null || fields[i].getType().isPrimitive() ? fieldValue : NOT_BLANK;
+            }
+            blankValues = blank;
+        }
+        return blank;
+    }
+
+    private static Object blankArgument(Class<?> parameterType) {
+        if (!parameterType.isPrimitive()) {
+            return null;
+        } else if (parameterType == boolean.class) {
+            return Boolean.FALSE;
+        } else if (parameterType == char.class) {
+            return (char) 0;
+        }
+        // widened to the type of the parameter
+        return (byte) 0;
+    }
+
+    private static Field[] collectFields(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(0, c);
+        }
+
+        List<Field> result = new ArrayList<>();
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                    field.setAccessible(true);
+                    result.add(field);
+                }
+            }
+        }
+        return result.toArray(new Field[0]);
+    }
+
+    private static Constructor<?> selectConstructor(Class<?> type) {
+        Constructor<?>[] constructors = type.getDeclaredConstructors();
+        if (constructors.length == 0) {
+            throw new IllegalStateException("No constructor found for " + type.getName());
+        }
+
+        Constructor<?> selected = Collections.min(Arrays.asList(constructors),
+                Comparator.comparingInt(Constructor::getParameterCount));
+        selected.setAccessible(true);
+        return selected;
+    }
+
+    /**
+     * Creates an empty collection of the same kind as the given one. Collections that cannot be
+     * instantiated (unmodifiable or fixed size views) are replaced by a plain {@link ArrayList} or
+     * {@link LinkedHashSet}.
+     *
+     * @param collection the template collection
+     * @return an empty, modifiable collection
+     */
+    static Collection<Object> newCollection(Collection<?> collection) {
+        Class<?> collectionClass = collection.getClass();
+        if (collectionClass == ArrayList.class) {
+            return new ArrayList<>(collection.size());
+        } else if (collectionClass == LinkedList.class) {
+            return new LinkedList<>();
+        } else if (collectionClass == HashSet.class) {
+            return new HashSet<>();
+        }
+        return collection instanceof Set ? new LinkedHashSet<>() : new ArrayList<>(collection.size());
+    }
+
+    static Map<Object, Object> newMap(Map<?, ?> map) {
+        return map.getClass() == HashMap.class ? new HashMap<>() : new LinkedHashMap<>();
+    }
+}
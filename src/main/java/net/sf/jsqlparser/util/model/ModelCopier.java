@@ -0,0 +1,192 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Creates deep copies of parsed statements and expressions without deparsing and parsing them
+ * again.
+ *
+ * The structure of the tree (every model object, list, set, map and array) is copied, while
+ * immutable leaves like strings, numbers and enum constants are shared with the source. Values of
+ * any other class cannot be copied and fail the copy. Objects referenced
+ * more than once within the source tree are referenced the same way within the copy. The jjtree
+ * node linked to a model object is not copied, so {@code getASTNode()} returns <code>null</code>
+ * for copied objects.
+ *
+ * The copy is made without recursion: the copies of model objects, collections, maps and arrays are
+ * created empty and kept on a stack on the heap until their content is copied, so a tree of any
+ * depth, like a chain of thousands of ORs, can be copied.
+ *
+ * Copying only reads the source tree, so several threads can copy the same (unmodified) tree at
+ * the same time.
+ *
+ * <pre>
+ * Select template = (Select) CCJSqlParserUtil.parse("SELECT a FROM t WHERE b = ?");
+ * Select select = ModelCopier.copy(template);
+ * </pre>
+ */
+public final class ModelCopier {
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    // the sources whose copies are created but not filled yet
+    private final Deque<Object> unfilled = new ArrayDeque<>();
+
+    private ModelCopier() {
+    }
+
+    /**
+     * Copies a {@code Statements} list, a {@code Statement}, an {@code Expression}, a
+     * {@code FromItem}, a {@code SelectItem}, an {@code ItemsList} or any other object of the model
+     * (like a {@code Join}, an {@code OrderByElement} or a {@code Limit}).
+     *
+     * @param <T> the type of the object
+     * @param source the object to copy, may be <code>null</code>
+     * @return the deep copy of the object
+     * @throws IllegalArgumentException if the object holds a value which is neither part of the
+     * model nor immutable
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T source) {
+        ModelCopier copier = new ModelCopier();
+        T copy = (T) copier.copyValue(source);
+        copier.fillCopies();
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fillCopies() {
+        while (!unfilled.isEmpty()) {
+            Object value = unfilled.pop();
+            Object copy = copies.get(value);
+            if (ModelClass.isModelClass(value.getClass())) {
+                fillModel(value, copy);
+            } else if (value instanceof Collection) {
+                fillCollection((Collection<?>) value, (Collection<Object>) copy);
+            } else if (value instanceof Map) {
+                fillMap((Map<?, ?>) value, (Map<Object, Object>) copy);
+            } else {
+                fillArray(value, copy);
+            }
+        }
+    }
+
+    /**
+     * @return the copy of the value, which is created empty and filled later by
+     * {@link #fillCopies()} for model objects, collections, maps and arrays of objects
+     */
+    @SuppressWarnings({"unchecked", "rawtypes", "PMD.CyclomaticComplexity"})
+    private Object copyValue(Object value) {
+        if (value == null || ModelClass.isImmutableValue(value)) {
+            return value;
+        }
+
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+
+        if (ModelClass.isModelClass(value.getClass())) {
+            // before the collections, so that a LiteralList stays compact
+            copy = copyModel(value);
+        } else if (value instanceof EnumSet) {
+            copy = EnumSet.copyOf((EnumSet) value);
+            copies.put(value, copy);
+        } else if (value instanceof Collection) {
+            copy = copyCollection((Collection<?>) value);
+        } else if (value instanceof Map) {
+            copy = copyMap((Map<?, ?>) value);
+        } else if (value instanceof Date) {
+            copy = ((Date) value).clone();
+            copies.put(value, copy);
+        } else if (value.getClass().isArray()) {
+            copy = copyArray(value);
+        } else {
+            throw new IllegalArgumentException("Cannot copy a value of " + value.getClass().getName());
+        }
+        return copy;
+    }
+
+    private Object copyModel(Object value) {
+        Object copy = ModelClass.of(value.getClass()).newInstance();
+        return created(value, copy);
+    }
+
+    private Object copyArray(Object array) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        if (array instanceof Object[]) {
+            return created(array, copy);
+        }
+        System.arraycopy(array, 0, copy, 0, length);
+        copies.put(array, copy);
+        return copy;
+    }
+
+    private Collection<Object> copyCollection(Collection<?> collection) {
+        Collection<Object> copy = ModelClass.newCollection(collection);
+        created(collection, copy);
+        return copy;
+    }
+
+    private Map<Object, Object> copyMap(Map<?, ?> map) {
+        Map<Object, Object> copy = ModelClass.newMap(map);
+        created(map, copy);
+        return copy;
+    }
+
+    private Object created(Object value, Object copy) {
+        copies.put(value, copy);
+        unfilled.push(value);
+        return copy;
+    }
+
+    private void fillModel(Object value, Object copy) {
+        ModelClass modelClass = ModelClass.of(value.getClass());
+        for (Field field : modelClass.fields()) {
+            Object fieldValue = modelClass.get(field, value);
+            if (field.getType().isPrimitive()) {
+                modelClass.set(field, copy, fieldValue);
+            } else {
+                modelClass.set(field, copy, copyValue(fieldValue));
+            }
+        }
+    }
+
+    private void fillArray(Object array, Object copy) {
+        for (int i = 0; i < Array.getLength(array); i++) {
+            Array.set(copy, i, copyValue(Array.get(array, i)));
+        }
+    }
+
+    // the elements are added as empty copies, which the hash based collections of the model
+    // find by identity
+    private void fillCollection(Collection<?> collection, Collection<Object> copy) {
+        for (Object element : collection) {
+            copy.add(copyValue(element));
+        }
+    }
+
+    private void fillMap(Map<?, ?> map, Map<Object, Object> copy) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            copy.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structural equality of parsed statements and expressions.
+ *
+ * Two objects of the model are equal, if they are of the same class and all their persistent
+ * fields are equal: leaves like strings, numbers and enum constants by value, lists element by
+ * element in order, sets and maps regardless of their order and nested model objects again
+ * structurally. The linked jjtree node and other transient state are ignored, so a parsed
+ * expression equals a copy of it as well as the same expression built by hand. An empty collection
+ * or map equals <code>null</code>, and so does a private holder of rarely used fields, which a node
+ * allocates on first use, as long as all of its fields are unset. Hence a tree stays equal to its
+ * copy, when a setter or deparser leaves an empty list behind.
+ *
+ * The model classes themselves keep the identity based {@code equals} and {@code hashCode} of
+ * {@link Object}, so structural equality has to be asked for explicitly: by calling
+ * {@link #equals(Object, Object)} and {@link #hash(Object)}, or by wrapping nodes into a
+ * {@link Key} to use them as keys of hash maps, to deduplicate predicates or to memoize analyses
+ * per subtree.
+ *
+ * <pre>
+ * Map&lt;ModelEquality.Key&lt;Expression&gt;, Result&gt; memo = new HashMap&lt;&gt;();
+ * memo.computeIfAbsent(ModelEquality.key(expression), key -&gt; analyze(key.getValue()));
+ * </pre>
+ */
+public final class ModelEquality {
+
+    // stands for null on the stacks, which do not take null
+    private static final Object UNSET = new Object();
+
+    private ModelEquality() {
+    }
+
+    /**
+     * @param value an object of the model, may be <code>null</code>
+     * @return a key comparing the object structurally
+     */
+    public static <T> Key<T> key(T value) {
+        return new Key<>(value);
+    }
+
+    /**
+     * @param a an object of the model, may be <code>null</code>
+     * @param b an object of the model, may be <code>null</code>
+     * @return <code>true</code> if both objects are structurally equal
+     */
+    public static boolean equals(Object a, Object b) {
+        return equalValues(a, b);
+    }
+
+    /**
+     * Computes the hash code of the whole subtree, on every call.
+     *
+     * @param value an object of the model, may be <code>null</code>
+     * @return a hash code consistent with {@link #equals(Object, Object)}
+     */
+    public static int hash(Object value) {
+        return hashValue(value);
+    }
+
+    /**
+     * Compares without recursion: the pairs of values still to compare are kept on a stack on the
+     * heap, so trees of any depth can be compared.
+     */
+    private static boolean equalValues(Object a, Object b) {
+        Deque<Object[]> pending = new ArrayDeque<>();
+        pending.push(new Object[] {a, b});
+        while (!pending.isEmpty()) {
+            Object[] pair = pending.pop();
+            if (!equalValue(pair[0], pair[1], pending)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares two values, but pushes the pairs of their elements and fields instead of comparing
+     * them.
+     */
+    @SuppressWarnings({"PMD.CyclomaticComplexity"})
+    private static boolean equalValue(Object a, Object b, Deque<Object[]> pending) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return isUnset(a == null ? b : a);
+        }
+        if (a instanceof List && b instanceof List) {
+            if (((List<?>) a).size() != ((List<?>) b).size()) {
+                return false;
+            }
+            Iterator<?> j = ((List<?>) b).iterator();
+            for (Object element : (List<?>) a) {
+                pending.push(new Object[] {element, j.next()});
+            }
+            return true;
+        } else if (a instanceof Set && b instanceof Set) {
+            return equalSets((Set<?>) a, (Set<?>) b);
+        } else if (a instanceof Map && b instanceof Map) {
+            return equalSets(((Map<?, ?>) a).entrySet(), ((Map<?, ?>) b).entrySet());
+        } else if (a instanceof Map.Entry && b instanceof Map.Entry) {
+            pending.push(new Object[] {((Map.Entry<?, ?>) a).getKey(), ((Map.Entry<?, ?>) b).getKey()});
+            pending.push(new Object[] {((Map.Entry<?, ?>) a).getValue(), ((Map.Entry<?, ?>) b).getValue()});
+            return true;
+        } else if (ModelClass.isModelClass(a.getClass())) {
+            if (a.getClass() != b.getClass()) {
+                return false;
+            }
+            ModelClass modelClass = ModelClass.of(a.getClass());
+            for (Field field : modelClass.fields()) {
+                pending.push(new Object[] {modelClass.get(field, a), modelClass.get(field, b)});
+            }
+            return true;
+        }
+        return a.equals(b) || isUnset(a) && isUnset(b);
+    }
+
+    /**
+     * Compares the elements pairwise, since the sets themselves look their elements up by identity.
+     * The sets of the model hold a few elements only, and hardly ever nest.
+     */
+    private static boolean equalSets(Set<?> a, Set<?> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (Object element : a) {
+            boolean found = false;
+            for (Iterator<?> i = b.iterator(); i.hasNext() && !found;) {
+                found = equalValues(element, i.next());
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return <code>true</code> for <code>null</code>, an empty collection or map and an unset holder
+     */
+    private static boolean isUnset(Object value) {
+        if (value == null) {
+            return true;
+        } else if (value instanceof Collection) {
+            return ((Collection<?>) value).isEmpty();
+        } else if (value instanceof Map) {
+            return ((Map<?, ?>) value).isEmpty();
+        }
+        return isUnsetHolder(value);
+    }
+
+    /**
+     * @return <code>true</code> for an instance of a private model class without any field set
+     */
+    private static boolean isUnsetHolder(Object value) {
+        if (!Modifier.isPrivate(value.getClass().getModifiers()) || !ModelClass.isModelClass(value.getClass())) {
+            return false;
+        }
+        ModelClass modelClass = ModelClass.of(value.getClass());
+        Field[] fields = modelClass.fields();
+        for (int i = 0; i < fields.length; i++) {
+            Object fieldValue = modelClass.get(fields[i], value);
+            if (!modelClass.isBlank(i, fieldValue) && (fieldValue == null || !isUnset(fieldValue))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the values of the tree in the order of a depth first walk, which is kept on a stack on
+     * the heap. Unordered sets and maps sum up the hash codes of their elements.
+     */
+    @SuppressWarnings({"PMD.CyclomaticComplexity"})
+    private static int hashValue(Object root) {
+        int result = 0;
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root == null ? UNSET : root);
+        while (!pending.isEmpty()) {
+            Object value = pending.pop();
+            if (value == UNSET || isUnset(value)) {
+                // equal to null
+                result = 31 * result;
+            } else if (value instanceof List) {
+                result = 31 * result + 1;
+                for (ListIterator<?> i = ((List<?>) value).listIterator(((List<?>) value).size()); i.hasPrevious();) {
+                    Object element = i.previous();
+                    pending.push(element == null ? UNSET : element);
+                }
+            } else if (value instanceof Collection) {
+                int sum = 0;
+                for (Object element : (Collection<?>) value) {
+                    sum += hashValue(element);
+                }
+                result = 31 * result + sum;
+            } else if (value instanceof Map) {
+                int sum = 0;
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    sum += hashValue(entry.getKey()) ^ hashValue(entry.getValue());
+                }
+                result = 31 * result + sum;
+            } else if (ModelClass.isModelClass(value.getClass())) {
+                result = 31 * result + value.getClass().getName().hashCode();
+                ModelClass modelClass = ModelClass.of(value.getClass());
+                Field[] fields = modelClass.fields();
+                for (int i = fields.length - 1; i >= 0; i--) {
+                    Object fieldValue = modelClass.get(fields[i], value);
+                    pending.push(fieldValue == null ? UNSET : fieldValue);
+                }
+            } else {
+                result = 31 * result + value.hashCode();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Wraps an object of the model, so that it is compared structurally by {@code equals} and
+     * {@code hashCode}. The hash code is computed once, when the key is created, so the object must
+     * not be modified while the key is in use.
+     *
+     * @param <T> the type of the wrapped object
+     */
+    public static final class Key<T> {
+
+        private final T value;
+
+        private final int hash;
+
+        private Key(T value) {
+            this.value = value;
+            this.hash = hash(value);
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key && hash == ((Key<?>) obj).hash
+                    && ModelEquality.equals(value, ((Key<?>) obj).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.sf.jsqlparser.parser.Freezable;
+import net.sf.jsqlparser.util.TraversalControl;
+
+/**
+ * Makes a parsed tree deeply read only, so that a single instance can be cached and shared
+ * between threads without defensive copies.
+ *
+ * Freezing
+ * <ul>
+ * <li>replaces every list, set and map of the tree by an unmodifiable view (fields declared with
+ * a concrete collection class like {@code ArrayList} keep their instance, since a view can not be
+ * assigned to them)</li>
+ * <li>marks every object of the tree as frozen, so its setters, chaining and adding methods throw
+ * an {@link UnsupportedOperationException}</li>
+ * <li>enables the caching of derived values like {@code Table.getFullyQualifiedName()}</li>
+ * </ul>
+ *
+ * A frozen tree must be published safely to other threads (e.g. through a concurrent cache or a
+ * final field), as for any other object. Use {@link ModelCopier#copy(Object)} to get a modifiable
+ * copy of a frozen tree.
+ *
+ * <pre>
+ * Statement statement = ModelFreezer.freeze(CCJSqlParserUtil.parse(sql));
+ * cache.put(sql, statement);
+ * </pre>
+ */
+public final class ModelFreezer {
+
+    // the unmodifiable views of the collections and maps of the tree
+    private final Map<Object, Object> frozenValues = new IdentityHashMap<>();
+
+    private ModelFreezer() {
+    }
+
+    /**
+     * Freezes the given tree and returns it. The tree is walked by a {@link ModelWalker}, so trees
+     * of any depth can be frozen.
+     *
+     * @param <T> the type of the root object
+     * @param root a statement, expression or any other object of the model, may be
+     * <code>null</code>
+     * @return the given root object
+     */
+    public static <T> T freeze(T root) {
+        ModelFreezer freezer = new ModelFreezer();
+        ModelWalker.walk(root, new ModelWalker.Listener() {
+            @Override
+            public TraversalControl enter(Object node, Object parent) {
+                return isFrozen(node) ? TraversalControl.SKIP_SUBTREE : TraversalControl.CONTINUE;
+            }
+
+            @Override
+            public void leave(Object node, Object parent) {
+                if (!isFrozen(node)) {
+                    freezer.freezeModel(node);
+                }
+            }
+        });
+        return root;
+    }
+
+    /**
+     * @param object any object of the model
+     * @return <code>true</code> if the given object is frozen
+     */
+    public static boolean isFrozen(Object object) {
+        return object instanceof Freezable && ((Freezable) object).isFrozen();
+    }
+
+    private Object freezeValue(Object value) {
+        if (value instanceof List) {
+            return frozenValues.computeIfAbsent(value, list -> Collections.unmodifiableList((List<?>) list));
+        } else if (value instanceof Set) {
+            return frozenValues.computeIfAbsent(value, set -> Collections.unmodifiableSet((Set<?>) set));
+        } else if (value instanceof Collection) {
+            return frozenValues.computeIfAbsent(value,
+                    collection -> Collections.unmodifiableCollection((Collection<?>) collection));
+        } else if (value instanceof Map) {
+            return frozenValues.computeIfAbsent(value, map -> Collections.unmodifiableMap((Map<?, ?>) map));
+        }
+        return value;
+    }
+
+    /**
+     * Freezes a node after its children: replaces the collections and maps held by its fields by
+     * unmodifiable views and marks it as frozen.
+     */
+    private void freezeModel(Object value) {
+        ModelClass modelClass = ModelClass.of(value.getClass());
+        for (Field field : modelClass.fields()) {
+            if (!field.getType().isPrimitive()) {
+                Object fieldValue = modelClass.get(field, value);
+                Object frozenValue = freezeValue(fieldValue);
+                if (frozenValue != fieldValue && field.getType().isInstance(frozenValue)) {
+                    modelClass.set(field, value, frozenValue);
+                }
+            }
+        }
+        if (value instanceof Freezable) {
+            ((Freezable) value).freeze();
+        }
+    }
+}
@@ -0,0 +1,870 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes parsed statements and expressions in a compact binary format and reads them back, which
+ * is a lot faster than deparsing and parsing them again.
+ *
+ * The format starts with a magic number and the {@link #FORMAT_VERSION}, followed by the tagged
+ * values of the tree:
+ * <ul>
+ * <li>identifiers and other strings are written once and referenced by their index afterwards,</li>
+ * <li>integral numbers are written as zigzag encoded variable length integers,</li>
+ * <li>the class name and field names of a model class are written once per stream; fields are
+ * matched by name when reading, so fields added or removed between versions of JSqlParser are
+ * tolerated,</li>
+ * <li>fields still holding the value of a freshly created instance (mostly <code>null</code>) are
+ * not written at all,</li>
+ * <li>objects referenced more than once are written once and referenced afterwards, so the read
+ * tree shares them the same way as the written one.</li>
+ * </ul>
+ *
+ * Both directions work without recursion: the collections, maps and model objects being written or
+ * read are kept on a stack on the heap, so trees of any depth, like a chain of thousands of ORs, can
+ * be written and read.
+ *
+ * Only classes of the JSqlParser model (see {@link ModelClass#isModelClass(Class)}) and enums of
+ * JSqlParser are instantiated when reading. Like the {@link ModelCopier}, the linked jjtree node is
+ * not written, so {@code getASTNode()} returns <code>null</code> for read objects.
+ *
+ * <pre>
+ * byte[] data = ModelSerializer.serialize(CCJSqlParserUtil.parse("SELECT a FROM t"));
+ * Select select = ModelSerializer.deserialize(data);
+ * </pre>
+ */
+public final class ModelSerializer {
+
+    /**
+     * The version of the format written by this class. Data of a newer version is rejected when
+     * reading.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x4A53514D;
+
+    private static final int NULL = 0;
+    private static final int REFERENCE = 1;
+    private static final int TRUE = 2;
+    private static final int FALSE = 3;
+    private static final int INT = 4;
+    private static final int LONG = 5;
+    private static final int SHORT = 6;
+    private static final int BYTE = 7;
+    private static final int CHAR = 8;
+    private static final int FLOAT = 9;
+    private static final int DOUBLE = 10;
+    private static final int STRING = 11;
+    private static final int BIG_INTEGER = 12;
+    private static final int BIG_DECIMAL = 13;
+    private static final int ENUM = 14;
+    private static final int ENUM_SET = 15;
+    private static final int MODEL = 16;
+    private static final int LIST = 17;
+    private static final int LINKED_LIST = 18;
+    private static final int SET = 19;
+    private static final int HASH_SET = 20;
+    private static final int MAP = 21;
+    private static final int HASH_MAP = 22;
+
+    private static final String MODEL_PACKAGE = "net.sf.jsqlparser.";
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_WRAPPERS = new HashMap<>();
+
+    static {
+        PRIMITIVE_WRAPPERS.put(boolean.class, Boolean.class);
+        PRIMITIVE_WRAPPERS.put(int.class, Integer.class);
+        PRIMITIVE_WRAPPERS.put(long.class, Long.class);
+        PRIMITIVE_WRAPPERS.put(short.class, Short.class);
+        PRIMITIVE_WRAPPERS.put(byte.class, Byte.class);
+        PRIMITIVE_WRAPPERS.put(char.class, Character.class);
+        PRIMITIVE_WRAPPERS.put(float.class, Float.class);
+        PRIMITIVE_WRAPPERS.put(double.class, Double.class);
+    }
+
+    private ModelSerializer() {
+    }
+
+    /**
+     * Serializes a {@code Statements} list, a {@code Statement}, an {@code Expression} or any other
+     * object of the model.
+     *
+     * @param value the object to write, may be <code>null</code>
+     * @return the serialized form
+     */
+    public static byte[] serialize(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try {
+            serialize(value, out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Serializes an object of the model to the given stream. The stream is neither buffered nor
+     * closed by this method.
+     *
+     * @param value the object to write, may be <code>null</code>
+     * @param out the target stream
+     * @throws IOException if the stream cannot be written
+     */
+    public static void serialize(Object value, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        Writer.writeVarInt(data, FORMAT_VERSION);
+        new Writer(data).write(value);
+        data.flush();
+    }
+
+    /**
+     * @param <T> the expected type of the object
+     * @param data the serialized form created by {@link #serialize(Object)}
+     * @return the read object
+     * @throws IllegalArgumentException if the data is malformed or of a newer format version
+     */
+    public static <T> T deserialize(byte[] data) {
+        try {
+            return deserialize(new ByteArrayInputStream(data));
+        } catch (IOException ex) {
+            throw new IllegalArgumentException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Reads an object written by {@link #serialize(Object, OutputStream)}. Exactly the bytes of
+     * that object are consumed from the stream.
+     *
+     * @param <T> the expected type of the object
+     * @param in the source stream
+     * @return the read object
+     * @throws IOException if the stream cannot be read, the data is malformed or of a newer format
+     * version
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deserialize(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not a serialized JSqlParser model");
+        }
+        int version = Reader.readVarInt(data);
+        if (version > FORMAT_VERSION) {
+            throw new StreamCorruptedException("Unsupported format version " + version
+                    + ", the latest known version is " + FORMAT_VERSION);
+        }
+        return (T) new Reader(data).read();
+    }
+
+    private static final class Writer {
+
+        private final DataOutputStream out;
+
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        private final Map<Class<?>, Integer> classes = new HashMap<>();
+
+        private final Map<Object, Integer> objects = new IdentityHashMap<>();
+
+        // the collections, maps and model objects being written, innermost on top
+        private final Deque<Parts> pending = new ArrayDeque<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void write(Object root) throws IOException {
+            writeValue(root);
+            while (!pending.isEmpty()) {
+                Parts parts = pending.peek();
+                if (parts.advance()) {
+                    writeValue(parts.value());
+                } else {
+                    pending.pop();
+                }
+            }
+        }
+
+        /**
+         * Writes a leaf value completely, but only the head of a collection, map or model object,
+         * whose parts are written by {@link #write(Object)} afterwards.
+         */
+        @SuppressWarnings({"PMD.CyclomaticComplexity"})
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                out.write(NULL);
+            } else if (value instanceof String) {
+                out.write(STRING);
+                writeString((String) value);
+            } else if (value instanceof Boolean) {
+                out.write((Boolean) value ? TRUE : FALSE);
+            } else if (value instanceof Integer) {
+                out.write(INT);
+                writeVarLong(out, (Integer) value);
+            } else if (value instanceof Long) {
+                out.write(LONG);
+                writeVarLong(out, (Long) value);
+            } else if (value instanceof Short) {
+                out.write(SHORT);
+                writeVarLong(out, (Short) value);
+            } else if (value instanceof Byte) {
+                out.write(BYTE);
+                out.write((Byte) value);
+            } else if (value instanceof Character) {
+                out.write(CHAR);
+                writeVarInt(out, (Character) value);
+            } else if (value instanceof Float) {
+                out.write(FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                out.write(DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+                out.write(value instanceof BigInteger ? BIG_INTEGER : BIG_DECIMAL);
+                writeString(value.toString());
+            } else if (value instanceof Enum) {
+                out.write(ENUM);
+                writeEnum((Enum<?>) value);
+            } else {
+                writeObject(value);
+            }
+        }
+
+        private void writeObject(Object value) throws IOException {
+            Integer index = objects.get(value);
+            if (index != null) {
+                out.write(REFERENCE);
+                writeVarInt(out, index);
+                return;
+            }
+            objects.put(value, objects.size());
+
+            if (value instanceof EnumSet) {
+                writeEnumSet((EnumSet<?>) value);
+            } else if (value instanceof Collection) {
+                writeCollection((Collection<?>) value);
+            } else if (value instanceof Map) {
+                writeMap((Map<?, ?>) value);
+            } else if (ModelClass.isModelClass(value.getClass())) {
+                writeModel(value);
+            } else {
+                throw new IllegalArgumentException("Cannot serialize " + value.getClass().getName());
+            }
+        }
+
+        private void writeModel(Object value) throws IOException {
+            ModelClass modelClass = ModelClass.of(value.getClass());
+            out.write(MODEL);
+            if (writeClass(value.getClass())) {
+                writeVarInt(out, modelClass.fields().length);
+                for (Field field : modelClass.fields()) {
+                    writeString(field.getName());
+                }
+            }
+            pending.push(new FieldParts(modelClass, value));
+        }
+
+        private void writeCollection(Collection<?> collection) throws IOException {
+            int tag;
+            if (collection instanceof LinkedList) {
+                tag = LINKED_LIST;
+            } else if (collection instanceof Set) {
+                tag = collection instanceof HashSet && !(collection instanceof LinkedHashSet) ? HASH_SET : SET;
+            } else {
+                tag = LIST;
+            }
+            out.write(tag);
+            writeVarInt(out, collection.size());
+            pending.push(new ElementParts(collection.iterator()));
+        }
+
+        private void writeMap(Map<?, ?> map) throws IOException {
+            out.write(map instanceof HashMap && !(map instanceof LinkedHashMap) ? HASH_MAP : MAP);
+            writeVarInt(out, map.size());
+            pending.push(new EntryParts(map.entrySet().iterator()));
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void writeEnumSet(EnumSet<?> enumSet) throws IOException {
+            // the element type of an empty set is only known through its complement
+            EnumSet<?> sample = enumSet.isEmpty() ? EnumSet.complementOf((EnumSet) enumSet) : enumSet;
+            out.write(ENUM_SET);
+            writeClass(((Enum<?>) sample.iterator().next()).getDeclaringClass());
+            writeVarInt(out, enumSet.size());
+            for (Enum<?> constant : enumSet) {
+                writeString(constant.name());
+            }
+        }
+
+        private void writeEnum(Enum<?> constant) throws IOException {
+            writeClass(constant.getDeclaringClass());
+            writeString(constant.name());
+        }
+
+        /**
+         * @return <code>true</code> if the class is written for the first time
+         */
+        private boolean writeClass(Class<?> type) throws IOException {
+            Integer index = classes.get(type);
+            if (index != null) {
+                writeVarInt(out, index + 1);
+                return false;
+            }
+            classes.put(type, classes.size());
+            writeVarInt(out, 0);
+            // all classes are within the JSqlParser package, the sub package is shared by the
+            // classes of the same package
+            String name = type.getName().substring(MODEL_PACKAGE.length());
+            int separator = name.lastIndexOf('.');
+            writeString(separator < 0 ? "" : name.substring(0, separator));
+            writeString(name.substring(separator + 1));
+            return true;
+        }
+
+        private void writeString(String value) throws IOException {
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarInt(out, index + 1);
+                return;
+            }
+            strings.put(value, strings.size());
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, 0);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+
+        static void writeVarInt(DataOutputStream out, int value) throws IOException {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                out.write((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            out.write(remaining);
+        }
+
+        static void writeVarLong(DataOutputStream out, long value) throws IOException {
+            long remaining = (value << 1) ^ (value >> 63);
+            while ((remaining & ~0x7FL) != 0) {
+                out.write((int) (remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            out.write((int) remaining);
+        }
+
+        /**
+         * The values held by a collection, map or model object, which are written one after the
+         * other.
+         */
+        private abstract static class Parts {
+
+            /**
+             * Moves to the next value, writing what precedes it.
+             *
+             * @return <code>false</code> after the last value
+             */
+            abstract boolean advance() throws IOException;
+
+            abstract Object value();
+        }
+
+        private static final class ElementParts extends Parts {
+
+            private final Iterator<?> elements;
+
+            private Object value;
+
+            ElementParts(Iterator<?> elements) {
+                this.elements = elements;
+            }
+
+            @Override
+            boolean advance() {
+                if (!elements.hasNext()) {
+                    return false;
+                }
+                value = elements.next();
+                return true;
+            }
+
+            @Override
+            Object value() {
+                return value;
+            }
+        }
+
+        private static final class EntryParts extends Parts {
+
+            private final Iterator<? extends Map.Entry<?, ?>> entries;
+
+            private Map.Entry<?, ?> entry;
+
+            private boolean key;
+
+            EntryParts(Iterator<? extends Map.Entry<?, ?>> entries) {
+                this.entries = entries;
+            }
+
+            @Override
+            boolean advance() {
+                key = !key;
+                if (key) {
+                    if (!entries.hasNext()) {
+                        return false;
+                    }
+                    entry = entries.next();
+                }
+                return true;
+            }
+
+            @Override
+            Object value() {
+                return key ? entry.getKey() : entry.getValue();
+            }
+        }
+
+        /**
+         * Only fields differing from a blank instance are written, each prefixed by the distance to
+         * the previously written field and terminated by a zero distance.
+         */
+        private final class FieldParts extends Parts {
+
+            private final ModelClass modelClass;
+
+            private final Object node;
+
+            private int index = -1;
+
+            private Object value;
+
+            FieldParts(ModelClass modelClass, Object node) {
+                this.modelClass = modelClass;
+                this.node = node;
+            }
+
+            @Override
+            boolean advance() throws IOException {
+                Field[] fields = modelClass.fields();
+                for (int i = index + 1; i < fields.length; i++) {
+                    Object fieldValue = modelClass.get(fields[i], node);
+                    if (!modelClass.isBlank(i, fieldValue)) {
+                        writeVarInt(out, i - index);
+                        index = i;
+                        value = fieldValue;
+                        return true;
+                    }
+                }
+                writeVarInt(out, 0);
+                return false;
+            }
+
+            @Override
+            Object value() {
+                return value;
+            }
+        }
+    }
+
+    @SuppressWarnings({"PMD.CyclomaticComplexity"})
+    private static final class Reader {
+
+        private final DataInputStream in;
+
+        private final List<String> strings = new ArrayList<>();
+
+        private final List<ClassLayout> classes = new ArrayList<>();
+
+        private final List<Object> objects = new ArrayList<>();
+
+        // the collections, maps and model objects being read, innermost on top
+        private final Deque<Parts> pending = new ArrayDeque<>();
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        Object read() throws IOException {
+            Object root = readValue();
+            while (!pending.isEmpty()) {
+                Parts parts = pending.peek();
+                if (parts.advance()) {
+                    parts.accept(readValue());
+                } else {
+                    pending.pop();
+                }
+            }
+            return root;
+        }
+
+        /**
+         * Reads a leaf value completely, but returns collections, maps and model objects empty,
+         * which are filled by {@link #read()} afterwards.
+         */
+        @SuppressWarnings({"PMD.CyclomaticComplexity"})
+        private Object readValue() throws IOException {
+            int tag = in.read();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case REFERENCE:
+                    int index = readVarInt(in);
+                    if (index >= objects.size()) {
+                        throw new StreamCorruptedException("Invalid object reference " + index);
+                    }
+                    return objects.get(index);
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case INT:
+                    return (int) readVarLong(in);
+                case LONG:
+                    return readVarLong(in);
+                case SHORT:
+                    return (short) readVarLong(in);
+                case BYTE:
+                    return in.readByte();
+                case CHAR:
+                    return (char) readVarInt(in);
+                case FLOAT:
+                    return in.readFloat();
+                case DOUBLE:
+                    return in.readDouble();
+                case STRING:
+                    return readString();
+                case BIG_INTEGER:
+                    return new BigInteger(readString());
+                case BIG_DECIMAL:
+                    return new BigDecimal(readString());
+                case ENUM:
+                    return readEnum(readClass(false).type);
+                case ENUM_SET:
+                    return readEnumSet();
+                case MODEL:
+                    return readModel();
+                case LIST:
+                case LINKED_LIST:
+                case SET:
+                case HASH_SET:
+                    return readCollection(tag);
+                case MAP:
+                case HASH_MAP:
+                    return readMap(tag);
+                case -1:
+                    throw new StreamCorruptedException("Unexpected end of data");
+                default:
+                    throw new StreamCorruptedException("Unknown tag " + tag);
+            }
+        }
+
+        private Object readModel() throws IOException {
+            ClassLayout layout = readClass(true);
+            Object value = layout.modelClass.newInstance();
+            objects.add(value);
+            pending.push(new FieldParts(layout, value));
+            return value;
+        }
+
+        private Collection<Object> readCollection(int tag) throws IOException {
+            Collection<Object> collection;
+            int size = readVarInt(in);
+            if (tag == LINKED_LIST) {
+                collection = new LinkedList<>();
+            } else if (tag == SET) {
+                collection = new LinkedHashSet<>();
+            } else if (tag == HASH_SET) {
+                collection = new HashSet<>();
+            } else {
+                collection = new ArrayList<>(Math.min(size, 1024));
+            }
+            objects.add(collection);
+            pending.push(new ElementParts(collection, size));
+            return collection;
+        }
+
+        private Map<Object, Object> readMap(int tag) throws IOException {
+            Map<Object, Object> map = tag == HASH_MAP ? new HashMap<>() : new LinkedHashMap<>();
+            objects.add(map);
+            pending.push(new EntryParts(map, readVarInt(in)));
+            return map;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object readEnumSet() throws IOException {
+            Class type = readClass(false).type;
+            EnumSet enumSet = EnumSet.noneOf(type);
+            objects.add(enumSet);
+            int size = readVarInt(in);
+            for (int i = 0; i < size; i++) {
+                enumSet.add(readEnum(type));
+            }
+            return enumSet;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Enum<?> readEnum(Class type) throws IOException {
+            String name = readString();
+            try {
+                return Enum.valueOf(type, name);
+            } catch (IllegalArgumentException ex) {
+                throw new StreamCorruptedException("Unknown constant " + name + " of " + type.getName());
+            }
+        }
+
+        private ClassLayout readClass(boolean model) throws IOException {
+            int index = readVarInt(in);
+            if (index > 0) {
+                if (index > classes.size()) {
+                    throw new StreamCorruptedException("Invalid class reference " + index);
+                }
+                ClassLayout layout = classes.get(index - 1);
+                if (model != (layout.modelClass != null)) {
+                    throw new StreamCorruptedException("Unexpected class " + layout.type.getName());
+                }
+                return layout;
+            }
+
+            String subPackage = readString();
+            String simpleName = readString();
+            Class<?> type = resolveClass(MODEL_PACKAGE + (subPackage.isEmpty() ? "" : subPackage + ".") + simpleName, model);
+            ClassLayout layout = new ClassLayout(type, model ? ModelClass.of(type) : null);
+            if (model) {
+                layout.fields = readFields(layout.modelClass);
+            }
+            classes.add(layout);
+            return layout;
+        }
+
+        private Field[] readFields(ModelClass modelClass) throws IOException {
+            Map<String, Field> known = new HashMap<>();
+            for (Field field : modelClass.fields()) {
+                known.put(field.getName(), field);
+            }
+            Field[] fields = new Field[readVarInt(in)];
+            for (int i = 0; i < fields.length; i++) {
+                // fields not known to this version are read and dropped
+                fields[i] = known.get(readString());
+            }
+            return fields;
+        }
+
+        private static Class<?> resolveClass(String name, boolean model) throws IOException {
+            Class<?> type;
+            try {
+                type = Class.forName(name, false, ModelSerializer.class.getClassLoader());
+            } catch (ClassNotFoundException ex) {
+                throw new StreamCorruptedException("Unknown class " + name);
+            }
+            boolean allowed = model
+                    ? ModelClass.isModelClass(type)
+                    : type.isEnum() && type.getName().startsWith(MODEL_PACKAGE);
+            if (!allowed) {
+                throw new StreamCorruptedException("Unexpected class " + name);
+            }
+            return type;
+        }
+
+        private String readString() throws IOException {
+            int index = readVarInt(in);
+            if (index > 0) {
+                if (index > strings.size()) {
+                    throw new StreamCorruptedException("Invalid string reference " + index);
+                }
+                return strings.get(index - 1);
+            }
+            byte[] bytes = new byte[readVarInt(in)];
+            in.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+
+        private static boolean isAssignable(Field field, Object value) {
+            Class<?> type = field.getType();
+            if (type.isPrimitive()) {
+                return value != null && value.getClass() == PRIMITIVE_WRAPPERS.get(type);
+            }
+            return value == null || type.isInstance(value);
+        }
+
+        static int readVarInt(DataInputStream in) throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        throw new StreamCorruptedException("Invalid length " + value);
+                    }
+                    return value;
+                }
+            }
+            throw new StreamCorruptedException("Malformed variable length integer");
+        }
+
+        static long readVarLong(DataInputStream in) throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (value >>> 1) ^ -(value & 1);
+                }
+            }
+            throw new StreamCorruptedException("Malformed variable length integer");
+        }
+
+        /**
+         * The values held by a collection, map or model object, which are read one after the other.
+         */
+        private abstract static class Parts {
+
+            /**
+             * Moves to the next value, reading what precedes it.
+             *
+             * @return <code>false</code> after the last value
+             */
+            abstract boolean advance() throws IOException;
+
+            abstract void accept(Object value);
+        }
+
+        private static final class ElementParts extends Parts {
+
+            private final Collection<Object> collection;
+
+            private int remaining;
+
+            ElementParts(Collection<Object> collection, int size) {
+                this.collection = collection;
+                this.remaining = size;
+            }
+
+            @Override
+            boolean advance() {
+                return remaining-- > 0;
+            }
+
+            @Override
+            void accept(Object value) {
+                collection.add(value);
+            }
+        }
+
+        private static final class EntryParts extends Parts {
+
+            private final Map<Object, Object> map;
+
+            private int remaining;
+
+            private boolean key;
+
+            private Object keyValue;
+
+            EntryParts(Map<Object, Object> map, int size) {
+                this.map = map;
+                this.remaining = size;
+            }
+
+            @Override
+            boolean advance() {
+                key = !key;
+                return !key || remaining-- > 0;
+            }
+
+            @Override
+            void accept(Object value) {
+                if (key) {
+                    keyValue = value;
+                } else {
+                    map.put(keyValue, value);
+                }
+            }
+        }
+
+        private final class FieldParts extends Parts {
+
+            private final ClassLayout layout;
+
+            private final Object node;
+
+            private int index = -1;
+
+            FieldParts(ClassLayout layout, Object node) {
+                this.layout = layout;
+                this.node = node;
+            }
+
+            @Override
+            boolean advance() throws IOException {
+                int distance = readVarInt(in);
+                if (distance == 0) {
+                    return false;
+                }
+                index += distance;
+                if (index >= layout.fields.length) {
+                    throw new StreamCorruptedException("Invalid field index " + index);
+                }
+                return true;
+            }
+
+            @Override
+            void accept(Object value) {
+                Field field = layout.fields[index];
+                if (field != null && isAssignable(field, value)) {
+                    layout.modelClass.set(field, node, value);
+                }
+            }
+        }
+    }
+
+    private static final class ClassLayout {
+
+        private final Class<?> type;
+
+        private final ModelClass modelClass;
+
+        private Field[] fields;
+
+        ClassLayout(Class<?> type, ModelClass modelClass) {
+            this.type = type;
+            this.modelClass = modelClass;
+        }
+    }
+}
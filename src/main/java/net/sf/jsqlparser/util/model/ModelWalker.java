@@ -0,0 +1,201 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import net.sf.jsqlparser.util.TraversalControl;
+
+/**
+ * Walks a tree of the object model (statements, expressions, from items and their helpers)
+ * without recursion: the path from the root to the current node is kept in a stack on the heap,
+ * so the walk takes the same amount of thread stack for any depth of the tree, like a chain of
+ * thousands of ANDs or nested sub selects.
+ *
+ * The children of a node are the model objects held by its fields, in the order of
+ * {@link ModelClass#getFields()}, and by the lists, sets, maps and arrays held by its fields. An
+ * object referenced several times within the tree is walked at its first occurrence only.
+ *
+ * <pre>
+ * ModelWalker.walk(statement, new ModelWalker.Listener() {
+ *     &#64;Override
+ *     public TraversalControl enter(Object node, Object parent) {
+ *         if (node instanceof Table) {
+ *             tables.add(((Table) node).getFullyQualifiedName());
+ *         }
+ *         return TraversalControl.CONTINUE;
+ *     }
+ * });
+ * </pre>
+ */
+public final class ModelWalker {
+
+    /**
+     * Receives the nodes of a walk.
+     */
+    public interface Listener {
+
+        /**
+         * Called before the children of a node are walked.
+         *
+         * @param node the model object
+         * @param parent the model object holding the node, <code>null</code> for the root
+         * @return {@link TraversalControl#CONTINUE} to walk the children of the node,
+         * {@link TraversalControl#SKIP_SUBTREE} to skip them without leaving the node,
+         * {@link TraversalControl#TERMINATE} to stop the walk right away, without leaving the node
+         * and its ancestors
+         */
+        default TraversalControl enter(Object node, Object parent) {
+            return TraversalControl.CONTINUE;
+        }
+
+        /**
+         * Called after the children of a node are walked, for the nodes
+         * {@link #enter(Object, Object)} returned {@link TraversalControl#CONTINUE} for.
+         *
+         * @param node the model object
+         * @param parent the model object holding the node, <code>null</code> for the root
+         */
+        default void leave(Object node, Object parent) {
+            // nothing
+        }
+    }
+
+    private final Listener listener;
+
+    private final Set<Object> walked = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final Deque<Frame> path = new ArrayDeque<>();
+
+    private ModelWalker(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @param root a statement, expression or any other object of the model, or a collection of
+     * them, may be <code>null</code>
+     * @param listener the listener receiving the nodes
+     */
+    public static void walk(Object root, Listener listener) {
+        new ModelWalker(listener).walk(root);
+    }
+
+    private void walk(Object root) {
+        Frame rootFrame = new Frame(null, null);
+        rootFrame.push(Collections.singletonList(root).iterator());
+        path.push(rootFrame);
+        while (!path.isEmpty()) {
+            Frame frame = path.peek();
+            Object child = frame.nextChild();
+            if (child == null) {
+                path.pop();
+                if (frame.node != null) {
+                    listener.leave(frame.node, frame.parent);
+                }
+            } else if (walked.add(child)) {
+                TraversalControl control = listener.enter(child, frame.node);
+                if (control == TraversalControl.TERMINATE) {
+                    return;
+                } else if (control == TraversalControl.CONTINUE) {
+                    path.push(new Frame(child, frame.node));
+                }
+            }
+        }
+    }
+
+    private static boolean isNode(Object value) {
+        return value != null && !ModelClass.isImmutableValue(value) && ModelClass.isModelClass(value.getClass());
+    }
+
+    /**
+     * @return the elements of a collection, map or array of objects, <code>null</code> for any other
+     * value
+     */
+    private static Iterator<?> elements(Object value) {
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).iterator();
+        } else if (value instanceof Map) {
+            return ((Map<?, ?>) value).entrySet().iterator();
+        } else if (value instanceof Map.Entry) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+            return Arrays.asList(entry.getKey(), entry.getValue()).iterator();
+        } else if (value instanceof Object[]) {
+            return Arrays.asList((Object[]) value).iterator();
+        }
+        return null;
+    }
+
+    /**
+     * A node on the path from the root, with the position of the next child to walk.
+     */
+    private static final class Frame {
+
+        private final Object node;
+
+        private final Object parent;
+
+        private final ModelClass modelClass;
+
+        private int fieldIndex;
+
+        // the elements of collections being walked, innermost on top
+        private final Deque<Iterator<?>> elements = new ArrayDeque<>(2);
+
+        Frame(Object node, Object parent) {
+            this.node = node;
+            this.parent = parent;
+            this.modelClass = node != null ? ModelClass.of(node.getClass()) : null;
+        }
+
+        void push(Iterator<?> iterator) {
+            elements.push(iterator);
+        }
+
+        /**
+         * @return the next model object held by the node, <code>null</code> after the last one
+         */
+        Object nextChild() {
+            while (true) {
+                Object value;
+                if (!elements.isEmpty()) {
+                    Iterator<?> iterator = elements.peek();
+                    if (!iterator.hasNext()) {
+                        elements.pop();
+                        continue;
+                    }
+                    value = iterator.next();
+                } else if (modelClass != null && fieldIndex < modelClass.fields().length) {
+                    Field field = modelClass.fields()[fieldIndex++];
+                    if (field.getType().isPrimitive()) {
+                        continue;
+                    }
+                    value = modelClass.get(field, node);
+                } else {
+                    return null;
+                }
+
+                Iterator<?> nested = elements(value);
+                if (nested != null) {
+                    elements.push(nested);
+                } else if (isNode(value)) {
+                    return value;
+                }
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
 import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
 import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.ConditionalChain;
 import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
 import net.sf.jsqlparser.expression.operators.conditional.XorExpression;
 import net.sf.jsqlparser.expression.operators.relational.Between;
@@ -72,6 +73,13 @@ public class ExpressionValidator extends AbstractValidator<Expression> implement
         visitBinaryExpression(andExpression, andExpression.isUseOperator() ? " && " : " AND ");
     }
 
+    @Override
+    public void visit(ConditionalChain conditionalChain) {
+        for (Expression expression : conditionalChain.getExpressions()) {
+            expression.accept(this);
+        }
+    }
+
     @Override
     public void visit(Between between) {
         between.getLeftExpression().accept(this);
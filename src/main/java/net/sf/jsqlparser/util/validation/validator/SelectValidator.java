@@ -242,7 +242,7 @@ public class SelectValidator extends AbstractValidator<SelectItem>
             validateFeature(c, join.isStraight(), Feature.joinStraight);
             validateFeature(c, join.isApply(), Feature.joinApply);
             validateFeature(c, join.isWindowJoin(), Feature.joinWindow);
-            validateOptionalFeature(c, join.getUsingColumns(), Feature.joinUsingColumns);
+            validateFeature(c, !join.getUsingColumns().isEmpty(), Feature.joinUsingColumns);
         }
 
         validateOptionalFromItem(join.getRightItem());
@@ -0,0 +1,122 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.expression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementContextVisitor;
+import net.sf.jsqlparser.statement.StatementContextVisitorAdapter;
+import net.sf.jsqlparser.statement.select.FromItemContextVisitor;
+import net.sf.jsqlparser.statement.select.FromItemContextVisitorAdapter;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectContextVisitor;
+import net.sf.jsqlparser.statement.select.SelectContextVisitorAdapter;
+import org.junit.jupiter.api.Test;
+
+public class ExpressionContextVisitorTest {
+
+    /**
+     * Counts the columns of an expression and collects their names in the context.
+     */
+    private static final class ColumnCounter extends ExpressionContextVisitorAdapter<Integer, List<String>> {
+
+        private Integer visitBinaryExpression(BinaryExpression expression, List<String> names) {
+            return expression.getLeftExpression().accept(this, names)
+                    + expression.getRightExpression().accept(this, names);
+        }
+
+        @Override
+        public Integer visit(Column column, List<String> names) {
+            names.add(column.getColumnName());
+            return 1;
+        }
+
+        @Override
+        public Integer visit(LongValue value, List<String> names) {
+            return 0;
+        }
+
+        @Override
+        public Integer visit(Addition addition, List<String> names) {
+            return visitBinaryExpression(addition, names);
+        }
+
+        @Override
+        public Integer visit(EqualsTo equalsTo, List<String> names) {
+            return visitBinaryExpression(equalsTo, names);
+        }
+
+        @Override
+        public Integer visit(AndExpression andExpression, List<String> names) {
+            return visitBinaryExpression(andExpression, names);
+        }
+    }
+
+    private static final ExpressionContextVisitor<Integer, List<String>> COLUMN_COUNTER = new ColumnCounter();
+
+    private static final FromItemContextVisitor<String, Void> TABLE_NAME = new FromItemContextVisitorAdapter<String, Void>() {
+        @Override
+        public String visit(Table table, Void context) {
+            return table.getName();
+        }
+    };
+
+    private static final SelectContextVisitor<String, Void> SELECT_TABLE_NAME = new SelectContextVisitorAdapter<String, Void>() {
+        @Override
+        public String visit(PlainSelect plainSelect, Void context) {
+            return plainSelect.getFromItem().accept(TABLE_NAME, context);
+        }
+    };
+
+    private static final StatementContextVisitor<String, Void> STATEMENT_TABLE_NAME = new StatementContextVisitorAdapter<String, Void>() {
+        @Override
+        public String visit(Select select, Void context) {
+            return select.getSelectBody().accept(SELECT_TABLE_NAME, context);
+        }
+    };
+
+    @Test
+    public void testSharedVisitor() throws JSQLParserException {
+        List<Expression> expressions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            expressions.add(CCJSqlParserUtil.parseCondExpression("a" + i + " = 1 AND b + " + i + " = c"));
+        }
+        List<String> counts = IntStream.range(0, expressions.size()).parallel().mapToObj(i -> {
+            List<String> names = new ArrayList<>();
+            return expressions.get(i).accept(COLUMN_COUNTER, names) + " " + names;
+        }).collect(Collectors.toList());
+
+        assertEquals("3 [a0, b, c]", counts.get(0));
+        assertEquals("3 [a199, b, c]", counts.get(199));
+        // expressions without a method of their own are left to the adapter
+        assertNull(new StringValue("x").accept(COLUMN_COUNTER, new ArrayList<>()));
+    }
+
+    @Test
+    public void testStatementVisitor() throws JSQLParserException {
+        Statement select = CCJSqlParserUtil.parse("SELECT a FROM t WHERE b = 1");
+        assertEquals("t", select.accept(STATEMENT_TABLE_NAME, null));
+        assertNull(CCJSqlParserUtil.parse("DELETE FROM t").accept(STATEMENT_TABLE_NAME, null));
+    }
+}
@@ -21,6 +21,7 @@ import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
 import net.sf.jsqlparser.statement.select.SelectVisitorAdapter;
 import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.util.TraversalControl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -249,4 +250,48 @@ public class ExpressionVisitorAdapterTest {
                 .parseExpression("CAST(ROW(dataid, value, calcMark) AS ROW(datapointid CHAR, value CHAR, calcMark CHAR))")
                 .accept(adapter);
     }
+
+    @Test
+    public void testTraversalControl() throws JSQLParserException {
+        StringBuilder sql = new StringBuilder("a = 1 OR b = ?");
+        for (int i = 0; i < 1000; i++) {
+            sql.append(" OR c").append(i).append(" = ").append(i);
+        }
+        Expression expression = CCJSqlParserUtil.parseCondExpression(sql.toString());
+        List<String> columns = new ArrayList<>();
+        ExpressionVisitorAdapter search = new ExpressionVisitorAdapter() {
+            @Override
+            public void visit(Column column) {
+                columns.add(column.getColumnName());
+            }
+
+            @Override
+            public void visit(JdbcParameter parameter) {
+                terminate();
+            }
+        };
+        search.traverse(expression);
+        assertTrue(search.isTerminated());
+        assertEquals("[a, b]", columns.toString());
+
+        // the children of the skipped functions are left out
+        columns.clear();
+        ExpressionVisitorAdapter pruning = new ExpressionVisitorAdapter() {
+            @Override
+            protected TraversalControl enter(Expression expression) {
+                if (expression instanceof LongValue) {
+                    return TraversalControl.TERMINATE;
+                }
+                return expression instanceof Function ? TraversalControl.SKIP_SUBTREE : TraversalControl.CONTINUE;
+            }
+
+            @Override
+            public void visit(Column column) {
+                columns.add(column.getColumnName());
+            }
+        };
+        pruning.traverse(CCJSqlParserUtil.parseExpression("a + max(b) + c + 1 + d"));
+        assertEquals("[a, c]", columns.toString());
+        assertTrue(pruning.isTerminated());
+    }
 }
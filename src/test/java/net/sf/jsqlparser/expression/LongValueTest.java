@@ -11,6 +11,7 @@ package net.sf.jsqlparser.expression;
 
 import java.math.BigInteger;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import org.junit.jupiter.api.Test;
 
@@ -43,4 +44,46 @@ public class LongValueTest {
         }
         assertEquals(new BigInteger(largeNumber), value.getBigIntegerValue());
     }
+
+    @Test
+    public void testNonCanonicalText() {
+        LongValue value = new LongValue("007");
+
+        assertEquals("007", value.getStringValue());
+        assertEquals(7L, value.getValue());
+        assertEquals(new BigInteger("7"), value.getBigIntegerValue());
+        assertNotEquals(new LongValue(7), value);
+
+        // other digits than ASCII ones are kept as they are
+        LongValue arabic = new LongValue("\u0667");
+        assertEquals("\u0667", arabic.toString());
+        assertEquals(7L, arabic.getValue());
+        assertEquals(new LongValue("\u0667"), arabic);
+
+        assertEquals(0L, new LongValue("-0").getValue());
+        assertEquals("-0", new LongValue("-0").toString());
+    }
+
+    @Test
+    public void testSetValue() {
+        LongValue value = new LongValue("+42");
+        assertEquals("42", value.toString());
+        assertEquals(new LongValue(42), value);
+
+        value.setValue(-5);
+        assertEquals(-5L, value.getValue());
+        assertEquals("-5", value.toString());
+
+        value.setStringValue("99999999999999999999");
+        assertEquals("99999999999999999999", value.toString());
+    }
+
+    @Test
+    public void testDoubleValueText() {
+        assertEquals("1.5", new DoubleValue("1.5").toString());
+        assertEquals(".5", new DoubleValue(".5").toString());
+        assertEquals("1e3", new DoubleValue("1e3").toString());
+        assertEquals(1000d, new DoubleValue("1e3").getValue());
+        assertEquals("2.5", new DoubleValue("1e3").withValue(2.5).toString());
+    }
 }
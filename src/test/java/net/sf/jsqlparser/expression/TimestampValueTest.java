@@ -9,12 +9,15 @@
  */
 package net.sf.jsqlparser.expression;
 
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
 import net.sf.jsqlparser.JSQLParserException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import org.junit.jupiter.api.Test;
 
 public class TimestampValueTest {
@@ -36,4 +39,21 @@ public class TimestampValueTest {
         System.out.println(tv.toString());
         assertEquals("'" + currentDate + "'", tv.getRawValue());
     }
+
+    @Test
+    public void testTemporalValues() {
+        TimestampValue timestampValue = new TimestampValue("'2020-01-02 10:11:12.123456789'");
+        assertEquals(Timestamp.valueOf("2020-01-02 10:11:12.123456789"), timestampValue.getValue());
+        assertEquals(123456789, timestampValue.getNanos());
+        assertEquals("{ts '2020-01-02 10:11:12.123456789'}", timestampValue.toString());
+
+        DateValue dateValue = new DateValue("'2020-01-02'");
+        assertEquals(java.sql.Date.valueOf("2020-01-02").getTime(), dateValue.getEpochMillis());
+        assertEquals("{d '2020-01-02'}", dateValue.toString());
+        assertNull(new DateValue().getValue());
+
+        TimeValue timeValue = new TimeValue("'10:11:12'");
+        assertEquals(Time.valueOf("10:11:12"), timeValue.getValue());
+        assertEquals("{t '10:11:12'}", timeValue.toString());
+    }
 }
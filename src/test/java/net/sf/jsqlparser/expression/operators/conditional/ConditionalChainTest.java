@@ -0,0 +1,99 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.expression.operators.conditional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitorAdapter;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+import net.sf.jsqlparser.util.model.ModelEquality;
+import net.sf.jsqlparser.util.validation.Validation;
+import net.sf.jsqlparser.util.validation.feature.DatabaseType;
+import org.junit.jupiter.api.Test;
+
+public class ConditionalChainTest {
+
+    private static Statement parse(String sql, boolean flattenConditions) throws JSQLParserException {
+        return CCJSqlParserUtil.parse(sql, parser -> parser.withFlattenConditions(flattenConditions));
+    }
+
+    private static Expression where(Statement statement) {
+        return ((PlainSelect) ((Select) statement).getSelectBody()).getWhere();
+    }
+
+    @Test
+    public void testLongChain() throws JSQLParserException {
+        StringBuilder sql = new StringBuilder("SELECT * FROM t WHERE a IN (SELECT b FROM u)");
+        for (int i = 0; i < 20000; i++) {
+            sql.append(" OR a = ").append(i);
+        }
+        Statement statement = parse(sql.toString(), true);
+        ConditionalChain chain = (ConditionalChain) where(statement);
+        assertEquals(ConditionalChain.Operator.OR, chain.getOperator());
+        assertEquals(20001, chain.getExpressions().size());
+
+        assertEquals(sql.toString(), statement.toString());
+        StringBuilder deparsed = new StringBuilder();
+        statement.accept(new StatementDeParser(deparsed));
+        assertEquals(sql.toString(), deparsed.toString());
+
+        assertEquals(Arrays.asList("t", "u"), new TablesNamesFinder().getTableList(statement));
+        AtomicInteger columns = new AtomicInteger();
+        chain.accept(new ExpressionVisitorAdapter() {
+            @Override
+            public void visit(Column column) {
+                columns.incrementAndGet();
+            }
+        });
+        assertEquals(20001, columns.get());
+        assertTrue(Validation.validate(statement, Validation.createValidationContext(new FeatureConfiguration(),
+                Collections.singletonList(DatabaseType.POSTGRESQL))).isEmpty());
+    }
+
+    @Test
+    public void testOperators() throws JSQLParserException {
+        String sql = "SELECT * FROM t WHERE a = 1 AND b = 2 AND c = 3 && d = 4 OR e = 5 AND (f = 6 OR g = 7 OR h = 8)";
+        Statement statement = parse(sql, true);
+        assertEquals(sql, statement.toString());
+
+        ConditionalChain or = (ConditionalChain) where(statement);
+        assertEquals(2, or.getExpressions().size());
+        // a change of the AND operator starts a new chain
+        ConditionalChain and = (ConditionalChain) or.getExpressions().get(0);
+        assertTrue(and.isUseOperator());
+        assertEquals("a = 1 AND b = 2 AND c = 3", and.getExpressions().get(0).toString());
+        assertEquals(3, ((ConditionalChain) and.getExpressions().get(0)).getExpressions().size());
+        ConditionalChain parenthesized = (ConditionalChain) ((Parenthesis) ((ConditionalChain) or.getExpressions()
+                .get(1)).getExpressions().get(1)).getExpression();
+        assertEquals(3, parenthesized.getExpressions().size());
+
+        // a single condition is kept as it is, and the binary expressions are created without the feature
+        assertTrue(ModelEquality.equals(parse("SELECT * FROM t WHERE a = 1", false),
+                parse("SELECT * FROM t WHERE a = 1", true)));
+        String binary = "SELECT * FROM t WHERE a = 1 OR b = 2 OR c = 3";
+        assertTrue(where(parse(binary, false)) instanceof OrExpression);
+        assertTrue(ModelEquality.equals(where(parse(binary, false)),
+                ((ConditionalChain) where(parse(binary, true))).toBinaryExpression()));
+    }
+}
@@ -0,0 +1,91 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.expression.operators.relational;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.RowConstructor;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+import net.sf.jsqlparser.util.model.ModelEquality;
+import org.junit.jupiter.api.Test;
+
+public class LiteralListTest {
+
+    private static Statement parse(String sql, boolean compactLiterals) throws JSQLParserException {
+        return CCJSqlParserUtil.parse(sql, parser -> parser.withCompactLiterals(compactLiterals));
+    }
+
+    @Test
+    public void testParsedLists() throws JSQLParserException {
+        String sql = "INSERT INTO t (a, b, c) VALUES (1, 'x''y', NULL), (-2, '', 3), (007, N'z', 4), (a, 1, 2)";
+        Insert insert = (Insert) parse(sql, true);
+        assertTrue(ModelEquality.equals(insert, parse(sql, false)));
+        assertEquals(sql, insert.toString());
+        StringBuilder deparsed = new StringBuilder();
+        insert.accept(new StatementDeParser(deparsed));
+        assertEquals(sql, deparsed.toString());
+
+        List<Expression> rows = ((ExpressionList) insert.getItemsList()).getExpressions();
+        assertTrue(((RowConstructor) rows.get(0)).getExprList().getExpressions() instanceof LiteralList);
+        assertTrue(((RowConstructor) rows.get(1)).getExprList().getExpressions() instanceof LiteralList);
+        // literals, which are not reproduced by their value, and other expressions are kept
+        assertFalse(((RowConstructor) rows.get(2)).getExprList().getExpressions() instanceof LiteralList);
+        assertFalse(((RowConstructor) rows.get(3)).getExprList().getExpressions() instanceof LiteralList);
+        assertFalse(((RowConstructor) ((ExpressionList) ((Insert) parse(sql, false)).getItemsList())
+                .getExpressions().get(0)).getExprList().getExpressions() instanceof LiteralList);
+
+        // rows of literals are stored together
+        String rowsSql = "INSERT INTO t VALUES (1, 'a', NULL), (-2, 'b', 3)";
+        Insert rowsInsert = (Insert) parse(rowsSql, true);
+        assertTrue(ModelEquality.equals(rowsInsert, parse(rowsSql, false)));
+        assertEquals(rowsSql, rowsInsert.toString());
+        List<Expression> literalRows = ((ExpressionList) rowsInsert.getItemsList()).getExpressions();
+        assertTrue(literalRows instanceof LiteralList);
+        assertEquals("(-2, 'b', 3)", literalRows.get(1).toString());
+        assertTrue(((RowConstructor) literalRows.get(1)).getExprList().getExpressions() instanceof LiteralList);
+
+        Select select = (Select) parse("SELECT * FROM t WHERE a IN (1, 2, 3)", true);
+        InExpression in = (InExpression) ((PlainSelect) select.getSelectBody()).getWhere();
+        assertTrue(((ExpressionList) in.getRightItemsList()).getExpressions() instanceof LiteralList);
+        assertEquals("SELECT * FROM t WHERE a IN (1, 2, 3)", select.toString());
+    }
+
+    @Test
+    public void testChanges() {
+        List<Expression> list = LiteralList.of(Arrays.asList(new LongValue(1), new StringValue("'a'")));
+        assertTrue(list instanceof LiteralList);
+        assertTrue(ModelEquality.equals(new LongValue(1), list.get(0)));
+        assertNotSame(list.get(0), list.get(0));
+
+        list.set(0, new Column("c"));
+        list.add(new LongValue(3));
+        list.remove(1);
+        assertEquals("[c, 3]", list.toString());
+        assertTrue(ModelEquality.equals(Arrays.asList(new Column("c"), new LongValue(3)), list));
+
+        List<Expression> mixed = Arrays.asList(new LongValue(1), new Column("c"));
+        assertTrue(LiteralList.of(mixed) == mixed);
+    }
+}
@@ -10,11 +10,15 @@
 package net.sf.jsqlparser.parser;
 
 import java.io.ByteArrayInputStream;
+import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Expression;
@@ -22,10 +26,19 @@ import net.sf.jsqlparser.expression.LongValue;
 import net.sf.jsqlparser.expression.Parenthesis;
 import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
 import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
 import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.IfElseStatement;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.model.ModelEquality;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -331,4 +344,246 @@ public class CCJSqlParserUtilTest {
             }
         });
     }
+
+    @Test
+    public void testParseWithoutAST() throws Exception {
+        String sql = "SELECT a, b FROM t WHERE a = (SELECT max(c) FROM u)";
+        PlainSelect select = (PlainSelect) ((Select) CCJSqlParserUtil.parse(sql,
+                parser -> parser.withBuildAST(false))).getSelectBody();
+
+        assertEquals(sql, select.toString());
+        assertNull(select.getASTNode());
+        assertNull(((Column) select.getWhere(EqualsTo.class).getLeftExpression()).getASTNode());
+
+        CCJSqlParser parser = CCJSqlParserUtil.newParser(sql).withBuildAST(false);
+        parser.Statement();
+        assertNull(parser.getASTRoot());
+
+        PlainSelect linked = (PlainSelect) ((Select) CCJSqlParserUtil.parse(sql)).getSelectBody();
+        assertNotNull(linked.getASTNode());
+        assertTrue(ModelEquality.equals(linked, select));
+    }
+
+    @Test
+    public void testReparseStatements() throws Exception {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            script.append("SELECT c").append(i).append(" FROM t").append(i).append(";\n");
+        }
+        String sqls = script.toString();
+        Statements previous = CCJSqlParserUtil.parseStatements(sqls);
+
+        // change a column, add a statement behind it, remove a statement, edit at both ends
+        assertReparsed(previous, sqls, sqls.indexOf("c17"), 3, "x + 1");
+        assertReparsed(previous, sqls, sqls.indexOf("SELECT c18"), 0, "DELETE FROM u; ");
+        assertReparsed(previous, sqls, sqls.indexOf("SELECT c18"), "SELECT c18 FROM t18;\n".length(), "");
+        assertReparsed(previous, sqls, 0, 0, "/* header */ ");
+        assertReparsed(previous, sqls, sqls.length(), 0, "SELECT 1");
+
+        Statements reparsed = CCJSqlParserUtil.reparseStatements(previous, sqls, sqls.indexOf("c17"), 3, "x");
+        assertSame(previous.getStatements().get(16), reparsed.getStatements().get(16));
+        assertSame(previous.getStatements().get(18), reparsed.getStatements().get(18));
+    }
+
+    @Test
+    public void testReparsePositions() throws Exception {
+        String sqls = "SELECT a FROM t;\nSELECT b FROM u;\n  SELECT c FROM v";
+        Statements previous = CCJSqlParserUtil.parseStatements(sqls);
+        Statements reparsed = CCJSqlParserUtil.reparseStatements(previous, sqls, sqls.indexOf("b FROM"), 0, "x,\n ");
+        String edited = "SELECT a FROM t;\nSELECT x,\n b FROM u;\n  SELECT c FROM v";
+        Statements expected = CCJSqlParserUtil.parseStatements(edited);
+
+        assertSame(previous.getStatements().get(2), reparsed.getStatements().get(2));
+        SimpleNode node = node(reparsed.getStatements().get(1));
+        SimpleNode expectedNode = node(expected.getStatements().get(1));
+        assertEquals(edited.indexOf("SELECT x") + 1, node.jjtGetFirstToken().absoluteBegin);
+        assertEquals(edited.indexOf("u;") + 1, node.jjtGetLastToken().absoluteBegin);
+        for (Token[] tokens : new Token[][] {{node.jjtGetFirstToken(), expectedNode.jjtGetFirstToken()},
+                {node.jjtGetLastToken(), expectedNode.jjtGetLastToken()}}) {
+            assertEquals(tokens[1].absoluteBegin, tokens[0].absoluteBegin);
+            assertEquals(tokens[1].beginLine, tokens[0].beginLine);
+            assertEquals(tokens[1].beginColumn, tokens[0].beginColumn);
+        }
+        assertEquals(edited, reparsed.getSourceTexts().get(1).getSource());
+    }
+
+    private static SimpleNode node(Statement statement) {
+        return ((PlainSelect) ((Select) statement).getSelectBody()).getASTNode();
+    }
+
+    @Test
+    public void testReparseRemovedSeparator() throws Exception {
+        String sqls = "SELECT a FROM t ; COMMIT; SELECT 1 ; SELECT b FROM u";
+        Statements previous = CCJSqlParserUtil.parseStatements(sqls);
+
+        // the statement behind the removed separator has to be parsed again
+        assertReparsed(previous, sqls, sqls.indexOf(';'), 1, "");
+        assertEquals(3, CCJSqlParserUtil.reparseStatements(previous, sqls, sqls.indexOf(';'), 1, "")
+                .getStatements().size());
+        assertReparsed(previous, sqls, sqls.indexOf(" ; SELECT b") + 1, 1, "UNION");
+        assertThrows(JSQLParserException.class,
+                () -> CCJSqlParserUtil.reparseStatements(previous, sqls, sqls.indexOf(" ; SELECT b") + 1, 1, ""));
+    }
+
+    @Test
+    public void testParseStatementsParallel() throws Exception {
+        StringBuilder sqls = new StringBuilder("-- generated\n");
+        for (int i = 0; i < 1500; i++) {
+            sqls.append("INSERT INTO t (a, b)\n  VALUES (").append(i).append(", 'x;\ty');\r\n");
+            sqls.append("IF a > ").append(i).append(" SELECT 1; ELSE SELECT 2;\n");
+        }
+        String script = sqls.toString();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Statements expected = CCJSqlParserUtil.parseStatements(script);
+            Statements parsed = CCJSqlParserUtil.parseStatementsParallel(script, pool, null);
+            assertEquals(3000, parsed.getStatements().size());
+            assertEquals(expected.toString(), parsed.toString());
+            for (int i = 0; i < expected.getSourceTexts().size(); i++) {
+                assertEquals(expected.getSourceTexts().get(i).getBegin(), parsed.getSourceTexts().get(i).getBegin());
+                assertEquals(expected.getSourceTexts().get(i).getEnd(), parsed.getSourceTexts().get(i).getEnd());
+            }
+            PlainSelect select = (PlainSelect) ((Select) ((IfElseStatement) parsed.getStatements().get(2999))
+                    .getElseStatement()).getSelectBody();
+            assertEquals("SELECT 2", select.getSourceText().toString());
+
+            String broken = script.replace("VALUES (1200, ", "VALUES (1200,, ");
+            JSQLParserException sequential = assertThrows(JSQLParserException.class,
+                    () -> CCJSqlParserUtil.parseStatements(broken));
+            JSQLParserException parallel = assertThrows(JSQLParserException.class,
+                    () -> CCJSqlParserUtil.parseStatementsParallel(broken, pool, null));
+            assertTrue(parallel.getMessage().contains("line 3603, column 15"), parallel.getMessage());
+            assertEquals(sequential.getMessage(), parallel.getMessage());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParseAll() throws Exception {
+        List<String> sqls = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            sqls.add(i % 7 == 3
+                    ? "SELECT FROM WHERE " + i
+                    : "SELECT a, [b c] FROM t WHERE x = " + i + " AND y IN (SELECT z FROM u)");
+        }
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            List<ParseResult> results = CCJSqlParserUtil.parseAll(sqls, pool,
+                    parser -> parser.withSquareBracketQuotation(true));
+            assertEquals(sqls.size(), results.size());
+            for (int i = 0; i < sqls.size(); i++) {
+                ParseResult result = results.get(i);
+                assertSame(sqls.get(i), result.getSql());
+                if (i % 7 == 3) {
+                    assertFalse(result.isSuccess());
+                    assertNull(result.getStatement());
+                    assertThrows(JSQLParserException.class, result::getStatementOrThrow);
+                } else {
+                    assertTrue(result.isSuccess());
+                    Statement expected = CCJSqlParserUtil.parse(sqls.get(i), parser -> parser.withSquareBracketQuotation(true));
+                    assertEquals(expected.toString(), result.getStatementOrThrow().toString());
+                    PlainSelect select = (PlainSelect) ((Select) result.getStatement()).getSelectBody();
+                    assertEquals(sqls.get(i), select.getSourceText().toString());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        List<ParseResult> streamed = CCJSqlParserUtil.parseAll(sqls.parallelStream())
+                .collect(Collectors.toList());
+        assertEquals(sqls.size(), streamed.size());
+        assertEquals(sqls.get(5), streamed.get(5).getSql());
+        // square brackets are array access without the quotation feature
+        assertFalse(streamed.get(5).isSuccess());
+    }
+
+    @Test
+    public void testStreamStatements() throws Exception {
+        String script = "SELECT a FROM t;\nSELECT FROM WHERE;\nINSERT INTO t VALUES ('x;y') ; -- done\n";
+        List<ParseResult> results = CCJSqlParserUtil.streamStatements(new StringReader(script))
+                .collect(Collectors.toList());
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("SELECT FROM WHERE", results.get(1).getSql());
+        assertEquals(script.indexOf("SELECT FROM"), results.get(1).getBegin());
+        assertEquals("INSERT INTO t VALUES ('x;y')", results.get(2).getStatementOrThrow().toString());
+        assertEquals(script.indexOf(" ; --"), results.get(2).getEnd());
+
+        // an endless script, read only as far as needed
+        Reader endless = new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                for (int i = 0; i < length; i++) {
+                    buffer[offset + i] = "SELECT 1;\n".charAt(i % 10);
+                }
+                return length;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        assertEquals(5, CCJSqlParserUtil.streamStatements(endless).limit(5)
+                .filter(ParseResult::isSuccess).count());
+
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            large.append(i % 100 == 7 ? "SELECT FROM;" : "SELECT " + i + " FROM t;\n");
+        }
+        List<ParseResult> parallel = CCJSqlParserUtil.streamStatements(new StringReader(large.toString()))
+                .parallel().collect(Collectors.toList());
+        assertEquals(3000, parallel.size());
+        assertEquals(30, parallel.stream().filter(result -> !result.isSuccess()).count());
+        assertEquals("SELECT 2999 FROM t", parallel.get(2999).getStatement().toString());
+    }
+
+    @Test
+    public void testStreamDump() throws Exception {
+        StringBuilder dump = new StringBuilder("SET client_encoding = 'UTF8';\n"
+                + "CREATE TABLE public.t (a integer, b text);\n"
+                + "COPY public.t (a, b) FROM stdin;\n");
+        for (int i = 0; i < 20000; i++) {
+            dump.append(i).append("\tx;y 'z'\n");
+        }
+        dump.append("\\.\n\n"
+                + "/*!40000 ALTER TABLE `u` DISABLE KEYS */;\n"
+                + "INSERT INTO `u` VALUES (1,'a;b'),(2,'c\\'d');\n"
+                + "CREATE INDEX i ON public.t (a);\n"
+                + "ALTER TABLE ONLY public.t ADD CONSTRAINT p PRIMARY KEY (a);\n");
+        String script = dump.toString();
+
+        List<String> statements = CCJSqlParserUtil.streamDump(new StringReader(script),
+                parser -> parser.withBackslashEscapeCharacter(true), null)
+                .map(result -> result.isSuccess() ? result.getStatement().toString() : "error: " + result.getSql())
+                .collect(Collectors.toList());
+        // COPY itself is not supported by the parser, but its rows are skipped
+        assertEquals(Arrays.asList("SET client_encoding = 'UTF8'", "CREATE TABLE public.t (a integer, b text)",
+                "error: COPY public.t (a, b) FROM stdin", "CREATE INDEX i ON public.t (a)",
+                "ALTER TABLE ONLY public.t ADD CONSTRAINT p PRIMARY KEY (a)"), statements);
+
+        List<String> data = new ArrayList<>();
+        assertEquals(5, CCJSqlParserUtil.streamDump(new StringReader(script),
+                parser -> parser.withBackslashEscapeCharacter(true),
+                (begin, end, text) -> data.add(text)).count());
+        assertEquals(20001, data.size());
+        assertEquals("19999\tx;y 'z'", data.get(19999));
+        assertEquals("INSERT INTO `u` VALUES (1,'a;b'),(2,'c\\'d')", data.get(20000));
+    }
+
+    private static void assertReparsed(Statements previous, String sqls, int offset, int removedLength, String inserted)
+            throws JSQLParserException {
+        String edited = sqls.substring(0, offset) + inserted + sqls.substring(offset + removedLength);
+        Statements expected = CCJSqlParserUtil.parseStatements(edited);
+        Statements reparsed = CCJSqlParserUtil.reparseStatements(previous, sqls, offset, removedLength, inserted);
+
+        assertEquals(expected.toString(), reparsed.toString());
+        assertEquals(expected.getSourceTexts().size(), reparsed.getSourceTexts().size());
+        for (int i = 0; i < expected.getSourceTexts().size(); i++) {
+            assertEquals(expected.getSourceTexts().get(i).getBegin(), reparsed.getSourceTexts().get(i).getBegin());
+            assertEquals(expected.getSourceTexts().get(i).toString(), reparsed.getSourceTexts().get(i).toString());
+        }
+    }
 }
@@ -0,0 +1,70 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import org.junit.jupiter.api.Test;
+
+public class IdentifierPoolTest {
+
+    private static final String SQL = "SELECT t.mycolumn FROM myschema.mytable t";
+
+    @Test
+    public void testIntern() {
+        String name = new String(new char[] {'a', 'b', 'c'});
+        String other = new String(new char[] {'a', 'b', 'c'});
+
+        assertSame(IdentifierPool.intern(name), IdentifierPool.intern(other));
+        assertNull(IdentifierPool.intern(null));
+    }
+
+    @Test
+    public void testInternIdentifiersWhileParsing() throws JSQLParserException {
+        PlainSelect first = parse(true);
+        PlainSelect second = parse(true);
+
+        Table table = (Table) first.getFromItem();
+        Table otherTable = (Table) second.getFromItem();
+        assertSame(table.getName(), otherTable.getName());
+        assertSame(table.getSchemaName(), otherTable.getSchemaName());
+        assertSame(table.getAlias().getName(), otherTable.getAlias().getName());
+        assertSame(column(first).getColumnName(), column(second).getColumnName());
+        assertSame(column(first).getTable().getName(), column(second).getTable().getName());
+        assertEquals(SQL, first.toString());
+    }
+
+    @Test
+    public void testIdentifiersAreNotInternedByDefault() throws JSQLParserException {
+        PlainSelect first = parse(false);
+        PlainSelect second = parse(false);
+
+        assertNotSame(((Table) first.getFromItem()).getName(), ((Table) second.getFromItem()).getName());
+        assertNotSame(column(first).getColumnName(), column(second).getColumnName());
+    }
+
+    private static PlainSelect parse(boolean internIdentifiers) throws JSQLParserException {
+        Select select = (Select) CCJSqlParserUtil.parse(SQL, parser -> parser.withInternIdentifiers(internIdentifiers));
+        return (PlainSelect) select.getSelectBody();
+    }
+
+    private static Column column(PlainSelect plainSelect) {
+        return (Column) ((SelectExpressionItem) plainSelect.getSelectItems().get(0)).getExpression();
+    }
+}
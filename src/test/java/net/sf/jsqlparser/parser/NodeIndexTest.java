@@ -0,0 +1,124 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.simpleparsing.CCJSqlParserManagerTest;
+import org.junit.jupiter.api.Test;
+
+public class NodeIndexTest {
+
+    @Test
+    public void testInnermostModel() throws JSQLParserException {
+        String sql = "SELECT a, max(b) FROM t WHERE c IN (SELECT d FROM u)";
+        NodeIndex index = new NodeIndex();
+        PlainSelect select = (PlainSelect) ((Select) CCJSqlParserUtil.parse(sql,
+                parser -> parser.withNodeIndex(index))).getSelectBody();
+
+        assertEquals("a", ((Column) index.getInnermostModel(sql.indexOf('a'))).getColumnName());
+        assertEquals("b", ((Column) index.getInnermostModel(sql.indexOf('b'))).getColumnName());
+        assertEquals("max(b)", ((Function) index.getInnermostModel(sql.indexOf("max") + 1)).toString());
+        assertEquals("t", ((Table) index.getInnermostModel(sql.indexOf(" t ") + 1)).getName());
+        assertEquals("u", ((Table) index.getInnermostModel(sql.indexOf(" u)") + 1)).getName());
+        assertSame(select, index.getInnermostModel(0));
+        assertEquals("SELECT d FROM u", index.getInnermostModel(sql.indexOf("FROM u")).toString());
+        assertNull(index.getInnermostModel(sql.length()));
+        assertNull(index.getInnermostModel(-1));
+    }
+
+    @Test
+    public void testNodesOfRange() throws JSQLParserException {
+        String sql = "SELECT a, b FROM t";
+        NodeIndex index = new NodeIndex();
+        CCJSqlParserUtil.parse(sql, parser -> parser.withNodeIndex(index));
+
+        List<SimpleNode> nodes = index.getNodes(sql.indexOf('b'), sql.indexOf('b') + 1);
+        assertTrue(nodes.size() > 1);
+        assertEquals("b", ((Column) nodes.get(nodes.size() - 1).jjtGetValue()).getColumnName());
+        for (SimpleNode node : nodes) {
+            assertTrue(begin(node) <= sql.indexOf('b') && end(node) > sql.indexOf('b'));
+        }
+
+        assertEquals(index.getNodes(0, sql.length()).size(), index.size());
+        assertTrue(index.getNodes(3, 3).isEmpty());
+    }
+
+    @Test
+    public void testSameAsTreeWalk() throws Exception {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(NodeIndexTest.class.getResourceAsStream("/simple_parsing.txt"))))) {
+            String sql;
+            while ((sql = CCJSqlParserManagerTest.getStatement(in)) != null) {
+                NodeIndex index = new NodeIndex();
+                CCJSqlParser parser = CCJSqlParserUtil.newParser(sql).withNodeIndex(index);
+                parser.Statement();
+                SimpleNode root = (SimpleNode) parser.getASTRoot();
+
+                for (int offset = 0; offset < sql.length(); offset++) {
+                    assertSame(innermost(root, offset), index.getInnermostNode(offset), sql + " @ " + offset);
+                }
+                int from = sql.length() / 3;
+                int to = from * 2;
+                assertEquals(overlapping(root, from, to, new ArrayList<>()), index.getNodes(from, to), sql);
+            }
+        }
+    }
+
+    private static SimpleNode innermost(SimpleNode node, int offset) {
+        if (!contains(node, offset)) {
+            return null;
+        }
+        SimpleNode result = node;
+        for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+            SimpleNode child = innermost((SimpleNode) node.jjtGetChild(i), offset);
+            if (child != null) {
+                result = child;
+            }
+        }
+        return result;
+    }
+
+    private static List<SimpleNode> overlapping(SimpleNode node, int from, int to, List<SimpleNode> result) {
+        if (begin(node) < to && end(node) > from && end(node) > begin(node)) {
+            result.add(node);
+        }
+        for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+            overlapping((SimpleNode) node.jjtGetChild(i), from, to, result);
+        }
+        return result;
+    }
+
+    private static boolean contains(SimpleNode node, int offset) {
+        return begin(node) <= offset && offset < end(node);
+    }
+
+    private static int begin(SimpleNode node) {
+        return node.jjtGetFirstToken().absoluteBegin - 1;
+    }
+
+    private static int end(SimpleNode node) {
+        return Math.max(node.jjtGetLastToken().absoluteEnd - 1, begin(node));
+    }
+}
@@ -0,0 +1,210 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.FromItem;
+import net.sf.jsqlparser.statement.select.Join;
+import org.junit.jupiter.api.Test;
+
+public class ParseListenerTest {
+
+    @Test
+    public void testReferences() throws JSQLParserException {
+        List<String> events = new ArrayList<>();
+        Statement statement = CCJSqlParserUtil.parse(
+                "SELECT a.x, count(b.y) FROM t1 a JOIN t2 b ON a.id = b.id WHERE a.z = ? AND b.w = :name",
+                parser -> parser.withParseListener(new ParseListenerAdapter() {
+                    @Override
+                    public void tableReferenced(Table table) {
+                        events.add("table " + table.getFullyQualifiedName());
+                    }
+
+                    @Override
+                    public void columnReferenced(Column column) {
+                        events.add("column " + column);
+                    }
+
+                    @Override
+                    public void functionCalled(Function function) {
+                        events.add("function " + function);
+                    }
+
+                    @Override
+                    public void parameterFound(Expression parameter) {
+                        events.add("parameter " + parameter);
+                    }
+                }));
+
+        assertEquals(Arrays.asList(
+                "column a.x",
+                "column b.y",
+                "function count(b.y)",
+                "table t1",
+                "table t2",
+                "column a.id",
+                "column b.id",
+                "column a.z",
+                "parameter ?",
+                "column b.w",
+                "parameter :name"), events);
+        assertEquals("SELECT a.x, count(b.y) FROM t1 a JOIN t2 b ON a.id = b.id WHERE a.z = ? AND b.w = :name",
+                statement.toString());
+    }
+
+    @Test
+    public void testNesting() throws JSQLParserException {
+        RecordingListener listener = new RecordingListener();
+        Statement statement = CCJSqlParserUtil.parse("SELECT a FROM t1 JOIN t2 ON x = y",
+                parser -> parser.withParseListener(listener));
+
+        assertEquals(Arrays.asList("enter statement", "enter expression", "exit expression a",
+                "enter from item", "exit from item t1", "enter join", "enter from item", "exit from item t2",
+                "enter expression", "exit expression x = y", "exit join JOIN t2 ON x = y",
+                "exit statement"), listener.events);
+        assertSame(statement, listener.statement);
+    }
+
+    @Test
+    public void testStatements() throws ParseException {
+        RecordingListener listener = new RecordingListener();
+        CCJSqlParserUtil.newParser("SELECT 1; DELETE FROM t;").withParseListener(listener).Statements();
+        assertEquals(2, listener.events.stream().filter("exit statement"::equals).count());
+    }
+
+    @Test
+    public void testAbort() {
+        RecordingListener listener = new RecordingListener();
+        assertThrows(ParseException.class,
+                () -> CCJSqlParserUtil.newParser("SELECT (a FROM t").withParseListener(listener).Statement());
+        assertEquals("enter statement", listener.events.get(0));
+        assertEquals("abort statement", listener.events.get(listener.events.size() - 1));
+    }
+
+    @Test
+    public void testComplexParsing() throws JSQLParserException {
+        // fails with simple parsing, the events of the first attempt are dropped
+        RecordingListener listener = new RecordingListener();
+        CCJSqlParserUtil.parse("SELECT f(a = 1) FROM t", parser -> parser.withParseListener(listener));
+        assertEquals(Arrays.asList("enter statement", "enter expression", "enter expression",
+                "exit expression a = 1", "exit expression f(a = 1)", "enter from item", "exit from item t",
+                "exit statement"), listener.events);
+
+        listener.events.clear();
+        CCJSqlParserUtil.parseCondExpression("f(a = 1)", false, parser -> parser.withParseListener(listener));
+        assertEquals(Arrays.asList("enter expression", "enter expression", "exit expression a = 1",
+                "exit expression f(a = 1)"), listener.events);
+    }
+
+    @Test
+    public void testDefinitions() throws JSQLParserException {
+        assertEquals(Arrays.asList(), references("CREATE TABLE t (a INT, b VARCHAR (10))"));
+        assertEquals(Arrays.asList(), references("DROP TABLE t"));
+        assertEquals(Arrays.asList(), references("ALTER TABLE t ADD COLUMN c INT"));
+        assertEquals(Arrays.asList("column a", "table t", "column b"),
+                references("CREATE VIEW v AS SELECT a FROM t WHERE b = 1"));
+        assertEquals(Arrays.asList("column a", "table u"),
+                references("CREATE TABLE t AS SELECT a FROM u"));
+        assertEquals(Arrays.asList("table t", "column a"), references("INSERT INTO t (a) VALUES (1)"));
+    }
+
+    private static List<String> references(String sql) throws JSQLParserException {
+        List<String> events = new ArrayList<>();
+        CCJSqlParserUtil.parse(sql, parser -> parser.withParseListener(new ParseListenerAdapter() {
+            @Override
+            public void tableReferenced(Table table) {
+                events.add("table " + table);
+            }
+
+            @Override
+            public void columnReferenced(Column column) {
+                events.add("column " + column);
+            }
+        }));
+        return events;
+    }
+
+    private static class RecordingListener implements ParseListener {
+
+        private final List<String> events = new ArrayList<>();
+
+        private Statement statement;
+
+        @Override
+        public void enterStatement() {
+            events.add("enter statement");
+        }
+
+        @Override
+        public void exitStatement(Statement statement) {
+            this.statement = statement;
+            events.add("exit statement");
+        }
+
+        @Override
+        public void abortStatement() {
+            events.add("abort statement");
+        }
+
+        @Override
+        public void enterFromItem() {
+            events.add("enter from item");
+        }
+
+        @Override
+        public void exitFromItem(FromItem fromItem) {
+            events.add("exit from item " + fromItem);
+        }
+
+        @Override
+        public void enterJoin() {
+            events.add("enter join");
+        }
+
+        @Override
+        public void exitJoin(Join join) {
+            events.add("exit join " + join);
+        }
+
+        @Override
+        public void enterExpression() {
+            events.add("enter expression");
+        }
+
+        @Override
+        public void exitExpression(Expression expression) {
+            events.add("exit expression " + expression);
+        }
+
+        @Override
+        public void tableReferenced(Table table) {}
+
+        @Override
+        public void columnReferenced(Column column) {}
+
+        @Override
+        public void functionCalled(Function function) {}
+
+        @Override
+        public void parameterFound(Expression parameter) {}
+    }
+}
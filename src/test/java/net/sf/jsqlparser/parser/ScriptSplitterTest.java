@@ -0,0 +1,194 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.feature.Feature;
+import net.sf.jsqlparser.parser.feature.FeatureConfiguration;
+import org.junit.jupiter.api.Test;
+
+public class ScriptSplitterTest {
+
+    private static List<String> split(ScriptSplitter splitter, String script) {
+        return splitter.split(script).stream().map(SourceText::toString).collect(Collectors.toList());
+    }
+
+    private static List<String> split(String script) {
+        return split(new ScriptSplitter(), script);
+    }
+
+    @Test
+    public void testLiteralsAndComments() {
+        assertEquals(Arrays.asList("SELECT 'a;''b' FROM t", "SELECT \"x;\" FROM `y;`", "SELECT a - b / c"),
+                split("SELECT 'a;''b' FROM t;\n-- x; y\nSELECT \"x;\" FROM `y;` /* ; */; SELECT a - b / c"));
+        assertEquals(Arrays.asList("SELECT 1", "SELECT 2 /* inner */ + 3"),
+                split(" ; SELECT 1 ;; // done;\n SELECT 2 /* inner */ + 3 -- end"));
+        assertEquals(Arrays.asList("SELECT [a;b] FROM t", "SELECT 'a\\';'"),
+                split(new ScriptSplitter().withSquareBracketQuotation(true).withBackslashEscapeCharacter(true),
+                        "SELECT [a;b] FROM t; SELECT 'a\\';'"));
+        assertEquals(Arrays.asList("SELECT [a", "b] FROM t"), split("SELECT [a;b] FROM t"));
+    }
+
+    @Test
+    public void testDollarQuotes() {
+        assertEquals(Arrays.asList(
+                "CREATE FUNCTION f() RETURNS int AS $body$ SELECT 1; $x$ ; $body$ LANGUAGE sql",
+                "SELECT $1, $$;$$"),
+                split("CREATE FUNCTION f() RETURNS int AS $body$ SELECT 1; $x$ ; $body$ LANGUAGE sql;"
+                        + "SELECT $1, $$;$$;"));
+    }
+
+    @Test
+    public void testBlocks() {
+        String procedure = "CREATE PROCEDURE p() BEGIN DECLARE x INT; IF x > 0 THEN SET x = CASE WHEN x > 1 THEN 1 END; "
+                + "END IF; WHILE x > 0 DO SET x = x - 1; END WHILE; END";
+        assertEquals(Arrays.asList(procedure, "SELECT 1"), split(procedure + "; SELECT 1;"));
+        assertEquals(Arrays.asList("BEGIN", "INSERT INTO t VALUES (1)", "COMMIT", "BEGIN TRANSACTION", "ROLLBACK"),
+                split("BEGIN; INSERT INTO t VALUES (1); COMMIT; BEGIN TRANSACTION; ROLLBACK;"));
+        assertEquals(Arrays.asList("BEGIN NULL; BEGIN x := 1; END; END", "SELECT begin, end FROM t"),
+                split("BEGIN NULL; BEGIN x := 1; END; END; SELECT begin, end FROM t;"));
+    }
+
+    @Test
+    public void testDelimiter() {
+        assertEquals(Arrays.asList("CREATE TRIGGER t BEFORE INSERT ON u FOR EACH ROW SET NEW.a = 1; SET NEW.b = 2",
+                "SELECT 1", "SELECT 2"),
+                split("DELIMITER //\nCREATE TRIGGER t BEFORE INSERT ON u FOR EACH ROW SET NEW.a = 1; SET NEW.b = 2//\n"
+                        + "SELECT 1 //\nDELIMITER ;\nSELECT 2;"));
+        assertEquals(Arrays.asList("SELECT ';'", "SELECT 2"), split("DELIMITER $$\nSELECT ';'$$ SELECT 2 $$"));
+    }
+
+    @Test
+    public void testReader() throws IOException {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            script.append("INSERT INTO t VALUES (").append(i).append(", 'a;b') ;\n");
+        }
+        script.append("SELECT 1");
+        List<String> expected = split(script.toString());
+
+        List<String> texts = new ArrayList<>();
+        new ScriptSplitter().split(new StringReader(script.toString()), (begin, end, text) -> {
+            assertEquals(script.substring((int) begin, (int) end), text);
+            texts.add(text);
+        });
+        assertEquals(2001, texts.size());
+        assertEquals(expected, texts);
+    }
+
+    @Test
+    public void testUnterminatedQuote() throws IOException {
+        String script = "SELECT 'abc;\nSELECT 1;\nSELECT 2;\nSELECT 3;\n";
+        assertEquals(Arrays.asList("SELECT 'abc", "SELECT 1", "SELECT 2", "SELECT 3"), split(script));
+        // statements within a quoted text are kept, unless they start in the first column
+        assertEquals(Arrays.asList("INSERT INTO t VALUES ('a;\n  SELECT 1;\n\n')", "SELECT 'b;\nselected'"),
+                split("INSERT INTO t VALUES ('a;\n  SELECT 1;\n\n'); SELECT 'b;\nselected';"));
+        assertEquals(Arrays.asList("SELECT \"a", "DROP TABLE t"), split("SELECT \"a ;\r\n\r\nDROP TABLE t;"));
+
+        for (int padding = 8180; padding < 8200; padding++) {
+            String padded = "/*" + String.join("", Collections.nCopies(padding, " ")) + "*/" + script;
+            List<String> texts = new ArrayList<>();
+            new ScriptSplitter().split(new StringReader(padded), (begin, end, text) -> {
+                assertEquals(padded.substring((int) begin, (int) end), text);
+                texts.add(text);
+            });
+            assertEquals(split(padded), texts);
+        }
+
+        List<ParseResult> results = CCJSqlParserUtil.streamStatements(new StringReader(script))
+                .collect(Collectors.toList());
+        assertEquals(4, results.size());
+        assertFalse(results.get(0).isSuccess());
+        assertEquals("SELECT 3", results.get(3).getStatement().toString());
+    }
+
+    @Test
+    public void testMaxStatementLength() throws IOException {
+        String script = "SELECT 1;\nSELECT '" + String.join("", Collections.nCopies(100, "x"))
+                + "\nmore';\nSELECT 2;";
+        List<String> texts = new ArrayList<>();
+        new ScriptSplitter().withMaxStatementLength(20).split(new StringReader(script),
+                new ScriptSplitter.StatementHandler() {
+                    @Override
+                    public void statement(long begin, long end, String text) {
+                        texts.add(text);
+                    }
+
+                    @Override
+                    public void statementTooLong(long begin, long end) {
+                        texts.add("too long at " + begin + ", " + end);
+                    }
+                });
+        // the rest of the line is skipped, and the text behind it is read as new statements
+        assertEquals(Arrays.asList("SELECT 1", "too long at 10, 30", "more'", "SELECT 2"), texts);
+
+        List<ParseResult> results = CCJSqlParserUtil.streamStatements(new StringReader(script),
+                parser -> parser.withMaxStatementLength(20)).collect(Collectors.toList());
+        assertEquals(4, results.size());
+        assertEquals(10, results.get(1).getBegin());
+        assertTrue(results.get(1).getException().getMessage().contains("maximum statement length"));
+        assertEquals("SELECT 2", results.get(3).getStatement().toString());
+        assertThrows(IllegalArgumentException.class, () -> new ScriptSplitter().withMaxStatementLength(0));
+    }
+
+    @Test
+    public void testData() throws IOException {
+        String script = "CREATE TABLE t (a int, b text);\n"
+                + "COPY public.t (a, b) FROM stdin;\n"
+                + "1\tx; 'y'\r\n"
+                + "2\t\\N\n"
+                + "\\.\n"
+                + "INSERT INTO t VALUES (3,'a;b'),(4,NULL);\n"
+                + "COPY t TO stdout;\n"
+                + "SELECT 1";
+        assertEquals(Arrays.asList("CREATE TABLE t (a int, b text)", "COPY public.t (a, b) FROM stdin",
+                "INSERT INTO t VALUES (3,'a;b'),(4,NULL)", "COPY t TO stdout", "SELECT 1"), split(script));
+
+        List<String> statements = new ArrayList<>();
+        List<String> data = new ArrayList<>();
+        new ScriptSplitter().withDataStatements(true).split(new StringReader(script),
+                (begin, end, text) -> statements.add(text),
+                (begin, end, text) -> {
+                    assertEquals(script.substring((int) begin, (int) end), text);
+                    data.add(text);
+                });
+        assertEquals(Arrays.asList("CREATE TABLE t (a int, b text)", "COPY public.t (a, b) FROM stdin",
+                "COPY t TO stdout", "SELECT 1"), statements);
+        assertEquals(Arrays.asList("1\tx; 'y'", "2\t\\N", "INSERT INTO t VALUES (3,'a;b'),(4,NULL)"), data);
+
+        statements.clear();
+        new ScriptSplitter().withDataStatements(true).split(new StringReader(script),
+                (begin, end, text) -> statements.add(text));
+        assertEquals(4, statements.size());
+    }
+
+    @Test
+    public void testSameAsParser() throws JSQLParserException {
+        String script = "select  a\n  from t;\n\n/* second */ DELETE FROM u WHERE x=1 ;"
+                + "UPDATE t SET a = 'x;y' WHERE b = 2; -- done";
+        List<String> parsed = CCJSqlParserUtil.parseStatements(script).getSourceTexts().stream()
+                .map(SourceText::toString).collect(Collectors.toList());
+        assertEquals(parsed, split(script));
+        assertEquals(parsed, split(new ScriptSplitter().withConfiguration(
+                new FeatureConfiguration().setValue(Feature.allowSquareBracketQuotation, true)), script));
+    }
+}
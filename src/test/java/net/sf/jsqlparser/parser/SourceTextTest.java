@@ -0,0 +1,78 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.List;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import org.junit.jupiter.api.Test;
+
+public class SourceTextTest {
+
+    @Test
+    public void testStatements() throws JSQLParserException {
+        String sqls = "select  a\n  from t;\n\n/* second */ DELETE FROM u WHERE x=1 ;"
+                + "IF a > 1 SELECT 1; ELSE SELECT 2;";
+        Statements statements = CCJSqlParserUtil.parseStatements(sqls);
+
+        List<SourceText> texts = statements.getSourceTexts();
+        assertEquals(3, texts.size());
+        assertEquals("select  a\n  from t", texts.get(0).toString());
+        assertEquals("DELETE FROM u WHERE x=1", texts.get(1).toString());
+        assertEquals("IF a > 1 SELECT 1; ELSE SELECT 2", texts.get(2).toString());
+        assertSame(sqls, texts.get(0).getSource());
+    }
+
+    @Test
+    public void testNodes() throws JSQLParserException {
+        String sql = "SELECT a FROM t WHERE b IN ( select  c FROM u )";
+        PlainSelect select = (PlainSelect) ((Select) CCJSqlParserUtil.parse(sql)).getSelectBody();
+        SubSelect subSelect = (SubSelect) select.getWhere(InExpression.class).getRightExpression();
+
+        assertEquals(sql, select.getSourceText().toString());
+        assertEquals("select  c FROM u", ((PlainSelect) subSelect.getSelectBody()).getSourceText().toString());
+    }
+
+    @Test
+    public void testUnknownSource() throws Exception {
+        CCJSqlParser parser = new CCJSqlParser(new StreamProvider(new StringReader("SELECT a FROM t; SELECT b")));
+        Statements statements = parser.Statements();
+        assertEquals(2, statements.getSourceTexts().size());
+        assertNull(statements.getSourceTexts().get(0));
+        assertNull(((PlainSelect) ((Select) statements.getStatements().get(0)).getSelectBody()).getSourceText());
+
+        statements = CCJSqlParserUtil.parseStatements("SELECT a FROM t", p -> p.withBuildAST(false));
+        assertEquals("SELECT a FROM t", statements.getSourceTexts().get(0).toString());
+        assertNull(((PlainSelect) ((Select) statements.getStatements().get(0)).getSelectBody()).getSourceText());
+    }
+
+    @Test
+    public void testView() {
+        SourceText text = new SourceText("SELECT a FROM t", 7, 15);
+
+        assertEquals(8, text.length());
+        assertEquals('a', text.charAt(0));
+        assertEquals("FROM", text.subSequence(2, 6).toString());
+        assertEquals(9, text.subSequence(2, 6).getBegin());
+        assertEquals("> a FROM t", text.appendTo(new StringBuilder("> ")).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> text.charAt(8));
+        assertThrows(IndexOutOfBoundsException.class, () -> new SourceText("abc", 2, 4));
+    }
+}
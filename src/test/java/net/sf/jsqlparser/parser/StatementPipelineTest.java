@@ -0,0 +1,136 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import net.sf.jsqlparser.schema.Table;
+import org.junit.jupiter.api.Test;
+
+public class StatementPipelineTest {
+
+    private static String script(int count) {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            script.append(i % 50 == 7 ? "SELECT FROM;\n" : "SELECT a FROM t WHERE b = " + i + ";\n");
+        }
+        return script.toString();
+    }
+
+    @Test
+    public void testOrdered() throws Exception {
+        String script = script(3000);
+        List<ParseResult> results = new ArrayList<>();
+        long count = new StatementPipeline().withParserThreads(3).withCapacity(16)
+                .run(new StringReader(script), results::add);
+
+        assertEquals(3000, count);
+        assertEquals(3000, results.size());
+        assertEquals(60, results.stream().filter(result -> !result.isSuccess()).count());
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(results.get(i - 1).getEnd() < results.get(i).getBegin());
+        }
+        assertEquals("SELECT a FROM t WHERE b = 2999", results.get(2999).getStatement().toString());
+    }
+
+    @Test
+    public void testUnordered() throws Exception {
+        String script = script(3000);
+        ConcurrentLinkedQueue<ParseResult> results = new ConcurrentLinkedQueue<>();
+        long count = new StatementPipeline().withParserThreads(2).withConsumerThreads(3).withOrdered(false)
+                .withCapacity(8).run(new StringReader(script), results::add);
+
+        assertEquals(3000, count);
+        List<ParseResult> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingLong(ParseResult::getBegin));
+        List<ParseResult> expected = new ArrayList<>();
+        CCJSqlParserUtil.streamStatements(new StringReader(script)).forEach(expected::add);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getSql(), sorted.get(i).getSql());
+            assertEquals(expected.get(i).isSuccess(), sorted.get(i).isSuccess());
+        }
+    }
+
+    @Test
+    public void testSlowListenerThrottlesReading() throws Exception {
+        AtomicLong read = new AtomicLong();
+        Reader reader = new StringReader(script(5000)) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                int count = super.read(buffer, offset, length);
+                read.addAndGet(Math.max(count, 0));
+                return count;
+            }
+        };
+        AtomicLong maxRead = new AtomicLong();
+        new StatementPipeline().withParserThreads(2).withCapacity(4).run(reader, result -> {
+            if (result.getBegin() == 0) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                maxRead.set(read.get());
+            }
+        });
+        // the splitter stops within the second chunk, while the listener waits
+        assertTrue(maxRead.get() <= 2 * 8192, String.valueOf(maxRead.get()));
+    }
+
+    @Test
+    public void testListenerFailure() {
+        IllegalStateException failure = new IllegalStateException("stop");
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> new StatementPipeline().withCapacity(2).run(new StringReader(script(1000)), result -> {
+                    if (result.getBegin() > 1000) {
+                        throw failure;
+                    }
+                }));
+        assertSame(failure, thrown);
+        assertThrows(IllegalArgumentException.class, () -> new StatementPipeline().withCapacity(0));
+    }
+
+    @Test
+    public void testParserFailure() {
+        StackOverflowError failure = new StackOverflowError("too deep");
+        String script = script(500) + "SELECT a FROM deep;\n" + script(500);
+        for (boolean ordered : new boolean[] {true, false}) {
+            StatementPipeline pipeline = new StatementPipeline().withParserThreads(2).withCapacity(4)
+                    .withOrdered(ordered)
+                    .withParserConfiguration(parser -> parser.withParseListener(new ParseListenerAdapter() {
+                        @Override
+                        public void tableReferenced(Table table) {
+                            if (table.getName().equals("deep")) {
+                                throw failure;
+                            }
+                        }
+                    }));
+            // an error in a parser thread stops the pipeline instead of leaving it waiting
+            StackOverflowError thrown = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                    () -> assertThrows(StackOverflowError.class,
+                            () -> pipeline.run(new StringReader(script), result -> {
+                            })));
+            assertSame(failure, thrown);
+        }
+    }
+}
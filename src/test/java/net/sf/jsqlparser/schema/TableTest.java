@@ -9,6 +9,7 @@
  */
 package net.sf.jsqlparser.schema;
 
+import java.util.Arrays;
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import net.sf.jsqlparser.statement.select.PlainSelect;
@@ -69,4 +70,23 @@ public class TableTest {
         table.setSchemaName(null);
         assertThat(table.getFullyQualifiedName()).isEqualTo("DICTIONARY");
     }
+
+    @Test
+    public void testNameParts() throws JSQLParserException {
+        Table table = (Table) ((PlainSelect) ((Select) CCJSqlParserUtil.parse("SELECT * FROM srv.db..t"))
+                .getSelectBody()).getFromItem();
+        assertEquals("t", table.getName());
+        assertEquals(null, table.getSchemaName());
+        assertEquals("db", table.getDatabase().getDatabaseName());
+        assertEquals("srv.db..t", table.getFullyQualifiedName());
+        assertThat(table.getNameParts()).containsExactly("t", null, "db", "srv");
+    }
+
+    @Test
+    public void testLongNameParts() {
+        Table table = new Table(Arrays.asList("a", "b", "c", "d", "e", "f"));
+        assertEquals("f", table.getName());
+        assertEquals("a.b.c.d.e.f", table.getFullyQualifiedName());
+        assertThat(table.getNameParts()).containsExactly("f", "e", "d", "c", "b", "a");
+    }
 }
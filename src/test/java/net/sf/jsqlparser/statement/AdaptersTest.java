@@ -14,6 +14,7 @@ import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.BinaryExpression;
 import net.sf.jsqlparser.expression.ExpressionVisitorAdapter;
 import net.sf.jsqlparser.expression.JdbcNamedParameter;
+import net.sf.jsqlparser.expression.JdbcParameter;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import net.sf.jsqlparser.schema.Column;
@@ -21,6 +22,7 @@ import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
 import net.sf.jsqlparser.statement.select.SelectVisitorAdapter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 public class AdaptersTest {
@@ -76,6 +78,34 @@ public class AdaptersTest {
         assertEquals("paramA", param1.getRight());
     }
 
+    @Test
+    public void testTerminate() throws JSQLParserException {
+        Statements statements = CCJSqlParserUtil.parseStatements("SELECT a FROM t; SELECT b FROM u WHERE c = ?; SELECT d FROM v");
+        StringBuilder visited = new StringBuilder();
+        StatementVisitorAdapter search = new StatementVisitorAdapter() {
+            @Override
+            public void visit(Select select) {
+                visited.append(select).append(';');
+                ExpressionVisitorAdapter expressions = new ExpressionVisitorAdapter() {
+                    @Override
+                    public void visit(JdbcParameter parameter) {
+                        terminate();
+                    }
+                };
+                PlainSelect plainSelect = select.getSelectBody(PlainSelect.class);
+                if (plainSelect.getWhere() != null) {
+                    expressions.traverse(plainSelect.getWhere());
+                }
+                if (expressions.isTerminated()) {
+                    terminate();
+                }
+            }
+        };
+        statements.accept(search);
+        assertTrue(search.isTerminated());
+        assertEquals("SELECT a FROM t;SELECT b FROM u WHERE c = ?;", visited.toString());
+    }
+
     private static class Pair<L, R> {
 
         private final L left;
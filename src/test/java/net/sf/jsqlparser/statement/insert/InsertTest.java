@@ -17,8 +17,11 @@ import net.sf.jsqlparser.expression.LongValue;
 import net.sf.jsqlparser.expression.StringValue;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
 import net.sf.jsqlparser.expression.operators.relational.MultiExpressionList;
+import net.sf.jsqlparser.parser.CCJSqlParser;
 import net.sf.jsqlparser.parser.CCJSqlParserManager;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.parser.SimpleNode;
+import net.sf.jsqlparser.parser.Token;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.select.AllColumns;
@@ -28,7 +31,9 @@ import net.sf.jsqlparser.statement.update.UpdateSet;
 import net.sf.jsqlparser.statement.values.ValuesStatement;
 
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static net.sf.jsqlparser.test.TestUtils.assertDeparse;
 import static net.sf.jsqlparser.test.TestUtils.assertOracleHintExists;
@@ -38,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -564,4 +570,61 @@ public class InsertTest {
         assertStatementCanBeDeparsedAs(insert, sqlStr + " ON CONFLICT " + conflictTarget.toString() + conflictAction.toString(), true);
 
     }
+
+    @Test
+    public void testInsertRowHandler() throws Exception {
+        StringBuilder sql = new StringBuilder("INSERT INTO t (a, b) VALUES (0, 'x')");
+        for (int i = 1; i < 1000; i++) {
+            sql.append(", (").append(i).append(", 'x')");
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE b = 'y'");
+        List<String> rows = new ArrayList<>();
+        CCJSqlParser parser = CCJSqlParserUtil.newParser(sql.toString()).withInsertRowHandler((insert, row) -> {
+            assertEquals("t", insert.getTable().getName());
+            assertEquals(2, insert.getColumns().size());
+            rows.add(row.toString());
+        });
+        Insert insert = (Insert) parser.Statement();
+
+        assertEquals(1000, rows.size());
+        assertEquals("(999, 'x')", rows.get(999));
+        assertTrue(insert.isUseDuplicate());
+        assertEquals("b", insert.getDuplicateUpdateColumns().get(0).getColumnName());
+        assertTrue(((ExpressionList) insert.getItemsList()).getExpressions().isEmpty());
+
+        // the tokens of the rows are not held by the statement
+        int tokens = 0;
+        for (Token token = ((SimpleNode) parser.getASTRoot()).jjtGetFirstToken(); token != null; token = token.next) {
+            tokens++;
+        }
+        assertTrue(tokens < 30, String.valueOf(tokens));
+
+        // rows of a nested VALUES stay in place
+        parser = CCJSqlParserUtil.newParser("INSERT INTO t SELECT * FROM (VALUES (1, 2)) v")
+                .withInsertRowHandler((i, row) -> rows.add(row.toString()));
+        assertEquals("INSERT INTO t SELECT * FROM (VALUES (1, 2)) v", parser.Statement().toString());
+        assertEquals(1000, rows.size());
+    }
+
+    @Test
+    public void testInsertRowHandlerWithRetry() throws Exception {
+        // the first attempt with simple parsing fails at the third row
+        String sql = "INSERT INTO t VALUES (1), (2), (f(a = b))";
+        List<String> rows = new ArrayList<>();
+        Insert insert = (Insert) CCJSqlParserUtil.parse(sql,
+                parser -> parser.withInsertRowHandler((i, row) -> rows.add(row.toString())));
+        assertEquals("[(1), (2), (f(a = b))]", rows.toString());
+        assertEquals("t", insert.getTable().getName());
+
+        rows.clear();
+        CCJSqlParserUtil.parseStatements(sql + "; SELECT 1",
+                parser -> parser.withInsertRowHandler((i, row) -> rows.add(row.toString())));
+        assertEquals("[(1), (2), (f(a = b))]", rows.toString());
+
+        // the rows of a statement failing in both attempts are received once
+        rows.clear();
+        assertThrows(JSQLParserException.class, () -> CCJSqlParserUtil.parse("INSERT INTO t VALUES (1), (2), (3 +)",
+                parser -> parser.withInsertRowHandler((i, row) -> rows.add(row.toString()))));
+        assertEquals("[(1), (2)]", rows.toString());
+    }
 }
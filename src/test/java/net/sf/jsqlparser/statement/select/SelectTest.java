@@ -11,6 +11,7 @@ package net.sf.jsqlparser.statement.select;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.lang.reflect.Field;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -27,6 +28,7 @@ import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
 import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
 import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
 import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
 import net.sf.jsqlparser.expression.operators.relational.InExpression;
 import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
@@ -39,6 +41,12 @@ import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.StatementVisitorAdapter;
 import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+import net.sf.jsqlparser.util.model.ModelClass;
+import net.sf.jsqlparser.util.model.ModelFreezer;
+import net.sf.jsqlparser.util.validation.ValidationContext;
+import net.sf.jsqlparser.util.validation.feature.DatabaseType;
+import net.sf.jsqlparser.util.validation.validator.StatementValidator;
 import static net.sf.jsqlparser.test.TestUtils.*;
 
 import net.sf.jsqlparser.test.MemoryLeakVerifier;
@@ -50,6 +58,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -5324,4 +5333,53 @@ public class SelectTest {
     public void testSelectMultidimensionalArrayStatement() throws JSQLParserException {
         assertSqlCanBeParsedAndDeparsed("SELECT f1, f2[1][1], f3[1][2][3] FROM test");
     }
+
+    @Test
+    public void testJoinLists() throws JSQLParserException {
+        Select select = (Select) CCJSqlParserUtil.parse("SELECT * FROM a JOIN b");
+        Join join = ((PlainSelect) select.getSelectBody()).getJoins().get(0);
+        // deparsing and validating read the lists without creating them
+        StatementDeParser deParser = new StatementDeParser(new StringBuilder());
+        select.accept(deParser);
+        assertEquals("SELECT * FROM a JOIN b", deParser.getBuffer().toString());
+        StatementValidator validator = new StatementValidator();
+        validator.setContext(new ValidationContext().setCapabilities(Collections.singletonList(DatabaseType.ANSI_SQL)));
+        select.accept(validator);
+        assertTrue(join.getOnExpressions().isEmpty());
+        assertTrue(join.getUsingColumns().isEmpty());
+        for (Field field : ModelClass.of(Join.class).getFields()) {
+            if (List.class.isAssignableFrom(field.getType())) {
+                assertNull(ModelClass.of(Join.class).get(field, join), field.getName());
+            }
+        }
+
+        join.addOnExpression(new EqualsTo(new Column("a.id"), new Column("b.id")));
+        join.getOnExpressions().add(new EqualsTo(new Column("a.x"), new Column("b.x")));
+        assertEquals("SELECT * FROM a JOIN b ON a.id = b.id ON a.x = b.x", select.toString());
+
+        select = (Select) CCJSqlParserUtil.parse("SELECT * FROM a JOIN b USING (id)");
+        join = ((PlainSelect) select.getSelectBody()).getJoins().get(0);
+        ModelFreezer.freeze(select);
+        List<Column> usingColumns = join.getUsingColumns();
+        assertThrows(UnsupportedOperationException.class, () -> usingColumns.add(new Column("zzz")));
+        assertEquals("SELECT * FROM a JOIN b USING (id)", select.toString());
+    }
+
+    @Test
+    public void testGroupingSets() throws JSQLParserException {
+        Select select = (Select) CCJSqlParserUtil.parse("SELECT a, b FROM t GROUP BY a, b");
+        GroupByElement groupBy = ((PlainSelect) select.getSelectBody()).getGroupBy();
+        assertTrue(groupBy.getGroupingSets().isEmpty());
+
+        groupBy.addGroupingSet(new Column("a"));
+        groupBy.addGroupingSet(new ExpressionList(new Column("a"), new Column("b")));
+        groupBy.getGroupingSets().add(new ExpressionList());
+        assertEquals("SELECT a, b FROM t GROUP BY a, b GROUPING SETS (a, (a, b), ())", select.toString());
+
+        ModelFreezer.freeze(select);
+        List<?> groupingSets = groupBy.getGroupingSets();
+        assertThrows(UnsupportedOperationException.class, () -> groupingSets.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> groupBy.addGroupingSet(new Column("b")));
+        assertEquals(3, groupBy.getGroupingSets().size());
+    }
 }
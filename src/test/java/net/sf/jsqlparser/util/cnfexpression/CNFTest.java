@@ -11,6 +11,7 @@ package net.sf.jsqlparser.util.cnfexpression;
 
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.operators.conditional.ConditionalChain;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -19,6 +20,19 @@ import org.junit.jupiter.api.Test;
 
 public class CNFTest {
 
+    @Test
+    public void testFlattenedConditions() throws JSQLParserException {
+        String condition = "(a = 1 AND b = 1) OR (c = 1 AND d = 1) OR e = 1";
+        Expression flattened = CCJSqlParserUtil.parseCondExpression(condition, false,
+                parser -> parser.withFlattenConditions(true));
+        assertThat(flattened).isInstanceOf(ConditionalChain.class);
+
+        Expression expected = CNFConverter.convertToCNF(CCJSqlParserUtil.parseCondExpression(condition));
+        assertEquals("(e = 1 OR a = 1 OR c = 1) AND (e = 1 OR a = 1 OR d = 1) AND "
+                + "(e = 1 OR b = 1 OR c = 1) AND (e = 1 OR b = 1 OR d = 1)", expected.toString());
+        assertEquals(expected.toString(), CNFConverter.convertToCNF(flattened).toString());
+    }
+
     /**
      * The purpose of this method is to check when there is a Not Operator at the root. Which means the root must be
      * switched.
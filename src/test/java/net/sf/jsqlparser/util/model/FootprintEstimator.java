@@ -0,0 +1,172 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Estimates the retained heap of a parsed tree for a 64 bit JVM with compressed references
+ * (12 byte object headers, 4 byte references, 8 byte alignment).
+ *
+ * The fields of model classes are read reflectively. The internals of JDK classes are not
+ * accessible on newer JVMs, so strings, boxed numbers and collections are estimated from their
+ * public state (collections as if they were sized exactly). Shared constants like enum values and
+ * booleans are not counted, nor are transient references like the linked jjtree node. The numbers
+ * are meant to compare trees with each other, not to match a heap dump byte by byte.
+ */
+final class FootprintEstimator {
+
+    private static final int HEADER = 12;
+
+    private static final int REFERENCE = 4;
+
+    private static final int ARRAY_HEADER = 16;
+
+    private final Map<Object, Boolean> visited = new IdentityHashMap<>();
+
+    private final Deque<Object> pending = new ArrayDeque<>();
+
+    private long bytes;
+
+    private FootprintEstimator() {
+    }
+
+    static long estimate(Object root) {
+        FootprintEstimator estimator = new FootprintEstimator();
+        estimator.add(root);
+        while (!estimator.pending.isEmpty()) {
+            estimator.visit(estimator.pending.pop());
+        }
+        return estimator.bytes;
+    }
+
+    private void add(Object value) {
+        if (value != null && !(value instanceof Enum) && !(value instanceof Boolean) && !(value instanceof Class)
+                && visited.put(value, Boolean.TRUE) == null) {
+            pending.push(value);
+        }
+    }
+
+    private void visit(Object value) {
+        if (value instanceof String) {
+            String string = (String) value;
+            boolean latin1 = string.chars().allMatch(c -> c < 256);
+            bytes += align(HEADER + 12) + align(ARRAY_HEADER + (latin1 ? 1 : 2) * string.length());
+        } else if (value instanceof Long || value instanceof Double || value instanceof Date) {
+            bytes += align(HEADER + 8);
+        } else if (value instanceof Number || value instanceof Character) {
+            bytes += align(HEADER + 4);
+            if (value instanceof BigInteger || value instanceof BigDecimal) {
+                bytes += align(HEADER + 24) + align(ARRAY_HEADER + value.toString().length() / 2);
+            }
+        } else if (value instanceof Collection) {
+            visitCollection((Collection<?>) value);
+        } else if (value instanceof Map) {
+            visitMap((Map<?, ?>) value);
+        } else if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
+            bytes += align(ARRAY_HEADER + (long) primitiveSize(value.getClass().getComponentType()) * Array.getLength(value));
+        } else if (value.getClass().getName().startsWith("net.sf.jsqlparser.")) {
+            visitModel(value);
+        } else {
+            bytes += align(HEADER + REFERENCE);
+        }
+    }
+
+    private void visitCollection(Collection<?> collection) {
+        if (collection.isEmpty() && !(collection instanceof LinkedList)) {
+            // empty collections are mostly shared constants or share an empty array
+            bytes += align(HEADER + 12);
+        } else if (collection instanceof LinkedList) {
+            bytes += align(HEADER + 12) + (long) collection.size() * align(HEADER + 3 * REFERENCE);
+        } else if (collection instanceof Set) {
+            long entry = collection instanceof LinkedHashSet ? align(HEADER + 5 * REFERENCE + 4) : align(HEADER + 3 * REFERENCE + 4);
+            bytes += align(HEADER + REFERENCE) + align(HEADER + 6 * REFERENCE)
+                    + align(ARRAY_HEADER + REFERENCE * tableSize(collection.size())) + collection.size() * entry;
+        } else {
+            bytes += align(HEADER + 8) + (collection instanceof RandomAccess || collection instanceof List
+                    ? align(ARRAY_HEADER + REFERENCE * collection.size())
+                    : 0);
+        }
+        for (Object element : collection) {
+            add(element);
+        }
+    }
+
+    private void visitMap(Map<?, ?> map) {
+        long entry = map instanceof LinkedHashMap ? align(HEADER + 5 * REFERENCE + 4) : align(HEADER + 3 * REFERENCE + 4);
+        bytes += align(HEADER + 6 * REFERENCE) + align(ARRAY_HEADER + REFERENCE * tableSize(map.size()))
+                + map.size() * entry;
+        for (Map.Entry<?, ?> e : map.entrySet()) {
+            add(e.getKey());
+            add(e.getValue());
+        }
+    }
+
+    private void visitModel(Object value) {
+        long shallow = HEADER;
+        for (Class<?> c = value.getClass(); c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                Class<?> type = field.getType();
+                shallow += type.isPrimitive() ? primitiveSize(type) : REFERENCE;
+                if (!type.isPrimitive() && !Modifier.isTransient(field.getModifiers())) {
+                    field.setAccessible(true);
+                    try {
+                        add(field.get(value));
+                    } catch (IllegalAccessException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+            }
+        }
+        bytes += align(shallow);
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static int tableSize(int size) {
+        int tableSize = 16;
+        while (tableSize * 3 / 4 < size) {
+            tableSize *= 2;
+        }
+        return tableSize;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,212 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitorAdapter;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.StatementVisitorAdapter;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.statement.show.ShowTablesStatement;
+import net.sf.jsqlparser.statement.simpleparsing.CCJSqlParserManagerTest;
+import net.sf.jsqlparser.util.TraversalControl;
+import org.junit.jupiter.api.Test;
+
+public class ModelArenaTest {
+
+    private static final String SCRIPT = "SELECT a, b FROM t1 WHERE c = 'x';\n"
+            + "DELETE FROM t2 WHERE d > 5;\n"
+            + "SELECT e FROM t1 JOIN t3 ON t1.id = t3.id";
+
+    @Test
+    public void testParseScript() throws JSQLParserException {
+        ModelArena arena = parse(SCRIPT);
+
+        assertEquals(3, arena.getRootCount());
+        assertEquals(Select.class, arena.getKind(arena.getRoot(0)));
+        assertEquals(Delete.class, arena.getKind(arena.getRoot(1)));
+        int table = arena.getNode(arena.getRoot(1)).getChild("table").getIndex();
+        assertEquals(SCRIPT.indexOf("t2"), arena.getBeginOffset(table));
+        assertEquals(SCRIPT.indexOf("t2") + 2, arena.getEndOffset(table));
+        assertEquals(-1, arena.getBeginOffset(arena.getRoot(1)));
+        assertEquals("SELECT e FROM t1 JOIN t3 ON t1.id = t3.id", arena.toModel(arena.getRoot(2)).toString());
+
+        List<String> tables = new ArrayList<>();
+        arena.forEach(Table.class, node -> tables.add((String) arena.getAttribute(node, "name")));
+        assertEquals(Arrays.asList("t1", "t2", "t1", "t3", "t1", "t3"), tables);
+    }
+
+    @Test
+    public void testNavigation() throws JSQLParserException {
+        ModelArena arena = parse(SCRIPT);
+        ArenaNode select = arena.getNode(arena.getRoot(0));
+
+        ArenaNode plainSelect = select.getChild("selectBody");
+        assertEquals(PlainSelect.class, plainSelect.getKind());
+        assertEquals(select, plainSelect.getParent());
+        assertNull(select.getParent());
+
+        ArenaNode fromItem = plainSelect.getChild("fromItem");
+        assertEquals("t1", fromItem.getAttribute("name"));
+        assertEquals("fromItem", fromItem.getFieldName());
+        assertEquals("Table{name=t1, partCount=1}", fromItem.toString());
+        assertEquals("c = 'x'", plainSelect.getChild("where").toModel().toString());
+        assertEquals(2, plainSelect.getChild("selectItems").getChildren().size());
+    }
+
+    @Test
+    public void testWalk() throws JSQLParserException {
+        ModelArena arena = parse("SELECT a FROM t WHERE b = (SELECT c FROM u) AND d = 1");
+
+        List<String> events = new ArrayList<>();
+        arena.walk(arena.getRoot(0), new ModelArena.Visitor() {
+            @Override
+            public TraversalControl enter(int node) {
+                if (arena.getKind(node) == Column.class) {
+                    events.add("enter " + arena.getAttribute(node, "columnName"));
+                }
+                return arena.getKind(node) == SubSelect.class ? TraversalControl.SKIP_SUBTREE
+                        : TraversalControl.CONTINUE;
+            }
+
+            @Override
+            public void leave(int node) {
+                if (arena.getKind(node) == SubSelect.class || arena.getKind(node) == Select.class) {
+                    events.add("leave " + arena.getKind(node).getSimpleName());
+                }
+            }
+        });
+        // the skipped sub select is not left
+        assertEquals("[enter a, enter b, enter d, leave Select]", events.toString());
+
+        List<Integer> tables = new ArrayList<>();
+        arena.walk(arena.getRoot(0), node -> {
+            if (arena.getKind(node) == Table.class) {
+                tables.add(node);
+                return TraversalControl.TERMINATE;
+            }
+            return TraversalControl.CONTINUE;
+        });
+        assertEquals(1, tables.size());
+        assertEquals("Table{name=t, partCount=1}", arena.getNode(tables.get(0)).toString());
+    }
+
+    @Test
+    public void testExistingVisitors() throws JSQLParserException {
+        ModelArena arena = parse(SCRIPT);
+
+        List<String> columns = new ArrayList<>();
+        arena.forEach(PlainSelect.class, node -> arena.getNode(node).getChild("selectItems")
+                .getChildren().forEach(item -> ((Expression) item.getChild("expression").toModel())
+                        .accept(new ExpressionVisitorAdapter() {
+                            @Override
+                            public void visit(Column column) {
+                                columns.add(column.getColumnName());
+                            }
+                        })));
+        assertEquals(Arrays.asList("a", "b", "e"), columns);
+
+        List<String> deletes = new ArrayList<>();
+        for (int i = 0; i < arena.getRootCount(); i++) {
+            ((Statement) arena.toModel(arena.getRoot(i))).accept(new StatementVisitorAdapter() {
+                @Override
+                public void visit(Delete delete) {
+                    deletes.add(delete.getTable().getName());
+                }
+            });
+        }
+        assertEquals(Arrays.asList("t2"), deletes);
+    }
+
+    @Test
+    public void testSimpleParsingStatements() throws Exception {
+        List<String> sqls = new ArrayList<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(ModelArenaTest.class.getResourceAsStream("/simple_parsing.txt"))))) {
+            String sql;
+            while ((sql = CCJSqlParserManagerTest.getStatement(in)) != null) {
+                sqls.add(sql);
+            }
+        }
+
+        // a script repeating the same identifiers, like the scripts the arena is meant for
+        ModelArena arena = new ModelArena();
+        long objects = 0;
+        for (int i = 0; i < 3 * sqls.size(); i++) {
+            Statement statement = CCJSqlParserUtil.parse(sqls.get(i % sqls.size()));
+            int root = arena.add(statement);
+            assertTrue(ModelEquality.equals(statement, arena.toModel(root)));
+            assertEquals(statement.toString(), arena.toModel(root).toString());
+            objects += FootprintEstimator.estimate(statement);
+        }
+        arena.trimToSize();
+
+        long flat = FootprintEstimator.estimate(arena);
+        assertTrue(flat * 3 < objects * 2, flat + " / " + objects);
+    }
+
+    @Test
+    public void testEnumSetAndInvalidValues() {
+        ShowTablesStatement show = new ShowTablesStatement();
+        show.setModifiers(EnumSet.noneOf(ShowTablesStatement.Modifiers.class));
+        ModelArena arena = new ModelArena();
+        ShowTablesStatement read = (ShowTablesStatement) arena.toModel(arena.add(show));
+        assertEquals(show.getModifiers(), read.getModifiers());
+
+        assertThrows(IllegalArgumentException.class, () -> arena.add("SELECT 1"));
+        assertThrows(IndexOutOfBoundsException.class, () -> arena.getKind(arena.getNodeCount()));
+    }
+
+    @Test
+    public void testDeepChain() {
+        // deeper than any recursion over the levels of the tree would get
+        Expression chain = new Column("a0");
+        for (int i = 1; i < 10000; i++) {
+            chain = new OrExpression(chain, new Column("a" + i));
+        }
+        ModelArena arena = new ModelArena();
+        int root = arena.add(chain);
+
+        int[] count = new int[1];
+        arena.walk(root, node -> {
+            count[0]++;
+            return TraversalControl.CONTINUE;
+        });
+        assertEquals(arena.getNodeCount(), count[0]);
+        assertEquals("a9999", arena.getAttribute(arena.getNextSibling(arena.getFirstChild(root)), "columnName"));
+        assertTrue(ModelEquality.equals(chain, arena.toModel(root)));
+    }
+
+    private static ModelArena parse(String script) throws JSQLParserException {
+        return ModelArena.parse(new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)), "UTF-8");
+    }
+}
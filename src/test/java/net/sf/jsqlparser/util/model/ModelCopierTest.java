@@ -0,0 +1,220 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.JsonKeyValuePair;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.LiteralList;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.Statements;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.simpleparsing.CCJSqlParserManagerTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ModelCopierTest {
+
+    @Test
+    public void testCopyIsDeep() throws JSQLParserException {
+        Select select = (Select) CCJSqlParserUtil.parse("SELECT a, b FROM mytable t WHERE t.c = 5");
+        Select copy = ModelCopier.copy(select);
+
+        assertNotSame(select, copy);
+        assertEquals(select.toString(), copy.toString());
+
+        PlainSelect plainSelect = select.getSelectBody(PlainSelect.class);
+        PlainSelect plainSelectCopy = copy.getSelectBody(PlainSelect.class);
+        assertNotSame(plainSelect, plainSelectCopy);
+        assertNotSame(plainSelect.getSelectItems(), plainSelectCopy.getSelectItems());
+        assertNotSame(plainSelect.getFromItem(), plainSelectCopy.getFromItem());
+        assertNotSame(plainSelect.getWhere(), plainSelectCopy.getWhere());
+
+        ((Table) plainSelectCopy.getFromItem()).setName("othertable");
+        ((LongValue) ((EqualsTo) plainSelectCopy.getWhere()).getRightExpression()).setValue(6);
+        plainSelectCopy.addSelectItems(new SelectExpressionItem(new Column("c")));
+
+        assertEquals("SELECT a, b FROM mytable t WHERE t.c = 5", select.toString());
+        assertEquals("SELECT a, b, c FROM othertable t WHERE t.c = 6", copy.toString());
+    }
+
+    @Test
+    public void testCopySharesImmutableLeaves() throws JSQLParserException {
+        Column column = (Column) CCJSqlParserUtil.parseExpression("myschema.mytable.mycolumn");
+        Column copy = ModelCopier.copy(column);
+
+        assertNotSame(column.getTable(), copy.getTable());
+        assertSame(column.getColumnName(), copy.getColumnName());
+        assertSame(column.getTable().getName(), copy.getTable().getName());
+    }
+
+    @Test
+    public void testCopyPreservesSharedReferences() {
+        Column column = new Column("a");
+        EqualsTo equalsTo = new EqualsTo(column, column);
+
+        EqualsTo copy = ModelCopier.copy(equalsTo);
+        assertNotSame(column, copy.getLeftExpression());
+        assertSame(copy.getLeftExpression(), copy.getRightExpression());
+    }
+
+    @Test
+    public void testCopyDropsASTNode() throws JSQLParserException {
+        Select select = (Select) CCJSqlParserUtil.parse("SELECT a FROM mytable");
+        PlainSelect plainSelect = select.getSelectBody(PlainSelect.class);
+        assertNotNull(plainSelect.getASTNode());
+
+        assertNull(ModelCopier.copy(plainSelect).getASTNode());
+    }
+
+    @Test
+    public void testCopyNull() {
+        assertNull(ModelCopier.copy((Expression) null));
+    }
+
+    @Test
+    public void testCopyStatements() throws JSQLParserException {
+        Statements statements = CCJSqlParserUtil.parseStatements("SELECT 1 FROM dual; UPDATE t SET a = 1; DELETE FROM t");
+        Statements copy = ModelCopier.copy(statements);
+
+        assertNotSame(statements.getStatements(), copy.getStatements());
+        assertEquals(statements.toString(), copy.toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "CREATE TABLE t (a INT NOT NULL, b VARCHAR (10), PRIMARY KEY (a), FOREIGN KEY (b) REFERENCES x (y) ON DELETE CASCADE)",
+        "ALTER TABLE t ADD COLUMN c INT, DROP COLUMN d",
+        "ALTER SYSTEM KILL SESSION '13, 8'",
+        "RENAME TABLE a TO b, c TO d",
+        "INSERT INTO t (a, b) VALUES (1, 'x'), (2, 'y') ON DUPLICATE KEY UPDATE a = 3",
+        "UPDATE t SET (a, b) = (SELECT x, y FROM u) WHERE c IN (1, 2)",
+        "MERGE INTO t USING u ON (t.a = u.a) WHEN MATCHED THEN UPDATE SET t.b = u.b",
+        "SELECT * FROM a UNION ALL SELECT * FROM b ORDER BY 1 LIMIT 10 OFFSET 5",
+        "WITH x AS (SELECT 1) SELECT CASE WHEN a > 1 THEN 'y' ELSE 'n' END FROM x",
+        "SELECT sum(a) OVER (PARTITION BY b ORDER BY c ROWS BETWEEN 1 PRECEDING AND CURRENT ROW) FROM t",
+        "SELECT DATE '2020-01-01', TIMESTAMP '2020-01-01 10:00:00', TIME '10:00:00' FROM t",
+        "EXPLAIN ANALYZE VERBOSE SELECT * FROM t",
+        "SHOW TABLES FROM db LIKE '%x%'",
+        "DROP TABLE IF EXISTS t CASCADE",
+        "SAVEPOINT sp",
+        "IF a > 1 SELECT 1 FROM t; ELSE SELECT 2 FROM t;",
+        "DECLARE @x INT = 1",
+        "SET a = 1, b = 2",
+        "SELECT JSON_OBJECTAGG( KEY foo VALUE bar) FROM dual",
+        "SELECT * FROM t1 JOIN t2 USING (a) LEFT JOIN t3 ON t2.b = t3.b"})
+    public void testCopyStatementTypes(String sql) throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse(sql);
+        Statement copy = ModelCopier.copy(statement);
+
+        assertNotSame(statement, copy);
+        assertEquals(statement.toString(), copy.toString());
+    }
+
+    @Test
+    public void testCopySimpleParsingStatements() throws Exception {
+        List<String> sqls = new ArrayList<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(ModelCopierTest.class.getResourceAsStream("/simple_parsing.txt"))))) {
+            String sql;
+            while ((sql = CCJSqlParserManagerTest.getStatement(in)) != null) {
+                sqls.add(sql);
+            }
+        }
+
+        for (String sql : sqls) {
+            Statement statement = CCJSqlParserUtil.parse(sql);
+            Statement copy = ModelCopier.copy(statement);
+            assertEquals(statement.toString(), copy.toString(), sql);
+        }
+    }
+
+    @Test
+    public void testCopyIsIndependentOfLaterChanges() throws JSQLParserException {
+        Select select = (Select) CCJSqlParserUtil.parse("SELECT a FROM mytable");
+        Select copy = ModelCopier.copy(select);
+
+        select.getSelectBody(PlainSelect.class).setLimit(null);
+        select.getSelectBody(PlainSelect.class).addSelectItems(new SelectExpressionItem(new Column("x")));
+        assertNotEquals(select.toString(), copy.toString());
+        assertEquals("SELECT a FROM mytable", copy.toString());
+    }
+
+    @Test
+    public void testCopyLiteralList() throws JSQLParserException {
+        InExpression in = (InExpression) CCJSqlParserUtil.parseCondExpression("a IN (1, 2, 'x')",
+                true, parser -> parser.withCompactLiterals(true));
+        List<Expression> literals = ((ExpressionList) in.getRightItemsList()).getExpressions();
+        assertTrue(literals instanceof LiteralList);
+
+        List<Expression> copy = ((ExpressionList) ModelCopier.copy(in).getRightItemsList()).getExpressions();
+        assertTrue(copy instanceof LiteralList);
+        assertEquals(literals, copy);
+        for (Field field : ModelClass.of(LiteralList.class).getFields()) {
+            Object array = ModelClass.of(LiteralList.class).get(field, literals);
+            if (array != null && array.getClass().isArray()) {
+                assertNotSame(array, ModelClass.of(LiteralList.class).get(field, copy));
+            }
+        }
+
+        copy.set(0, new LongValue(3));
+        assertEquals("a IN (1, 2, 'x')", in.toString());
+    }
+
+    @Test
+    public void testCopyUnknownValue() {
+        JsonKeyValuePair pair = new JsonKeyValuePair("a", new StringBuilder("b"), false, false);
+        assertThrows(IllegalArgumentException.class, () -> ModelCopier.copy(pair));
+    }
+
+    @Test
+    public void testCopyDeepChain() {
+        // deeper than any recursion over the levels of the tree would get
+        Expression chain = new Column("a0");
+        for (int i = 1; i < 10000; i++) {
+            chain = new OrExpression(chain, new Column("a" + i));
+        }
+
+        Expression copy = ModelCopier.copy(chain);
+        for (int i = 9999; i > 0; i--) {
+            assertNotSame(chain, copy);
+            assertEquals("a" + i, ((OrExpression) copy).getRightExpression().toString());
+            chain = ((OrExpression) chain).getLeftExpression();
+            copy = ((OrExpression) copy).getLeftExpression();
+        }
+        assertEquals("a0", copy.toString());
+    }
+}
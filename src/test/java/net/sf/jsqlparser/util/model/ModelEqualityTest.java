@@ -0,0 +1,169 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.Pivot;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.simpleparsing.CCJSqlParserManagerTest;
+import net.sf.jsqlparser.util.deparser.StatementDeParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ModelEqualityTest {
+
+    private static void assertStructurallyEqual(Object expected, Object actual, String message) {
+        assertTrue(ModelEquality.equals(expected, actual), message);
+        assertEquals(ModelEquality.hash(expected), ModelEquality.hash(actual), message);
+    }
+
+    @Test
+    public void testParsedEqualsHandBuilt() throws JSQLParserException {
+        Expression parsed = CCJSqlParserUtil.parseExpression("t.a = 5");
+        Expression built = new EqualsTo(new Column(new Table("t"), "a"), new LongValue(5));
+
+        assertStructurallyEqual(parsed, built, null);
+        assertFalse(ModelEquality.equals(parsed, CCJSqlParserUtil.parseExpression("t.a = 6")));
+        assertFalse(ModelEquality.equals(parsed, CCJSqlParserUtil.parseExpression("t.b = 5")));
+        assertFalse(ModelEquality.equals(parsed, CCJSqlParserUtil.parseExpression("5 = t.a")));
+        // the model itself compares by identity
+        assertNotEquals(parsed, built);
+    }
+
+    @Test
+    public void testDeduplicatePredicates() throws JSQLParserException {
+        AndExpression where = (AndExpression) CCJSqlParserUtil.parseCondExpression("a = 1 AND a = 1");
+        Set<ModelEquality.Key<Expression>> predicates = new HashSet<>();
+        predicates.add(ModelEquality.key(where.getLeftExpression()));
+        predicates.add(ModelEquality.key(where.getRightExpression()));
+
+        assertEquals(1, predicates.size());
+        assertTrue(predicates.contains(ModelEquality.key(CCJSqlParserUtil.parseCondExpression("a = 1"))));
+    }
+
+    @Test
+    public void testExpressionsAsMapKeys() throws JSQLParserException {
+        Map<ModelEquality.Key<Expression>, String> memo = new HashMap<>();
+        memo.put(ModelEquality.key(CCJSqlParserUtil.parseExpression("upper(name) || 'x'")), "analyzed");
+
+        assertEquals("analyzed", memo.get(ModelEquality.key(CCJSqlParserUtil.parseExpression("upper(name) || 'x'"))));
+        assertFalse(memo.containsKey(ModelEquality.key(CCJSqlParserUtil.parseExpression("lower(name) || 'x'"))));
+        assertNull(ModelEquality.key(null).getValue());
+        assertEquals(ModelEquality.key(null), ModelEquality.key(null));
+    }
+
+    @Test
+    public void testModificationChangesEquality() throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse("SELECT a FROM t");
+        Statement copy = ModelCopier.copy(statement);
+        assertTrue(ModelEquality.equals(statement, copy));
+
+        ((Table) ((PlainSelect) ((Select) copy).getSelectBody()).getFromItem()).setName("u");
+        assertFalse(ModelEquality.equals(statement, copy));
+    }
+
+    @Test
+    public void testUnsetHolderEqualsNone() {
+        Table table = new Table("t");
+        Table other = new Table("t");
+        // allocates the holder of the rare clauses, which stays allocated
+        other.setPivot(new Pivot());
+        other.setPivot(null);
+
+        assertStructurallyEqual(table, other, null);
+        other.setPivot(new Pivot());
+        assertFalse(ModelEquality.equals(table, other));
+    }
+
+    @Test
+    public void testEmptyListEqualsNone() throws JSQLParserException {
+        String sql = "SELECT a FROM t JOIN u USING (a) WHERE b IN (SELECT c FROM v)";
+        Statement statement = CCJSqlParserUtil.parse(sql);
+        Statement other = CCJSqlParserUtil.parse(sql);
+        StatementDeParser deParser = new StatementDeParser(new StringBuilder());
+        other.accept(deParser);
+        assertEquals(sql, deParser.getBuffer().toString());
+        assertStructurallyEqual(statement, other, null);
+
+        PlainSelect select = (PlainSelect) ((Select) other).getSelectBody();
+        select.getJoins().get(0).addOnExpression(null);
+        assertFalse(ModelEquality.equals(statement, other));
+        select.getJoins().get(0).getOnExpressions().clear();
+        assertStructurallyEqual(statement, other, null);
+        select.setOrderByElements(new ArrayList<>());
+        assertStructurallyEqual(statement, other, null);
+    }
+
+    @Test
+    public void testDeepChain() {
+        // deeper than any recursion over the levels of the tree would get
+        Expression chain = new Column("a0");
+        Expression other = new Column("a0");
+        for (int i = 1; i < 10000; i++) {
+            chain = new OrExpression(chain, new Column("a" + i));
+            other = new OrExpression(other, new Column("a" + i));
+        }
+
+        assertStructurallyEqual(chain, other, null);
+        assertStructurallyEqual(chain, ModelCopier.copy(chain), null);
+        assertFalse(ModelEquality.equals(chain, new OrExpression(other, new Column("a"))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "CREATE TABLE t (a INT NOT NULL, b VARCHAR (10), PRIMARY KEY (a), FOREIGN KEY (b) REFERENCES x (y) ON DELETE CASCADE)",
+        "RENAME TABLE a TO b, c TO d",
+        "INSERT INTO t (a, b) VALUES (1, 'x'), (2, 'y')",
+        "UPDATE t SET (a, b) = (SELECT x, y FROM u) WHERE c IN (1, 2)",
+        "SELECT * FROM a UNION ALL SELECT * FROM b ORDER BY 1 LIMIT 10",
+        "DROP TABLE IF EXISTS t CASCADE"})
+    public void testStatementTypes(String sql) throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse(sql);
+
+        assertStructurallyEqual(statement, CCJSqlParserUtil.parse(sql), sql);
+        assertStructurallyEqual(statement, ModelCopier.copy(statement), sql);
+    }
+
+    @Test
+    public void testSimpleParsingStatements() throws Exception {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(ModelEqualityTest.class.getResourceAsStream("/simple_parsing.txt"))))) {
+            String sql;
+            while ((sql = CCJSqlParserManagerTest.getStatement(in)) != null) {
+                assertStructurallyEqual(CCJSqlParserUtil.parse(sql), CCJSqlParserUtil.parse(sql), sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.simpleparsing.CCJSqlParserManagerTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Guards the retained heap of parsed statements, as estimated by the {@link FootprintEstimator}.
+ *
+ * Each corpus has a budget of bytes per statement. A change increasing the footprint above the
+ * budget fails here; a change lowering it should lower the budget as well.
+ */
+public class ModelFootprintTest {
+
+    private static final File ORACLE_TESTS = new File("src/test/resources/net/sf/jsqlparser/statement/select/oracle-tests");
+
+    private static final long SIMPLE_PARSING_BUDGET = 2650;
+
+    private static final long RUBIS_BUDGET = 1120;
+
+    private static final long ORACLE_TESTS_BUDGET = 3200;
+
+    @Test
+    public void testSimpleParsingFootprint() throws Exception {
+        List<String> sqls = new ArrayList<>();
+        try (BufferedReader in = open("/simple_parsing.txt")) {
+            String sql;
+            while ((sql = CCJSqlParserManagerTest.getStatement(in)) != null) {
+                sqls.add(sql);
+            }
+        }
+        assertWithinBudget("simple_parsing.txt", sqls, SIMPLE_PARSING_BUDGET);
+    }
+
+    @Test
+    public void testRubisFootprint() throws Exception {
+        List<String> sqls = new ArrayList<>();
+        try (BufferedReader in = open("/RUBiS-select-requests.txt")) {
+            String line;
+            while ((line = CCJSqlParserManagerTest.getLine(in)) != null) {
+                if ("#begin".equals(line)) {
+                    StringBuilder sql = new StringBuilder();
+                    while (!"#end".equals(line = CCJSqlParserManagerTest.getLine(in))) {
+                        sql.append(line).append('\n');
+                    }
+                    if ("true".equals(CCJSqlParserManagerTest.getLine(in))) {
+                        sqls.add(sql.toString());
+                    }
+                }
+            }
+        }
+        assertWithinBudget("RUBiS-select-requests.txt", sqls, RUBIS_BUDGET);
+    }
+
+    @Test
+    public void testOracleTestsFootprint() throws Exception {
+        File[] files = Objects.requireNonNull(ORACLE_TESTS.listFiles(File::isFile));
+        Arrays.sort(files);
+
+        List<String> sqls = new ArrayList<>();
+        for (File file : files) {
+            sqls.add(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        }
+        assertWithinBudget("oracle-tests", sqls, ORACLE_TESTS_BUDGET);
+    }
+
+    @Test
+    public void testEstimator() {
+        Column column = new Column("abc");
+        // Column: header, 2 references, ASTNodeAccessImpl state, cached name -> 32 bytes
+        // "abc": 24 bytes string and 24 bytes array
+        assertEquals(32 + 24 + 24, FootprintEstimator.estimate(column));
+    }
+
+    private static void assertWithinBudget(String corpus, List<String> sqls, long budget) {
+        long bytes = 0;
+        int count = 0;
+        for (String sql : sqls) {
+            try {
+                Statement statement = CCJSqlParserUtil.parse(sql);
+                bytes += FootprintEstimator.estimate(statement);
+                count++;
+            } catch (JSQLParserException ex) {
+                // only parseable statements are measured
+            }
+        }
+        assertTrue(count > 0, corpus);
+
+        long bytesPerStatement = bytes / count;
+        assertTrue(bytesPerStatement <= budget,
+                corpus + " needs " + bytesPerStatement + " bytes per statement, the budget is " + budget);
+    }
+
+    private static BufferedReader open(String resource) {
+        return new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(ModelFootprintTest.class.getResourceAsStream(resource)), StandardCharsets.UTF_8));
+    }
+}
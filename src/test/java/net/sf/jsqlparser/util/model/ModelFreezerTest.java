@@ -0,0 +1,158 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.alter.RenameTableStatement;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.update.Update;
+import org.junit.jupiter.api.Test;
+
+public class ModelFreezerTest {
+
+    @Test
+    public void testSettersThrow() throws JSQLParserException {
+        Select select = ModelFreezer.freeze((Select) CCJSqlParserUtil.parse("SELECT a, count(b) FROM myschema.mytable t WHERE t.c = 5"));
+        PlainSelect plainSelect = select.getSelectBody(PlainSelect.class);
+        Table table = (Table) plainSelect.getFromItem();
+        Function function = (Function) ((SelectExpressionItem) plainSelect.getSelectItems().get(1)).getExpression();
+
+        assertTrue(ModelFreezer.isFrozen(plainSelect));
+        assertThrows(UnsupportedOperationException.class, () -> plainSelect.setWhere(null));
+        assertThrows(UnsupportedOperationException.class, () -> plainSelect.withDistinct(null));
+        assertThrows(UnsupportedOperationException.class, () -> table.setName("othertable"));
+        assertThrows(UnsupportedOperationException.class, () -> table.withAlias(null));
+        assertThrows(UnsupportedOperationException.class, () -> function.setDistinct(true));
+        assertThrows(UnsupportedOperationException.class, () -> ((Column) function.getParameters().getExpressions().get(0)).setColumnName("x"));
+
+        assertEquals("SELECT a, count(b) FROM myschema.mytable t WHERE t.c = 5", select.toString());
+    }
+
+    @Test
+    public void testListsAreUnmodifiable() throws JSQLParserException {
+        Select select = ModelFreezer.freeze((Select) CCJSqlParserUtil.parse("SELECT a, b FROM mytable t JOIN othertable o ON t.x = o.x"));
+        PlainSelect plainSelect = select.getSelectBody(PlainSelect.class);
+
+        assertThrows(UnsupportedOperationException.class, () -> plainSelect.getSelectItems().clear());
+        assertThrows(UnsupportedOperationException.class, () -> plainSelect.getJoins().add(null));
+        assertThrows(UnsupportedOperationException.class, () -> plainSelect.addSelectItems(new SelectExpressionItem(new Column("c"))));
+        assertThrows(UnsupportedOperationException.class, () -> ((Table) plainSelect.getFromItem()).getNameParts().set(0, "x"));
+    }
+
+    @Test
+    public void testStatementCollectionsAreUnmodifiable() throws JSQLParserException {
+        Update update = ModelFreezer.freeze((Update) CCJSqlParserUtil.parse("UPDATE t SET a = 1 WHERE b IN (1, 2) RETURNING a"));
+        assertThrows(UnsupportedOperationException.class, () -> update.getReturningExpressionList().clear());
+        assertThrows(UnsupportedOperationException.class, () -> ((Column) update.getUpdateSets().get(0).getColumns().get(0)).setColumnName("x"));
+        assertThrows(UnsupportedOperationException.class, () -> update.getUpdateSets().clear());
+        assertThrows(UnsupportedOperationException.class, () -> update.getUpdateSets().get(0).getExpressions().set(0, null));
+
+        RenameTableStatement rename = ModelFreezer.freeze((RenameTableStatement) CCJSqlParserUtil.parse("RENAME TABLE a TO b"));
+        assertThrows(UnsupportedOperationException.class, () -> rename.getTableNames().iterator().next().setValue(new Table("c")));
+        assertEquals("b", rename.getTableNames().iterator().next().getValue().getName());
+    }
+
+    @Test
+    public void testStatementSettersThrow() throws JSQLParserException {
+        Select select = ModelFreezer.freeze((Select) CCJSqlParserUtil.parse("WITH w AS (SELECT 1) SELECT a FROM w"));
+        assertTrue(ModelFreezer.isFrozen(select));
+        assertThrows(UnsupportedOperationException.class, () -> select.setSelectBody(null));
+        assertThrows(UnsupportedOperationException.class, () -> select.withUsingWithBrackets(true));
+        assertThrows(UnsupportedOperationException.class, () -> select.getWithItemsList().get(0).setName("x"));
+
+        Insert insert = ModelFreezer.freeze((Insert) CCJSqlParserUtil.parse("INSERT INTO t (a) VALUES (1)"));
+        assertThrows(UnsupportedOperationException.class, () -> insert.setTable(new Table("u")));
+        assertThrows(UnsupportedOperationException.class, () -> insert.withSelect(null));
+
+        Update update = ModelFreezer.freeze((Update) CCJSqlParserUtil.parse("UPDATE t SET a = 1"));
+        assertThrows(UnsupportedOperationException.class, () -> update.setWhere(null));
+        assertThrows(UnsupportedOperationException.class, () -> update.getUpdateSets().get(0).add(new Column("b")));
+
+        CreateTable createTable = ModelFreezer.freeze((CreateTable) CCJSqlParserUtil.parse("CREATE TABLE t (a INT)"));
+        assertThrows(UnsupportedOperationException.class, () -> createTable.setUnlogged(true));
+        assertThrows(UnsupportedOperationException.class,
+                () -> createTable.getColumnDefinitions().get(0).getColDataType().setDataType("TEXT"));
+
+        assertEquals("WITH w AS (SELECT 1) SELECT a FROM w", select.toString());
+        assertEquals("INSERT INTO t (a) VALUES (1)", insert.toString());
+        assertEquals("UPDATE t SET a = 1", update.toString());
+        assertEquals("CREATE TABLE t (a INT)", createTable.toString());
+    }
+
+    @Test
+    public void testDerivedValuesAreCached() throws JSQLParserException {
+        Column column = ModelFreezer.freeze((Column) CCJSqlParserUtil.parseExpression("myschema.mytable.mycolumn"));
+
+        assertEquals("myschema.mytable", column.getTable().getFullyQualifiedName());
+        assertSame(column.getTable().getFullyQualifiedName(), column.getTable().getFullyQualifiedName());
+        assertEquals("myschema.mytable.mycolumn", column.getFullyQualifiedName());
+        assertSame(column.getFullyQualifiedName(), column.getFullyQualifiedName());
+    }
+
+    @Test
+    public void testCopyOfFrozenTreeIsModifiable() throws JSQLParserException {
+        Select select = ModelFreezer.freeze((Select) CCJSqlParserUtil.parse("SELECT a FROM mytable"));
+        Select copy = ModelCopier.copy(select);
+        PlainSelect plainSelect = copy.getSelectBody(PlainSelect.class);
+
+        assertFalse(ModelFreezer.isFrozen(plainSelect));
+        plainSelect.addSelectItems(new SelectExpressionItem(new Column("b")));
+        ((Table) plainSelect.getFromItem()).setName("othertable");
+        assertEquals("SELECT a, b FROM othertable", copy.toString());
+        assertEquals("SELECT a FROM mytable", select.toString());
+    }
+
+    @Test
+    public void testFreezeTwice() throws JSQLParserException {
+        Statement statement = ModelFreezer.freeze(CCJSqlParserUtil.parse("SELECT a FROM mytable"));
+        assertSame(statement, ModelFreezer.freeze(statement));
+        assertEquals("SELECT a FROM mytable", statement.toString());
+    }
+
+    @Test
+    public void testSharedBetweenThreads() throws Exception {
+        Statement statement = ModelFreezer.freeze(CCJSqlParserUtil.parse(
+                "SELECT a.x, b.y FROM a JOIN b ON a.id = b.id WHERE a.z IN (SELECT z FROM c) ORDER BY 1"));
+        String expected = statement.toString();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(statement::toString));
+            }
+            for (Future<String> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
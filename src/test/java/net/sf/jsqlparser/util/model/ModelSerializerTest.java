@@ -0,0 +1,161 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.show.ShowTablesStatement;
+import net.sf.jsqlparser.statement.simpleparsing.CCJSqlParserManagerTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ModelSerializerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "SELECT a, b AS c FROM t1 JOIN t2 USING (id) WHERE x > 5 AND y LIKE 'a%' ORDER BY 1 DESC LIMIT 10",
+        "SELECT * FROM a UNION ALL SELECT * FROM b",
+        "SELECT {d '2023-01-02'}, {ts '2023-01-02 10:11:12.123456'}, 1.5e3, -9223372036854775808, X'FF' FROM dual",
+        "SELECT * FROM t PIVOT (sum(x) FOR y IN ('a', 'b')) FOR UPDATE NOWAIT",
+        "INSERT INTO t (a, b) VALUES (1, 'x'), (2, 'y')",
+        "UPDATE t SET a = a + 1 WHERE b IN (SELECT c FROM u)",
+        "DELETE FROM t WHERE a IS NULL",
+        "CREATE TABLE t (a INT NOT NULL, b VARCHAR (10) [], PRIMARY KEY (a))",
+        "ALTER TABLE t ADD COLUMN c INT",
+        "MERGE INTO t USING u ON (t.a = u.a) WHEN MATCHED THEN UPDATE SET t.b = u.b"})
+    public void testRoundTrip(String sql) throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse(sql);
+        Statement read = ModelSerializer.deserialize(ModelSerializer.serialize(statement));
+
+        assertTrue(ModelEquality.equals(statement, read));
+        assertEquals(statement.toString(), read.toString());
+    }
+
+    @Test
+    public void testSimpleParsingStatements() throws Exception {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(ModelSerializerTest.class.getResourceAsStream("/simple_parsing.txt"))))) {
+            String sql;
+            while ((sql = CCJSqlParserManagerTest.getStatement(in)) != null) {
+                Statement statement = CCJSqlParserUtil.parse(sql);
+                Statement read = ModelSerializer.deserialize(ModelSerializer.serialize(statement));
+                assertTrue(ModelEquality.equals(statement, read), sql);
+                assertEquals(statement.toString(), read.toString(), sql);
+            }
+        }
+    }
+
+    @Test
+    public void testSmallerThanJavaSerialization() throws Exception {
+        List<Statement> catalog = new ArrayList<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(ModelSerializerTest.class.getResourceAsStream("/simple_parsing.txt"))))) {
+            String sql;
+            while ((sql = CCJSqlParserManagerTest.getStatement(in)) != null) {
+                catalog.add(CCJSqlParserUtil.parse(sql));
+            }
+        }
+
+        ByteArrayOutputStream java = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(java)) {
+            out.writeObject(catalog);
+        }
+        byte[] compact = ModelSerializer.serialize(catalog);
+
+        assertTrue(compact.length * 2 < java.size(), compact.length + " / " + java.size());
+        assertTrue(ModelEquality.equals(catalog, ModelSerializer.deserialize(compact)));
+    }
+
+    @Test
+    public void testSharedObjectsStayShared() throws JSQLParserException {
+        Column column = new Column("a");
+        EqualsTo equalsTo = new EqualsTo(column, column);
+
+        EqualsTo read = ModelSerializer.deserialize(ModelSerializer.serialize(equalsTo));
+        assertSame(read.getLeftExpression(), read.getRightExpression());
+        assertTrue(ModelEquality.equals(equalsTo, read));
+    }
+
+    @Test
+    public void testEnumSetAndNull() {
+        ShowTablesStatement show = new ShowTablesStatement();
+        show.setModifiers(EnumSet.noneOf(ShowTablesStatement.Modifiers.class));
+        ShowTablesStatement read = ModelSerializer.deserialize(ModelSerializer.serialize(show));
+        assertEquals(show.getModifiers(), read.getModifiers());
+
+        show.setModifiers(EnumSet.of(ShowTablesStatement.Modifiers.FULL, ShowTablesStatement.Modifiers.EXTENDED));
+        read = ModelSerializer.deserialize(ModelSerializer.serialize(show));
+        assertEquals(show.getModifiers(), read.getModifiers());
+
+        assertNull(ModelSerializer.deserialize(ModelSerializer.serialize(null)));
+    }
+
+    @Test
+    public void testStreamConsumesExactlyOneObject() throws Exception {
+        Expression first = CCJSqlParserUtil.parseExpression("a + 1");
+        Expression second = CCJSqlParserUtil.parseExpression("b * 2");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ModelSerializer.serialize(first, out);
+        ModelSerializer.serialize(second, out);
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        assertTrue(ModelEquality.equals(first, ModelSerializer.deserialize(in)));
+        assertTrue(ModelEquality.equals(second, ModelSerializer.deserialize(in)));
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void testMalformedData() throws JSQLParserException {
+        byte[] data = ModelSerializer.serialize(CCJSqlParserUtil.parse("SELECT a FROM t"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ModelSerializer.deserialize(Arrays.copyOf(data, data.length - 3)));
+        assertThrows(IllegalArgumentException.class, () -> ModelSerializer.deserialize(new byte[] {1, 2, 3, 4, 5}));
+
+        byte[] newer = data.clone();
+        newer[4] = (byte) (ModelSerializer.FORMAT_VERSION + 1);
+        assertThrows(IllegalArgumentException.class, () -> ModelSerializer.deserialize(newer));
+    }
+
+    @Test
+    public void testDeepChain() {
+        // deeper than any recursion over the levels of the tree would get
+        Expression chain = new Column("a0");
+        for (int i = 1; i < 10000; i++) {
+            chain = new OrExpression(chain, new Column("a" + i));
+        }
+
+        Expression read = ModelSerializer.deserialize(ModelSerializer.serialize(chain));
+        assertTrue(ModelEquality.equals(chain, read));
+    }
+}
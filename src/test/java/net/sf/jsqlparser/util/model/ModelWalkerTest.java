@@ -0,0 +1,97 @@
+/*-
+ * #%L
+ * JSQLParser library
+ * %%
+ * Copyright (C) 2004 - 2023 JSQLParser
+ * %%
+ * Dual licensed under GNU LGPL 2.1 or Apache License 2.0
+ * #L%
+ */
+package net.sf.jsqlparser.util.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.SubSelect;
+import net.sf.jsqlparser.util.TraversalControl;
+import org.junit.jupiter.api.Test;
+
+public class ModelWalkerTest {
+
+    @Test
+    public void testOrder() throws JSQLParserException {
+        Statement statement = CCJSqlParserUtil.parse("SELECT a FROM t WHERE b = (SELECT max(c) FROM u)");
+        List<String> events = new ArrayList<>();
+        List<String> tables = new ArrayList<>();
+        ModelWalker.walk(statement, new ModelWalker.Listener() {
+            @Override
+            public TraversalControl enter(Object node, Object parent) {
+                if (node instanceof Column) {
+                    events.add("enter " + node);
+                } else if (node instanceof EqualsTo) {
+                    events.add("enter =");
+                } else if (node instanceof Table) {
+                    tables.add(node.toString());
+                } else if (node instanceof SubSelect) {
+                    events.add("enter " + parent.getClass().getSimpleName() + " > " + node);
+                }
+                return node instanceof SubSelect ? TraversalControl.SKIP_SUBTREE : TraversalControl.CONTINUE;
+            }
+
+            @Override
+            public void leave(Object node, Object parent) {
+                if (node instanceof Column) {
+                    events.add("leave " + node);
+                } else if (node instanceof EqualsTo) {
+                    events.add("leave =");
+                } else if (node instanceof SubSelect) {
+                    events.add("leave " + parent.getClass().getSimpleName() + " > " + node);
+                }
+            }
+        });
+
+        assertEquals("[enter a, leave a, enter =, enter b, leave b, enter EqualsTo > (SELECT max(c) FROM u), leave =]",
+                events.toString());
+        // the children of the sub select are skipped, and the sub select is not left
+        assertEquals("[t]", tables.toString());
+    }
+
+    @Test
+    public void testDeepTree() {
+        Expression expression = new EqualsTo(new Column("a"), new LongValue(0));
+        for (int i = 1; i < 200000; i++) {
+            expression = new AndExpression(expression, new EqualsTo(new Column("a"), new LongValue(i)));
+        }
+        int[] count = new int[1];
+        ModelWalker.walk(expression, new ModelWalker.Listener() {
+            @Override
+            public TraversalControl enter(Object node, Object parent) {
+                if (node instanceof LongValue) {
+                    count[0]++;
+                }
+                return TraversalControl.CONTINUE;
+            }
+        });
+        assertEquals(200000, count[0]);
+
+        Expression innermost = expression;
+        while (innermost instanceof AndExpression) {
+            innermost = ((AndExpression) innermost).getLeftExpression();
+        }
+        assertSame(expression, ModelFreezer.freeze(expression));
+        assertTrue(ModelFreezer.isFrozen(innermost));
+        assertTrue(ModelFreezer.isFrozen(((EqualsTo) innermost).getLeftExpression()));
+    }
+}